@@ -3,14 +3,25 @@ package com.gridtokenx.app;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.boot.autoconfigure.r2dbc.R2dbcAutoConfiguration;
+import org.springframework.boot.autoconfigure.r2dbc.R2dbcTransactionManagerAutoConfiguration;
+import org.springframework.boot.context.metrics.buffering.BufferingApplicationStartup;
 import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+import org.springframework.data.repository.config.BootstrapMode;
 
-@SpringBootApplication
-@EnableJpaRepositories(basePackages = "com.gridtokenx.app.infrastructure.persistence.repository")
+// R2DBC is only used by the opt-in reactive endpoints (ReactiveWebConfig), which
+// build their own pool; the auto-configured one would always connect and add a
+// second transaction manager next to JPA's
+@SpringBootApplication(exclude = { R2dbcAutoConfiguration.class, R2dbcTransactionManagerAutoConfiguration.class })
+@EnableJpaRepositories(basePackages = "com.gridtokenx.app.infrastructure.persistence.repository",
+		bootstrapMode = BootstrapMode.DEFERRED)
 @EntityScan(basePackages = "com.gridtokenx.app.infrastructure.persistence.entity")
 public class AppApplication {
 
 	public static void main(String[] args) {
-		SpringApplication.run(AppApplication.class, args);
+		SpringApplication application = new SpringApplication(AppApplication.class);
+		// records startup steps for StartupTimingListener
+		application.setApplicationStartup(new BufferingApplicationStartup(4096));
+		application.run(args);
 	}
 }
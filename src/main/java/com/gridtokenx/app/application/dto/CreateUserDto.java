@@ -1,13 +1,13 @@
 package com.gridtokenx.app.application.dto;
 
+import com.gridtokenx.app.application.validation.ValidEmail;
+import com.gridtokenx.app.application.validation.ValidUsername;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
-import jakarta.validation.constraints.Email;
 import jakarta.validation.constraints.NotBlank;
-import jakarta.validation.constraints.Pattern;
 import jakarta.validation.constraints.Size;
 
 /**
@@ -21,12 +21,11 @@ import jakarta.validation.constraints.Size;
 public class CreateUserDto {
 
   @NotBlank(message = "Username is required")
-  @Size(min = 3, max = 50, message = "Username must be between 3 and 50 characters")
-  @Pattern(regexp = "^[a-zA-Z0-9_]+$", message = "Username can only contain letters, numbers, and underscores")
+  @ValidUsername
   private String username;
 
   @NotBlank(message = "Email is required")
-  @Email(message = "Email must be valid")
+  @ValidEmail
   private String email;
 
   @NotBlank(message = "First name is required")
@@ -1,13 +1,14 @@
 package com.gridtokenx.app.application.dto;
 
+import com.gridtokenx.app.application.validation.ValidEmail;
+import com.gridtokenx.app.application.validation.ValidPassword;
+import com.gridtokenx.app.application.validation.ValidUsername;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
-import jakarta.validation.constraints.Email;
 import jakarta.validation.constraints.NotBlank;
-import jakarta.validation.constraints.Pattern;
 import jakarta.validation.constraints.Size;
 
 /**
@@ -20,17 +21,15 @@ import jakarta.validation.constraints.Size;
 public class RegisterRequest {
 
   @NotBlank(message = "Username is required")
-  @Size(min = 3, max = 50, message = "Username must be between 3 and 50 characters")
-  @Pattern(regexp = "^[a-zA-Z0-9_]+$", message = "Username can only contain letters, numbers, and underscores")
+  @ValidUsername
   private String username;
 
   @NotBlank(message = "Email is required")
-  @Email(message = "Email must be valid")
+  @ValidEmail
   private String email;
 
   @NotBlank(message = "Password is required")
-  @Size(min = 8, message = "Password must be at least 8 characters")
-  @Pattern(regexp = "^(?=.*[a-z])(?=.*[A-Z])(?=.*\\d).*$", message = "Password must contain at least one uppercase letter, one lowercase letter, and one digit")
+  @ValidPassword
   private String password;
 
   @NotBlank(message = "First name is required")
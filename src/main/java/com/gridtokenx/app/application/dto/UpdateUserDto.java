@@ -1,11 +1,11 @@
 package com.gridtokenx.app.application.dto;
 
+import com.gridtokenx.app.application.validation.ValidEmail;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
-import jakarta.validation.constraints.Email;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.Size;
 
@@ -19,7 +19,7 @@ import jakarta.validation.constraints.Size;
 public class UpdateUserDto {
 
   @NotBlank(message = "Email is required")
-  @Email(message = "Email must be valid")
+  @ValidEmail
   private String email;
 
   @NotBlank(message = "First name is required")
@@ -29,4 +29,9 @@ public class UpdateUserDto {
   @NotBlank(message = "Last name is required")
   @Size(max = 50, message = "Last name cannot exceed 50 characters")
   private String lastName;
+
+  /**
+   * Version the client based its changes on; null skips the check
+   */
+  private Long expectedVersion;
 }
@@ -0,0 +1,12 @@
+package com.gridtokenx.app.application.dto;
+
+import java.util.List;
+
+/**
+ * Result of a batch user lookup
+ * {@code users} is aligned with the requested keys and holds {@code null} for
+ * every key that did not resolve; those keys are also listed in
+ * {@code missing}
+ */
+public record UserBatchResult(List<UserView> users, List<UserKey> missing) {
+}
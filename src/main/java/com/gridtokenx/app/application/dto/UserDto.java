@@ -29,4 +29,5 @@ public class UserDto {
   private boolean active;
   private LocalDateTime createdAt;
   private LocalDateTime updatedAt;
+  private Long version;
 }
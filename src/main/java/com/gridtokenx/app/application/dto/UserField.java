@@ -0,0 +1,87 @@
+package com.gridtokenx.app.application.dto;
+
+import com.gridtokenx.app.domain.exception.InvalidUserDataException;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Fields of a UserView that a client can ask for with ?fields=
+ * Named as they appear in the JSON representation
+ */
+public enum UserField {
+
+  ID("id"),
+  USERNAME("username"),
+  EMAIL("email"),
+  FIRST_NAME("firstName"),
+  LAST_NAME("lastName"),
+  FULL_NAME("fullName"),
+  ACTIVE("active"),
+  CREATED_AT("createdAt"),
+  UPDATED_AT("updatedAt"),
+  VERSION("version");
+
+  /**
+   * Every field; queries for all of them take the regular projection path
+   */
+  public static final Set<UserField> ALL = Collections.unmodifiableSet(EnumSet.allOf(UserField.class));
+
+  private static final String NAMES = Arrays.stream(values())
+      .map(UserField::fieldName)
+      .collect(Collectors.joining(", "));
+
+  private final String fieldName;
+
+  UserField(String fieldName) {
+    this.fieldName = fieldName;
+  }
+
+  public String fieldName() {
+    return fieldName;
+  }
+
+  /**
+   * Parse a comma-separated list of field names
+   *
+   * @return null if no list was given, meaning every field
+   * @throws InvalidUserDataException for empty lists and unknown names
+   */
+  public static Set<UserField> parse(String fields) {
+    if (fields == null) {
+      return null;
+    }
+    Set<UserField> parsed = EnumSet.noneOf(UserField.class);
+    for (String name : fields.split(",")) {
+      String trimmed = name.trim();
+      if (trimmed.isEmpty()) {
+        continue;
+      }
+      parsed.add(Arrays.stream(values())
+          .filter(field -> field.fieldName.equals(trimmed))
+          .findFirst()
+          .orElseThrow(() -> new InvalidUserDataException("fields",
+              "unknown field '" + trimmed + "', expected any of " + NAMES)));
+    }
+    if (parsed.isEmpty()) {
+      throw new InvalidUserDataException("fields", "must name at least one of " + NAMES);
+    }
+    return parsed;
+  }
+
+  /**
+   * The fields plus the one that identifies users looked up by this key type
+   */
+  public static Set<UserField> withKey(Set<UserField> fields, UserKey.Type type) {
+    Set<UserField> withKey = EnumSet.copyOf(fields);
+    withKey.add(switch (type) {
+      case ID -> ID;
+      case USERNAME -> USERNAME;
+      case EMAIL -> EMAIL;
+    });
+    return withKey;
+  }
+}
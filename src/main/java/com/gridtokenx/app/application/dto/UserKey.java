@@ -0,0 +1,16 @@
+package com.gridtokenx.app.application.dto;
+
+/**
+ * Lookup key for a user in batch queries
+ */
+public record UserKey(Type type, String value) {
+
+  /**
+   * Which unique attribute the value refers to
+   */
+  public enum Type {
+    ID,
+    USERNAME,
+    EMAIL
+  }
+}
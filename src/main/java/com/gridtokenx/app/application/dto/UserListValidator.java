@@ -0,0 +1,13 @@
+package com.gridtokenx.app.application.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * Cheap validator for a user list
+ * Any create, update or delete changes the count or moves the latest
+ * updatedAt forward, so equal validators mean an unchanged list
+ *
+ * @param lastUpdatedAt null for an empty list
+ */
+public record UserListValidator(long count, LocalDateTime lastUpdatedAt) {
+}
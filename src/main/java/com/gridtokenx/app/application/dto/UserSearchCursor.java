@@ -0,0 +1,38 @@
+package com.gridtokenx.app.application.dto;
+
+import com.gridtokenx.app.domain.exception.InvalidUserDataException;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.UUID;
+
+/**
+ * Keyset position in search results: the score and id of the last user on
+ * the previous page
+ * Results are ordered by score descending, then id, so the next page starts
+ * strictly after this pair
+ */
+public record UserSearchCursor(float score, UUID id) {
+
+  /**
+   * Opaque token handed to clients
+   */
+  public String encode() {
+    String raw = Float.floatToIntBits(score) + ":" + id;
+    return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+  }
+
+  /**
+   * Parse a token produced by {@link #encode()}
+   */
+  public static UserSearchCursor decode(String token) {
+    try {
+      String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+      int separator = raw.indexOf(':');
+      return new UserSearchCursor(Float.intBitsToFloat(Integer.parseInt(raw.substring(0, separator))),
+          UUID.fromString(raw.substring(separator + 1)));
+    } catch (IllegalArgumentException | IndexOutOfBoundsException e) {
+      throw new InvalidUserDataException("cursor", "is not a valid search cursor");
+    }
+  }
+}
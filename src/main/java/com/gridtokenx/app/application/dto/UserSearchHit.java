@@ -0,0 +1,7 @@
+package com.gridtokenx.app.application.dto;
+
+/**
+ * User view matched by a search with its relevance score
+ */
+public record UserSearchHit(UserView user, float score) {
+}
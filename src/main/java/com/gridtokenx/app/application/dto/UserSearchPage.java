@@ -0,0 +1,10 @@
+package com.gridtokenx.app.application.dto;
+
+import java.util.List;
+
+/**
+ * One page of user search results, most relevant first
+ * {@code nextCursor} is null on the last page
+ */
+public record UserSearchPage(List<UserView> users, String nextCursor) {
+}
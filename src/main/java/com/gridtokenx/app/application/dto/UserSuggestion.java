@@ -0,0 +1,9 @@
+package com.gridtokenx.app.application.dto;
+
+import java.util.UUID;
+
+/**
+ * Type-ahead completion for the user picker
+ */
+public record UserSuggestion(UUID id, String username, String displayName) {
+}
@@ -0,0 +1,32 @@
+package com.gridtokenx.app.application.dto;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Read-only user projection
+ * Built directly from query results by a JPQL constructor expression, so read
+ * endpoints skip the JPA entity, the domain entity and the DTO copies
+ * Serializes to the same JSON as the web layer's UserResponse
+ */
+public record UserView(
+    UUID id,
+    String username,
+    String email,
+    String firstName,
+    String lastName,
+    String fullName,
+    boolean active,
+    LocalDateTime createdAt,
+    LocalDateTime updatedAt,
+    long version) {
+
+  /**
+   * Projection constructor used by the persistence queries
+   */
+  public UserView(UUID id, String username, String email, String firstName, String lastName,
+      Boolean active, LocalDateTime createdAt, LocalDateTime updatedAt, Long version) {
+    this(id, username, email, firstName, lastName, firstName + " " + lastName,
+        Boolean.TRUE.equals(active), createdAt, updatedAt, version == null ? 0 : version);
+  }
+}
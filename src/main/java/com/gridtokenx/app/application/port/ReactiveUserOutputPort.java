@@ -0,0 +1,46 @@
+package com.gridtokenx.app.application.port;
+
+import com.gridtokenx.app.application.dto.UserView;
+import com.gridtokenx.app.domain.entity.User;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.UUID;
+
+/**
+ * Output Port Interface - Non-blocking user reads
+ * Reactive counterpart of the read side of UserOutputPort and
+ * UserQueryOutputPort; an empty Mono means the user does not exist
+ */
+public interface ReactiveUserOutputPort {
+
+  /**
+   * Find user by username
+   */
+  Mono<User> findByUsername(String username);
+
+  /**
+   * Find user view by ID
+   */
+  Mono<UserView> findViewById(UUID id);
+
+  /**
+   * Find user view by username
+   */
+  Mono<UserView> findViewByUsername(String username);
+
+  /**
+   * Find user view by email
+   */
+  Mono<UserView> findViewByEmail(String email);
+
+  /**
+   * Find all user views
+   */
+  Flux<UserView> findAllViews();
+
+  /**
+   * Find all active user views, newest first
+   */
+  Flux<UserView> findAllActiveViews();
+}
@@ -0,0 +1,40 @@
+package com.gridtokenx.app.application.port;
+
+import com.gridtokenx.app.application.dto.UserView;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.UUID;
+
+/**
+ * Input Port Interface - Non-blocking user queries
+ * Same lookups as UserQueryInputPort; a missing user is signalled as a
+ * UserNotFoundException error
+ */
+public interface ReactiveUserQueryInputPort {
+
+  /**
+   * Get user by ID
+   */
+  Mono<UserView> getUserById(UUID userId);
+
+  /**
+   * Get user by username
+   */
+  Mono<UserView> getUserByUsername(String username);
+
+  /**
+   * Get user by email
+   */
+  Mono<UserView> getUserByEmail(String email);
+
+  /**
+   * Get all users
+   */
+  Flux<UserView> getAllUsers();
+
+  /**
+   * Get all active users
+   */
+  Flux<UserView> getAllActiveUsers();
+}
@@ -3,8 +3,10 @@ package com.gridtokenx.app.application.port;
 import com.gridtokenx.app.application.dto.CreateUserDto;
 import com.gridtokenx.app.application.dto.UpdateUserDto;
 import com.gridtokenx.app.application.dto.UserDto;
+import com.gridtokenx.app.domain.validation.UserViolation;
 
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 
 /**
@@ -63,4 +65,15 @@ public interface UserInputPort {
    * Delete user
    */
   void deleteUser(UUID userId);
+
+  /**
+   * Check users for an import before creating any of them
+   * Applies the createUser field rules to every user and flags usernames and
+   * emails that occur more than once in the list; existing users are not
+   * looked up
+   *
+   * @return the violations of each invalid user by its index in the list,
+   *         empty if all of them are valid
+   */
+  Map<Integer, List<UserViolation>> validateUsers(List<CreateUserDto> users);
 }
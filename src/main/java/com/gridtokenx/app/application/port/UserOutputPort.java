@@ -60,6 +60,13 @@ public interface UserOutputPort {
    */
   void deleteById(UUID id);
 
+  /**
+   * Delete user by ID in a single statement
+   *
+   * @return false if the user did not exist
+   */
+  boolean deleteIfExists(UUID id);
+
   /**
    * Count total users
    */
@@ -0,0 +1,99 @@
+package com.gridtokenx.app.application.port;
+
+import com.gridtokenx.app.application.dto.UserBatchResult;
+import com.gridtokenx.app.application.dto.UserField;
+import com.gridtokenx.app.application.dto.UserKey;
+import com.gridtokenx.app.application.dto.UserListValidator;
+import com.gridtokenx.app.application.dto.UserSearchPage;
+import com.gridtokenx.app.application.dto.UserSuggestion;
+import com.gridtokenx.app.application.dto.UserView;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+/**
+ * Input Port Interface - Read-only user queries
+ * Separated from UserInputPort so reads can be served from projections while
+ * writes keep going through the domain model
+ */
+public interface UserQueryInputPort {
+
+  /**
+   * Get user by ID
+   */
+  UserView getUserById(UUID userId);
+
+  /**
+   * Get user by username
+   */
+  UserView getUserByUsername(String username);
+
+  /**
+   * Get user by email
+   */
+  UserView getUserByEmail(String email);
+
+  /**
+   * Current version of a user, for answering conditional requests without
+   * reading the user; empty if there is no such user
+   */
+  Optional<Long> getUserVersion(UUID userId);
+
+  /**
+   * Validator for the list of all users, or of all active users
+   */
+  UserListValidator getUserListValidator(boolean activeOnly);
+
+  /**
+   * Get all users
+   */
+  List<UserView> getAllUsers();
+
+  /**
+   * Get all active users
+   */
+  List<UserView> getAllActiveUsers();
+
+  /**
+   * Get only the given fields of all users, or of all active users newest
+   * first; the other view components are left null, false or 0
+   */
+  List<UserView> getAllUsers(boolean activeOnly, Set<UserField> fields);
+
+  /**
+   * Get only the given fields of the user with this ID, username or email
+   */
+  UserView getUser(UserKey key, Set<UserField> fields);
+
+  /**
+   * Hand the given fields of every user, or every active user newest first, to
+   * the consumer as it is read, without collecting them
+   */
+  void forEachUser(boolean activeOnly, Set<UserField> fields, Consumer<UserView> consumer);
+
+  /**
+   * Resolve a mixed list of ids, usernames and emails in request order
+   */
+  UserBatchResult getUsers(List<UserKey> keys);
+
+  /**
+   * Resolve a mixed list of ids, usernames and emails in request order,
+   * reading only the given fields
+   */
+  UserBatchResult getUsers(List<UserKey> keys, Set<UserField> fields);
+
+  /**
+   * Search users by partial or misspelled username, email or full name
+   *
+   * @param cursor nextCursor of the previous page, or null for the first page
+   */
+  UserSearchPage searchUsers(String query, String cursor, int limit);
+
+  /**
+   * Complete a typed prefix to active users by username or name
+   */
+  List<UserSuggestion> completeUsers(String prefix, int limit);
+}
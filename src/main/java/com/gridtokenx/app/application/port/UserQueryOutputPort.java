@@ -0,0 +1,118 @@
+package com.gridtokenx.app.application.port;
+
+import com.gridtokenx.app.application.dto.UserField;
+import com.gridtokenx.app.application.dto.UserKey;
+import com.gridtokenx.app.application.dto.UserListValidator;
+import com.gridtokenx.app.application.dto.UserSearchCursor;
+import com.gridtokenx.app.application.dto.UserSearchHit;
+import com.gridtokenx.app.application.dto.UserSuggestion;
+import com.gridtokenx.app.application.dto.UserView;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+/**
+ * Output Port Interface - Read-only user projections
+ * Implementations return views straight from the data store without loading
+ * managed entities
+ */
+public interface UserQueryOutputPort {
+
+  /**
+   * Find user view by ID
+   */
+  Optional<UserView> findViewById(UUID id);
+
+  /**
+   * Find user view by username
+   */
+  Optional<UserView> findViewByUsername(String username);
+
+  /**
+   * Find user view by email
+   */
+  Optional<UserView> findViewByEmail(String email);
+
+  /**
+   * Find the current version of a user without reading the rest of the row
+   */
+  Optional<Long> findVersionById(UUID id);
+
+  /**
+   * Count all users, or all active users, and find the latest update
+   */
+  UserListValidator findListValidator(boolean activeOnly);
+
+  /**
+   * Find all user views
+   */
+  List<UserView> findAllViews();
+
+  /**
+   * Find all active user views, newest first
+   */
+  List<UserView> findAllActiveViews();
+
+  /**
+   * Stream all user views without collecting them
+   * Must be consumed and closed inside a transaction
+   */
+  Stream<UserView> streamAllViews();
+
+  /**
+   * Stream all active user views, newest first, without collecting them
+   * Must be consumed and closed inside a transaction
+   */
+  Stream<UserView> streamAllActiveViews();
+
+  /**
+   * Find only the given fields of users whose ID, username or email is one of
+   * the values, in no particular order
+   * Columns no field needs are not selected; the remaining view components
+   * are left null, false or 0
+   */
+  List<UserView> findSparseViews(UserKey.Type by, Collection<?> values, Set<UserField> fields);
+
+  /**
+   * Find only the given fields of all users, or of all active users newest
+   * first
+   */
+  List<UserView> findAllSparseViews(boolean activeOnly, Set<UserField> fields);
+
+  /**
+   * Stream only the given fields of all users, or of all active users newest
+   * first
+   * Must be consumed and closed inside a transaction
+   */
+  Stream<UserView> streamAllSparseViews(boolean activeOnly, Set<UserField> fields);
+
+  /**
+   * Find user views for the given IDs, in no particular order
+   */
+  List<UserView> findViewsByIds(Collection<UUID> ids);
+
+  /**
+   * Find user views for the given usernames, in no particular order
+   */
+  List<UserView> findViewsByUsernames(Collection<String> usernames);
+
+  /**
+   * Find user views for the given emails, in no particular order
+   */
+  List<UserView> findViewsByEmails(Collection<String> emails);
+
+  /**
+   * Find users matching the lower-cased query, ordered by score descending
+   * then id, starting after the cursor if one is given
+   */
+  List<UserSearchHit> searchViews(String query, UserSearchCursor after, int limit);
+
+  /**
+   * Complete a typed prefix to active users from an in-memory index
+   */
+  List<UserSuggestion> completeUsers(String prefix, int limit);
+}
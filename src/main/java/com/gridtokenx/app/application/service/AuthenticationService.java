@@ -5,15 +5,24 @@ import com.gridtokenx.app.application.dto.LoginResponse;
 import com.gridtokenx.app.application.dto.RegisterRequest;
 import com.gridtokenx.app.domain.entity.Role;
 import com.gridtokenx.app.domain.entity.User;
+import com.gridtokenx.app.domain.event.DomainEventPublisher;
+import com.gridtokenx.app.domain.event.UserEvent;
+import com.gridtokenx.app.domain.exception.AccountDisabledException;
+import com.gridtokenx.app.domain.exception.AccountLockedException;
+import com.gridtokenx.app.domain.exception.DomainErrorCode;
+import com.gridtokenx.app.domain.exception.InvalidCredentialsException;
+import com.gridtokenx.app.domain.exception.InvalidTokenException;
+import com.gridtokenx.app.domain.exception.InvalidUserDataException;
+import com.gridtokenx.app.domain.exception.UnknownUserException;
 import com.gridtokenx.app.domain.repository.UserRepository;
 import com.gridtokenx.app.infrastructure.security.jwt.JwtTokenProvider;
 import com.gridtokenx.app.infrastructure.service.JwtBlacklistService;
 import com.gridtokenx.app.infrastructure.service.PasswordService;
+import io.jsonwebtoken.Claims;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.security.authentication.BadCredentialsException;
-import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.time.LocalDateTime;
 import java.util.Set;
@@ -21,6 +30,9 @@ import java.util.UUID;
 
 /**
  * Authentication Service for handling login, logout, and registration
+ * Registrations and successful logins record a UserEvent in the same
+ * transaction as the user row; password hashing stays outside it, so no
+ * connection is held while BCrypt runs
  */
 @Service
 @RequiredArgsConstructor
@@ -31,27 +43,32 @@ public class AuthenticationService {
   private final PasswordService passwordService;
   private final JwtTokenProvider jwtTokenProvider;
   private final JwtBlacklistService jwtBlacklistService;
+  private final DomainEventPublisher domainEventPublisher;
+  private final TransactionTemplate transactionTemplate;
 
   /**
    * Authenticate user and generate JWT tokens
+   * Expected failures are thrown as the shared stackless
+   * {@link com.gridtokenx.app.domain.exception.AuthenticationException}
+   * instances
    */
   public LoginResponse login(LoginRequest request) {
     User user = userRepository.findByUsername(request.getUsername())
-        .orElseThrow(() -> new UsernameNotFoundException("User not found: " + request.getUsername()));
+        .orElseThrow(() -> UnknownUserException.INSTANCE);
 
     if (!user.isAccountActive()) {
-      throw new BadCredentialsException("Account is inactive or locked");
+      throw user.isAccountLocked() ? AccountLockedException.INSTANCE : AccountDisabledException.INSTANCE;
     }
 
     if (!passwordService.matches(request.getPassword(), user.getPassword())) {
       user.incrementFailedAttempts();
       userRepository.save(user);
-      throw new BadCredentialsException("Invalid credentials");
+      throw InvalidCredentialsException.INSTANCE;
     }
 
     // Reset failed attempts and update last login
     user.updateLastLogin();
-    userRepository.save(user);
+    saveAndPublish(user, UserEvent.Type.LOGGED_IN);
 
     // Generate tokens
     String accessToken = jwtTokenProvider.generateAccessToken(user);
@@ -70,16 +87,10 @@ public class AuthenticationService {
 
   /**
    * Register new user
+   * Uniqueness is enforced by the insert itself, so a successful
+   * registration is a single database round trip
    */
   public User register(RegisterRequest request) {
-    if (userRepository.existsByUsername(request.getUsername())) {
-      throw new IllegalArgumentException("Username already exists");
-    }
-
-    if (userRepository.existsByEmail(request.getEmail())) {
-      throw new IllegalArgumentException("Email already exists");
-    }
-
     User user = User.builder()
         .id(UUID.randomUUID())
         .username(request.getUsername())
@@ -97,7 +108,17 @@ public class AuthenticationService {
         .updatedAt(LocalDateTime.now())
         .build();
 
-    user = userRepository.save(user);
+    try {
+      user = saveAndPublish(user, UserEvent.Type.REGISTERED);
+    } catch (InvalidUserDataException e) {
+      if (e.getErrorCode() == DomainErrorCode.USERNAME_ALREADY_EXISTS) {
+        throw new IllegalArgumentException("Username already exists");
+      }
+      if (e.getErrorCode() == DomainErrorCode.EMAIL_ALREADY_EXISTS) {
+        throw new IllegalArgumentException("Email already exists");
+      }
+      throw e;
+    }
     log.info("New user registered: {}", user.getUsername());
 
     return user;
@@ -105,34 +126,49 @@ public class AuthenticationService {
 
   /**
    * Logout user by blacklisting the token
+   * 
+   * @return the username the token was issued to, or null if it was not valid
    */
-  public void logout(String token) {
+  public String logout(String token) {
     if (jwtTokenProvider.isTokenValid(token)) {
       LocalDateTime expiration = jwtTokenProvider.extractExpiration(token);
       jwtBlacklistService.blacklistToken(token, expiration);
 
       String username = jwtTokenProvider.extractUsername(token);
       log.info("User logged out: {}", username);
+      return username;
     }
+    return null;
   }
 
   /**
    * Refresh JWT token
    */
   public LoginResponse refreshToken(String refreshToken) {
-    if (!jwtTokenProvider.isTokenValid(refreshToken)) {
-      throw new BadCredentialsException("Invalid refresh token");
-    }
+    User user = userRepository.findByUsername(refreshTokenSubject(refreshToken))
+        .orElseThrow(() -> UnknownUserException.INSTANCE);
 
-    String tokenType = jwtTokenProvider.extractTokenType(refreshToken);
-    if (!"refresh".equals(tokenType)) {
-      throw new BadCredentialsException("Token is not a refresh token");
-    }
+    return refreshedTokens(user, refreshToken);
+  }
 
-    String username = jwtTokenProvider.extractUsername(refreshToken);
-    User user = userRepository.findByUsername(username)
-        .orElseThrow(() -> new UsernameNotFoundException("User not found: " + username));
+  /**
+   * Verify a refresh token and return the username it was issued to
+   * Shared with ReactiveAuthenticationService, which looks the user up
+   * without blocking
+   */
+  String refreshTokenSubject(String refreshToken) {
+    Claims claims = jwtTokenProvider.validateToken(refreshToken);
 
+    if (!"refresh".equals(claims.get("type", String.class))) {
+      throw InvalidTokenException.INSTANCE;
+    }
+    return claims.getSubject();
+  }
+
+  /**
+   * Issue a new access token for the user, keeping the refresh token
+   */
+  LoginResponse refreshedTokens(User user, String refreshToken) {
     // Generate new access token
     String newAccessToken = jwtTokenProvider.generateAccessToken(user);
 
@@ -145,6 +181,17 @@ public class AuthenticationService {
         .build();
   }
 
+  /**
+   * Save the user and record the event in one transaction
+   */
+  private User saveAndPublish(User user, UserEvent.Type type) {
+    return transactionTemplate.execute(status -> {
+      User saved = userRepository.save(user);
+      domainEventPublisher.publish(UserEvent.of(type, saved));
+      return saved;
+    });
+  }
+
   /**
    * Map User entity to UserResponse DTO
    */
@@ -0,0 +1,57 @@
+package com.gridtokenx.app.application.service;
+
+import com.gridtokenx.app.application.dto.LoginResponse;
+import com.gridtokenx.app.application.port.ReactiveUserOutputPort;
+import com.gridtokenx.app.domain.entity.User;
+import com.gridtokenx.app.domain.exception.InvalidTokenException;
+import com.gridtokenx.app.domain.exception.UnknownUserException;
+import com.gridtokenx.app.infrastructure.security.jwt.JwtTokenProvider;
+import com.gridtokenx.app.infrastructure.service.JwtBlacklistService;
+import io.jsonwebtoken.Claims;
+import lombok.RequiredArgsConstructor;
+import reactor.core.publisher.Mono;
+
+/**
+ * Non-blocking token refresh and validation
+ * Token checks run on the caller's thread (signature check and an in-memory
+ * blacklist lookup); only the user lookup goes to the database, through
+ * ReactiveUserOutputPort. Failures are signalled with the same shared
+ * AuthenticationException instances as AuthenticationService
+ */
+@RequiredArgsConstructor
+public class ReactiveAuthenticationService {
+
+  private final AuthenticationService authenticationService;
+  private final ReactiveUserOutputPort reactiveUserOutputPort;
+  private final JwtTokenProvider jwtTokenProvider;
+  private final JwtBlacklistService jwtBlacklistService;
+
+  /**
+   * Refresh JWT token
+   */
+  public Mono<LoginResponse> refreshToken(String refreshToken) {
+    return Mono.fromSupplier(() -> authenticationService.refreshTokenSubject(refreshToken))
+        .flatMap(this::findUser)
+        .map(user -> authenticationService.refreshedTokens(user, refreshToken));
+  }
+
+  /**
+   * Resolve the user an access token was issued to
+   * Same checks as JwtAuthenticationFilter: valid signature and expiry, not
+   * blacklisted, and the user still exists
+   */
+  public Mono<User> authenticate(String accessToken) {
+    return Mono.fromSupplier(() -> {
+      Claims claims = jwtTokenProvider.validateToken(accessToken);
+      if (jwtBlacklistService.isTokenBlacklisted(accessToken) || claims.getSubject() == null) {
+        throw InvalidTokenException.INSTANCE;
+      }
+      return claims.getSubject();
+    }).flatMap(this::findUser);
+  }
+
+  private Mono<User> findUser(String username) {
+    return reactiveUserOutputPort.findByUsername(username)
+        .switchIfEmpty(Mono.error(UnknownUserException.INSTANCE));
+  }
+}
@@ -0,0 +1,50 @@
+package com.gridtokenx.app.application.usecase;
+
+import com.gridtokenx.app.application.dto.UserView;
+import com.gridtokenx.app.application.port.ReactiveUserOutputPort;
+import com.gridtokenx.app.application.port.ReactiveUserQueryInputPort;
+import com.gridtokenx.app.domain.exception.UserNotFoundException;
+import lombok.RequiredArgsConstructor;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.UUID;
+
+/**
+ * Use Case Implementation - Non-blocking user queries
+ * Mirrors UserQueryUseCase on top of ReactiveUserOutputPort. Not a component
+ * of its own: it is only created when the reactive endpoints are enabled
+ */
+@RequiredArgsConstructor
+public class ReactiveUserQueryUseCase implements ReactiveUserQueryInputPort {
+
+  private final ReactiveUserOutputPort reactiveUserOutputPort;
+
+  @Override
+  public Mono<UserView> getUserById(UUID userId) {
+    return reactiveUserOutputPort.findViewById(userId)
+        .switchIfEmpty(Mono.error(() -> new UserNotFoundException(userId.toString())));
+  }
+
+  @Override
+  public Mono<UserView> getUserByUsername(String username) {
+    return reactiveUserOutputPort.findViewByUsername(username)
+        .switchIfEmpty(Mono.error(() -> new UserNotFoundException("username", username)));
+  }
+
+  @Override
+  public Mono<UserView> getUserByEmail(String email) {
+    return reactiveUserOutputPort.findViewByEmail(email)
+        .switchIfEmpty(Mono.error(() -> new UserNotFoundException("email", email)));
+  }
+
+  @Override
+  public Flux<UserView> getAllUsers() {
+    return reactiveUserOutputPort.findAllViews();
+  }
+
+  @Override
+  public Flux<UserView> getAllActiveUsers() {
+    return reactiveUserOutputPort.findAllActiveViews();
+  }
+}
@@ -0,0 +1,234 @@
+package com.gridtokenx.app.application.usecase;
+
+import com.gridtokenx.app.application.dto.UserBatchResult;
+import com.gridtokenx.app.application.dto.UserField;
+import com.gridtokenx.app.application.dto.UserKey;
+import com.gridtokenx.app.application.dto.UserListValidator;
+import com.gridtokenx.app.application.dto.UserSearchCursor;
+import com.gridtokenx.app.application.dto.UserSearchHit;
+import com.gridtokenx.app.application.dto.UserSearchPage;
+import com.gridtokenx.app.application.dto.UserSuggestion;
+import com.gridtokenx.app.application.dto.UserView;
+import com.gridtokenx.app.application.port.UserQueryInputPort;
+import com.gridtokenx.app.application.port.UserQueryOutputPort;
+import com.gridtokenx.app.domain.exception.UserNotFoundException;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+/**
+ * Use Case Implementation - Read-only user queries
+ * Serves projections from the output port; nothing here touches the domain
+ * entity, so write rules stay in UserUseCase and UserDomainService
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class UserQueryUseCase implements UserQueryInputPort {
+
+  private final UserQueryOutputPort userQueryOutputPort;
+
+  @Override
+  public UserView getUserById(UUID userId) {
+    return userQueryOutputPort.findViewById(userId)
+        .orElseThrow(() -> new UserNotFoundException(userId.toString()));
+  }
+
+  @Override
+  public UserView getUserByUsername(String username) {
+    return userQueryOutputPort.findViewByUsername(username)
+        .orElseThrow(() -> new UserNotFoundException("username", username));
+  }
+
+  @Override
+  public UserView getUserByEmail(String email) {
+    return userQueryOutputPort.findViewByEmail(email)
+        .orElseThrow(() -> new UserNotFoundException("email", email));
+  }
+
+  @Override
+  public Optional<Long> getUserVersion(UUID userId) {
+    return userQueryOutputPort.findVersionById(userId);
+  }
+
+  @Override
+  public UserListValidator getUserListValidator(boolean activeOnly) {
+    return userQueryOutputPort.findListValidator(activeOnly);
+  }
+
+  @Override
+  public List<UserView> getAllUsers() {
+    return userQueryOutputPort.findAllViews();
+  }
+
+  @Override
+  public List<UserView> getAllActiveUsers() {
+    return userQueryOutputPort.findAllActiveViews();
+  }
+
+  @Override
+  public List<UserView> getAllUsers(boolean activeOnly, Set<UserField> fields) {
+    if (fields.containsAll(UserField.ALL)) {
+      return activeOnly ? getAllActiveUsers() : getAllUsers();
+    }
+    return userQueryOutputPort.findAllSparseViews(activeOnly, fields);
+  }
+
+  @Override
+  public UserView getUser(UserKey key, Set<UserField> fields) {
+    Object value = key.type() == UserKey.Type.ID ? parseId(key.value()) : key.value();
+    List<UserView> found = value == null
+        ? List.of()
+        : userQueryOutputPort.findSparseViews(key.type(), List.of(value), fields);
+    if (found.isEmpty()) {
+      throw key.type() == UserKey.Type.ID
+          ? new UserNotFoundException(key.value())
+          : new UserNotFoundException(key.type().name().toLowerCase(Locale.ROOT), key.value());
+    }
+    return found.get(0);
+  }
+
+  /**
+   * Holds the transaction, and with it a connection, until the consumer has
+   * seen the last user
+   */
+  @Override
+  public void forEachUser(boolean activeOnly, Set<UserField> fields, Consumer<UserView> consumer) {
+    Stream<UserView> users;
+    if (fields.containsAll(UserField.ALL)) {
+      users = activeOnly ? userQueryOutputPort.streamAllActiveViews() : userQueryOutputPort.streamAllViews();
+    } else {
+      users = userQueryOutputPort.streamAllSparseViews(activeOnly, fields);
+    }
+    try (users) {
+      users.forEach(consumer);
+    }
+  }
+
+  @Override
+  public UserBatchResult getUsers(List<UserKey> keys) {
+    return getUsers(keys, UserField.ALL);
+  }
+
+  /**
+   * Resolves the keys with at most one IN query per key type
+   * Ids that are not valid UUIDs cannot match and are reported as missing
+   * Sparse lookups also read the key field, to match rows back to keys
+   */
+  @Override
+  public UserBatchResult getUsers(List<UserKey> keys, Set<UserField> fields) {
+    Set<UUID> ids = new LinkedHashSet<>();
+    Set<String> usernames = new LinkedHashSet<>();
+    Set<String> emails = new LinkedHashSet<>();
+    for (UserKey key : keys) {
+      switch (key.type()) {
+        case ID -> {
+          UUID id = parseId(key.value());
+          if (id != null) {
+            ids.add(id);
+          }
+        }
+        case USERNAME -> usernames.add(key.value());
+        case EMAIL -> emails.add(key.value());
+      }
+    }
+
+    Map<UUID, UserView> byId = index(ids,
+        query(UserKey.Type.ID, fields, userQueryOutputPort::findViewsByIds), UserView::id);
+    Map<String, UserView> byUsername = index(usernames,
+        query(UserKey.Type.USERNAME, fields, userQueryOutputPort::findViewsByUsernames), UserView::username);
+    Map<String, UserView> byEmail = index(emails,
+        query(UserKey.Type.EMAIL, fields, userQueryOutputPort::findViewsByEmails), UserView::email);
+
+    List<UserView> users = new ArrayList<>(keys.size());
+    List<UserKey> missing = new ArrayList<>();
+    for (UserKey key : keys) {
+      UserView user = switch (key.type()) {
+        case ID -> {
+          UUID id = parseId(key.value());
+          yield id == null ? null : byId.get(id);
+        }
+        case USERNAME -> byUsername.get(key.value());
+        case EMAIL -> byEmail.get(key.value());
+      };
+      users.add(user);
+      if (user == null) {
+        missing.add(key);
+      }
+    }
+    return new UserBatchResult(users, missing);
+  }
+
+  /**
+   * Fetches one row more than requested to know whether another page exists
+   */
+  @Override
+  public UserSearchPage searchUsers(String query, String cursor, int limit) {
+    UserSearchCursor after = cursor == null || cursor.isBlank() ? null : UserSearchCursor.decode(cursor);
+    List<UserSearchHit> hits = userQueryOutputPort.searchViews(query.trim().toLowerCase(Locale.ROOT), after,
+        limit + 1);
+
+    boolean more = hits.size() > limit;
+    List<UserSearchHit> page = more ? hits.subList(0, limit) : hits;
+    String nextCursor = null;
+    if (more) {
+      UserSearchHit last = page.get(page.size() - 1);
+      nextCursor = new UserSearchCursor(last.score(), last.user().id()).encode();
+    }
+    return new UserSearchPage(page.stream().map(UserSearchHit::user).toList(), nextCursor);
+  }
+
+  /**
+   * Served from memory, so no transaction or connection is opened per keystroke
+   */
+  @Override
+  @Transactional(propagation = Propagation.SUPPORTS)
+  public List<UserSuggestion> completeUsers(String prefix, int limit) {
+    return userQueryOutputPort.completeUsers(prefix.trim(), limit);
+  }
+
+  private <K> Function<Collection<K>, List<UserView>> query(UserKey.Type type, Set<UserField> fields,
+      Function<Collection<K>, List<UserView>> allFields) {
+    if (fields.containsAll(UserField.ALL)) {
+      return allFields;
+    }
+    Set<UserField> withKey = UserField.withKey(fields, type);
+    return keys -> userQueryOutputPort.findSparseViews(type, keys, withKey);
+  }
+
+  private <K> Map<K, UserView> index(Set<K> keys, Function<Collection<K>, List<UserView>> query,
+      Function<UserView, K> keyOf) {
+    if (keys.isEmpty()) {
+      return Map.of();
+    }
+    List<UserView> found = query.apply(keys);
+    Map<K, UserView> indexed = new HashMap<>(found.size() * 2);
+    for (UserView user : found) {
+      indexed.put(keyOf.apply(user), user);
+    }
+    return indexed;
+  }
+
+  private UUID parseId(String value) {
+    try {
+      return UUID.fromString(value);
+    } catch (IllegalArgumentException e) {
+      return null;
+    }
+  }
+}
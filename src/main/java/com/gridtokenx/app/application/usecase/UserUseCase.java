@@ -8,11 +8,18 @@ import com.gridtokenx.app.application.port.UserOutputPort;
 import com.gridtokenx.app.domain.entity.User;
 import com.gridtokenx.app.domain.exception.UserNotFoundException;
 import com.gridtokenx.app.domain.service.UserDomainService;
+import com.gridtokenx.app.domain.validation.UserValidator;
+import com.gridtokenx.app.domain.validation.UserViolation;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 import java.util.stream.Collectors;
 
@@ -47,7 +54,8 @@ public class UserUseCase implements UserInputPort {
         userId,
         updateUserDto.getEmail(),
         updateUserDto.getFirstName(),
-        updateUserDto.getLastName());
+        updateUserDto.getLastName(),
+        updateUserDto.getExpectedVersion());
 
     return mapToDto(user);
   }
@@ -107,11 +115,40 @@ public class UserUseCase implements UserInputPort {
 
   @Override
   public void deleteUser(UUID userId) {
-    // Verify user exists before deletion
-    userOutputPort.findById(userId)
-        .orElseThrow(() -> new UserNotFoundException(userId.toString()));
+    userDomainService.deleteUser(userId);
+  }
+
+  @Override
+  @Transactional(propagation = Propagation.SUPPORTS)
+  public Map<Integer, List<UserViolation>> validateUsers(List<CreateUserDto> users) {
+    Map<Integer, List<UserViolation>> invalid = new LinkedHashMap<>();
+    Map<String, Integer> usernames = new HashMap<>(users.size() * 2);
+    Map<String, Integer> emails = new HashMap<>(users.size() * 2);
+    for (int i = 0; i < users.size(); i++) {
+      CreateUserDto user = users.get(i);
+      List<UserViolation> violations = UserValidator.validateNewUser(
+          user.getUsername(), user.getEmail(), user.getFirstName(), user.getLastName());
+      violations = duplicate(violations, "username", usernames, user.getUsername(), i);
+      violations = duplicate(violations, "email", emails, user.getEmail(), i);
+      if (!violations.isEmpty()) {
+        invalid.put(i, violations);
+      }
+    }
+    return invalid;
+  }
 
-    userOutputPort.deleteById(userId);
+  private static List<UserViolation> duplicate(List<UserViolation> violations, String field,
+      Map<String, Integer> seen, String value, int index) {
+    if (value == null) {
+      return violations;
+    }
+    Integer first = seen.putIfAbsent(value, index);
+    if (first == null) {
+      return violations;
+    }
+    List<UserViolation> added = violations.isEmpty() ? new ArrayList<>(2) : violations;
+    added.add(new UserViolation(field, "same as user " + first));
+    return added;
   }
 
   /**
@@ -129,6 +166,7 @@ public class UserUseCase implements UserInputPort {
         .active(user.isActive())
         .createdAt(user.getCreatedAt())
         .updatedAt(user.getUpdatedAt())
+        .version(user.getVersion())
         .build();
   }
 }
@@ -0,0 +1,39 @@
+package com.gridtokenx.app.application.validation;
+
+import com.gridtokenx.app.domain.validation.UserValidator;
+import jakarta.validation.Constraint;
+import jakarta.validation.ConstraintValidator;
+import jakarta.validation.ConstraintValidatorContext;
+import jakarta.validation.Payload;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Email rule of UserValidator, for request DTOs
+ * Stricter than @Email, so requests are rejected up front instead of by the
+ * domain; blank values pass, so that @NotBlank reports them
+ */
+@Documented
+@Constraint(validatedBy = ValidEmail.Validator.class)
+@Target(ElementType.FIELD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface ValidEmail {
+
+  String message() default "Email must be valid";
+
+  Class<?>[] groups() default {};
+
+  Class<? extends Payload>[] payload() default {};
+
+  class Validator implements ConstraintValidator<ValidEmail, String> {
+
+    @Override
+    public boolean isValid(String value, ConstraintValidatorContext context) {
+      return UserValidator.isBlank(value) || UserValidator.isValidEmail(value);
+    }
+  }
+}
@@ -0,0 +1,52 @@
+package com.gridtokenx.app.application.validation;
+
+import com.gridtokenx.app.domain.validation.UserValidator;
+import com.gridtokenx.app.domain.validation.UserViolation;
+import jakarta.validation.Constraint;
+import jakarta.validation.ConstraintValidator;
+import jakarta.validation.ConstraintValidatorContext;
+import jakarta.validation.Payload;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+import java.util.List;
+
+/**
+ * Password rules of UserValidator, for request DTOs
+ * Reports each broken rule as its own message; blank values pass, so that
+ * @NotBlank reports them
+ */
+@Documented
+@Constraint(validatedBy = ValidPassword.Validator.class)
+@Target(ElementType.FIELD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface ValidPassword {
+
+  String message() default "Password does not meet the password rules";
+
+  Class<?>[] groups() default {};
+
+  Class<? extends Payload>[] payload() default {};
+
+  class Validator implements ConstraintValidator<ValidPassword, String> {
+
+    @Override
+    public boolean isValid(String value, ConstraintValidatorContext context) {
+      if (UserValidator.isBlank(value)) {
+        return true;
+      }
+      List<UserViolation> violations = UserValidator.validatePassword(value);
+      if (violations.isEmpty()) {
+        return true;
+      }
+      context.disableDefaultConstraintViolation();
+      for (UserViolation violation : violations) {
+        context.buildConstraintViolationWithTemplate("Password " + violation.reason()).addConstraintViolation();
+      }
+      return false;
+    }
+  }
+}
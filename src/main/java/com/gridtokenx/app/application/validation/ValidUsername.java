@@ -0,0 +1,38 @@
+package com.gridtokenx.app.application.validation;
+
+import com.gridtokenx.app.domain.validation.UserValidator;
+import jakarta.validation.Constraint;
+import jakarta.validation.ConstraintValidator;
+import jakarta.validation.ConstraintValidatorContext;
+import jakarta.validation.Payload;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Username rule of UserValidator, for request DTOs
+ * Blank values pass, so that @NotBlank reports them
+ */
+@Documented
+@Constraint(validatedBy = ValidUsername.Validator.class)
+@Target(ElementType.FIELD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface ValidUsername {
+
+  String message() default "Username must be 3-50 characters and contain only letters, numbers, and underscores";
+
+  Class<?>[] groups() default {};
+
+  Class<? extends Payload>[] payload() default {};
+
+  class Validator implements ConstraintValidator<ValidUsername, String> {
+
+    @Override
+    public boolean isValid(String value, ConstraintValidatorContext context) {
+      return UserValidator.isBlank(value) || UserValidator.isValidUsername(value);
+    }
+  }
+}
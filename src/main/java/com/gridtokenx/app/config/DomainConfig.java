@@ -1,5 +1,6 @@
 package com.gridtokenx.app.config;
 
+import com.gridtokenx.app.domain.event.DomainEventPublisher;
 import com.gridtokenx.app.domain.repository.UserRepository;
 import com.gridtokenx.app.domain.service.UserDomainService;
 import org.springframework.context.annotation.Bean;
@@ -14,7 +15,8 @@ import org.springframework.context.annotation.Configuration;
 public class DomainConfig {
 
   @Bean
-  public UserDomainService userDomainService(UserRepository userRepository) {
-    return new UserDomainService(userRepository);
+  public UserDomainService userDomainService(UserRepository userRepository,
+      DomainEventPublisher domainEventPublisher) {
+    return new UserDomainService(userRepository, domainEventPublisher);
   }
 }
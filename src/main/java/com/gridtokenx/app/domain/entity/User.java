@@ -1,5 +1,6 @@
 package com.gridtokenx.app.domain.entity;
 
+import com.gridtokenx.app.domain.validation.UserValidator;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
@@ -37,6 +38,8 @@ public class User implements UserDetails {
   private boolean active;
   private LocalDateTime createdAt;
   private LocalDateTime updatedAt;
+  // Optimistic concurrency version, null until first persisted
+  private Long version;
 
   // Authentication fields
   private String password;
@@ -58,29 +61,22 @@ public class User implements UserDetails {
    * Domain business rule: User must have a valid email format
    */
   public boolean isValidEmail() {
-    return email != null &&
-        email.matches("^[A-Za-z0-9+_.-]+@([A-Za-z0-9.-]+\\.[A-Za-z]{2,})$");
+    return UserValidator.isValidEmail(email);
   }
 
   /**
    * Domain business rule: User must have required fields
    */
   public boolean isValid() {
-    return username != null && !username.trim().isEmpty() &&
-        email != null && !email.trim().isEmpty() &&
-        firstName != null && !firstName.trim().isEmpty() &&
-        lastName != null && !lastName.trim().isEmpty() &&
-        isValidEmail();
+    return !UserValidator.isBlank(username) &&
+        UserValidator.validateDetails(email, firstName, lastName).isEmpty();
   }
 
   /**
    * Domain business rule: Username must be unique and valid format
    */
   public boolean isValidUsername() {
-    return username != null &&
-        username.length() >= 3 &&
-        username.length() <= 50 &&
-        username.matches("^[a-zA-Z0-9_]+$");
+    return UserValidator.isValidUsername(username);
   }
 
   /**
@@ -112,11 +108,7 @@ public class User implements UserDetails {
    * Domain business rule: Password validation
    */
   public boolean isValidPassword(String rawPassword) {
-    return rawPassword != null &&
-        rawPassword.length() >= 8 &&
-        rawPassword.matches(".*[A-Z].*") && // At least one uppercase
-        rawPassword.matches(".*[a-z].*") && // At least one lowercase
-        rawPassword.matches(".*\\d.*"); // At least one digit
+    return UserValidator.isValidPassword(rawPassword);
   }
 
   /**
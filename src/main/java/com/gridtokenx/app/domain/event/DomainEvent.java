@@ -0,0 +1,34 @@
+package com.gridtokenx.app.domain.event;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Something that happened to an aggregate
+ * Published through {@link DomainEventPublisher} in the transaction that
+ * made the change, so it is delivered if and only if the change commits
+ */
+public interface DomainEvent {
+
+  /**
+   * Unique per event; consumers use it to drop redeliveries
+   */
+  UUID eventId();
+
+  /**
+   * Kind of aggregate, e.g. "User"
+   */
+  String aggregateType();
+
+  /**
+   * ID of the aggregate the event is about
+   */
+  UUID aggregateId();
+
+  /**
+   * Event name, e.g. "user.registered"
+   */
+  String eventType();
+
+  LocalDateTime occurredAt();
+}
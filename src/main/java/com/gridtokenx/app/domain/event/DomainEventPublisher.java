@@ -0,0 +1,16 @@
+package com.gridtokenx.app.domain.event;
+
+/**
+ * Domain Event Port
+ * The domain records its events here; the infrastructure layer decides how
+ * they reach other services
+ */
+public interface DomainEventPublisher {
+
+  /**
+   * Record an event as part of the current transaction
+   * 
+   * @param event the event; dropped if the transaction rolls back
+   */
+  void publish(DomainEvent event);
+}
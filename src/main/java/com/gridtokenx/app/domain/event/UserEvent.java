@@ -0,0 +1,57 @@
+package com.gridtokenx.app.domain.event;
+
+import com.gridtokenx.app.domain.entity.User;
+
+import java.time.LocalDateTime;
+import java.util.Locale;
+import java.util.UUID;
+
+/**
+ * User lifecycle event
+ * Carries the user's ID and username only; consumers that need more read the
+ * user through the API
+ */
+public record UserEvent(UUID eventId, Type type, UUID userId, String username, LocalDateTime occurredAt)
+    implements DomainEvent {
+
+  public static final String AGGREGATE_TYPE = "User";
+
+  public enum Type {
+    CREATED,
+    REGISTERED,
+    UPDATED,
+    LOGGED_IN,
+    ACTIVATED,
+    DEACTIVATED,
+    DELETED
+  }
+
+  /**
+   * Event of the given type about the user, happening now
+   */
+  public static UserEvent of(Type type, User user) {
+    return new UserEvent(UUID.randomUUID(), type, user.getId(), user.getUsername(), LocalDateTime.now());
+  }
+
+  /**
+   * A deleted user; the row is gone, so only the ID is known
+   */
+  public static UserEvent deleted(UUID userId) {
+    return new UserEvent(UUID.randomUUID(), Type.DELETED, userId, null, LocalDateTime.now());
+  }
+
+  @Override
+  public String aggregateType() {
+    return AGGREGATE_TYPE;
+  }
+
+  @Override
+  public UUID aggregateId() {
+    return userId;
+  }
+
+  @Override
+  public String eventType() {
+    return "user." + type.name().toLowerCase(Locale.ROOT);
+  }
+}
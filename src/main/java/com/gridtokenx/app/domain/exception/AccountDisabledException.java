@@ -5,6 +5,12 @@ package com.gridtokenx.app.domain.exception;
  */
 public class AccountDisabledException extends AuthenticationException {
 
+  /**
+   * Shared stackless instance for login attempts on inactive accounts
+   */
+  public static final AccountDisabledException INSTANCE = new AccountDisabledException(
+      "User account is disabled", false);
+
   public AccountDisabledException() {
     super("User account is disabled");
   }
@@ -12,4 +18,13 @@ public class AccountDisabledException extends AuthenticationException {
   public AccountDisabledException(String message) {
     super(message);
   }
+
+  private AccountDisabledException(String message, boolean writableStackTrace) {
+    super(message, writableStackTrace);
+  }
+
+  @Override
+  public AuthenticationFailureReason getReason() {
+    return AuthenticationFailureReason.ACCOUNT_DISABLED;
+  }
 }
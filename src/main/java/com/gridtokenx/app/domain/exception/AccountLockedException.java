@@ -5,6 +5,12 @@ package com.gridtokenx.app.domain.exception;
  */
 public class AccountLockedException extends AuthenticationException {
 
+  /**
+   * Shared stackless instance for login attempts on locked accounts
+   */
+  public static final AccountLockedException INSTANCE = new AccountLockedException(
+      "User account is locked due to multiple failed login attempts", false);
+
   public AccountLockedException() {
     super("User account is locked due to multiple failed login attempts");
   }
@@ -12,4 +18,13 @@ public class AccountLockedException extends AuthenticationException {
   public AccountLockedException(String message) {
     super(message);
   }
+
+  private AccountLockedException(String message, boolean writableStackTrace) {
+    super(message, writableStackTrace);
+  }
+
+  @Override
+  public AuthenticationFailureReason getReason() {
+    return AuthenticationFailureReason.ACCOUNT_LOCKED;
+  }
 }
@@ -12,4 +12,20 @@ public class AuthenticationException extends RuntimeException {
   public AuthenticationException(String message, Throwable cause) {
     super(message, cause);
   }
+
+  /**
+   * Constructor for pre-allocated instances of expected failures
+   * No stack trace is captured and suppression is disabled, so a single
+   * instance can be thrown from any thread
+   */
+  protected AuthenticationException(String message, boolean writableStackTrace) {
+    super(message, null, false, writableStackTrace);
+  }
+
+  /**
+   * Reason used for failure counters and aggregated logging
+   */
+  public AuthenticationFailureReason getReason() {
+    return AuthenticationFailureReason.OTHER;
+  }
 }
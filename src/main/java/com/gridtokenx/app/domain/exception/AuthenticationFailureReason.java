@@ -0,0 +1,16 @@
+package com.gridtokenx.app.domain.exception;
+
+/**
+ * Expected reasons for an authentication attempt to fail
+ * Used to count and aggregate failures without logging each one
+ */
+public enum AuthenticationFailureReason {
+  BAD_CREDENTIALS,
+  UNKNOWN_USER,
+  ACCOUNT_DISABLED,
+  ACCOUNT_LOCKED,
+  EXPIRED_TOKEN,
+  INVALID_TOKEN,
+  WEAK_PASSWORD,
+  OTHER
+}
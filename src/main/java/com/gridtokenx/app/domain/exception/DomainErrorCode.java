@@ -0,0 +1,16 @@
+package com.gridtokenx.app.domain.exception;
+
+/**
+ * Structured error codes carried by domain exceptions
+ * Adapters map these to transport-specific responses without inspecting the
+ * exception message
+ */
+public enum DomainErrorCode {
+  USER_NOT_FOUND,
+  USERNAME_ALREADY_EXISTS,
+  EMAIL_ALREADY_EXISTS,
+  VALIDATION_FAILED,
+  INVALID_USER_DATA,
+  BUSINESS_RULE_VIOLATION,
+  VERSION_CONFLICT
+}
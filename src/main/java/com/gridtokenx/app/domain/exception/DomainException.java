@@ -3,14 +3,38 @@ package com.gridtokenx.app.domain.exception;
 /**
  * Base domain exception class
  * All domain-specific exceptions should extend this class
+ * Domain exceptions are expected outcomes (lookups that miss, rule
+ * violations), so by default they skip the stack trace capture; start the JVM
+ * with {@code -Ddomain.exceptions.stack-traces=true} to get stack traces while
+ * debugging
  */
 public abstract class DomainException extends RuntimeException {
 
+  static final boolean STACK_TRACES_ENABLED = Boolean.getBoolean("domain.exceptions.stack-traces");
+
+  private final DomainErrorCode errorCode;
+
   protected DomainException(String message) {
-    super(message);
+    this(DomainErrorCode.BUSINESS_RULE_VIOLATION, message);
   }
 
   protected DomainException(String message, Throwable cause) {
-    super(message, cause);
+    this(DomainErrorCode.BUSINESS_RULE_VIOLATION, message, cause);
+  }
+
+  protected DomainException(DomainErrorCode errorCode, String message) {
+    this(errorCode, message, null);
+  }
+
+  protected DomainException(DomainErrorCode errorCode, String message, Throwable cause) {
+    super(message, cause, true, STACK_TRACES_ENABLED);
+    this.errorCode = errorCode;
+  }
+
+  /**
+   * Structured code identifying the failure
+   */
+  public DomainErrorCode getErrorCode() {
+    return errorCode;
   }
 }
@@ -0,0 +1,25 @@
+package com.gridtokenx.app.domain.exception;
+
+/**
+ * Domain exception for JWT tokens whose expiration time has passed
+ */
+public class ExpiredTokenException extends InvalidTokenException {
+
+  /**
+   * Shared stackless instance for the expected expired-token outcome
+   */
+  public static final ExpiredTokenException INSTANCE = new ExpiredTokenException("Invalid or expired token", false);
+
+  public ExpiredTokenException() {
+    super("Invalid or expired token");
+  }
+
+  private ExpiredTokenException(String message, boolean writableStackTrace) {
+    super(message, writableStackTrace);
+  }
+
+  @Override
+  public AuthenticationFailureReason getReason() {
+    return AuthenticationFailureReason.EXPIRED_TOKEN;
+  }
+}
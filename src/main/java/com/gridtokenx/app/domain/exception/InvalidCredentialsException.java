@@ -5,6 +5,12 @@ package com.gridtokenx.app.domain.exception;
  */
 public class InvalidCredentialsException extends AuthenticationException {
 
+  /**
+   * Shared stackless instance for the expected wrong-password outcome
+   */
+  public static final InvalidCredentialsException INSTANCE = new InvalidCredentialsException(
+      "Invalid username or password", false);
+
   public InvalidCredentialsException() {
     super("Invalid username or password");
   }
@@ -12,4 +18,13 @@ public class InvalidCredentialsException extends AuthenticationException {
   public InvalidCredentialsException(String message) {
     super(message);
   }
+
+  private InvalidCredentialsException(String message, boolean writableStackTrace) {
+    super(message, writableStackTrace);
+  }
+
+  @Override
+  public AuthenticationFailureReason getReason() {
+    return AuthenticationFailureReason.BAD_CREDENTIALS;
+  }
 }
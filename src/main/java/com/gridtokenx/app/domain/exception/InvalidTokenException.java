@@ -5,6 +5,11 @@ package com.gridtokenx.app.domain.exception;
  */
 public class InvalidTokenException extends AuthenticationException {
 
+  /**
+   * Shared stackless instance for malformed, tampered or wrong-type tokens
+   */
+  public static final InvalidTokenException INSTANCE = new InvalidTokenException("Invalid or expired token", false);
+
   public InvalidTokenException() {
     super("Invalid or expired token");
   }
@@ -16,4 +21,13 @@ public class InvalidTokenException extends AuthenticationException {
   public InvalidTokenException(String message, Throwable cause) {
     super(message, cause);
   }
+
+  protected InvalidTokenException(String message, boolean writableStackTrace) {
+    super(message, writableStackTrace);
+  }
+
+  @Override
+  public AuthenticationFailureReason getReason() {
+    return AuthenticationFailureReason.INVALID_TOKEN;
+  }
 }
@@ -1,15 +1,60 @@
 package com.gridtokenx.app.domain.exception;
 
+import com.gridtokenx.app.domain.validation.UserViolation;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
 /**
  * Domain exception for invalid user data
  */
 public class InvalidUserDataException extends DomainException {
 
   public InvalidUserDataException(String message) {
-    super("Invalid user data: " + message);
+    super(DomainErrorCode.INVALID_USER_DATA, "Invalid user data: " + message);
   }
 
   public InvalidUserDataException(String field, String reason) {
-    super("Invalid " + field + ": " + reason);
+    super(DomainErrorCode.INVALID_USER_DATA, "Invalid " + field + ": " + reason);
+  }
+
+  public InvalidUserDataException(DomainErrorCode errorCode, String field, String reason) {
+    super(errorCode, "Invalid " + field + ": " + reason);
+  }
+
+  private InvalidUserDataException(DomainErrorCode errorCode, String message) {
+    super(errorCode, message);
+  }
+
+  /**
+   * One or more broken field rules, all named in the message
+   */
+  public static InvalidUserDataException of(List<UserViolation> violations) {
+    if (violations.size() == 1) {
+      return new InvalidUserDataException(violations.get(0).field(), violations.get(0).reason());
+    }
+    return new InvalidUserDataException(DomainErrorCode.INVALID_USER_DATA,
+        violations.stream().map(UserViolation::message).collect(Collectors.joining("; ")));
+  }
+
+  /**
+   * Username uniqueness violation
+   */
+  public static InvalidUserDataException usernameTaken() {
+    return new InvalidUserDataException(DomainErrorCode.USERNAME_ALREADY_EXISTS, "username", "already exists");
+  }
+
+  /**
+   * Email uniqueness violation
+   */
+  public static InvalidUserDataException emailTaken() {
+    return new InvalidUserDataException(DomainErrorCode.EMAIL_ALREADY_EXISTS, "email", "already exists");
+  }
+
+  /**
+   * Final entity validation failed after all field checks passed
+   */
+  public static InvalidUserDataException validationFailed(String message) {
+    return new InvalidUserDataException(DomainErrorCode.VALIDATION_FAILED, "user data", message);
   }
 }
@@ -0,0 +1,29 @@
+package com.gridtokenx.app.domain.exception;
+
+/**
+ * Domain exception for authentication attempts against a username that does
+ * not exist
+ * The message is deliberately identical to {@link InvalidCredentialsException}
+ * so clients cannot probe for registered usernames
+ */
+public class UnknownUserException extends AuthenticationException {
+
+  /**
+   * Shared stackless instance for the expected unknown-user outcome
+   */
+  public static final UnknownUserException INSTANCE = new UnknownUserException(
+      "Invalid username or password", false);
+
+  public UnknownUserException() {
+    super("Invalid username or password");
+  }
+
+  private UnknownUserException(String message, boolean writableStackTrace) {
+    super(message, writableStackTrace);
+  }
+
+  @Override
+  public AuthenticationFailureReason getReason() {
+    return AuthenticationFailureReason.UNKNOWN_USER;
+  }
+}
@@ -6,10 +6,10 @@ package com.gridtokenx.app.domain.exception;
 public class UserNotFoundException extends DomainException {
 
   public UserNotFoundException(String userId) {
-    super("User not found with ID: " + userId);
+    super(DomainErrorCode.USER_NOT_FOUND, "User not found with ID: " + userId);
   }
 
   public UserNotFoundException(String field, String value) {
-    super("User not found with " + field + ": " + value);
+    super(DomainErrorCode.USER_NOT_FOUND, "User not found with " + field + ": " + value);
   }
 }
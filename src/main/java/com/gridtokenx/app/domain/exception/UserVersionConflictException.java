@@ -0,0 +1,18 @@
+package com.gridtokenx.app.domain.exception;
+
+/**
+ * Domain exception for an update based on an outdated version of a user
+ */
+public class UserVersionConflictException extends DomainException {
+
+  private final String userId;
+
+  public UserVersionConflictException(String userId) {
+    super(DomainErrorCode.VERSION_CONFLICT, "User was modified concurrently: " + userId);
+    this.userId = userId;
+  }
+
+  public String getUserId() {
+    return userId;
+  }
+}
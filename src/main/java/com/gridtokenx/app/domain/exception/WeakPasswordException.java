@@ -12,4 +12,9 @@ public class WeakPasswordException extends AuthenticationException {
   public WeakPasswordException(String message) {
     super(message);
   }
+
+  @Override
+  public AuthenticationFailureReason getReason() {
+    return AuthenticationFailureReason.WEAK_PASSWORD;
+  }
 }
@@ -1,6 +1,7 @@
 package com.gridtokenx.app.domain.repository;
 
 import com.gridtokenx.app.domain.entity.User;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -84,6 +85,24 @@ public interface UserRepository {
    */
   void deleteById(UUID id);
 
+  /**
+   * Delete a user by ID in a single statement
+   * 
+   * @param id the user ID
+   * @return true if a user was deleted
+   */
+  boolean deleteIfExists(UUID id);
+
+  /**
+   * Set the active flag in a single statement
+   * 
+   * @param id        the user ID
+   * @param active    the new active flag
+   * @param updatedAt the modification timestamp
+   * @return optional containing the updated user if found
+   */
+  Optional<User> setActive(UUID id, boolean active, LocalDateTime updatedAt);
+
   /**
    * Count total users
    * 
@@ -1,9 +1,14 @@
 package com.gridtokenx.app.domain.service;
 
 import com.gridtokenx.app.domain.entity.User;
+import com.gridtokenx.app.domain.event.DomainEventPublisher;
+import com.gridtokenx.app.domain.event.UserEvent;
 import com.gridtokenx.app.domain.exception.InvalidUserDataException;
 import com.gridtokenx.app.domain.exception.UserNotFoundException;
+import com.gridtokenx.app.domain.exception.UserVersionConflictException;
 import com.gridtokenx.app.domain.repository.UserRepository;
+import com.gridtokenx.app.domain.validation.UserValidator;
+import com.gridtokenx.app.domain.validation.UserViolation;
 import lombok.RequiredArgsConstructor;
 
 import java.time.LocalDateTime;
@@ -15,11 +20,13 @@ import java.util.UUID;
  * single entity
  * This service orchestrates business operations involving users
  * Following Single Responsibility Principle and dependency injection
+ * Every change records a UserEvent in the caller's transaction
  */
 @RequiredArgsConstructor
 public class UserDomainService {
 
   private final UserRepository userRepository;
+  private final DomainEventPublisher domainEventPublisher;
 
   /**
    * Create a new user with business validation
@@ -28,15 +35,6 @@ public class UserDomainService {
     // Business rule validation
     validateUserCreation(username, email, firstName, lastName);
 
-    // Check uniqueness constraints
-    if (userRepository.existsByUsername(username)) {
-      throw new InvalidUserDataException("username", "already exists");
-    }
-
-    if (userRepository.existsByEmail(email)) {
-      throw new InvalidUserDataException("email", "already exists");
-    }
-
     // Create domain entity
     User user = User.builder()
         .username(username)
@@ -50,22 +48,36 @@ public class UserDomainService {
 
     // Final domain validation
     if (!user.isValid()) {
-      throw new InvalidUserDataException("User data validation failed");
+      throw InvalidUserDataException.validationFailed("User data validation failed");
     }
 
-    return userRepository.save(user);
+    // Uniqueness is enforced by the repository on insert
+    return published(UserEvent.Type.CREATED, userRepository.save(user));
   }
 
   /**
    * Update user information
    */
   public User updateUser(UUID userId, String email, String firstName, String lastName) {
+    return updateUser(userId, email, firstName, lastName, null);
+  }
+
+  /**
+   * Update user information if it is still at the expected version
+   * A null expected version skips the check; concurrent writers are still
+   * detected when the update is saved
+   */
+  public User updateUser(UUID userId, String email, String firstName, String lastName, Long expectedVersion) {
     User user = userRepository.findById(userId)
         .orElseThrow(() -> new UserNotFoundException(userId.toString()));
 
+    if (expectedVersion != null && !expectedVersion.equals(user.getVersion())) {
+      throw new UserVersionConflictException(userId.toString());
+    }
+
     // Validate email uniqueness if changed
     if (!user.getEmail().equals(email) && userRepository.existsByEmail(email)) {
-      throw new InvalidUserDataException("email", "already exists");
+      throw InvalidUserDataException.emailTaken();
     }
 
     // Update user data
@@ -79,29 +91,35 @@ public class UserDomainService {
       throw new InvalidUserDataException("Updated user data is invalid");
     }
 
-    return userRepository.save(user);
+    return published(UserEvent.Type.UPDATED, userRepository.save(user));
   }
 
   /**
    * Activate a user account
    */
   public User activateUser(UUID userId) {
-    User user = userRepository.findById(userId)
+    return userRepository.setActive(userId, true, LocalDateTime.now())
+        .map(user -> published(UserEvent.Type.ACTIVATED, user))
         .orElseThrow(() -> new UserNotFoundException(userId.toString()));
-
-    user.activate();
-    return userRepository.save(user);
   }
 
   /**
    * Deactivate a user account
    */
   public User deactivateUser(UUID userId) {
-    User user = userRepository.findById(userId)
+    return userRepository.setActive(userId, false, LocalDateTime.now())
+        .map(user -> published(UserEvent.Type.DEACTIVATED, user))
         .orElseThrow(() -> new UserNotFoundException(userId.toString()));
+  }
 
-    user.deactivate();
-    return userRepository.save(user);
+  /**
+   * Delete a user account
+   */
+  public void deleteUser(UUID userId) {
+    if (!userRepository.deleteIfExists(userId)) {
+      throw new UserNotFoundException(userId.toString());
+    }
+    domainEventPublisher.publish(UserEvent.deleted(userId));
   }
 
   /**
@@ -127,33 +145,19 @@ public class UserDomainService {
         .orElseThrow(() -> new UserNotFoundException("email", email));
   }
 
+  private User published(UserEvent.Type type, User user) {
+    domainEventPublisher.publish(UserEvent.of(type, user));
+    return user;
+  }
+
   /**
    * Private method for user creation validation
+   * Reports every invalid field at once
    */
   private void validateUserCreation(String username, String email, String firstName, String lastName) {
-    if (username == null || username.trim().isEmpty()) {
-      throw new InvalidUserDataException("username", "cannot be empty");
-    }
-
-    if (!username.matches("^[a-zA-Z0-9_]+$") || username.length() < 3 || username.length() > 50) {
-      throw new InvalidUserDataException("username",
-          "must be 3-50 characters and contain only letters, numbers, and underscores");
-    }
-
-    if (email == null || email.trim().isEmpty()) {
-      throw new InvalidUserDataException("email", "cannot be empty");
-    }
-
-    if (!email.matches("^[A-Za-z0-9+_.-]+@([A-Za-z0-9.-]+\\.[A-Za-z]{2,})$")) {
-      throw new InvalidUserDataException("email", "invalid format");
-    }
-
-    if (firstName == null || firstName.trim().isEmpty()) {
-      throw new InvalidUserDataException("firstName", "cannot be empty");
-    }
-
-    if (lastName == null || lastName.trim().isEmpty()) {
-      throw new InvalidUserDataException("lastName", "cannot be empty");
+    List<UserViolation> violations = UserValidator.validateNewUser(username, email, firstName, lastName);
+    if (!violations.isEmpty()) {
+      throw InvalidUserDataException.of(violations);
     }
   }
 }
@@ -0,0 +1,220 @@
+package com.gridtokenx.app.domain.validation;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * User field rules shared by the User entity, UserDomainService and the
+ * request DTO constraints
+ * Every rule is a single pass over the characters, with no regex to compile
+ * or backtrack through, and accepts exactly what the patterns it replaces
+ * accepted. The validate methods collect every violation rather than stopping
+ * at the first, and return a shared empty list for valid input
+ */
+public final class UserValidator {
+
+  public static final int USERNAME_MIN_LENGTH = 3;
+  public static final int USERNAME_MAX_LENGTH = 50;
+  public static final int PASSWORD_MIN_LENGTH = 8;
+
+  static final String EMPTY = "cannot be empty";
+  static final String USERNAME_FORMAT = "must be 3-50 characters and contain only letters, numbers, and underscores";
+  static final String EMAIL_FORMAT = "invalid format";
+  static final String PASSWORD_LENGTH = "must be at least " + PASSWORD_MIN_LENGTH + " characters";
+  static final String PASSWORD_UPPERCASE = "must contain an uppercase letter";
+  static final String PASSWORD_LOWERCASE = "must contain a lowercase letter";
+  static final String PASSWORD_DIGIT = "must contain a digit";
+  static final String PASSWORD_LINE_BREAK = "must not contain line breaks";
+
+  // password rules that hold, as bits
+  private static final int LENGTH = 1;
+  private static final int UPPERCASE = 1 << 1;
+  private static final int LOWERCASE = 1 << 2;
+  private static final int DIGIT = 1 << 3;
+  private static final int NO_LINE_BREAK = 1 << 4;
+  private static final int PASSWORD_OK = LENGTH | UPPERCASE | LOWERCASE | DIGIT | NO_LINE_BREAK;
+
+  private UserValidator() {
+  }
+
+  /**
+   * 3-50 ASCII letters, digits and underscores
+   */
+  public static boolean isValidUsername(String username) {
+    if (username == null) {
+      return false;
+    }
+    int length = username.length();
+    if (length < USERNAME_MIN_LENGTH || length > USERNAME_MAX_LENGTH) {
+      return false;
+    }
+    for (int i = 0; i < length; i++) {
+      char c = username.charAt(i);
+      if (!isLetterOrDigit(c) && c != '_') {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /**
+   * local@domain.tld: the local part of letters, digits and +_.-, the domain
+   * of letters, digits, . and - and ending in a dot and two or more letters
+   * Same as ^[A-Za-z0-9+_.-]+@([A-Za-z0-9.-]+\.[A-Za-z]{2,})$
+   */
+  public static boolean isValidEmail(String email) {
+    if (email == null) {
+      return false;
+    }
+    int length = email.length();
+    int at = -1;
+    int lastDot = -1;
+    boolean lettersSinceDot = false;
+    for (int i = 0; i < length; i++) {
+      char c = email.charAt(i);
+      if (at < 0) {
+        if (c == '@') {
+          at = i;
+        } else if (!isLetterOrDigit(c) && c != '+' && c != '_' && c != '.' && c != '-') {
+          return false;
+        }
+      } else if (c == '.') {
+        lastDot = i;
+        lettersSinceDot = true;
+      } else if (isDigit(c) || c == '-') {
+        lettersSinceDot = false;
+      } else if (!isLetter(c)) {
+        return false;
+      }
+    }
+    // a local part, at least one domain character before the last dot, two or more letters after it
+    return at > 0 && lastDot >= at + 2 && length - lastDot > 2 && lettersSinceDot;
+  }
+
+  /**
+   * At least 8 characters with an ASCII uppercase letter, lowercase letter
+   * and digit, and no line breaks
+   */
+  public static boolean isValidPassword(String password) {
+    return password != null && passwordFlags(password) == PASSWORD_OK;
+  }
+
+  /**
+   * Null, empty or only whitespace and control characters, as trim() sees them
+   */
+  public static boolean isBlank(String value) {
+    if (value == null) {
+      return true;
+    }
+    for (int i = 0; i < value.length(); i++) {
+      if (value.charAt(i) > ' ') {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /**
+   * Every rule a new user breaks, in field order
+   */
+  public static List<UserViolation> validateNewUser(String username, String email, String firstName,
+      String lastName) {
+    List<UserViolation> violations = List.of();
+    if (isBlank(username)) {
+      violations = add(violations, "username", EMPTY);
+    } else if (!isValidUsername(username)) {
+      violations = add(violations, "username", USERNAME_FORMAT);
+    }
+    return validateDetails(violations, email, firstName, lastName);
+  }
+
+  /**
+   * Every rule the changeable fields of a user break, in field order
+   */
+  public static List<UserViolation> validateDetails(String email, String firstName, String lastName) {
+    return validateDetails(List.of(), email, firstName, lastName);
+  }
+
+  /**
+   * Every password rule the password breaks
+   */
+  public static List<UserViolation> validatePassword(String password) {
+    if (password == null || password.isEmpty()) {
+      return List.of(new UserViolation("password", EMPTY));
+    }
+    int flags = passwordFlags(password);
+    List<UserViolation> violations = List.of();
+    if ((flags & LENGTH) == 0) {
+      violations = add(violations, "password", PASSWORD_LENGTH);
+    }
+    if ((flags & UPPERCASE) == 0) {
+      violations = add(violations, "password", PASSWORD_UPPERCASE);
+    }
+    if ((flags & LOWERCASE) == 0) {
+      violations = add(violations, "password", PASSWORD_LOWERCASE);
+    }
+    if ((flags & DIGIT) == 0) {
+      violations = add(violations, "password", PASSWORD_DIGIT);
+    }
+    if ((flags & NO_LINE_BREAK) == 0) {
+      violations = add(violations, "password", PASSWORD_LINE_BREAK);
+    }
+    return violations;
+  }
+
+  private static List<UserViolation> validateDetails(List<UserViolation> violations, String email,
+      String firstName, String lastName) {
+    if (isBlank(email)) {
+      violations = add(violations, "email", EMPTY);
+    } else if (!isValidEmail(email)) {
+      violations = add(violations, "email", EMAIL_FORMAT);
+    }
+    if (isBlank(firstName)) {
+      violations = add(violations, "firstName", EMPTY);
+    }
+    if (isBlank(lastName)) {
+      violations = add(violations, "lastName", EMPTY);
+    }
+    return violations;
+  }
+
+  /**
+   * The password rules that hold, from one pass over the characters
+   * Line breaks are the characters . does not match, which made the
+   * .*[A-Z].* style patterns reject them
+   */
+  private static int passwordFlags(String password) {
+    int flags = password.length() >= PASSWORD_MIN_LENGTH ? LENGTH | NO_LINE_BREAK : NO_LINE_BREAK;
+    for (int i = 0; i < password.length(); i++) {
+      char c = password.charAt(i);
+      if (c >= 'A' && c <= 'Z') {
+        flags |= UPPERCASE;
+      } else if (c >= 'a' && c <= 'z') {
+        flags |= LOWERCASE;
+      } else if (isDigit(c)) {
+        flags |= DIGIT;
+      } else if (c == '\n' || c == '\r' || c == '\u0085' || c == '\u2028' || c == '\u2029') {
+        flags &= ~NO_LINE_BREAK;
+      }
+    }
+    return flags;
+  }
+
+  private static List<UserViolation> add(List<UserViolation> violations, String field, String reason) {
+    List<UserViolation> added = violations.isEmpty() ? new ArrayList<>(4) : violations;
+    added.add(new UserViolation(field, reason));
+    return added;
+  }
+
+  private static boolean isLetterOrDigit(char c) {
+    return isLetter(c) || isDigit(c);
+  }
+
+  private static boolean isLetter(char c) {
+    return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z');
+  }
+
+  private static boolean isDigit(char c) {
+    return c >= '0' && c <= '9';
+  }
+}
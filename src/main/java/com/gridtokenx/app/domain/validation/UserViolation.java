@@ -0,0 +1,14 @@
+package com.gridtokenx.app.domain.validation;
+
+/**
+ * A user field that breaks one of the UserValidator rules
+ */
+public record UserViolation(String field, String reason) {
+
+  /**
+   * Same wording as InvalidUserDataException
+   */
+  public String message() {
+    return "Invalid " + field + ": " + reason;
+  }
+}
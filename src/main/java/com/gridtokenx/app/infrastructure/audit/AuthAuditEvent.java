@@ -0,0 +1,33 @@
+package com.gridtokenx.app.infrastructure.audit;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * One row of the authentication audit trail
+ * userId is only known once a token or password has been verified;
+ * reason is set for failures only
+ */
+public record AuthAuditEvent(
+    LocalDateTime occurredAt,
+    Type type,
+    String username,
+    UUID userId,
+    String reason,
+    String clientIp) {
+
+  public enum Type {
+    LOGIN_SUCCEEDED,
+    LOGIN_FAILED,
+    LOGOUT,
+    TOKEN_REFRESHED,
+    TOKEN_REFRESH_FAILED
+  }
+
+  /**
+   * Event of the given type happening now
+   */
+  public static AuthAuditEvent of(Type type, String username, UUID userId, String reason, String clientIp) {
+    return new AuthAuditEvent(LocalDateTime.now(), type, username, userId, reason, clientIp);
+  }
+}
@@ -0,0 +1,207 @@
+package com.gridtokenx.app.infrastructure.audit;
+
+import com.gridtokenx.app.infrastructure.concurrent.MpscRingBuffer;
+import com.gridtokenx.app.infrastructure.concurrent.PeriodicWorker;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Asynchronous authentication audit trail
+ * Request threads only offer the event to a lock-free ring buffer, so
+ * auditing adds no database round trip to a login. A single writer thread
+ * drains it in batches into auth_audit_events and, once per
+ * maintenance interval, creates upcoming partitions and drops expired ones.
+ * A full buffer drops the event and counts it rather than slowing the
+ * request; a batch that still fails after a few attempts is dropped the same
+ * way
+ */
+@Slf4j
+@Component
+public class AuthAuditLog implements SmartLifecycle {
+
+  private static final int WRITE_ATTEMPTS = 3;
+
+  private final AuthAuditRepository repository;
+  private final AuthAuditProperties properties;
+  private final MpscRingBuffer<AuthAuditEvent> buffer;
+  private final Counter recorded;
+  private final Counter dropped;
+  private final Counter written;
+  private final Counter failures;
+  private final Counter partitionFailures;
+  private final DistributionSummary batchSizes;
+  private final PeriodicWorker writer;
+
+  // only touched by the writer thread, and by stop() once it has finished
+  private final List<AuthAuditEvent> batch;
+  private long nextMaintenance;
+
+  public AuthAuditLog(AuthAuditRepository repository, AuthAuditProperties properties, MeterRegistry meterRegistry) {
+    this.repository = repository;
+    this.properties = properties;
+    this.buffer = new MpscRingBuffer<>(properties.getBufferSize());
+    this.recorded = Counter.builder("audit.auth.events.recorded")
+        .description("Authentication audit events accepted for writing")
+        .register(meterRegistry);
+    this.dropped = Counter.builder("audit.auth.events.dropped")
+        .description("Authentication audit events lost to a full buffer or failed writes")
+        .register(meterRegistry);
+    this.written = Counter.builder("audit.auth.events.written")
+        .description("Authentication audit events written to the database")
+        .register(meterRegistry);
+    this.failures = Counter.builder("audit.auth.write.failures")
+        .description("Failed authentication audit batch writes, including retried ones")
+        .register(meterRegistry);
+    this.partitionFailures = Counter.builder("audit.auth.partition.failures")
+        .description("Days whose authentication audit partition could not be created, counted per attempt")
+        .register(meterRegistry);
+    this.batchSizes = DistributionSummary.builder("audit.auth.batch.size")
+        .description("Authentication audit events per written batch")
+        .register(meterRegistry);
+    Gauge.builder("audit.auth.queue.depth", buffer, MpscRingBuffer::size)
+        .description("Authentication audit events waiting for the writer")
+        .register(meterRegistry);
+    this.writer = new PeriodicWorker("auth-audit-writer", 1, this::writeBatch);
+    this.batch = new ArrayList<>(properties.getBatchSize());
+    this.nextMaintenance = System.nanoTime();
+  }
+
+  /**
+   * Queue an event without blocking
+   */
+  public void record(AuthAuditEvent event) {
+    if (!properties.isEnabled()) {
+      return;
+    }
+    if (buffer.offer(event)) {
+      recorded.increment();
+    } else {
+      dropped.increment();
+    }
+  }
+
+  /**
+   * Newest events of a user within the window, at most limit of them
+   * Events still queued for the writer are not included
+   */
+  public List<AuthAuditEvent> recent(String username, Duration window, int limit) {
+    if (!properties.isEnabled()) {
+      return List.of();
+    }
+    Duration bounded = window.compareTo(properties.getRetention()) > 0 ? properties.getRetention() : window;
+    return repository.findRecent(username, LocalDateTime.now().minus(bounded),
+        Math.min(limit, properties.getMaxQueryLimit()));
+  }
+
+  @Override
+  public synchronized void start() {
+    if (!properties.isEnabled()) {
+      return;
+    }
+    writer.start();
+  }
+
+  /**
+   * Writes what is still queued before returning
+   */
+  @Override
+  public synchronized void stop() {
+    if (!writer.isRunning()) {
+      return;
+    }
+    if (!writer.stop(properties.getFlushInterval().plusSeconds(10))) {
+      log.warn("Audit writer did not finish in time, {} queued events may be lost", buffer.size());
+      return;
+    }
+    do {
+      batch.clear();
+      drainTo(batch);
+      if (!batch.isEmpty()) {
+        write(batch);
+      }
+    } while (!batch.isEmpty());
+  }
+
+  @Override
+  public boolean isRunning() {
+    return writer.isRunning();
+  }
+
+  /**
+   * Write one batch, running maintenance first when it is due
+   *
+   * @return how long to wait before the next batch
+   */
+  private Duration writeBatch() {
+    maintainIfDue();
+    drainTo(batch);
+    if (!batch.isEmpty()) {
+      write(batch);
+    }
+    boolean full = batch.size() == properties.getBatchSize();
+    batch.clear();
+    return full ? Duration.ZERO : properties.getFlushInterval();
+  }
+
+  private void drainTo(List<AuthAuditEvent> batch) {
+    AuthAuditEvent event;
+    while (batch.size() < properties.getBatchSize() && (event = buffer.poll()) != null) {
+      batch.add(event);
+    }
+  }
+
+  private void write(List<AuthAuditEvent> batch) {
+    for (int attempt = 1; attempt <= WRITE_ATTEMPTS; attempt++) {
+      try {
+        repository.insert(batch);
+        written.increment(batch.size());
+        batchSizes.record(batch.size());
+        return;
+      } catch (RuntimeException e) {
+        failures.increment();
+        if (attempt == WRITE_ATTEMPTS) {
+          log.warn("Dropping {} audit events after {} failed writes: {}", batch.size(), attempt, e.toString());
+          dropped.increment(batch.size());
+          // a missing partition is the likely cause; check again before the next batch
+          nextMaintenance = System.nanoTime();
+          return;
+        }
+        LockSupport.parkNanos(this, properties.getFlushInterval().toNanos() * attempt);
+      }
+    }
+  }
+
+  private void maintainIfDue() {
+    long now = System.nanoTime();
+    if (now - nextMaintenance < 0) {
+      return;
+    }
+    nextMaintenance = now + properties.getMaintenanceInterval().toNanos();
+    LocalDate today = LocalDate.now();
+    try {
+      int missing = repository.createPartitions(today.minusDays(1), today.plusDays(properties.getPartitionsAhead()));
+      if (missing > 0) {
+        partitionFailures.increment(missing);
+      }
+      LocalDate cutoff = LocalDateTime.now().minus(properties.getRetention()).toLocalDate();
+      int removed = repository.deleteBefore(cutoff);
+      if (removed > 0) {
+        log.info("Removed {} expired audit partition(s) or row(s) from before {}", removed, cutoff);
+      }
+    } catch (RuntimeException e) {
+      log.warn("Audit partition maintenance failed: {}", e.toString());
+    }
+  }
+}
@@ -0,0 +1,48 @@
+package com.gridtokenx.app.infrastructure.audit;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * Authentication audit log configuration properties
+ * Maps audit.auth.* from application.properties
+ */
+@ConfigurationProperties(prefix = "audit.auth")
+@Data
+@Component
+public class AuthAuditProperties {
+
+  private boolean enabled = true;
+
+  /**
+   * Events waiting for the writer; further events are dropped and counted
+   */
+  private int bufferSize = 8192;
+
+  private int batchSize = 500;
+
+  /**
+   * How long the writer lets events accumulate after a batch that was not full
+   */
+  private Duration flushInterval = Duration.ofMillis(200);
+
+  /**
+   * Events older than this are removed, a whole day's partition at a time
+   */
+  private Duration retention = Duration.ofDays(90);
+
+  /**
+   * Daily partitions created ahead of time
+   */
+  private int partitionsAhead = 7;
+
+  private Duration maintenanceInterval = Duration.ofHours(1);
+
+  /**
+   * Upper bound for the limit of the recent events query
+   */
+  private int maxQueryLimit = 500;
+}
@@ -0,0 +1,179 @@
+package com.gridtokenx.app.infrastructure.audit;
+
+import com.gridtokenx.app.infrastructure.persistence.DatabaseDialect;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Reads and writes the auth_audit_events table
+ * On PostgreSQL the table is range-partitioned by day on occurred_at (V8):
+ * partitions are created ahead of time and expired ones are detached
+ * concurrently and dropped whole, so retention never deletes rows one by one
+ * or blocks writers and readers of the table. There is deliberately no
+ * DEFAULT partition: it would make every new partition scan it and rule out
+ * concurrent detaching, so a day without a partition fails its inserts and
+ * is reported instead. Other databases get a plain table and a DELETE
+ */
+@Slf4j
+@Repository
+public class AuthAuditRepository {
+
+  static final String TABLE = "auth_audit_events";
+
+  private static final DateTimeFormatter PARTITION_SUFFIX = DateTimeFormatter.BASIC_ISO_DATE;
+  private static final String PARTITION_PREFIX = TABLE + "_p";
+
+  private static final String INSERT = "INSERT INTO " + TABLE
+      + " (occurred_at, event_type, username, user_id, reason, client_ip) VALUES (?, ?, ?, ?, ?, ?)";
+
+  private static final RowMapper<AuthAuditEvent> ROW_MAPPER = (rs, rowNum) -> new AuthAuditEvent(
+      rs.getObject("occurred_at", LocalDateTime.class),
+      AuthAuditEvent.Type.valueOf(rs.getString("event_type")),
+      rs.getString("username"),
+      rs.getObject("user_id", UUID.class),
+      rs.getString("reason"),
+      rs.getString("client_ip"));
+
+  private final NamedParameterJdbcTemplate jdbcTemplate;
+  private final DatabaseDialect dialect;
+
+  public AuthAuditRepository(NamedParameterJdbcTemplate jdbcTemplate, DatabaseDialect dialect) {
+    this.jdbcTemplate = jdbcTemplate;
+    this.dialect = dialect;
+  }
+
+  /**
+   * Insert the events as one JDBC batch
+   * With reWriteBatchedInserts on the PostgreSQL URL the driver sends it as
+   * multi-row INSERT statements
+   */
+  public void insert(List<AuthAuditEvent> events) {
+    jdbcTemplate.getJdbcTemplate().batchUpdate(INSERT, events, events.size(), (ps, event) -> {
+      ps.setObject(1, event.occurredAt());
+      ps.setString(2, event.type().name());
+      ps.setString(3, event.username());
+      ps.setObject(4, event.userId());
+      ps.setString(5, event.reason());
+      ps.setString(6, event.clientIp());
+    });
+  }
+
+  /**
+   * Newest events of a user since the given time
+   * The bound on occurred_at lets PostgreSQL skip older partitions
+   */
+  public List<AuthAuditEvent> findRecent(String username, LocalDateTime since, int limit) {
+    return jdbcTemplate.query("SELECT occurred_at, event_type, username, user_id, reason, client_ip FROM " + TABLE
+            + " WHERE username = :username AND occurred_at >= :since ORDER BY occurred_at DESC LIMIT :limit",
+        new MapSqlParameterSource()
+            .addValue("username", username)
+            .addValue("since", since)
+            .addValue("limit", limit),
+        ROW_MAPPER);
+  }
+
+  /**
+   * Make sure there is a partition for every day from first to last
+   * A no-op unless the database is PostgreSQL
+   *
+   * @return the number of days still without a partition, whose events
+   *         cannot be written
+   */
+  public int createPartitions(LocalDate first, LocalDate last) {
+    if (dialect != DatabaseDialect.POSTGRESQL) {
+      return 0;
+    }
+    int missing = 0;
+    for (LocalDate day = first; !day.isAfter(last); day = day.plusDays(1)) {
+      String partition = partition(day);
+      try {
+        jdbcTemplate.getJdbcTemplate().execute("CREATE TABLE IF NOT EXISTS " + partition
+            + " PARTITION OF " + TABLE + " FOR VALUES FROM ('" + day + "') TO ('" + day.plusDays(1) + "')");
+      } catch (DataAccessException e) {
+        if (exists(partition)) {
+          // another instance created it between the check and the create
+          log.debug("Audit partition {} was created concurrently: {}", partition, e.getMessage());
+        } else {
+          log.warn("Could not create audit partition {}: {}", partition, e.getMessage());
+          missing++;
+        }
+      }
+    }
+    return missing;
+  }
+
+  /**
+   * Remove events from before the given day
+   * Drops whole partitions on PostgreSQL, deletes rows elsewhere. A plain
+   * DROP of an attached partition would take an ACCESS EXCLUSIVE lock on the
+   * whole table, so partitions are first detached CONCURRENTLY, which only
+   * waits for queries already using them. That cannot run in a transaction,
+   * and nothing here opens one. A detach interrupted by a crash is finished
+   * with FINALIZE, and a partition detached but not yet dropped is dropped
+   * 
+   * @return the number of partitions dropped or rows deleted
+   */
+  public int deleteBefore(LocalDate day) {
+    if (dialect != DatabaseDialect.POSTGRESQL) {
+      return jdbcTemplate.update("DELETE FROM " + TABLE + " WHERE occurred_at < :before",
+          new MapSqlParameterSource("before", day.atStartOfDay()));
+    }
+    // every partition-named table in the schema, attached or not; detach_pending is null once detached
+    List<Map<String, Object>> partitions = jdbcTemplate.getJdbcTemplate().queryForList(
+        "SELECT c.relname AS name, i.inhdetachpending AS detach_pending FROM pg_class c "
+            + "LEFT JOIN pg_inherits i ON i.inhrelid = c.oid "
+            + "WHERE c.relnamespace = current_schema()::regnamespace AND c.relkind = 'r' AND c.relname LIKE ?",
+        PARTITION_PREFIX + "%");
+    int dropped = 0;
+    for (Map<String, Object> row : partitions) {
+      String partition = (String) row.get("name");
+      LocalDate partitionDay = partitionDay(partition);
+      if (partitionDay == null || !partitionDay.isBefore(day)) {
+        continue;
+      }
+      Object detachPending = row.get("detach_pending");
+      if (Boolean.TRUE.equals(detachPending)) {
+        jdbcTemplate.getJdbcTemplate().execute(
+            "ALTER TABLE " + TABLE + " DETACH PARTITION " + partition + " FINALIZE");
+      } else if (detachPending != null) {
+        jdbcTemplate.getJdbcTemplate().execute(
+            "ALTER TABLE " + TABLE + " DETACH PARTITION " + partition + " CONCURRENTLY");
+      }
+      jdbcTemplate.getJdbcTemplate().execute("DROP TABLE IF EXISTS " + partition);
+      dropped++;
+    }
+    return dropped;
+  }
+
+  private boolean exists(String table) {
+    return Boolean.TRUE.equals(jdbcTemplate.getJdbcTemplate().queryForObject(
+        "SELECT to_regclass(?) IS NOT NULL", Boolean.class, table));
+  }
+
+  static String partition(LocalDate day) {
+    return PARTITION_PREFIX + PARTITION_SUFFIX.format(day);
+  }
+
+  static LocalDate partitionDay(String partition) {
+    if (!partition.startsWith(PARTITION_PREFIX)) {
+      return null;
+    }
+    try {
+      return LocalDate.parse(partition.substring(PARTITION_PREFIX.length()), PARTITION_SUFFIX);
+    } catch (DateTimeParseException e) {
+      return null;
+    }
+  }
+}
@@ -0,0 +1,97 @@
+package com.gridtokenx.app.infrastructure.concurrent;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Bounded lock-free multi-producer / single-consumer ring buffer
+ * Producers never block: {@link #offer(Object)} returns false when the buffer
+ * is full so the caller can count the drop and move on
+ * Based on the sequence-per-slot design (Vyukov bounded queue)
+ */
+public final class MpscRingBuffer<E> {
+
+  private final int mask;
+  private final AtomicReferenceArray<E> slots;
+  private final AtomicLongArray sequences;
+  private final AtomicLong tail = new AtomicLong();
+
+  // Only touched by the single consumer thread
+  private volatile long head;
+
+  public MpscRingBuffer(int requestedCapacity) {
+    if (requestedCapacity < 2) {
+      throw new IllegalArgumentException("Capacity must be at least 2");
+    }
+    int capacity = Integer.highestOneBit(requestedCapacity - 1) << 1;
+    this.mask = capacity - 1;
+    this.slots = new AtomicReferenceArray<>(capacity);
+    this.sequences = new AtomicLongArray(capacity);
+    for (int i = 0; i < capacity; i++) {
+      sequences.set(i, i);
+    }
+  }
+
+  /**
+   * Try to enqueue an element without blocking
+   *
+   * @return false if the buffer is full
+   */
+  public boolean offer(E element) {
+    if (element == null) {
+      throw new NullPointerException("element");
+    }
+    long position = tail.get();
+    for (;;) {
+      int index = (int) (position & mask);
+      long difference = sequences.get(index) - position;
+      if (difference == 0) {
+        if (tail.compareAndSet(position, position + 1)) {
+          slots.set(index, element);
+          sequences.setRelease(index, position + 1);
+          return true;
+        }
+        position = tail.get();
+      } else if (difference < 0) {
+        return false;
+      } else {
+        position = tail.get();
+      }
+    }
+  }
+
+  /**
+   * Dequeue the next element; must only be called from the consumer thread
+   *
+   * @return the next element or null if the buffer is empty
+   */
+  public E poll() {
+    long position = head;
+    int index = (int) (position & mask);
+    if (sequences.getAcquire(index) != position + 1) {
+      return null;
+    }
+    E element = slots.get(index);
+    slots.set(index, null);
+    sequences.setRelease(index, position + mask + 1);
+    head = position + 1;
+    return element;
+  }
+
+  /**
+   * Approximate number of buffered elements
+   */
+  public int size() {
+    long size = tail.get() - head;
+    return (int) Math.max(0, Math.min(size, capacity()));
+  }
+
+  public boolean isEmpty() {
+    return size() == 0;
+  }
+
+  public int capacity() {
+    return mask + 1;
+  }
+}
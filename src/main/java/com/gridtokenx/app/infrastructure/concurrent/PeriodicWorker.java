@@ -0,0 +1,84 @@
+package com.gridtokenx.app.infrastructure.concurrent;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Supplier;
+
+/**
+ * Daemon threads that run a step over and over, pausing between steps
+ * The step returns how long to pause; {@link Duration#ZERO} runs it again
+ * straight away. {@link #stop(Duration)} wakes paused threads, so shutdown
+ * does not wait out a pause, and lets a running step finish
+ */
+public final class PeriodicWorker {
+
+  private final String name;
+  private final int threadCount;
+  private final Supplier<Duration> step;
+  private final List<Thread> threads = new ArrayList<>();
+
+  private volatile boolean running;
+
+  /**
+   * @param name thread name, suffixed with the thread index when there are
+   *             several
+   */
+  public PeriodicWorker(String name, int threadCount, Supplier<Duration> step) {
+    this.name = name;
+    this.threadCount = threadCount;
+    this.step = step;
+  }
+
+  public synchronized void start() {
+    if (running) {
+      return;
+    }
+    running = true;
+    for (int i = 0; i < threadCount; i++) {
+      Thread thread = new Thread(this::loop, threadCount == 1 ? name : name + "-" + i);
+      thread.setDaemon(true);
+      thread.start();
+      threads.add(thread);
+    }
+  }
+
+  /**
+   * Wait up to timeout per thread for the current steps to finish
+   *
+   * @return false if a thread is still running a step
+   */
+  public synchronized boolean stop(Duration timeout) {
+    if (!running) {
+      return true;
+    }
+    running = false;
+    threads.forEach(LockSupport::unpark);
+    boolean stopped = true;
+    try {
+      for (Thread thread : threads) {
+        thread.join(timeout.toMillis());
+        stopped &= !thread.isAlive();
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      stopped = false;
+    }
+    threads.clear();
+    return stopped;
+  }
+
+  public boolean isRunning() {
+    return running;
+  }
+
+  private void loop() {
+    while (running) {
+      Duration pause = step.get();
+      if (!pause.isZero() && running) {
+        LockSupport.parkNanos(this, pause.toNanos());
+      }
+    }
+  }
+}
@@ -0,0 +1,99 @@
+package com.gridtokenx.app.infrastructure.concurrent;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Collapses concurrent calls for the same key into one execution
+ * The first caller for a key runs the loader on its own thread; callers that
+ * arrive while it is running wait for and share its result. Nothing is
+ * cached: once the call completes the next caller starts a fresh one
+ * Waiting is bounded; a caller whose wait times out, or whose leader failed,
+ * runs the loader itself so it never does worse than without coalescing
+ * Shared results must be immutable or safe to hand to several threads
+ */
+public final class SingleFlight<K, V> {
+
+  private final ConcurrentHashMap<K, CompletableFuture<V>> inFlight = new ConcurrentHashMap<>();
+  private final long maxWaitNanos;
+  private final LongAdder executed = new LongAdder();
+  private final LongAdder collapsed = new LongAdder();
+  private final LongAdder timeouts = new LongAdder();
+
+  public SingleFlight(Duration maxWait) {
+    this.maxWaitNanos = maxWait.toNanos();
+  }
+
+  /**
+   * Run the loader for the key, or join the call already in flight
+   */
+  public V execute(K key, Supplier<V> loader) {
+    CompletableFuture<V> call = new CompletableFuture<>();
+    CompletableFuture<V> leader = inFlight.putIfAbsent(key, call);
+    if (leader == null) {
+      return lead(key, call, loader);
+    }
+
+    try {
+      V value = leader.get(maxWaitNanos, TimeUnit.NANOSECONDS);
+      collapsed.increment();
+      return value;
+    } catch (TimeoutException e) {
+      timeouts.increment();
+    } catch (ExecutionException e) {
+      // the leader already reported its failure; retry independently
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+    executed.increment();
+    return loader.get();
+  }
+
+  private V lead(K key, CompletableFuture<V> call, Supplier<V> loader) {
+    executed.increment();
+    try {
+      V value = loader.get();
+      call.complete(value);
+      return value;
+    } catch (RuntimeException | Error e) {
+      call.completeExceptionally(e);
+      throw e;
+    } finally {
+      inFlight.remove(key, call);
+    }
+  }
+
+  /**
+   * Loader executions, including fallbacks after a timed-out or failed wait
+   */
+  public long getExecutedCount() {
+    return executed.sum();
+  }
+
+  /**
+   * Calls that were served by another caller's execution
+   */
+  public long getCollapsedCount() {
+    return collapsed.sum();
+  }
+
+  /**
+   * Calls that gave up waiting and ran the loader themselves
+   */
+  public long getTimeoutCount() {
+    return timeouts.sum();
+  }
+
+  /**
+   * Keys with a call currently in flight
+   */
+  public int getInFlightCount() {
+    return inFlight.size();
+  }
+}
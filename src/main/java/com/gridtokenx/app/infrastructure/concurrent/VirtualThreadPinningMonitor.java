@@ -0,0 +1,109 @@
+package com.gridtokenx.app.infrastructure.concurrent;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordedStackTrace;
+import jdk.jfr.consumer.RecordingStream;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+/**
+ * Reports virtual threads pinned to their carrier
+ * A virtual thread that blocks inside a synchronized block (or a native
+ * frame) keeps its carrier thread, so a pinned JDBC or logging path caps
+ * throughput at the number of carriers. Pinned events above the threshold
+ * are timed as jvm.threads.virtual.pinned and each distinct stack is logged
+ * once. Only active when spring.threads.virtual.enabled is set and the
+ * runtime is JDK 21 or newer; on older runtimes the flag is ignored and
+ * requests stay on platform threads
+ */
+@Slf4j
+@Component
+public class VirtualThreadPinningMonitor implements SmartLifecycle {
+
+  private static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+  private static final int MAX_REPORTED_STACKS = 100;
+  private static final int LOGGED_FRAMES = 12;
+
+  private final Environment environment;
+  private final MeterRegistry meterRegistry;
+  private final Duration threshold;
+  private final Set<String> reportedStacks = ConcurrentHashMap.newKeySet();
+
+  private volatile RecordingStream stream;
+
+  public VirtualThreadPinningMonitor(
+      Environment environment,
+      MeterRegistry meterRegistry,
+      @Value("${virtual-threads.pinned-threshold:20ms}") Duration threshold) {
+    this.environment = environment;
+    this.meterRegistry = meterRegistry;
+    this.threshold = threshold;
+  }
+
+  @Override
+  public void start() {
+    if (!Threading.VIRTUAL.isActive(environment)) {
+      if (environment.getProperty("spring.threads.virtual.enabled", Boolean.class, false)) {
+        log.warn("spring.threads.virtual.enabled is set but Java {} has no virtual threads; using platform threads",
+            Runtime.version().feature());
+      }
+      return;
+    }
+
+    Timer pinned = Timer.builder("jvm.threads.virtual.pinned")
+        .description("Virtual threads that blocked while pinned to their carrier")
+        .register(meterRegistry);
+    RecordingStream recording = new RecordingStream();
+    recording.enable(PINNED_EVENT).withThreshold(threshold).withStackTrace();
+    recording.onEvent(PINNED_EVENT, event -> {
+      pinned.record(event.getDuration());
+      report(event);
+    });
+    recording.startAsync();
+    stream = recording;
+    log.info("Virtual threads enabled; reporting pinned threads blocked longer than {} ms", threshold.toMillis());
+  }
+
+  @Override
+  public void stop() {
+    RecordingStream recording = stream;
+    stream = null;
+    if (recording != null) {
+      recording.close();
+    }
+  }
+
+  @Override
+  public boolean isRunning() {
+    return stream != null;
+  }
+
+  private void report(RecordedEvent event) {
+    RecordedStackTrace stackTrace = event.getStackTrace();
+    if (stackTrace == null || reportedStacks.size() >= MAX_REPORTED_STACKS) {
+      return;
+    }
+    List<RecordedFrame> frames = stackTrace.getFrames();
+    String stack = frames.stream()
+        .limit(LOGGED_FRAMES)
+        .map(frame -> frame.getMethod().getType().getName() + "." + frame.getMethod().getName()
+            + ":" + frame.getLineNumber())
+        .collect(Collectors.joining("\n  at "));
+    if (reportedStacks.add(stack)) {
+      log.warn("Virtual thread pinned for {} ms\n  at {}", event.getDuration().toMillis(), stack);
+    }
+  }
+}
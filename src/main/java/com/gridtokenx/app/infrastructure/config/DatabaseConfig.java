@@ -1,8 +1,12 @@
 package com.gridtokenx.app.infrastructure.config;
 
+import com.gridtokenx.app.infrastructure.persistence.DatabaseDialect;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.autoconfigure.flyway.FlywayMigrationStrategy;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
 import org.springframework.jdbc.datasource.DriverManagerDataSource;
 
 import javax.sql.DataSource;
@@ -31,4 +35,29 @@ public class DatabaseConfig {
 
     return dataSource;
   }
+
+  /**
+   * SQL dialect of the primary database, resolved once from the JDBC URL
+   * Nothing connects here, so the CDS training run still starts without a
+   * database
+   */
+  @Bean
+  public DatabaseDialect databaseDialect(DataSourceProperties properties) {
+    return DatabaseDialect.fromJdbcUrl(properties.determineUrl());
+  }
+
+  /**
+   * Migrate on startup unless spring.flyway.enabled is false
+   * The auto-configuration already checks the flag, but an AOT-processed build
+   * (mvn -Paot) fixes that decision at build time; checking it here keeps the
+   * flag usable at runtime, e.g. for the CDS training run that has no database
+   */
+  @Bean
+  public FlywayMigrationStrategy flywayMigrationStrategy(Environment environment) {
+    return flyway -> {
+      if (environment.getProperty("spring.flyway.enabled", Boolean.class, true)) {
+        flyway.migrate();
+      }
+    };
+  }
 }
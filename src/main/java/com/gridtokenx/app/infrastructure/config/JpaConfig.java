@@ -1,11 +1,16 @@
 package com.gridtokenx.app.infrastructure.config;
 
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.orm.jpa.EntityManagerFactoryBuilderCustomizer;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.AsyncTaskExecutor;
 import org.springframework.transaction.annotation.EnableTransactionManagement;
 
 /**
  * JPA Configuration
- * Transaction management configuration only
+ * Transaction management and EntityManagerFactory bootstrap
  * Entity scanning and repository configuration moved to AppApplication.java
  */
 @Configuration
@@ -15,4 +20,18 @@ public class JpaConfig {
   // TransactionManager
   // Entity scanning and JPA repositories are configured in the main application
   // class
+
+  /**
+   * Build the EntityManagerFactory in the background
+   * Repositories are bootstrapped in deferred mode (see AppApplication), so
+   * the rest of the context, including the web server, starts while
+   * Hibernate boots and validates the schema. Spring Boot only does this for
+   * its own repository auto-configuration, which the explicit
+   * EnableJpaRepositories turns off
+   */
+  @Bean
+  public EntityManagerFactoryBuilderCustomizer entityManagerFactoryBootstrapExecutorCustomizer(
+      @Qualifier("applicationTaskExecutor") ObjectProvider<AsyncTaskExecutor> applicationTaskExecutor) {
+    return builder -> applicationTaskExecutor.ifAvailable(builder::setBootstrapExecutor);
+  }
 }
@@ -1,5 +1,7 @@
 package com.gridtokenx.app.infrastructure.config;
 
+import com.gridtokenx.app.infrastructure.security.BoundedPasswordEncoder;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
@@ -14,10 +16,12 @@ public class PasswordEncoderConfig {
 
   /**
    * BCrypt password encoder with strength 12
-   * Higher strength provides better security but slower hashing
+   * Higher strength provides better security but slower hashing; at most
+   * security.password.hashing-concurrency hashes run at once (0 = one per CPU)
    */
   @Bean
-  public PasswordEncoder passwordEncoder() {
-    return new BCryptPasswordEncoder(12);
+  public PasswordEncoder passwordEncoder(@Value("${security.password.hashing-concurrency:0}") int hashingConcurrency) {
+    int permits = hashingConcurrency > 0 ? hashingConcurrency : Runtime.getRuntime().availableProcessors();
+    return new BoundedPasswordEncoder(new BCryptPasswordEncoder(12), permits);
   }
 }
@@ -0,0 +1,147 @@
+package com.gridtokenx.app.infrastructure.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.gridtokenx.app.application.port.ReactiveUserOutputPort;
+import com.gridtokenx.app.application.port.ReactiveUserQueryInputPort;
+import com.gridtokenx.app.application.service.AuthenticationService;
+import com.gridtokenx.app.application.service.ReactiveAuthenticationService;
+import com.gridtokenx.app.application.usecase.ReactiveUserQueryUseCase;
+import com.gridtokenx.app.infrastructure.audit.AuthAuditLog;
+import com.gridtokenx.app.infrastructure.persistence.mapper.UserJpaMapper;
+import com.gridtokenx.app.infrastructure.persistence.reactive.R2dbcUserRepository;
+import com.gridtokenx.app.infrastructure.security.AuthenticationFailureMonitor;
+import com.gridtokenx.app.infrastructure.security.jwt.JwtTokenProvider;
+import com.gridtokenx.app.infrastructure.security.jwt.ReactiveJwtAuthenticationFilter;
+import com.gridtokenx.app.infrastructure.service.JwtBlacklistService;
+import com.gridtokenx.app.infrastructure.web.reactive.ReactiveAuthHandler;
+import com.gridtokenx.app.infrastructure.web.reactive.ReactiveHttpServer;
+import com.gridtokenx.app.infrastructure.web.reactive.ReactiveProperties;
+import com.gridtokenx.app.infrastructure.web.reactive.ReactiveUserHandler;
+import io.r2dbc.pool.ConnectionPool;
+import io.r2dbc.pool.ConnectionPoolConfiguration;
+import io.r2dbc.spi.ConnectionFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.r2dbc.R2dbcProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.r2dbc.ConnectionFactoryBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.codec.json.Jackson2JsonDecoder;
+import org.springframework.http.codec.json.Jackson2JsonEncoder;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.web.reactive.function.server.HandlerStrategies;
+import org.springframework.web.reactive.function.server.RouterFunction;
+import org.springframework.web.reactive.function.server.RouterFunctions;
+import org.springframework.web.reactive.function.server.ServerResponse;
+
+import static org.springframework.web.reactive.function.server.RequestPredicates.GET;
+import static org.springframework.web.reactive.function.server.RequestPredicates.POST;
+
+/**
+ * Reactive endpoint configuration
+ * Only active when reactive.enabled is true. Serves the token refresh and
+ * validation endpoints and the user read endpoints on reactive.port, backed
+ * by an R2DBC pool bound from spring.r2dbc. The R2DBC auto-configuration is
+ * excluded in AppApplication, so nothing here exists unless enabled
+ */
+@Configuration
+@ConditionalOnProperty(name = "reactive.enabled", havingValue = "true")
+@EnableConfigurationProperties(R2dbcProperties.class)
+public class ReactiveWebConfig {
+
+  /**
+   * Client over a pool bound from spring.r2dbc
+   * The pool is deliberately not a ConnectionFactory bean: the JDBC
+   * DataSource auto-configuration backs off when one exists
+   */
+  @Bean
+  public DatabaseClient reactiveDatabaseClient(R2dbcProperties properties) {
+    return DatabaseClient.create(connectionPool(properties));
+  }
+
+  @Bean
+  public DisposableBean reactiveConnectionPoolShutdown(DatabaseClient reactiveDatabaseClient) {
+    return ((ConnectionPool) reactiveDatabaseClient.getConnectionFactory())::dispose;
+  }
+
+  @Bean
+  public ReactiveUserOutputPort reactiveUserOutputPort(DatabaseClient reactiveDatabaseClient,
+      UserJpaMapper userJpaMapper) {
+    return new R2dbcUserRepository(reactiveDatabaseClient, userJpaMapper);
+  }
+
+  @Bean
+  public ReactiveUserQueryInputPort reactiveUserQueryInputPort(ReactiveUserOutputPort reactiveUserOutputPort) {
+    return new ReactiveUserQueryUseCase(reactiveUserOutputPort);
+  }
+
+  @Bean
+  public ReactiveAuthenticationService reactiveAuthenticationService(
+      AuthenticationService authenticationService,
+      ReactiveUserOutputPort reactiveUserOutputPort,
+      JwtTokenProvider jwtTokenProvider,
+      JwtBlacklistService jwtBlacklistService) {
+    return new ReactiveAuthenticationService(authenticationService, reactiveUserOutputPort, jwtTokenProvider,
+        jwtBlacklistService);
+  }
+
+  @Bean
+  public ReactiveHttpServer reactiveHttpServer(
+      ReactiveProperties reactiveProperties,
+      ReactiveUserQueryInputPort reactiveUserQueryInputPort,
+      ReactiveAuthenticationService reactiveAuthenticationService,
+      AuthenticationFailureMonitor authenticationFailureMonitor,
+      AuthAuditLog authAuditLog,
+      ObjectMapper objectMapper) {
+
+    ReactiveJwtAuthenticationFilter authenticated = new ReactiveJwtAuthenticationFilter(
+        reactiveAuthenticationService, authenticationFailureMonitor);
+    ReactiveAuthHandler auth = new ReactiveAuthHandler(reactiveAuthenticationService, authenticationFailureMonitor,
+        authAuditLog);
+    ReactiveUserHandler users = new ReactiveUserHandler(reactiveUserQueryInputPort);
+
+    // same paths as AuthController and UserController
+    RouterFunction<ServerResponse> routes = RouterFunctions.route(POST("/api/auth/refresh"), auth::refreshToken)
+        .and(RouterFunctions.route(GET("/api/auth/validate"), auth::validateToken).filter(authenticated))
+        .and(RouterFunctions.route()
+            .GET("/api/v1/users/username/{username}", users::getUserByUsername)
+            .GET("/api/v1/users/email/{email}", users::getUserByEmail)
+            .GET("/api/v1/users/{id}", users::getUserById)
+            .GET("/api/v1/users", users::getAllUsers)
+            .filter(authenticated)
+            .build());
+
+    // the application's ObjectMapper, so JSON matches the MVC endpoints
+    HandlerStrategies strategies = HandlerStrategies.builder()
+        .codecs(codecs -> {
+          codecs.defaultCodecs().jackson2JsonEncoder(new Jackson2JsonEncoder(objectMapper));
+          codecs.defaultCodecs().jackson2JsonDecoder(new Jackson2JsonDecoder(objectMapper));
+        })
+        .build();
+
+    return new ReactiveHttpServer(RouterFunctions.toHttpHandler(routes, strategies), reactiveProperties.getPort(),
+        reactiveProperties.isForwardHeaders());
+  }
+
+  private static ConnectionPool connectionPool(R2dbcProperties properties) {
+    ConnectionFactory connectionFactory = ConnectionFactoryBuilder.withUrl(properties.getUrl())
+        .username(properties.getUsername())
+        .password(properties.getPassword())
+        .build();
+
+    R2dbcProperties.Pool pool = properties.getPool();
+    ConnectionPoolConfiguration.Builder configuration = ConnectionPoolConfiguration.builder(connectionFactory)
+        .name("reactive")
+        .initialSize(pool.getInitialSize())
+        .maxSize(pool.getMaxSize())
+        .maxIdleTime(pool.getMaxIdleTime());
+    if (pool.getMaxAcquireTime() != null) {
+      configuration.maxAcquireTime(pool.getMaxAcquireTime());
+    }
+    if (pool.getValidationQuery() != null) {
+      configuration.validationQuery(pool.getValidationQuery());
+    }
+    return new ConnectionPool(configuration.build());
+  }
+}
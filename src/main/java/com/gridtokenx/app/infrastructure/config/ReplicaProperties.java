@@ -0,0 +1,29 @@
+package com.gridtokenx.app.infrastructure.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Read replica configuration properties
+ * Maps datasource.replicas.* from application.properties
+ * Replica pools inherit the primary's spring.datasource.hikari settings;
+ * credentials and pool size can be overridden here
+ */
+@ConfigurationProperties(prefix = "datasource.replicas")
+@Data
+@Component
+public class ReplicaProperties {
+
+  private boolean enabled;
+  private List<String> urls = new ArrayList<>();
+  private String username;
+  private String password;
+  private Integer maximumPoolSize;
+  private Duration stickiness = Duration.ofSeconds(5);
+  private Duration retryInterval = Duration.ofSeconds(30);
+}
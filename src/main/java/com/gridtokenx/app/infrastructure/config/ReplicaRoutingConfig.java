@@ -0,0 +1,93 @@
+package com.gridtokenx.app.infrastructure.config;
+
+import com.gridtokenx.app.infrastructure.persistence.routing.ReplicaRoutingDataSource;
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Read replica routing configuration
+ * Only active when datasource.replicas.enabled is true; otherwise Spring
+ * Boot's single auto-configured pool is used
+ * The primary and every replica get their own Hikari pool, each reporting
+ * hikaricp.* metrics under its pool name
+ */
+@Configuration
+@ConditionalOnProperty(name = "datasource.replicas.enabled", havingValue = "true")
+public class ReplicaRoutingConfig {
+
+  /**
+   * Primary pool settings, bound from spring.datasource.hikari
+   */
+  @Bean
+  @ConfigurationProperties(prefix = "spring.datasource.hikari")
+  public HikariConfig primaryHikariConfig(DataSourceProperties dataSourceProperties) {
+    HikariConfig config = new HikariConfig();
+    config.setJdbcUrl(dataSourceProperties.determineUrl());
+    config.setUsername(dataSourceProperties.determineUsername());
+    config.setPassword(dataSourceProperties.determinePassword());
+    config.setDriverClassName(dataSourceProperties.determineDriverClassName());
+    return config;
+  }
+
+  @Bean(destroyMethod = "close")
+  public ReplicaRoutingDataSource replicaRoutingDataSource(
+      HikariConfig primaryHikariConfig,
+      ReplicaProperties replicaProperties,
+      MeterRegistry meterRegistry) {
+
+    MicrometerMetricsTrackerFactory metrics = new MicrometerMetricsTrackerFactory(meterRegistry);
+
+    HikariConfig primaryConfig = new HikariConfig();
+    primaryHikariConfig.copyStateTo(primaryConfig);
+    primaryConfig.setPoolName(ReplicaRoutingDataSource.PRIMARY);
+    primaryConfig.setMetricsTrackerFactory(metrics);
+
+    List<HikariDataSource> replicas = new ArrayList<>();
+    List<String> urls = replicaProperties.getUrls();
+    for (int i = 0; i < urls.size(); i++) {
+      HikariConfig replicaConfig = new HikariConfig();
+      primaryHikariConfig.copyStateTo(replicaConfig);
+      replicaConfig.setPoolName("replica-" + i);
+      replicaConfig.setJdbcUrl(urls.get(i));
+      replicaConfig.setReadOnly(true);
+      replicaConfig.setMetricsTrackerFactory(metrics);
+      // replicas may be down at startup; the router falls back to the primary
+      replicaConfig.setInitializationFailTimeout(-1);
+      if (replicaProperties.getUsername() != null) {
+        replicaConfig.setUsername(replicaProperties.getUsername());
+        replicaConfig.setPassword(replicaProperties.getPassword());
+      }
+      if (replicaProperties.getMaximumPoolSize() != null) {
+        replicaConfig.setMaximumPoolSize(replicaProperties.getMaximumPoolSize());
+      }
+      replicas.add(new HikariDataSource(replicaConfig));
+    }
+
+    return new ReplicaRoutingDataSource(new HikariDataSource(primaryConfig), replicas,
+        replicaProperties.getStickiness(), replicaProperties.getRetryInterval(), meterRegistry);
+  }
+
+  /**
+   * Application DataSource
+   * The lazy proxy defers fetching a connection until the first statement,
+   * after the transaction's read-only flag has been set
+   */
+  @Bean
+  @Primary
+  public DataSource dataSource(ReplicaRoutingDataSource replicaRoutingDataSource) {
+    return new LazyConnectionDataSourceProxy(replicaRoutingDataSource);
+  }
+}
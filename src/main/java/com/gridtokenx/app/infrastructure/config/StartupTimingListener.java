@@ -0,0 +1,82 @@
+package com.gridtokenx.app.infrastructure.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationEnvironmentPreparedEvent;
+import org.springframework.boot.context.event.ApplicationPreparedEvent;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.boot.context.event.ApplicationStartedEvent;
+import org.springframework.boot.context.event.ApplicationStartingEvent;
+import org.springframework.boot.context.event.SpringApplicationEvent;
+import org.springframework.boot.context.metrics.buffering.BufferingApplicationStartup;
+import org.springframework.boot.context.metrics.buffering.StartupTimeline;
+import org.springframework.context.ApplicationListener;
+import org.springframework.core.metrics.StartupStep;
+
+import java.lang.management.ManagementFactory;
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.stream.Collectors;
+import java.util.stream.StreamSupport;
+
+/**
+ * Logs how long each startup phase took once the application is ready
+ * Registered in META-INF/spring.factories so it also sees the events fired
+ * before the context exists. When the application runs with a
+ * BufferingApplicationStartup (see AppApplication) the slowest bean
+ * initialisations are listed as well; their times include dependencies
+ */
+@Slf4j
+public class StartupTimingListener implements ApplicationListener<SpringApplicationEvent> {
+
+  private static final int SLOWEST_STEPS = 5;
+
+  private long starting;
+  private long environmentPrepared;
+  private long prepared;
+  private long started;
+  private long jvmToStarting;
+
+  @Override
+  public void onApplicationEvent(SpringApplicationEvent event) {
+    long now = System.nanoTime();
+    if (event instanceof ApplicationStartingEvent) {
+      starting = now;
+      jvmToStarting = ManagementFactory.getRuntimeMXBean().getUptime();
+    } else if (event instanceof ApplicationEnvironmentPreparedEvent) {
+      environmentPrepared = now;
+    } else if (event instanceof ApplicationPreparedEvent) {
+      prepared = now;
+    } else if (event instanceof ApplicationStartedEvent) {
+      started = now;
+    } else if (event instanceof ApplicationReadyEvent ready && starting != 0) {
+      log.info("Startup phases: jvm {} ms, environment {} ms, context {} ms, refresh {} ms, runners {} ms; "
+              + "ready {} ms after JVM start",
+          jvmToStarting, millis(starting, environmentPrepared), millis(environmentPrepared, prepared),
+          millis(prepared, started), millis(started, now), jvmToStarting + millis(starting, now));
+      if (ready.getApplicationContext().getApplicationStartup() instanceof BufferingApplicationStartup buffering) {
+        log.info("Slowest bean initialisations: {}", slowestBeans(buffering.getBufferedTimeline()));
+      }
+    }
+  }
+
+  private static String slowestBeans(StartupTimeline timeline) {
+    return timeline.getEvents().stream()
+        .filter(event -> "spring.beans.instantiate".equals(event.getStartupStep().getName()))
+        .sorted(Comparator.comparing(StartupTimeline.TimelineEvent::getDuration).reversed())
+        .limit(SLOWEST_STEPS)
+        .map(event -> beanName(event.getStartupStep()) + " " + event.getDuration().toMillis() + " ms")
+        .collect(Collectors.joining(", "));
+  }
+
+  private static String beanName(StartupStep step) {
+    return StreamSupport.stream(step.getTags().spliterator(), false)
+        .filter(tag -> "beanName".equals(tag.getKey()))
+        .map(StartupStep.Tag::getValue)
+        .findFirst()
+        .orElse("?");
+  }
+
+  private static long millis(long from, long to) {
+    return Duration.ofNanos(to - from).toMillis();
+  }
+}
@@ -0,0 +1,67 @@
+package com.gridtokenx.app.infrastructure.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.gridtokenx.app.application.dto.UserView;
+import com.gridtokenx.app.infrastructure.web.converter.CompactBinaryModule;
+import com.gridtokenx.app.infrastructure.web.converter.UserProtobufHttpMessageConverter;
+import com.gridtokenx.app.infrastructure.web.fields.UserFieldsFilter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.jackson.Jackson2ObjectMapperBuilderCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.web.servlet.config.annotation.ContentNegotiationConfigurer;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.util.List;
+
+/**
+ * Spring MVC configuration
+ * Adds the binary representations of the user API, chosen by Accept:
+ * application/cbor for every response and application/x-protobuf for user
+ * and login responses. They go after the JSON converter, and Accept: *&#47;*
+ * or no Accept header resolves to application/json before anything else, so
+ * JSON stays the default even where JSON and binary are separate mappings
+ * Users in the Jackson representations can be trimmed with ?fields=
+ */
+@Configuration
+@RequiredArgsConstructor
+public class WebMvcConfig implements WebMvcConfigurer {
+
+  private final Jackson2ObjectMapperBuilder jackson2ObjectMapperBuilder;
+
+  /**
+   * Binds UserView to the ?fields= filter in every mapper built by Boot,
+   * including the CBOR one below
+   */
+  @Bean
+  static Jackson2ObjectMapperBuilderCustomizer userFieldsFilterCustomizer() {
+    return builder -> builder
+        .mixIn(UserView.class, UserFieldsFilter.Mixin.class)
+        .filters(UserFieldsFilter.ALL_FIELDS);
+  }
+
+  /**
+   * Clients without a preference are treated as preferring JSON, then
+   * anything; the trailing *&#47;* keeps non-JSON endpoints acceptable to them
+   */
+  @Override
+  public void configureContentNegotiation(ContentNegotiationConfigurer configurer) {
+    configurer.defaultContentType(MediaType.APPLICATION_JSON, MediaType.ALL);
+  }
+
+  @Override
+  public void extendMessageConverters(List<HttpMessageConverter<?>> converters) {
+    // replaces the default CBOR converter, which writes UUIDs and timestamps as text
+    converters.removeIf(MappingJackson2CborHttpMessageConverter.class::isInstance);
+
+    ObjectMapper cborMapper = jackson2ObjectMapperBuilder.factory(new CBORFactory()).build();
+    cborMapper.registerModule(new CompactBinaryModule());
+    converters.add(new MappingJackson2CborHttpMessageConverter(cborMapper));
+    converters.add(new UserProtobufHttpMessageConverter());
+  }
+}
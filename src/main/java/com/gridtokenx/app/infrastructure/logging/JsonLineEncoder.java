@@ -0,0 +1,211 @@
+package com.gridtokenx.app.infrastructure.logging;
+
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.classic.spi.IThrowableProxy;
+import ch.qos.logback.classic.spi.StackTraceElementProxy;
+import ch.qos.logback.core.encoder.EncoderBase;
+
+import java.util.Arrays;
+import java.util.Map;
+
+/**
+ * Structured JSON-lines encoder for log events
+ * Fields are escaped and UTF-8 encoded straight into a reusable byte buffer,
+ * so no intermediate JSON string or StringBuilder is built per event
+ * Not thread-safe: the buffer is shared between calls, and Logback 1.5's
+ * OutputStreamAppender encodes outside its lock. It is only safe on FILE
+ * because FILE is fed solely by the single worker thread of the ASYNC_FILE
+ * {@link RingBufferAppender}; attach it only to appenders that sit behind
+ * such a worker, never to one that logging threads call directly
+ */
+public class JsonLineEncoder extends EncoderBase<ILoggingEvent> {
+
+  private static final byte[] HEX = "0123456789abcdef".getBytes();
+  private static final int MAX_RETAINED_CAPACITY = 64 * 1024;
+
+  private byte[] buffer = new byte[1024];
+  private int length;
+
+  @Override
+  public byte[] headerBytes() {
+    return null;
+  }
+
+  @Override
+  public byte[] footerBytes() {
+    return null;
+  }
+
+  @Override
+  public byte[] encode(ILoggingEvent event) {
+    length = 0;
+    writeAscii("{\"ts\":");
+    writeLong(event.getTimeStamp());
+    writeAscii(",\"level\":\"");
+    writeAscii(event.getLevel().levelStr);
+    writeAscii("\",\"thread\":");
+    writeString(event.getThreadName());
+    writeAscii(",\"logger\":");
+    writeString(event.getLoggerName());
+    writeAscii(",\"msg\":");
+    writeString(event.getFormattedMessage());
+
+    Map<String, String> mdc = event.getMDCPropertyMap();
+    if (mdc != null && !mdc.isEmpty()) {
+      writeAscii(",\"mdc\":{");
+      boolean first = true;
+      for (Map.Entry<String, String> entry : mdc.entrySet()) {
+        if (!first) {
+          writeByte(',');
+        }
+        first = false;
+        writeString(entry.getKey());
+        writeByte(':');
+        writeString(entry.getValue());
+      }
+      writeByte('}');
+    }
+
+    IThrowableProxy throwable = event.getThrowableProxy();
+    if (throwable != null) {
+      writeAscii(",\"exception\":\"");
+      writeThrowable(throwable);
+      writeByte('"');
+    }
+    writeAscii("}\n");
+
+    byte[] encoded = Arrays.copyOf(buffer, length);
+    if (buffer.length > MAX_RETAINED_CAPACITY) {
+      buffer = new byte[1024];
+    }
+    return encoded;
+  }
+
+  private void writeThrowable(IThrowableProxy throwable) {
+    boolean cause = false;
+    while (throwable != null) {
+      if (cause) {
+        writeEscaped("\nCaused by: ");
+      }
+      writeEscaped(throwable.getClassName());
+      if (throwable.getMessage() != null) {
+        writeEscaped(": ");
+        writeEscaped(throwable.getMessage());
+      }
+      StackTraceElementProxy[] frames = throwable.getStackTraceElementProxyArray();
+      int frameCount = frames.length - throwable.getCommonFrames();
+      for (int i = 0; i < frameCount; i++) {
+        StackTraceElement frame = frames[i].getStackTraceElement();
+        writeEscaped("\n\tat ");
+        writeEscaped(frame.getClassName());
+        writeByte('.');
+        writeEscaped(frame.getMethodName());
+        writeByte('(');
+        writeEscaped(frame.getFileName() == null ? "Unknown Source" : frame.getFileName());
+        if (frame.getLineNumber() >= 0) {
+          writeByte(':');
+          writeLong(frame.getLineNumber());
+        }
+        writeByte(')');
+      }
+      throwable = throwable.getCause();
+      cause = true;
+    }
+  }
+
+  private void writeString(String value) {
+    if (value == null) {
+      writeAscii("null");
+      return;
+    }
+    writeByte('"');
+    writeEscaped(value);
+    writeByte('"');
+  }
+
+  /**
+   * Writes JSON-escaped UTF-8 bytes for the given characters
+   */
+  private void writeEscaped(String value) {
+    int count = value.length();
+    ensureCapacity(count * 3);
+    for (int i = 0; i < count; i++) {
+      char c = value.charAt(i);
+      if (c == '"' || c == '\\') {
+        writeByte('\\');
+        writeByte(c);
+      } else if (c == '\n') {
+        writeByte('\\');
+        writeByte('n');
+      } else if (c == '\t') {
+        writeByte('\\');
+        writeByte('t');
+      } else if (c == '\r') {
+        writeByte('\\');
+        writeByte('r');
+      } else if (c < 0x20) {
+        writeAscii("\\u00");
+        writeByte(HEX[c >> 4]);
+        writeByte(HEX[c & 0xF]);
+      } else if (c < 0x80) {
+        writeByte(c);
+      } else if (c < 0x800) {
+        writeByte(0xC0 | (c >> 6));
+        writeByte(0x80 | (c & 0x3F));
+      } else if (Character.isHighSurrogate(c) && i + 1 < count && Character.isLowSurrogate(value.charAt(i + 1))) {
+        int codePoint = Character.toCodePoint(c, value.charAt(++i));
+        writeByte(0xF0 | (codePoint >> 18));
+        writeByte(0x80 | ((codePoint >> 12) & 0x3F));
+        writeByte(0x80 | ((codePoint >> 6) & 0x3F));
+        writeByte(0x80 | (codePoint & 0x3F));
+      } else if (Character.isSurrogate(c)) {
+        writeByte('?');
+      } else {
+        writeByte(0xE0 | (c >> 12));
+        writeByte(0x80 | ((c >> 6) & 0x3F));
+        writeByte(0x80 | (c & 0x3F));
+      }
+    }
+  }
+
+  private void writeLong(long value) {
+    if (value == Long.MIN_VALUE) {
+      writeAscii("-9223372036854775808");
+      return;
+    }
+    ensureCapacity(20);
+    if (value < 0) {
+      writeByte('-');
+      value = -value;
+    }
+    int start = length;
+    do {
+      buffer[length++] = (byte) ('0' + (value % 10));
+      value /= 10;
+    } while (value != 0);
+    for (int i = start, j = length - 1; i < j; i++, j--) {
+      byte swap = buffer[i];
+      buffer[i] = buffer[j];
+      buffer[j] = swap;
+    }
+  }
+
+  private void writeAscii(String value) {
+    int count = value.length();
+    ensureCapacity(count);
+    for (int i = 0; i < count; i++) {
+      buffer[length++] = (byte) value.charAt(i);
+    }
+  }
+
+  private void writeByte(int value) {
+    ensureCapacity(1);
+    buffer[length++] = (byte) value;
+  }
+
+  private void ensureCapacity(int additional) {
+    if (length + additional > buffer.length) {
+      buffer = Arrays.copyOf(buffer, Math.max(buffer.length << 1, length + additional));
+    }
+  }
+}
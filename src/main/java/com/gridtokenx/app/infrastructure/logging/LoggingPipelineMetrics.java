@@ -0,0 +1,79 @@
+package com.gridtokenx.app.infrastructure.logging;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.classic.turbo.TurboFilter;
+import ch.qos.logback.core.Appender;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.slf4j.ILoggerFactory;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Exposes ring-buffer appender and sampling counters as Micrometer meters
+ * Dropped events are reported per level so a full buffer is visible on the
+ * dashboards instead of silently losing lines
+ */
+@Component
+public class LoggingPipelineMetrics implements MeterBinder {
+
+  private static final List<Level> LEVELS = List.of(Level.ERROR, Level.WARN, Level.INFO, Level.DEBUG);
+
+  @Override
+  public void bindTo(MeterRegistry registry) {
+    ILoggerFactory factory = LoggerFactory.getILoggerFactory();
+    if (!(factory instanceof LoggerContext context)) {
+      return;
+    }
+
+    for (RingBufferAppender appender : findRingBufferAppenders(context).values()) {
+      FunctionCounter.builder("logging.ringbuffer.enqueued", appender, RingBufferAppender::getEnqueuedCount)
+          .tag("appender", appender.getName())
+          .description("Log events accepted by the ring buffer")
+          .register(registry);
+      for (Level level : LEVELS) {
+        FunctionCounter.builder("logging.ringbuffer.dropped", appender, a -> a.getDroppedCount(level))
+            .tag("appender", appender.getName())
+            .tag("level", level.levelStr)
+            .description("Log events dropped because the ring buffer was full")
+            .register(registry);
+      }
+      Gauge.builder("logging.ringbuffer.depth", appender, RingBufferAppender::getQueueDepth)
+          .tag("appender", appender.getName())
+          .description("Log events waiting to be written")
+          .register(registry);
+    }
+
+    for (TurboFilter filter : context.getTurboFilterList()) {
+      if (filter instanceof SamplingTurboFilter sampling) {
+        FunctionCounter.builder("logging.sampled.out", sampling, SamplingTurboFilter::getSampledOutCount)
+            .tag("logger", sampling.getLoggerPrefix())
+            .description("Log events skipped by sampling")
+            .register(registry);
+      }
+    }
+  }
+
+  private Map<String, RingBufferAppender> findRingBufferAppenders(LoggerContext context) {
+    Map<String, RingBufferAppender> found = new LinkedHashMap<>();
+    for (Logger logger : context.getLoggerList()) {
+      Iterator<Appender<ILoggingEvent>> appenders = logger.iteratorForAppenders();
+      while (appenders.hasNext()) {
+        if (appenders.next() instanceof RingBufferAppender ringBuffer) {
+          found.putIfAbsent(ringBuffer.getName(), ringBuffer);
+        }
+      }
+    }
+    return found;
+  }
+}
@@ -0,0 +1,193 @@
+package com.gridtokenx.app.infrastructure.logging;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.Appender;
+import ch.qos.logback.core.UnsynchronizedAppenderBase;
+import ch.qos.logback.core.spi.AppenderAttachable;
+import ch.qos.logback.core.spi.AppenderAttachableImpl;
+import com.gridtokenx.app.infrastructure.concurrent.MpscRingBuffer;
+
+import java.util.Iterator;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Non-blocking replacement for Logback's AsyncAppender
+ * Events are handed to a lock-free ring buffer and written by a single worker
+ * thread. When the buffer is full the event is dropped and counted per level
+ * instead of blocking the request thread
+ */
+public class RingBufferAppender extends UnsynchronizedAppenderBase<ILoggingEvent>
+    implements AppenderAttachable<ILoggingEvent> {
+
+  private static final long MAX_IDLE_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(1);
+
+  private final AppenderAttachableImpl<ILoggingEvent> appenders = new AppenderAttachableImpl<>();
+  private final LongAdder enqueued = new LongAdder();
+  private final LongAdder droppedError = new LongAdder();
+  private final LongAdder droppedWarn = new LongAdder();
+  private final LongAdder droppedInfo = new LongAdder();
+  private final LongAdder droppedDebug = new LongAdder();
+
+  private int bufferSize = 8192;
+  private int maxFlushTime = 1000;
+  private MpscRingBuffer<ILoggingEvent> buffer;
+  private Thread worker;
+  private volatile boolean running;
+
+  @Override
+  public void start() {
+    if (isStarted()) {
+      return;
+    }
+    if (!appenders.iteratorForAppenders().hasNext()) {
+      addError("No attached appenders found for [" + getName() + "]");
+      return;
+    }
+    buffer = new MpscRingBuffer<>(bufferSize);
+    running = true;
+    worker = new Thread(this::drainLoop, "log-ring-" + getName());
+    worker.setDaemon(true);
+    worker.start();
+    super.start();
+  }
+
+  @Override
+  public void stop() {
+    if (!isStarted()) {
+      return;
+    }
+    super.stop();
+    running = false;
+    LockSupport.unpark(worker);
+    try {
+      worker.join(maxFlushTime);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+    if (worker.isAlive()) {
+      addWarn("Worker thread did not finish within " + maxFlushTime + " ms, "
+          + buffer.size() + " queued events may be lost");
+    }
+    appenders.detachAndStopAllAppenders();
+  }
+
+  @Override
+  protected void append(ILoggingEvent event) {
+    // Freeze thread-bound state (MDC, formatted message) before crossing threads
+    event.prepareForDeferredProcessing();
+    if (buffer.offer(event)) {
+      enqueued.increment();
+    } else {
+      countDrop(event.getLevel());
+    }
+  }
+
+  private void drainLoop() {
+    long idleParkNanos = 1_000;
+    while (running) {
+      ILoggingEvent event = buffer.poll();
+      if (event == null) {
+        LockSupport.parkNanos(this, idleParkNanos);
+        idleParkNanos = Math.min(idleParkNanos << 1, MAX_IDLE_PARK_NANOS);
+        continue;
+      }
+      idleParkNanos = 1_000;
+      dispatch(event);
+    }
+    ILoggingEvent event;
+    while ((event = buffer.poll()) != null) {
+      dispatch(event);
+    }
+  }
+
+  private void dispatch(ILoggingEvent event) {
+    try {
+      appenders.appendLoopOnAppenders(event);
+    } catch (RuntimeException e) {
+      addError("Failed to write event in [" + getName() + "]", e);
+    }
+  }
+
+  private void countDrop(Level level) {
+    switch (level.toInt()) {
+      case Level.ERROR_INT -> droppedError.increment();
+      case Level.WARN_INT -> droppedWarn.increment();
+      case Level.INFO_INT -> droppedInfo.increment();
+      default -> droppedDebug.increment();
+    }
+  }
+
+  public long getEnqueuedCount() {
+    return enqueued.sum();
+  }
+
+  /**
+   * Number of dropped events for a level; DEBUG includes TRACE
+   */
+  public long getDroppedCount(Level level) {
+    return switch (level.toInt()) {
+      case Level.ERROR_INT -> droppedError.sum();
+      case Level.WARN_INT -> droppedWarn.sum();
+      case Level.INFO_INT -> droppedInfo.sum();
+      default -> droppedDebug.sum();
+    };
+  }
+
+  public int getQueueDepth() {
+    return buffer == null ? 0 : buffer.size();
+  }
+
+  public int getBufferSize() {
+    return bufferSize;
+  }
+
+  public void setBufferSize(int bufferSize) {
+    this.bufferSize = bufferSize;
+  }
+
+  public int getMaxFlushTime() {
+    return maxFlushTime;
+  }
+
+  public void setMaxFlushTime(int maxFlushTime) {
+    this.maxFlushTime = maxFlushTime;
+  }
+
+  @Override
+  public void addAppender(Appender<ILoggingEvent> newAppender) {
+    appenders.addAppender(newAppender);
+  }
+
+  @Override
+  public Iterator<Appender<ILoggingEvent>> iteratorForAppenders() {
+    return appenders.iteratorForAppenders();
+  }
+
+  @Override
+  public Appender<ILoggingEvent> getAppender(String name) {
+    return appenders.getAppender(name);
+  }
+
+  @Override
+  public boolean isAttached(Appender<ILoggingEvent> appender) {
+    return appenders.isAttached(appender);
+  }
+
+  @Override
+  public void detachAndStopAllAppenders() {
+    appenders.detachAndStopAllAppenders();
+  }
+
+  @Override
+  public boolean detachAppender(Appender<ILoggingEvent> appender) {
+    return appenders.detachAppender(appender);
+  }
+
+  @Override
+  public boolean detachAppender(String name) {
+    return appenders.detachAppender(name);
+  }
+}
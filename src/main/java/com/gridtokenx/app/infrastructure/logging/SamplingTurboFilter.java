@@ -0,0 +1,68 @@
+package com.gridtokenx.app.infrastructure.logging;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.turbo.TurboFilter;
+import ch.qos.logback.core.spi.FilterReply;
+import org.slf4j.Marker;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Samples high-volume per-request log lines before an event is even created
+ * Only events at exactly the configured level from loggers under the
+ * configured prefix are sampled; everything else passes through untouched
+ */
+public class SamplingTurboFilter extends TurboFilter {
+
+  private final LongAdder sampledOut = new LongAdder();
+
+  private String loggerPrefix = "";
+  private Level level = Level.INFO;
+  private int sampleRate = 1;
+
+  @Override
+  public FilterReply decide(Marker marker, Logger logger, Level eventLevel, String format, Object[] params,
+      Throwable t) {
+    if (sampleRate <= 1 || eventLevel != level || t != null || !logger.getName().startsWith(loggerPrefix)) {
+      return FilterReply.NEUTRAL;
+    }
+    if (ThreadLocalRandom.current().nextInt(sampleRate) == 0) {
+      return FilterReply.NEUTRAL;
+    }
+    sampledOut.increment();
+    return FilterReply.DENY;
+  }
+
+  public long getSampledOutCount() {
+    return sampledOut.sum();
+  }
+
+  public String getLoggerPrefix() {
+    return loggerPrefix;
+  }
+
+  public void setLoggerPrefix(String loggerPrefix) {
+    this.loggerPrefix = loggerPrefix;
+  }
+
+  public String getLevel() {
+    return level.toString();
+  }
+
+  public void setLevel(String level) {
+    this.level = Level.toLevel(level, Level.INFO);
+  }
+
+  public int getSampleRate() {
+    return sampleRate;
+  }
+
+  /**
+   * Keep roughly one in {@code sampleRate} matching events; 1 disables sampling
+   */
+  public void setSampleRate(int sampleRate) {
+    this.sampleRate = sampleRate;
+  }
+}
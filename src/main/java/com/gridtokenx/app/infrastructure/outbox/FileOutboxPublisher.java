@@ -0,0 +1,53 @@
+package com.gridtokenx.app.infrastructure.outbox;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+/**
+ * Appends relayed event payloads to a JSON lines file, one event per line
+ * Each batch is flushed before it counts as published
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "outbox.publisher", havingValue = "file")
+public class FileOutboxPublisher implements OutboxPublisher, DisposableBean {
+
+  private final BufferedWriter writer;
+
+  public FileOutboxPublisher(OutboxProperties properties) throws IOException {
+    Path file = properties.getFile().toAbsolutePath();
+    Files.createDirectories(file.getParent());
+    this.writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8,
+        StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+    log.info("Publishing outbox events to {}", file);
+  }
+
+  @Override
+  public synchronized void publish(List<OutboxMessage> messages) {
+    try {
+      for (OutboxMessage message : messages) {
+        writer.write(message.payload());
+        writer.newLine();
+      }
+      writer.flush();
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  @Override
+  public synchronized void destroy() throws IOException {
+    writer.close();
+  }
+}
@@ -0,0 +1,23 @@
+package com.gridtokenx.app.infrastructure.outbox;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Writes relayed events to the "outbox" logger, for local runs and tests
+ */
+@Slf4j(topic = "outbox")
+@Component
+@ConditionalOnProperty(name = "outbox.publisher", havingValue = "log", matchIfMissing = true)
+public class LoggingOutboxPublisher implements OutboxPublisher {
+
+  @Override
+  public void publish(List<OutboxMessage> messages) {
+    for (OutboxMessage message : messages) {
+      log.info("{} {} {}", message.eventType(), message.aggregateId(), message.payload());
+    }
+  }
+}
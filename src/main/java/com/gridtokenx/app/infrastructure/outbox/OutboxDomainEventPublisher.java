@@ -0,0 +1,59 @@
+package com.gridtokenx.app.infrastructure.outbox;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.gridtokenx.app.domain.event.DomainEvent;
+import com.gridtokenx.app.domain.event.DomainEventPublisher;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Records domain events in the outbox_events table
+ * The insert joins the caller's transaction, so an event exists exactly when
+ * the change it describes commits; OutboxRelay delivers it from there. With
+ * outbox.enabled=false events are dropped
+ */
+@Component
+public class OutboxDomainEventPublisher implements DomainEventPublisher {
+
+  private static final String INSERT = "INSERT INTO outbox_events "
+      + "(event_id, aggregate_type, aggregate_id, event_type, payload, occurred_at) "
+      + "VALUES (:eventId, :aggregateType, :aggregateId, :eventType, :payload, :occurredAt)";
+
+  private final NamedParameterJdbcTemplate jdbcTemplate;
+  private final ObjectMapper objectMapper;
+  private final boolean enabled;
+
+  public OutboxDomainEventPublisher(
+      NamedParameterJdbcTemplate jdbcTemplate, ObjectMapper objectMapper, OutboxProperties properties) {
+    this.jdbcTemplate = jdbcTemplate;
+    this.objectMapper = objectMapper;
+    this.enabled = properties.isEnabled();
+  }
+
+  @Override
+  @Transactional(propagation = Propagation.MANDATORY)
+  public void publish(DomainEvent event) {
+    if (!enabled) {
+      return;
+    }
+    jdbcTemplate.update(INSERT, new MapSqlParameterSource()
+        .addValue("eventId", event.eventId())
+        .addValue("aggregateType", event.aggregateType())
+        .addValue("aggregateId", event.aggregateId())
+        .addValue("eventType", event.eventType())
+        .addValue("payload", serialize(event))
+        .addValue("occurredAt", event.occurredAt()));
+  }
+
+  private String serialize(DomainEvent event) {
+    try {
+      return objectMapper.writeValueAsString(event);
+    } catch (JsonProcessingException e) {
+      throw new IllegalStateException("Could not serialize " + event.eventType(), e);
+    }
+  }
+}
@@ -0,0 +1,18 @@
+package com.gridtokenx.app.infrastructure.outbox;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * A row of outbox_events as handed to an {@link OutboxPublisher}
+ * The payload is the event serialized as JSON when it was recorded
+ */
+public record OutboxMessage(
+    long id,
+    UUID eventId,
+    String aggregateType,
+    UUID aggregateId,
+    String eventType,
+    String payload,
+    LocalDateTime occurredAt) {
+}
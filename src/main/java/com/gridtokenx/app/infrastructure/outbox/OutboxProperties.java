@@ -0,0 +1,51 @@
+package com.gridtokenx.app.infrastructure.outbox;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+/**
+ * Transactional outbox configuration properties
+ * Maps outbox.* from application.properties
+ */
+@ConfigurationProperties(prefix = "outbox")
+@Data
+@Component
+public class OutboxProperties {
+
+  /**
+   * Record domain events in outbox_events and relay them
+   */
+  private boolean enabled = true;
+
+  /**
+   * Relay threads on this instance; 0 leaves relaying to other instances
+   */
+  private int relayThreads = 1;
+
+  private int batchSize = 500;
+
+  /**
+   * Wait before polling again after a batch that was not full
+   */
+  private Duration pollInterval = Duration.ofMillis(100);
+
+  /**
+   * Wait before retrying after the publisher or the database failed
+   */
+  private Duration retryBackoff = Duration.ofSeconds(1);
+
+  /**
+   * Built-in publisher: "log" or "file"; any other value expects an
+   * OutboxPublisher bean from elsewhere
+   */
+  private String publisher = "log";
+
+  /**
+   * JSON lines file for the "file" publisher
+   */
+  private Path file = Path.of("logs/outbox-events.jsonl");
+}
@@ -0,0 +1,17 @@
+package com.gridtokenx.app.infrastructure.outbox;
+
+import java.util.List;
+
+/**
+ * Delivers relayed outbox messages to other services
+ * Delivery is at least once: a batch is deleted from the outbox only after
+ * publish returns, so a crash or a failed commit sends it again. Throwing
+ * keeps the whole batch for a retry
+ */
+public interface OutboxPublisher {
+
+  /**
+   * Deliver a batch, oldest first
+   */
+  void publish(List<OutboxMessage> messages);
+}
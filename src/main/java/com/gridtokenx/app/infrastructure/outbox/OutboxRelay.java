@@ -0,0 +1,149 @@
+package com.gridtokenx.app.infrastructure.outbox;
+
+import com.gridtokenx.app.infrastructure.concurrent.PeriodicWorker;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Moves recorded events from outbox_events to the OutboxPublisher
+ * Each relay thread claims the oldest batch with FOR UPDATE SKIP LOCKED,
+ * publishes it and deletes it in one transaction, so relays on any number of
+ * instances share the table without handing out a row twice while its batch
+ * is in flight. A full batch is followed by the next one straight away; the
+ * relay only sleeps once it has caught up. Events of one user stay in order
+ * with a single relay; with several, batches may be published concurrently
+ */
+@Slf4j
+@Component
+public class OutboxRelay implements SmartLifecycle {
+
+  private static final String SELECT_BATCH = "SELECT id, event_id, aggregate_type, aggregate_id, event_type, "
+      + "payload, occurred_at FROM outbox_events ORDER BY id LIMIT :limit FOR UPDATE SKIP LOCKED";
+
+  private static final RowMapper<OutboxMessage> ROW_MAPPER = (rs, rowNum) -> new OutboxMessage(
+      rs.getLong("id"),
+      rs.getObject("event_id", UUID.class),
+      rs.getString("aggregate_type"),
+      rs.getObject("aggregate_id", UUID.class),
+      rs.getString("event_type"),
+      rs.getString("payload"),
+      rs.getObject("occurred_at", LocalDateTime.class));
+
+  private final NamedParameterJdbcTemplate jdbcTemplate;
+  private final TransactionTemplate transactionTemplate;
+  private final OutboxPublisher publisher;
+  private final OutboxProperties properties;
+  private final DistributionSummary batchSizes;
+  private final Timer lag;
+  private final Counter published;
+  private final Counter failures;
+  private final PeriodicWorker relays;
+
+  public OutboxRelay(
+      NamedParameterJdbcTemplate jdbcTemplate,
+      TransactionTemplate transactionTemplate,
+      OutboxPublisher publisher,
+      OutboxProperties properties,
+      MeterRegistry meterRegistry) {
+    this.jdbcTemplate = jdbcTemplate;
+    this.transactionTemplate = transactionTemplate;
+    this.publisher = publisher;
+    this.properties = properties;
+    this.batchSizes = DistributionSummary.builder("outbox.relay.batch.size")
+        .description("Events published per relayed batch")
+        .register(meterRegistry);
+    this.lag = Timer.builder("outbox.relay.lag")
+        .description("Time from recording an event to publishing it")
+        .publishPercentiles(0.5, 0.99)
+        .register(meterRegistry);
+    this.published = Counter.builder("outbox.events.published")
+        .description("Events published by the outbox relay")
+        .register(meterRegistry);
+    this.failures = Counter.builder("outbox.relay.failures")
+        .description("Batches that failed to publish or delete and will be retried")
+        .register(meterRegistry);
+    this.relays = new PeriodicWorker("outbox-relay", properties.getRelayThreads(), this::relayOnce);
+  }
+
+  @Override
+  public synchronized void start() {
+    if (!properties.isEnabled() || properties.getRelayThreads() <= 0) {
+      return;
+    }
+    relays.start();
+    log.info("Outbox relay started with {} thread(s), batches of {}",
+        properties.getRelayThreads(), properties.getBatchSize());
+  }
+
+  /**
+   * Lets each thread finish its current batch instead of interrupting it
+   * mid-statement
+   */
+  @Override
+  public synchronized void stop() {
+    relays.stop(properties.getRetryBackoff().plusSeconds(5));
+  }
+
+  @Override
+  public boolean isRunning() {
+    return relays.isRunning();
+  }
+
+  /**
+   * Publish and delete the oldest unclaimed batch
+   * 
+   * @return the number of events published
+   */
+  public int relayBatch() {
+    List<OutboxMessage> batch = transactionTemplate.execute(status -> {
+      List<OutboxMessage> claimed = jdbcTemplate.query(SELECT_BATCH,
+          new MapSqlParameterSource("limit", properties.getBatchSize()), ROW_MAPPER);
+      if (!claimed.isEmpty()) {
+        publisher.publish(claimed);
+        jdbcTemplate.update("DELETE FROM outbox_events WHERE id IN (:ids)",
+            new MapSqlParameterSource("ids", claimed.stream().map(OutboxMessage::id).toList()));
+      }
+      return claimed;
+    });
+    if (batch == null || batch.isEmpty()) {
+      return 0;
+    }
+
+    LocalDateTime now = LocalDateTime.now();
+    for (OutboxMessage message : batch) {
+      lag.record(Duration.between(message.occurredAt(), now));
+    }
+    batchSizes.record(batch.size());
+    published.increment(batch.size());
+    return batch.size();
+  }
+
+  /**
+   * Relay one batch
+   *
+   * @return how long to wait before the next batch
+   */
+  private Duration relayOnce() {
+    try {
+      return relayBatch() < properties.getBatchSize() ? properties.getPollInterval() : Duration.ZERO;
+    } catch (RuntimeException e) {
+      failures.increment();
+      log.warn("Outbox relay failed, retrying in {} ms: {}", properties.getRetryBackoff().toMillis(), e.toString());
+      return properties.getRetryBackoff();
+    }
+  }
+}
@@ -0,0 +1,26 @@
+package com.gridtokenx.app.infrastructure.persistence;
+
+import org.springframework.boot.jdbc.DatabaseDriver;
+
+/**
+ * SQL dialect families that need hand-written statements
+ * Used by the JDBC command paths for features Hibernate does not expose,
+ * such as returning the modified row from an UPDATE
+ */
+public enum DatabaseDialect {
+  POSTGRESQL,
+  H2,
+  OTHER;
+
+  /**
+   * Resolve the dialect from the JDBC URL
+   * Reading the URL needs no connection, so this is safe at startup
+   */
+  public static DatabaseDialect fromJdbcUrl(String url) {
+    return switch (DatabaseDriver.fromJdbcUrl(url)) {
+      case POSTGRESQL -> POSTGRESQL;
+      case H2 -> H2;
+      default -> OTHER;
+    };
+  }
+}
@@ -0,0 +1,58 @@
+package com.gridtokenx.app.infrastructure.persistence;
+
+import java.util.HashSet;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * Trigram similarity with the same rules as PostgreSQL's pg_trgm
+ * Text is lower-cased and split into words on non-alphanumeric characters;
+ * each word is padded with two spaces in front and one behind before its
+ * three-character substrings are taken. Similarity is the number of shared
+ * trigrams divided by the number of distinct trigrams in both
+ * Used where pg_trgm is not available, e.g. on H2
+ */
+public final class TrigramSimilarity {
+
+  /**
+   * pg_trgm.similarity_threshold default used by the % operator
+   */
+  public static final float DEFAULT_THRESHOLD = 0.3f;
+
+  private TrigramSimilarity() {
+  }
+
+  /**
+   * Trigram set of the given text
+   */
+  public static Set<String> trigrams(String text) {
+    Set<String> trigrams = new HashSet<>();
+    for (String word : text.toLowerCase(Locale.ROOT).split("[^\\p{L}\\p{N}]+")) {
+      if (word.isEmpty()) {
+        continue;
+      }
+      String padded = "  " + word + " ";
+      for (int i = 0; i + 3 <= padded.length(); i++) {
+        trigrams.add(padded.substring(i, i + 3));
+      }
+    }
+    return trigrams;
+  }
+
+  /**
+   * Similarity between a precomputed trigram set and a text
+   */
+  public static float similarity(Set<String> trigrams, String text) {
+    Set<String> other = trigrams(text);
+    if (trigrams.isEmpty() || other.isEmpty()) {
+      return 0f;
+    }
+    int shared = 0;
+    for (String trigram : other) {
+      if (trigrams.contains(trigram)) {
+        shared++;
+      }
+    }
+    return (float) shared / (trigrams.size() + other.size() - shared);
+  }
+}
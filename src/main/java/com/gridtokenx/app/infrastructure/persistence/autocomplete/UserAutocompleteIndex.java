@@ -0,0 +1,648 @@
+package com.gridtokenx.app.infrastructure.persistence.autocomplete;
+
+import com.gridtokenx.app.application.dto.UserSuggestion;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+
+/**
+ * In-process prefix index of active users for type-ahead completion
+ * Each user is indexed under the lower-cased username, the display name and
+ * every later word of the display name, so "smi" finds "John Smith"
+ * Terms live in an immutable snapshot of front-coded UTF-8 blocks: every
+ * {@value #BLOCK_SIZE}th term is stored in full and the others only as the
+ * suffix after the prefix shared with their predecessor. A lookup binary
+ * searches the block heads and scans forward, without allocating per term
+ * Changes go to a small sorted overlay that takes precedence over the
+ * snapshot. Once it exceeds users.autocomplete.overlay-limit users it is
+ * frozen, a fresh overlay takes new changes, and a background thread folds
+ * the frozen one into a new snapshot. Snapshot and overlays are published
+ * together as one State, so a lookup always reads a consistent set
+ * Writes that leave a user's suggestion as it is are ignored
+ */
+@Component
+public class UserAutocompleteIndex implements DisposableBean {
+
+  private static final int BLOCK_SIZE = 16;
+  private static final Comparator<byte[]> UTF8_ORDER = Arrays::compareUnsigned;
+  private static final UUID MIN_ID = new UUID(Long.MIN_VALUE, Long.MIN_VALUE);
+
+  private final int overlayLimit;
+  private final Executor compactor;
+  // serialises snapshot builds: compaction and load
+  private final Object buildLock = new Object();
+  private volatile State state = new State(Snapshot.build(List.of()), Overlay.EMPTY, new Overlay());
+  // guarded by this, like every write to state
+  private long sequence;
+
+  @Autowired
+  public UserAutocompleteIndex(
+      MeterRegistry meterRegistry,
+      @Value("${users.autocomplete.overlay-limit:1024}") int overlayLimit) {
+    this(meterRegistry, overlayLimit, Executors.newSingleThreadExecutor(task -> {
+      Thread thread = new Thread(task, "autocomplete-compactor");
+      thread.setDaemon(true);
+      return thread;
+    }));
+  }
+
+  UserAutocompleteIndex(MeterRegistry meterRegistry, int overlayLimit, Executor compactor) {
+    this.overlayLimit = overlayLimit;
+    this.compactor = compactor;
+    Gauge.builder("users.autocomplete.users", this, UserAutocompleteIndex::size)
+        .description("Users in the autocomplete snapshot")
+        .register(meterRegistry);
+    Gauge.builder("users.autocomplete.memory", this, UserAutocompleteIndex::memoryBytes)
+        .baseUnit("bytes")
+        .description("Estimated heap used by the autocomplete snapshot")
+        .register(meterRegistry);
+    Gauge.builder("users.autocomplete.memory.per.user", this, UserAutocompleteIndex::memoryBytesPerUser)
+        .baseUnit("bytes")
+        .description("Estimated autocomplete heap per indexed user")
+        .register(meterRegistry);
+  }
+
+  /**
+   * Position in the stream of changes; read it before reading users from the
+   * database and pass it to load or refresh
+   */
+  public synchronized long sequence() {
+    return sequence;
+  }
+
+  /**
+   * Replace the snapshot with the given active users, read after since
+   * Changes recorded after since may be newer than what was read, so they
+   * stay in the overlay and win; older ones are dropped, as the users read
+   * already include them
+   */
+  public void load(Iterator<UserSuggestion> users, long since) {
+    synchronized (buildLock) {
+      List<UserSuggestion> all = new ArrayList<>();
+      users.forEachRemaining(all::add);
+      Snapshot built = Snapshot.build(all);
+      synchronized (this) {
+        State current = state;
+        Overlay kept = new Overlay();
+        current.frozen().copyNewerThan(since, kept);
+        current.live().copyNewerThan(since, kept);
+        state = new State(built, Overlay.EMPTY, kept);
+      }
+    }
+  }
+
+  /**
+   * Apply users changed elsewhere, read after since: active ones are added
+   * or replaced, inactive ones dropped. Users changed here after since keep
+   * the newer local change
+   */
+  public void refresh(List<UserSuggestion> active, Collection<UUID> inactive, long since) {
+    boolean compact = false;
+    synchronized (this) {
+      for (UserSuggestion user : active) {
+        if (!changedAfter(user.id(), since)) {
+          compact |= record(user.id(), user);
+        }
+      }
+      for (UUID id : inactive) {
+        if (!changedAfter(id, since)) {
+          compact |= record(id, null);
+        }
+      }
+    }
+    if (compact) {
+      compactor.execute(this::compact);
+    }
+  }
+
+  /**
+   * Add or replace an active user
+   */
+  public void put(UserSuggestion user) {
+    boolean compact;
+    synchronized (this) {
+      compact = record(user.id(), user);
+    }
+    if (compact) {
+      compactor.execute(this::compact);
+    }
+  }
+
+  /**
+   * Drop a deleted or deactivated user
+   */
+  public void remove(UUID id) {
+    boolean compact;
+    synchronized (this) {
+      compact = record(id, null);
+    }
+    if (compact) {
+      compactor.execute(this::compact);
+    }
+  }
+
+  /**
+   * Up to limit distinct users with a term starting with the prefix, in term order
+   */
+  public List<UserSuggestion> complete(String prefix, int limit) {
+    State current = state;
+    byte[] target = prefix.toLowerCase(Locale.ROOT).getBytes(StandardCharsets.UTF_8);
+    Overlay frozen = current.frozen();
+    Overlay live = current.live();
+    // each layer hides the users that a newer one has changed
+    List<Match> matches = current.snapshot().matches(target, limit,
+        id -> live.contains(id) || frozen.contains(id));
+    if (!frozen.isEmpty() || !live.isEmpty()) {
+      frozen.matches(target, limit, live::contains, matches);
+      live.matches(target, limit, id -> false, matches);
+      matches.sort(Comparator.comparing(Match::term, UTF8_ORDER));
+    }
+
+    Map<UUID, UserSuggestion> distinct = new LinkedHashMap<>();
+    for (Match match : matches) {
+      if (distinct.size() == limit) {
+        break;
+      }
+      distinct.putIfAbsent(match.user().id(), match.user());
+    }
+    return List.copyOf(distinct.values());
+  }
+
+  /**
+   * Users in the current snapshot, not counting pending overlay changes
+   */
+  public int size() {
+    return state.snapshot().userCount();
+  }
+
+  /**
+   * Estimated heap held by the current snapshot
+   */
+  public long memoryBytes() {
+    return state.snapshot().memoryBytes();
+  }
+
+  /**
+   * Estimated snapshot heap divided by the number of users
+   */
+  public double memoryBytesPerUser() {
+    Snapshot current = state.snapshot();
+    return current.userCount() == 0 ? 0 : (double) current.memoryBytes() / current.userCount();
+  }
+
+  @Override
+  public void destroy() {
+    if (compactor instanceof ExecutorService executor) {
+      executor.shutdownNow();
+    }
+  }
+
+  /**
+   * Record a change unless the user already reads that way; called holding
+   * the monitor
+   * 
+   * @return whether the live overlay was frozen and needs compacting
+   */
+  private boolean record(UUID id, UserSuggestion user) {
+    State current = state;
+    if (Objects.equals(current.find(id), user)) {
+      return false;
+    }
+    List<byte[]> terms = user == null ? List.of()
+        : terms(user).stream().map(term -> term.getBytes(StandardCharsets.UTF_8)).toList();
+    current.live().record(id, new Change(user, terms, ++sequence));
+    if (current.live().size() <= overlayLimit || !current.frozen().isEmpty()) {
+      return false;
+    }
+    state = new State(current.snapshot(), current.live(), new Overlay());
+    return true;
+  }
+
+  private boolean changedAfter(UUID id, long since) {
+    State current = state;
+    Change change = current.live().get(id);
+    if (change == null) {
+      change = current.frozen().get(id);
+    }
+    return change != null && change.sequence() > since;
+  }
+
+  /**
+   * Fold the frozen overlay into a new snapshot, off the writing thread
+   * Writers carry on into the live overlay meanwhile. A load that ran since
+   * the overlay was frozen has already absorbed it, which leaves nothing to do
+   */
+  private void compact() {
+    synchronized (buildLock) {
+      State start = state;
+      Overlay frozen = start.frozen();
+      if (frozen.isEmpty()) {
+        return;
+      }
+      List<UserSuggestion> users = new ArrayList<>(start.snapshot().userCount() + frozen.size());
+      for (UserSuggestion user : start.snapshot().users()) {
+        if (!frozen.contains(user.id())) {
+          users.add(user);
+        }
+      }
+      frozen.forEachUser(users::add);
+      Snapshot built = Snapshot.build(users);
+      synchronized (this) {
+        // builds are serialised, so only the live overlay can have moved on
+        state = new State(built, Overlay.EMPTY, state.live());
+      }
+    }
+  }
+
+  private static boolean startsWith(byte[] term, byte[] prefix) {
+    return term.length >= prefix.length && Arrays.equals(term, 0, prefix.length, prefix, 0, prefix.length);
+  }
+
+  static List<String> terms(UserSuggestion user) {
+    List<String> terms = new ArrayList<>(3);
+    terms.add(user.username().toLowerCase(Locale.ROOT));
+    String name = user.displayName() == null ? "" : user.displayName().trim().toLowerCase(Locale.ROOT);
+    if (!name.isEmpty()) {
+      terms.add(name);
+      for (int i = name.indexOf(' '); i >= 0; i = name.indexOf(' ', i + 1)) {
+        if (i + 1 < name.length() && name.charAt(i + 1) != ' ') {
+          terms.add(name.substring(i + 1));
+        }
+      }
+    }
+    return terms;
+  }
+
+  /**
+   * What lookups read: the snapshot, the overlay being folded into the next
+   * snapshot (empty when none is) and the overlay taking new changes,
+   * newest last
+   */
+  private record State(Snapshot snapshot, Overlay frozen, Overlay live) {
+
+    /**
+     * The user as the newest layer has it, or null if absent or removed
+     */
+    UserSuggestion find(UUID id) {
+      Change change = live.get(id);
+      if (change == null) {
+        change = frozen.get(id);
+      }
+      if (change != null) {
+        return change.user();
+      }
+      int slot = snapshot.slot(id);
+      return slot < 0 ? null : snapshot.user(slot);
+    }
+  }
+
+  /**
+   * Pending change with its terms worked out once; a null user is a removal
+   */
+  private record Change(UserSuggestion user, List<byte[]> terms, long sequence) {
+  }
+
+  private record Match(byte[] term, UserSuggestion user) {
+  }
+
+  private record OverlayTerm(byte[] term, UUID id) {
+  }
+
+  /**
+   * Pending changes by user and by term
+   * Only the holder of the index monitor writes, and only to the live
+   * overlay; a frozen one is read-only
+   */
+  private static final class Overlay {
+
+    static final Overlay EMPTY = new Overlay();
+
+    private final Map<UUID, Change> changes = new ConcurrentHashMap<>();
+    private final NavigableMap<OverlayTerm, UserSuggestion> terms = new ConcurrentSkipListMap<>(
+        Comparator.comparing(OverlayTerm::term, UTF8_ORDER).thenComparing(OverlayTerm::id));
+
+    /**
+     * New terms are added before stale ones are removed so a concurrent
+     * lookup never misses the user
+     */
+    void record(UUID id, Change change) {
+      for (byte[] term : change.terms()) {
+        terms.put(new OverlayTerm(term, id), change.user());
+      }
+      Change previous = changes.put(id, change);
+      if (previous != null) {
+        for (byte[] term : previous.terms()) {
+          if (change.terms().stream().noneMatch(current -> Arrays.equals(current, term))) {
+            terms.remove(new OverlayTerm(term, id));
+          }
+        }
+      }
+    }
+
+    Change get(UUID id) {
+      return changes.get(id);
+    }
+
+    boolean contains(UUID id) {
+      return changes.containsKey(id);
+    }
+
+    boolean isEmpty() {
+      return changes.isEmpty();
+    }
+
+    int size() {
+      return changes.size();
+    }
+
+    void copyNewerThan(long since, Overlay target) {
+      changes.forEach((id, change) -> {
+        if (change.sequence() > since) {
+          target.record(id, change);
+        }
+      });
+    }
+
+    void forEachUser(Consumer<UserSuggestion> action) {
+      for (Change change : changes.values()) {
+        if (change.user() != null) {
+          action.accept(change.user());
+        }
+      }
+    }
+
+    /**
+     * Add terms starting with the prefix until limit distinct users not
+     * hidden by a newer layer have been seen
+     */
+    void matches(byte[] prefix, int limit, Predicate<UUID> hidden, List<Match> matches) {
+      if (terms.isEmpty()) {
+        return;
+      }
+      Set<UUID> seen = new HashSet<>();
+      for (Map.Entry<OverlayTerm, UserSuggestion> entry : terms.tailMap(new OverlayTerm(prefix, MIN_ID)).entrySet()) {
+        byte[] term = entry.getKey().term();
+        if (!startsWith(term, prefix)) {
+          break;
+        }
+        UUID id = entry.getKey().id();
+        if (hidden.test(id)) {
+          continue;
+        }
+        matches.add(new Match(term, entry.getValue()));
+        if (seen.add(id) && seen.size() >= limit) {
+          break;
+        }
+      }
+    }
+  }
+
+  /**
+   * Immutable index arrays
+   * Users are slots 0..n-1 in id order with their id in two longs and their
+   * username and display name in one UTF-8 pool; terms reference users by slot
+   */
+  private static final class Snapshot {
+
+    private final long[] idHigh;
+    private final long[] idLow;
+    private final byte[] labels;
+    private final int[] labelOffsets;
+    private final byte[] terms;
+    private final int[] blockOffsets;
+    private final int[] termSlots;
+
+    private Snapshot(long[] idHigh, long[] idLow, byte[] labels, int[] labelOffsets, byte[] terms,
+        int[] blockOffsets, int[] termSlots) {
+      this.idHigh = idHigh;
+      this.idLow = idLow;
+      this.labels = labels;
+      this.labelOffsets = labelOffsets;
+      this.terms = terms;
+      this.blockOffsets = blockOffsets;
+      this.termSlots = termSlots;
+    }
+
+    static Snapshot build(List<UserSuggestion> unordered) {
+      List<UserSuggestion> users = new ArrayList<>(unordered);
+      users.sort(Comparator.comparing(UserSuggestion::id));
+      int count = users.size();
+      long[] idHigh = new long[count];
+      long[] idLow = new long[count];
+      int[] labelOffsets = new int[count * 2 + 1];
+      ByteArrayOutputStream labels = new ByteArrayOutputStream(count * 24);
+      List<Term> entries = new ArrayList<>(count * 3);
+
+      for (int slot = 0; slot < count; slot++) {
+        UserSuggestion user = users.get(slot);
+        idHigh[slot] = user.id().getMostSignificantBits();
+        idLow[slot] = user.id().getLeastSignificantBits();
+        labels.writeBytes(user.username().getBytes(StandardCharsets.UTF_8));
+        labelOffsets[slot * 2 + 1] = labels.size();
+        if (user.displayName() != null) {
+          labels.writeBytes(user.displayName().getBytes(StandardCharsets.UTF_8));
+        }
+        labelOffsets[slot * 2 + 2] = labels.size();
+        for (String term : terms(user)) {
+          entries.add(new Term(term.getBytes(StandardCharsets.UTF_8), slot));
+        }
+      }
+      entries.sort(Comparator.comparing(Term::bytes, UTF8_ORDER).thenComparingInt(Term::slot));
+
+      ByteArrayOutputStream encoded = new ByteArrayOutputStream(entries.size() * 8);
+      int[] blockOffsets = new int[(entries.size() + BLOCK_SIZE - 1) / BLOCK_SIZE];
+      int[] termSlots = new int[entries.size()];
+      byte[] previous = new byte[0];
+      for (int i = 0; i < entries.size(); i++) {
+        byte[] term = entries.get(i).bytes();
+        termSlots[i] = entries.get(i).slot();
+        if (i % BLOCK_SIZE == 0) {
+          blockOffsets[i / BLOCK_SIZE] = encoded.size();
+          writeVarInt(encoded, term.length);
+          encoded.writeBytes(term);
+        } else {
+          int shared = Arrays.mismatch(previous, term);
+          shared = shared < 0 ? term.length : shared;
+          writeVarInt(encoded, shared);
+          writeVarInt(encoded, term.length - shared);
+          encoded.write(term, shared, term.length - shared);
+        }
+        previous = term;
+      }
+      return new Snapshot(idHigh, idLow, labels.toByteArray(), labelOffsets, encoded.toByteArray(), blockOffsets,
+          termSlots);
+    }
+
+    int userCount() {
+      return idHigh.length;
+    }
+
+    long memoryBytes() {
+      // 16 bytes of header per array plus the payload
+      return 7 * 16L + idHigh.length * 16L + labels.length + labelOffsets.length * 4L + terms.length
+          + blockOffsets.length * 4L + termSlots.length * 4L;
+    }
+
+    List<UserSuggestion> users() {
+      List<UserSuggestion> users = new ArrayList<>(userCount());
+      for (int slot = 0; slot < userCount(); slot++) {
+        users.add(user(slot));
+      }
+      return users;
+    }
+
+    /**
+     * Slot of the user, or -1; a binary search over the ids in UUID order
+     */
+    int slot(UUID id) {
+      long high = id.getMostSignificantBits();
+      long low = id.getLeastSignificantBits();
+      int from = 0;
+      int to = idHigh.length - 1;
+      while (from <= to) {
+        int mid = (from + to) >>> 1;
+        int compared = Long.compare(idHigh[mid], high);
+        if (compared == 0) {
+          compared = Long.compare(idLow[mid], low);
+        }
+        if (compared < 0) {
+          from = mid + 1;
+        } else if (compared > 0) {
+          to = mid - 1;
+        } else {
+          return mid;
+        }
+      }
+      return -1;
+    }
+
+    /**
+     * Terms starting with the prefix, in order, until limit distinct users
+     * not hidden by an overlay have been seen
+     */
+    List<Match> matches(byte[] prefix, int limit, Predicate<UUID> hidden) {
+      List<Match> matches = new ArrayList<>();
+      if (termSlots.length == 0) {
+        return matches;
+      }
+      int block = startBlock(prefix);
+      byte[] current = new byte[64];
+      int length = 0;
+      int position = blockOffsets[block];
+      Set<Integer> seen = new HashSet<>();
+      int[] cursor = new int[1];
+
+      for (int i = block * BLOCK_SIZE; i < termSlots.length; i++) {
+        cursor[0] = position;
+        int shared = i % BLOCK_SIZE == 0 ? 0 : readVarInt(terms, cursor);
+        int suffix = readVarInt(terms, cursor);
+        if (shared + suffix > current.length) {
+          current = Arrays.copyOf(current, Math.max(current.length * 2, shared + suffix));
+        }
+        System.arraycopy(terms, cursor[0], current, shared, suffix);
+        length = shared + suffix;
+        position = cursor[0] + suffix;
+
+        int compared = Arrays.compareUnsigned(current, 0, Math.min(length, prefix.length),
+            prefix, 0, prefix.length);
+        if (compared < 0 || (compared == 0 && length < prefix.length)) {
+          continue;
+        }
+        if (compared > 0) {
+          break;
+        }
+        int slot = termSlots[i];
+        if (hidden.test(new UUID(idHigh[slot], idLow[slot]))) {
+          continue;
+        }
+        // a user can match under several terms; only the first one counts
+        if (seen.add(slot)) {
+          matches.add(new Match(Arrays.copyOf(current, length), user(slot)));
+          if (seen.size() >= limit) {
+            break;
+          }
+        }
+      }
+      return matches;
+    }
+
+    /**
+     * Last block whose head sorts before the prefix
+     */
+    private int startBlock(byte[] prefix) {
+      int low = 0;
+      int high = blockOffsets.length - 1;
+      int[] cursor = new int[1];
+      while (low < high) {
+        int mid = (low + high + 1) >>> 1;
+        cursor[0] = blockOffsets[mid];
+        int length = readVarInt(terms, cursor);
+        if (Arrays.compareUnsigned(terms, cursor[0], cursor[0] + length, prefix, 0, prefix.length) < 0) {
+          low = mid;
+        } else {
+          high = mid - 1;
+        }
+      }
+      return low;
+    }
+
+    UserSuggestion user(int slot) {
+      int start = labelOffsets[slot * 2];
+      int middle = labelOffsets[slot * 2 + 1];
+      int end = labelOffsets[slot * 2 + 2];
+      return new UserSuggestion(new UUID(idHigh[slot], idLow[slot]),
+          new String(labels, start, middle - start, StandardCharsets.UTF_8),
+          new String(labels, middle, end - middle, StandardCharsets.UTF_8));
+    }
+
+    private static void writeVarInt(ByteArrayOutputStream out, int value) {
+      while ((value & ~0x7F) != 0) {
+        out.write((value & 0x7F) | 0x80);
+        value >>>= 7;
+      }
+      out.write(value);
+    }
+
+    private static int readVarInt(byte[] in, int[] cursor) {
+      int value = 0;
+      int shift = 0;
+      byte b;
+      do {
+        b = in[cursor[0]++];
+        value |= (b & 0x7F) << shift;
+        shift += 7;
+      } while (b < 0);
+      return value;
+    }
+
+    private record Term(byte[] bytes, int slot) {
+    }
+  }
+}
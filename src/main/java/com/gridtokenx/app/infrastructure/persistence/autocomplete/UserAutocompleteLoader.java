@@ -0,0 +1,137 @@
+package com.gridtokenx.app.infrastructure.persistence.autocomplete;
+
+import com.gridtokenx.app.application.dto.UserSuggestion;
+import com.gridtokenx.app.infrastructure.concurrent.PeriodicWorker;
+import com.gridtokenx.app.infrastructure.persistence.repository.UserJpaRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+/**
+ * Keeps the autocomplete index in step with the users table
+ * Writes made on this instance reach the index after commit; this thread
+ * picks up the ones made on other instances. Every refresh interval it reads
+ * the users updated since the last read, adding active ones and dropping
+ * deactivated ones. Deleted users leave no row behind, so every rebuild
+ * interval the whole index is reloaded, streamed with a fetch size so the
+ * load does not materialise the result set as entities. A load that fails,
+ * the first one included, is retried on the next refresh interval
+ * With users.autocomplete.refresh-enabled false no thread is started and the
+ * index only sees writes made on this instance. The flag is read here rather
+ * than as a bean condition so it still applies to an AOT-processed build
+ */
+@Slf4j
+@Component
+public class UserAutocompleteLoader implements SmartLifecycle {
+
+  // rows are re-read this far back, for clock skew between instances and
+  // for transactions that set updated_at some time before they commit
+  private static final Duration OVERLAP = Duration.ofMinutes(1);
+
+  private final UserJpaRepository userJpaRepository;
+  private final UserAutocompleteIndex userAutocompleteIndex;
+  private final TransactionTemplate readOnlyTransaction;
+  private final Duration refreshInterval;
+  private final Duration rebuildInterval;
+  private final boolean refreshEnabled;
+  private final PeriodicWorker refresher;
+
+  // only touched by the refresher thread; null until a load succeeds
+  private LocalDateTime readFrom;
+  private long nextRebuild;
+
+  public UserAutocompleteLoader(
+      UserJpaRepository userJpaRepository,
+      UserAutocompleteIndex userAutocompleteIndex,
+      PlatformTransactionManager transactionManager,
+      @Value("${users.autocomplete.refresh-interval:30s}") Duration refreshInterval,
+      @Value("${users.autocomplete.rebuild-interval:15m}") Duration rebuildInterval,
+      @Value("${users.autocomplete.refresh-enabled:true}") boolean refreshEnabled) {
+    this.userJpaRepository = userJpaRepository;
+    this.userAutocompleteIndex = userAutocompleteIndex;
+    this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+    this.readOnlyTransaction.setReadOnly(true);
+    this.refreshInterval = refreshInterval;
+    this.rebuildInterval = rebuildInterval;
+    this.refreshEnabled = refreshEnabled;
+    this.refresher = new PeriodicWorker("autocomplete-refresher", 1, this::refreshOnce);
+  }
+
+  @Override
+  public synchronized void start() {
+    if (refreshEnabled) {
+      refresher.start();
+    }
+  }
+
+  @Override
+  public synchronized void stop() {
+    refresher.stop(Duration.ofSeconds(10));
+  }
+
+  @Override
+  public boolean isRunning() {
+    return refresher.isRunning();
+  }
+
+  private Duration refreshOnce() {
+    if (readFrom == null || System.nanoTime() - nextRebuild >= 0) {
+      load();
+    } else {
+      refresh();
+    }
+    return refreshInterval;
+  }
+
+  /**
+   * Rebuild the index from all active users
+   */
+  void load() {
+    long start = System.nanoTime();
+    long since = userAutocompleteIndex.sequence();
+    LocalDateTime readAt = LocalDateTime.now();
+    try {
+      readOnlyTransaction.executeWithoutResult(status -> {
+        try (Stream<UserSuggestion> users = userJpaRepository.streamActiveSuggestions()) {
+          userAutocompleteIndex.load(users.iterator(), since);
+        }
+      });
+    } catch (DataAccessException e) {
+      // completions still work for users written here; retried next interval
+      log.warn("Could not load the autocomplete index: {}", e.getMessage());
+      return;
+    }
+    readFrom = readAt.minus(OVERLAP);
+    nextRebuild = System.nanoTime() + rebuildInterval.toNanos();
+    log.info("Autocomplete index loaded {} users in {} ms (~{} bytes per user)",
+        userAutocompleteIndex.size(), (System.nanoTime() - start) / 1_000_000,
+        Math.round(userAutocompleteIndex.memoryBytesPerUser()));
+  }
+
+  /**
+   * Apply the users updated since the last read
+   */
+  void refresh() {
+    long since = userAutocompleteIndex.sequence();
+    LocalDateTime readAt = LocalDateTime.now();
+    try {
+      List<UserSuggestion> active = userJpaRepository.findActiveSuggestionsUpdatedSince(readFrom);
+      List<UUID> inactive = userJpaRepository.findInactiveIdsUpdatedSince(readFrom);
+      userAutocompleteIndex.refresh(active, inactive, since);
+    } catch (DataAccessException e) {
+      log.warn("Could not refresh the autocomplete index: {}", e.getMessage());
+      return;
+    }
+    readFrom = readAt.minus(OVERLAP);
+  }
+}
@@ -50,6 +50,10 @@ public class UserJpaEntity {
   @Column(name = "updated_at", nullable = false)
   private LocalDateTime updatedAt;
 
+  @Version
+  @Column(name = "version", nullable = false)
+  private Long version;
+
   @PrePersist
   protected void onCreate() {
     LocalDateTime now = LocalDateTime.now();
@@ -31,6 +31,7 @@ public class UserJpaMapper {
         .active(domainUser.isActive())
         .createdAt(domainUser.getCreatedAt())
         .updatedAt(domainUser.getUpdatedAt())
+        .version(domainUser.getVersion())
         .build();
   }
 
@@ -51,6 +52,7 @@ public class UserJpaMapper {
         .active(jpaEntity.getActive())
         .createdAt(jpaEntity.getCreatedAt())
         .updatedAt(jpaEntity.getUpdatedAt())
+        .version(jpaEntity.getVersion())
         .build();
   }
 }
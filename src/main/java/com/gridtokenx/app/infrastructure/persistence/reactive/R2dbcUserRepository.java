@@ -0,0 +1,106 @@
+package com.gridtokenx.app.infrastructure.persistence.reactive;
+
+import com.gridtokenx.app.application.dto.UserView;
+import com.gridtokenx.app.application.port.ReactiveUserOutputPort;
+import com.gridtokenx.app.domain.entity.User;
+import com.gridtokenx.app.infrastructure.persistence.entity.UserJpaEntity;
+import com.gridtokenx.app.infrastructure.persistence.mapper.UserJpaMapper;
+import io.r2dbc.spi.Readable;
+import lombok.RequiredArgsConstructor;
+import org.springframework.r2dbc.core.DatabaseClient;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * R2DBC adapter for the reactive read port
+ * Runs the same statements as the JPA view queries over a non-blocking
+ * connection pool, so a request waiting on the database holds no thread.
+ * Rows are read into an unmanaged UserJpaEntity only when a domain User is
+ * needed, to reuse UserJpaMapper
+ */
+@RequiredArgsConstructor
+public class R2dbcUserRepository implements ReactiveUserOutputPort {
+
+  private static final String SELECT_USERS =
+      "SELECT id, username, email, first_name, last_name, active, created_at, updated_at, version FROM users";
+
+  private final DatabaseClient databaseClient;
+  private final UserJpaMapper userJpaMapper;
+
+  @Override
+  public Mono<User> findByUsername(String username) {
+    return databaseClient.sql(SELECT_USERS + " WHERE username = :username")
+        .bind("username", username)
+        .map(R2dbcUserRepository::toEntity)
+        .one()
+        .map(userJpaMapper::toDomainEntity);
+  }
+
+  @Override
+  public Mono<UserView> findViewById(UUID id) {
+    return databaseClient.sql(SELECT_USERS + " WHERE id = :id")
+        .bind("id", id)
+        .map(R2dbcUserRepository::toView)
+        .one();
+  }
+
+  @Override
+  public Mono<UserView> findViewByUsername(String username) {
+    return databaseClient.sql(SELECT_USERS + " WHERE username = :username")
+        .bind("username", username)
+        .map(R2dbcUserRepository::toView)
+        .one();
+  }
+
+  @Override
+  public Mono<UserView> findViewByEmail(String email) {
+    return databaseClient.sql(SELECT_USERS + " WHERE email = :email")
+        .bind("email", email)
+        .map(R2dbcUserRepository::toView)
+        .one();
+  }
+
+  @Override
+  public Flux<UserView> findAllViews() {
+    return databaseClient.sql(SELECT_USERS)
+        .map(R2dbcUserRepository::toView)
+        .all();
+  }
+
+  @Override
+  public Flux<UserView> findAllActiveViews() {
+    return databaseClient.sql(SELECT_USERS + " WHERE active = true ORDER BY created_at DESC")
+        .map(R2dbcUserRepository::toView)
+        .all();
+  }
+
+  private static UserView toView(Readable row) {
+    return new UserView(
+        row.get("id", UUID.class),
+        row.get("username", String.class),
+        row.get("email", String.class),
+        row.get("first_name", String.class),
+        row.get("last_name", String.class),
+        row.get("active", Boolean.class),
+        row.get("created_at", LocalDateTime.class),
+        row.get("updated_at", LocalDateTime.class),
+        row.get("version", Long.class));
+  }
+
+  private static UserJpaEntity toEntity(Readable row) {
+    return UserJpaEntity.builder()
+        .id(row.get("id", UUID.class))
+        .username(row.get("username", String.class))
+        .email(row.get("email", String.class))
+        .firstName(row.get("first_name", String.class))
+        .lastName(row.get("last_name", String.class))
+        .active(row.get("active", Boolean.class))
+        .createdAt(row.get("created_at", LocalDateTime.class))
+        .updatedAt(row.get("updated_at", LocalDateTime.class))
+        .version(row.get("version", Long.class))
+        .build();
+  }
+}
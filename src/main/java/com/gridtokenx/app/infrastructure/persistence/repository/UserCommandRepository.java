@@ -0,0 +1,145 @@
+package com.gridtokenx.app.infrastructure.persistence.repository;
+
+import com.gridtokenx.app.domain.exception.InvalidUserDataException;
+import com.gridtokenx.app.infrastructure.persistence.DatabaseDialect;
+import com.gridtokenx.app.infrastructure.persistence.entity.UserJpaEntity;
+import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Single-statement write commands for users
+ * Each command is one database round trip: the row is modified and, where
+ * needed, returned by the same statement instead of being loaded first
+ * Runs on the JDBC connection of the surrounding JPA transaction
+ */
+@Repository
+@RequiredArgsConstructor
+public class UserCommandRepository {
+
+  private static final String COLUMNS =
+      "id, username, email, first_name, last_name, active, created_at, updated_at, version";
+
+  private static final String INSERT = "INSERT INTO users (" + COLUMNS + ") VALUES (:id, :username, :email, "
+      + ":firstName, :lastName, :active, :createdAt, :updatedAt, 0)";
+
+  private static final String SET_ACTIVE =
+      "UPDATE users SET active = :active, updated_at = :updatedAt, version = version + 1 WHERE id = :id";
+
+  private static final RowMapper<UserJpaEntity> ROW_MAPPER = (rs, rowNum) -> UserJpaEntity.builder()
+      .id(rs.getObject("id", UUID.class))
+      .username(rs.getString("username"))
+      .email(rs.getString("email"))
+      .firstName(rs.getString("first_name"))
+      .lastName(rs.getString("last_name"))
+      .active(rs.getBoolean("active"))
+      .createdAt(rs.getObject("created_at", LocalDateTime.class))
+      .updatedAt(rs.getObject("updated_at", LocalDateTime.class))
+      .version(rs.getLong("version"))
+      .build();
+
+  private final NamedParameterJdbcTemplate jdbcTemplate;
+  private final DatabaseDialect dialect;
+
+  /**
+   * Insert a new user relying on the unique indexes instead of checking first
+   * The id is generated here, so the happy path is a single statement. A
+   * username or email clash is reported as the matching
+   * InvalidUserDataException
+   */
+  public UserJpaEntity insert(UserJpaEntity user) {
+    UserJpaEntity row = UserJpaEntity.builder()
+        .id(user.getId() != null ? user.getId() : UUID.randomUUID())
+        .username(user.getUsername())
+        .email(user.getEmail())
+        .firstName(user.getFirstName())
+        .lastName(user.getLastName())
+        .active(user.getActive() == null || user.getActive())
+        .createdAt(user.getCreatedAt() != null ? user.getCreatedAt() : LocalDateTime.now())
+        .updatedAt(user.getUpdatedAt() != null ? user.getUpdatedAt() : LocalDateTime.now())
+        .version(0L)
+        .build();
+    MapSqlParameterSource params = new MapSqlParameterSource()
+        .addValue("id", row.getId())
+        .addValue("username", row.getUsername())
+        .addValue("email", row.getEmail())
+        .addValue("firstName", row.getFirstName())
+        .addValue("lastName", row.getLastName())
+        .addValue("active", row.getActive())
+        .addValue("createdAt", row.getCreatedAt())
+        .addValue("updatedAt", row.getUpdatedAt());
+
+    boolean inserted;
+    if (dialect == DatabaseDialect.POSTGRESQL) {
+      // ON CONFLICT keeps the transaction usable for the follow-up lookup
+      inserted = !jdbcTemplate.queryForList(INSERT + " ON CONFLICT DO NOTHING RETURNING id", params, UUID.class)
+          .isEmpty();
+    } else {
+      try {
+        inserted = jdbcTemplate.update(INSERT, params) > 0;
+      } catch (DuplicateKeyException e) {
+        inserted = false;
+      }
+    }
+    if (!inserted) {
+      throw conflictFor(row);
+    }
+    return row;
+  }
+
+  /**
+   * Set the active flag and return the updated row
+   */
+  public Optional<UserJpaEntity> setActive(UUID id, boolean active, LocalDateTime updatedAt) {
+    MapSqlParameterSource params = new MapSqlParameterSource()
+        .addValue("id", id)
+        .addValue("active", active)
+        .addValue("updatedAt", updatedAt);
+
+    List<UserJpaEntity> rows = switch (dialect) {
+      case POSTGRESQL -> jdbcTemplate.query(SET_ACTIVE + " RETURNING " + COLUMNS, params, ROW_MAPPER);
+      case H2 -> jdbcTemplate.query("SELECT " + COLUMNS + " FROM FINAL TABLE (" + SET_ACTIVE + ")", params,
+          ROW_MAPPER);
+      case OTHER -> jdbcTemplate.update(SET_ACTIVE, params) == 0
+          ? List.of()
+          : jdbcTemplate.query("SELECT " + COLUMNS + " FROM users WHERE id = :id", params, ROW_MAPPER);
+    };
+    return rows.stream().findFirst();
+  }
+
+  /**
+   * Delete the user if it exists
+   *
+   * @return false if no row matched
+   */
+  public boolean deleteIfExists(UUID id) {
+    return jdbcTemplate.update("DELETE FROM users WHERE id = :id", new MapSqlParameterSource("id", id)) > 0;
+  }
+
+  /**
+   * Work out which unique value clashed; only runs after a failed insert
+   */
+  private InvalidUserDataException conflictFor(UserJpaEntity row) {
+    List<String> usernames = jdbcTemplate.queryForList(
+        "SELECT username FROM users WHERE username = :username OR email = :email",
+        new MapSqlParameterSource()
+            .addValue("username", row.getUsername())
+            .addValue("email", row.getEmail()),
+        String.class);
+    if (usernames.contains(row.getUsername())) {
+      return InvalidUserDataException.usernameTaken();
+    }
+    if (!usernames.isEmpty()) {
+      return InvalidUserDataException.emailTaken();
+    }
+    return new InvalidUserDataException("id", "already exists");
+  }
+}
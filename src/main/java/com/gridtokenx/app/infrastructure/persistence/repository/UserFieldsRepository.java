@@ -0,0 +1,127 @@
+package com.gridtokenx.app.infrastructure.persistence.repository;
+
+import com.gridtokenx.app.application.dto.UserField;
+import com.gridtokenx.app.application.dto.UserKey;
+import com.gridtokenx.app.application.dto.UserView;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import javax.sql.DataSource;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+import static com.gridtokenx.app.application.dto.UserField.ACTIVE;
+import static com.gridtokenx.app.application.dto.UserField.CREATED_AT;
+import static com.gridtokenx.app.application.dto.UserField.EMAIL;
+import static com.gridtokenx.app.application.dto.UserField.FIRST_NAME;
+import static com.gridtokenx.app.application.dto.UserField.FULL_NAME;
+import static com.gridtokenx.app.application.dto.UserField.ID;
+import static com.gridtokenx.app.application.dto.UserField.LAST_NAME;
+import static com.gridtokenx.app.application.dto.UserField.UPDATED_AT;
+import static com.gridtokenx.app.application.dto.UserField.USERNAME;
+import static com.gridtokenx.app.application.dto.UserField.VERSION;
+
+/**
+ * User views with only the requested fields
+ * The SELECT list is built from the fields, so columns nobody asked for are
+ * neither read nor transferred; fullName is derived from first_name and
+ * last_name like in the full projection
+ */
+@Repository
+public class UserFieldsRepository {
+
+  private static final String ACTIVE_NEWEST_FIRST = " WHERE u.active = true ORDER BY u.created_at DESC";
+
+  private final NamedParameterJdbcTemplate jdbcTemplate;
+
+  public UserFieldsRepository(DataSource dataSource) {
+    // same fetch size as the JPQL streams, so large lists are read in chunks
+    JdbcTemplate jdbc = new JdbcTemplate(dataSource);
+    jdbc.setFetchSize(1000);
+    this.jdbcTemplate = new NamedParameterJdbcTemplate(jdbc);
+  }
+
+  /**
+   * Find users whose ID, username or email is one of the values
+   */
+  public List<UserView> find(UserKey.Type by, Collection<?> values, Set<UserField> fields) {
+    String column = switch (by) {
+      case ID -> "id";
+      case USERNAME -> "username";
+      case EMAIL -> "email";
+    };
+    return jdbcTemplate.query(select(fields) + " WHERE u." + column + " IN (:values)",
+        new MapSqlParameterSource("values", values), rowMapper(fields));
+  }
+
+  /**
+   * Find all users, or all active users newest first
+   */
+  public List<UserView> findAll(boolean activeOnly, Set<UserField> fields) {
+    return jdbcTemplate.query(selectAll(activeOnly, fields), rowMapper(fields));
+  }
+
+  /**
+   * Stream all users, or all active users newest first
+   * Must be consumed and closed inside a transaction
+   */
+  public Stream<UserView> streamAll(boolean activeOnly, Set<UserField> fields) {
+    return jdbcTemplate.queryForStream(selectAll(activeOnly, fields), new MapSqlParameterSource(),
+        rowMapper(fields));
+  }
+
+  private static String selectAll(boolean activeOnly, Set<UserField> fields) {
+    return activeOnly ? select(fields) + ACTIVE_NEWEST_FIRST : select(fields);
+  }
+
+  private static String select(Set<UserField> fields) {
+    Set<String> columns = new LinkedHashSet<>();
+    for (UserField field : fields) {
+      switch (field) {
+        case ID -> columns.add("u.id");
+        case USERNAME -> columns.add("u.username");
+        case EMAIL -> columns.add("u.email");
+        case FIRST_NAME -> columns.add("u.first_name");
+        case LAST_NAME -> columns.add("u.last_name");
+        case FULL_NAME -> {
+          columns.add("u.first_name");
+          columns.add("u.last_name");
+        }
+        case ACTIVE -> columns.add("u.active");
+        case CREATED_AT -> columns.add("u.created_at");
+        case UPDATED_AT -> columns.add("u.updated_at");
+        case VERSION -> columns.add("u.version");
+      }
+    }
+    return "SELECT " + String.join(", ", columns) + " FROM users u";
+  }
+
+  private static RowMapper<UserView> rowMapper(Set<UserField> fields) {
+    boolean fullName = fields.contains(FULL_NAME);
+    boolean firstName = fullName || fields.contains(FIRST_NAME);
+    boolean lastName = fullName || fields.contains(LAST_NAME);
+    return (rs, rowNum) -> {
+      String first = firstName ? rs.getString("first_name") : null;
+      String last = lastName ? rs.getString("last_name") : null;
+      return new UserView(
+          fields.contains(ID) ? rs.getObject("id", UUID.class) : null,
+          fields.contains(USERNAME) ? rs.getString("username") : null,
+          fields.contains(EMAIL) ? rs.getString("email") : null,
+          fields.contains(FIRST_NAME) ? first : null,
+          fields.contains(LAST_NAME) ? last : null,
+          fullName ? first + " " + last : null,
+          fields.contains(ACTIVE) && rs.getBoolean("active"),
+          fields.contains(CREATED_AT) ? rs.getObject("created_at", LocalDateTime.class) : null,
+          fields.contains(UPDATED_AT) ? rs.getObject("updated_at", LocalDateTime.class) : null,
+          fields.contains(VERSION) ? rs.getLong("version") : 0);
+    };
+  }
+}
@@ -1,13 +1,22 @@
 package com.gridtokenx.app.infrastructure.persistence.repository;
 
+import com.gridtokenx.app.application.dto.UserListValidator;
+import com.gridtokenx.app.application.dto.UserSuggestion;
+import com.gridtokenx.app.application.dto.UserView;
 import com.gridtokenx.app.infrastructure.persistence.entity.UserJpaEntity;
+import jakarta.persistence.QueryHint;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 /**
  * Spring Data JPA Repository interface
@@ -47,4 +56,124 @@ public interface UserJpaRepository extends JpaRepository<UserJpaEntity, UUID> {
    * Find users by active status
    */
   List<UserJpaEntity> findByActiveOrderByCreatedAtDesc(Boolean active);
+
+  /**
+   * Find user view by ID
+   * Constructor expressions return unmanaged records, so no entity is loaded
+   * into the persistence context
+   */
+  @Query("SELECT new com.gridtokenx.app.application.dto.UserView(u.id, u.username, u.email, u.firstName, "
+      + "u.lastName, u.active, u.createdAt, u.updatedAt, u.version) FROM UserJpaEntity u WHERE u.id = :id")
+  Optional<UserView> findViewById(@Param("id") UUID id);
+
+  /**
+   * Find user view by username
+   */
+  @Query("SELECT new com.gridtokenx.app.application.dto.UserView(u.id, u.username, u.email, u.firstName, "
+      + "u.lastName, u.active, u.createdAt, u.updatedAt, u.version) FROM UserJpaEntity u WHERE u.username = :username")
+  Optional<UserView> findViewByUsername(@Param("username") String username);
+
+  /**
+   * Find user view by email
+   */
+  @Query("SELECT new com.gridtokenx.app.application.dto.UserView(u.id, u.username, u.email, u.firstName, "
+      + "u.lastName, u.active, u.createdAt, u.updatedAt, u.version) FROM UserJpaEntity u WHERE u.email = :email")
+  Optional<UserView> findViewByEmail(@Param("email") String email);
+
+  /**
+   * Find all user views
+   */
+  @Query("SELECT new com.gridtokenx.app.application.dto.UserView(u.id, u.username, u.email, u.firstName, "
+      + "u.lastName, u.active, u.createdAt, u.updatedAt, u.version) FROM UserJpaEntity u")
+  List<UserView> findAllViews();
+
+  /**
+   * Find all active user views
+   */
+  @Query("SELECT new com.gridtokenx.app.application.dto.UserView(u.id, u.username, u.email, u.firstName, "
+      + "u.lastName, u.active, u.createdAt, u.updatedAt, u.version) FROM UserJpaEntity u WHERE u.active = true "
+      + "ORDER BY u.createdAt DESC")
+  List<UserView> findAllActiveViews();
+
+  /**
+   * Find the version of a user, for conditional requests
+   */
+  @Query("SELECT u.version FROM UserJpaEntity u WHERE u.id = :id")
+  Optional<Long> findVersionById(@Param("id") UUID id);
+
+  /**
+   * Count users and find the latest update
+   */
+  @Query("SELECT new com.gridtokenx.app.application.dto.UserListValidator(COUNT(u), MAX(u.updatedAt)) "
+      + "FROM UserJpaEntity u")
+  UserListValidator findListValidator();
+
+  /**
+   * Count active users and find the latest update among them
+   */
+  @Query("SELECT new com.gridtokenx.app.application.dto.UserListValidator(COUNT(u), MAX(u.updatedAt)) "
+      + "FROM UserJpaEntity u WHERE u.active = true")
+  UserListValidator findActiveListValidator();
+
+  /**
+   * Find user views by IDs
+   */
+  @Query("SELECT new com.gridtokenx.app.application.dto.UserView(u.id, u.username, u.email, u.firstName, "
+      + "u.lastName, u.active, u.createdAt, u.updatedAt, u.version) FROM UserJpaEntity u WHERE u.id IN :ids")
+  List<UserView> findViewsByIdIn(@Param("ids") Collection<UUID> ids);
+
+  /**
+   * Find user views by usernames
+   */
+  @Query("SELECT new com.gridtokenx.app.application.dto.UserView(u.id, u.username, u.email, u.firstName, "
+      + "u.lastName, u.active, u.createdAt, u.updatedAt, u.version) FROM UserJpaEntity u WHERE u.username IN :usernames")
+  List<UserView> findViewsByUsernameIn(@Param("usernames") Collection<String> usernames);
+
+  /**
+   * Find user views by emails
+   */
+  @Query("SELECT new com.gridtokenx.app.application.dto.UserView(u.id, u.username, u.email, u.firstName, "
+      + "u.lastName, u.active, u.createdAt, u.updatedAt, u.version) FROM UserJpaEntity u WHERE u.email IN :emails")
+  List<UserView> findViewsByEmailIn(@Param("emails") Collection<String> emails);
+
+  /**
+   * Stream active users as autocomplete suggestions
+   * Must be consumed and closed inside a transaction
+   */
+  @Query("SELECT new com.gridtokenx.app.application.dto.UserSuggestion(u.id, u.username, "
+      + "CONCAT(u.firstName, ' ', u.lastName)) FROM UserJpaEntity u WHERE u.active = true")
+  @QueryHints(@QueryHint(name = "org.hibernate.fetchSize", value = "1000"))
+  Stream<UserSuggestion> streamActiveSuggestions();
+
+  /**
+   * Active users updated at or after the given time, as autocomplete suggestions
+   */
+  @Query("SELECT new com.gridtokenx.app.application.dto.UserSuggestion(u.id, u.username, "
+      + "CONCAT(u.firstName, ' ', u.lastName)) FROM UserJpaEntity u WHERE u.active = true AND u.updatedAt >= :since")
+  List<UserSuggestion> findActiveSuggestionsUpdatedSince(@Param("since") LocalDateTime since);
+
+  /**
+   * Ids of inactive users updated at or after the given time
+   */
+  @Query("SELECT u.id FROM UserJpaEntity u WHERE u.active = false AND u.updatedAt >= :since")
+  List<UUID> findInactiveIdsUpdatedSince(@Param("since") LocalDateTime since);
+
+  /**
+   * Stream all user views
+   * Must be consumed and closed inside a transaction
+   */
+  @Query("SELECT new com.gridtokenx.app.application.dto.UserView(u.id, u.username, u.email, u.firstName, "
+      + "u.lastName, u.active, u.createdAt, u.updatedAt, u.version) FROM UserJpaEntity u")
+  @QueryHints(@QueryHint(name = "org.hibernate.fetchSize", value = "1000"))
+  Stream<UserView> streamAllViews();
+
+  /**
+   * Stream all active user views, newest first
+   * Must be consumed and closed inside a transaction
+   */
+  @Query("SELECT new com.gridtokenx.app.application.dto.UserView(u.id, u.username, u.email, u.firstName, "
+      + "u.lastName, u.active, u.createdAt, u.updatedAt, u.version) FROM UserJpaEntity u WHERE u.active = true "
+      + "ORDER BY u.createdAt DESC")
+  @QueryHints(@QueryHint(name = "org.hibernate.fetchSize", value = "1000"))
+  Stream<UserView> streamAllActiveViews();
 }
@@ -0,0 +1,82 @@
+package com.gridtokenx.app.infrastructure.persistence.repository;
+
+import com.gridtokenx.app.infrastructure.concurrent.SingleFlight;
+import com.gridtokenx.app.infrastructure.persistence.entity.UserJpaEntity;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.function.Supplier;
+
+/**
+ * Single-flight layer for hot user lookups
+ * Concurrent lookups for the same id, username or email share one database
+ * query. The shared result is a detached copy of the row, so each caller maps
+ * its own domain entity and never sees another session's managed instance
+ * Lookups inside a read-write transaction bypass coalescing so they always
+ * see their own uncommitted writes
+ */
+@Component
+public class UserLookupCoalescer {
+
+  private final SingleFlight<LookupKey, Optional<UserJpaEntity>> singleFlight;
+  private final boolean enabled;
+
+  public UserLookupCoalescer(
+      MeterRegistry meterRegistry,
+      @Value("${persistence.single-flight.enabled:true}") boolean enabled,
+      @Value("${persistence.single-flight.max-wait:500ms}") Duration maxWait) {
+    this.enabled = enabled;
+    this.singleFlight = new SingleFlight<>(maxWait);
+
+    FunctionCounter.builder("user.lookups.executed", singleFlight, SingleFlight::getExecutedCount)
+        .description("User lookups that reached the database")
+        .register(meterRegistry);
+    FunctionCounter.builder("user.lookups.collapsed", singleFlight, SingleFlight::getCollapsedCount)
+        .description("User lookups served by a concurrent identical query")
+        .register(meterRegistry);
+    FunctionCounter.builder("user.lookups.wait.timeouts", singleFlight, SingleFlight::getTimeoutCount)
+        .description("User lookups that stopped waiting and queried on their own")
+        .register(meterRegistry);
+    Gauge.builder("user.lookups.in.flight", singleFlight, SingleFlight::getInFlightCount)
+        .description("User lookups currently in flight")
+        .register(meterRegistry);
+  }
+
+  /**
+   * Run the lookup, sharing it with concurrent callers for the same key
+   */
+  public Optional<UserJpaEntity> load(String attribute, Object value, Supplier<Optional<UserJpaEntity>> query) {
+    if (!enabled || isReadWriteTransaction()) {
+      return query.get();
+    }
+    return singleFlight.execute(new LookupKey(attribute, value), () -> query.get().map(this::detach));
+  }
+
+  private boolean isReadWriteTransaction() {
+    return TransactionSynchronizationManager.isActualTransactionActive()
+        && !TransactionSynchronizationManager.isCurrentTransactionReadOnly();
+  }
+
+  private UserJpaEntity detach(UserJpaEntity entity) {
+    return UserJpaEntity.builder()
+        .id(entity.getId())
+        .username(entity.getUsername())
+        .email(entity.getEmail())
+        .firstName(entity.getFirstName())
+        .lastName(entity.getLastName())
+        .active(entity.getActive())
+        .createdAt(entity.getCreatedAt())
+        .updatedAt(entity.getUpdatedAt())
+        .version(entity.getVersion())
+        .build();
+  }
+
+  private record LookupKey(String attribute, Object value) {
+  }
+}
@@ -1,52 +1,94 @@
 package com.gridtokenx.app.infrastructure.persistence.repository;
 
+import com.gridtokenx.app.application.dto.UserField;
+import com.gridtokenx.app.application.dto.UserKey;
+import com.gridtokenx.app.application.dto.UserListValidator;
+import com.gridtokenx.app.application.dto.UserSearchCursor;
+import com.gridtokenx.app.application.dto.UserSearchHit;
+import com.gridtokenx.app.application.dto.UserSuggestion;
+import com.gridtokenx.app.application.dto.UserView;
 import com.gridtokenx.app.application.port.UserOutputPort;
+import com.gridtokenx.app.application.port.UserQueryOutputPort;
 import com.gridtokenx.app.domain.entity.User;
+import com.gridtokenx.app.domain.exception.UserVersionConflictException;
 import com.gridtokenx.app.domain.repository.UserRepository;
+import com.gridtokenx.app.infrastructure.persistence.autocomplete.UserAutocompleteIndex;
 import com.gridtokenx.app.infrastructure.persistence.mapper.UserJpaMapper;
 import lombok.RequiredArgsConstructor;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 /**
  * Repository Adapter - Implementation of both domain repository and output port
  * This class adapts the JPA repository to the domain repository interface
  * Following the Adapter pattern and implementing both interfaces for clean
  * architecture
+ * Read-only projections for the query port bypass the mapper entirely
+ * Single-user lookups go through UserLookupCoalescer so concurrent identical
+ * queries share one database round trip
+ * Writes are mirrored into UserAutocompleteIndex once their transaction commits
  */
 @Component
 @RequiredArgsConstructor
-public class UserRepositoryAdapter implements UserRepository, UserOutputPort {
+public class UserRepositoryAdapter implements UserRepository, UserOutputPort, UserQueryOutputPort {
 
   private final UserJpaRepository userJpaRepository;
   private final UserJpaMapper userJpaMapper;
+  private final UserLookupCoalescer userLookupCoalescer;
+  private final UserCommandRepository userCommandRepository;
+  private final UserSearchRepository userSearchRepository;
+  private final UserFieldsRepository userFieldsRepository;
+  private final UserAutocompleteIndex userAutocompleteIndex;
 
+  /**
+   * New users are inserted in one statement that relies on the unique
+   * indexes; updates of an existing version are flushed immediately so a
+   * concurrent modification surfaces here as a domain conflict rather than
+   * at commit
+   */
   @Override
   public User save(User user) {
     var jpaEntity = userJpaMapper.toJpaEntity(user);
-    var savedEntity = userJpaRepository.save(jpaEntity);
-    return userJpaMapper.toDomainEntity(savedEntity);
+    User saved;
+    if (jpaEntity.getVersion() == null) {
+      saved = userJpaMapper.toDomainEntity(userCommandRepository.insert(jpaEntity));
+    } else {
+      try {
+        saved = userJpaMapper.toDomainEntity(userJpaRepository.saveAndFlush(jpaEntity));
+      } catch (OptimisticLockingFailureException e) {
+        throw new UserVersionConflictException(String.valueOf(user.getId()));
+      }
+    }
+    updateAutocompleteAfterCommit(saved);
+    return saved;
   }
 
   @Override
   public Optional<User> findById(UUID id) {
-    return userJpaRepository.findById(id)
+    return userLookupCoalescer.load("id", id, () -> userJpaRepository.findById(id))
         .map(userJpaMapper::toDomainEntity);
   }
 
   @Override
   public Optional<User> findByUsername(String username) {
-    return userJpaRepository.findByUsername(username)
+    return userLookupCoalescer.load("username", username, () -> userJpaRepository.findByUsername(username))
         .map(userJpaMapper::toDomainEntity);
   }
 
   @Override
   public Optional<User> findByEmail(String email) {
-    return userJpaRepository.findByEmail(email)
+    return userLookupCoalescer.load("email", email, () -> userJpaRepository.findByEmail(email))
         .map(userJpaMapper::toDomainEntity);
   }
 
@@ -79,10 +121,139 @@ public class UserRepositoryAdapter implements UserRepository, UserOutputPort {
   @Override
   public void deleteById(UUID id) {
     userJpaRepository.deleteById(id);
+    afterCommit(() -> userAutocompleteIndex.remove(id));
+  }
+
+  @Override
+  public boolean deleteIfExists(UUID id) {
+    boolean deleted = userCommandRepository.deleteIfExists(id);
+    if (deleted) {
+      afterCommit(() -> userAutocompleteIndex.remove(id));
+    }
+    return deleted;
+  }
+
+  @Override
+  public Optional<User> setActive(UUID id, boolean active, LocalDateTime updatedAt) {
+    Optional<User> updated = userCommandRepository.setActive(id, active, updatedAt)
+        .map(userJpaMapper::toDomainEntity);
+    updated.ifPresent(this::updateAutocompleteAfterCommit);
+    return updated;
   }
 
   @Override
   public long count() {
     return userJpaRepository.count();
   }
+
+  @Override
+  public Optional<UserView> findViewById(UUID id) {
+    return userJpaRepository.findViewById(id);
+  }
+
+  @Override
+  public Optional<UserView> findViewByUsername(String username) {
+    return userJpaRepository.findViewByUsername(username);
+  }
+
+  @Override
+  public Optional<UserView> findViewByEmail(String email) {
+    return userJpaRepository.findViewByEmail(email);
+  }
+
+  @Override
+  public Optional<Long> findVersionById(UUID id) {
+    return userJpaRepository.findVersionById(id);
+  }
+
+  @Override
+  public UserListValidator findListValidator(boolean activeOnly) {
+    return activeOnly ? userJpaRepository.findActiveListValidator() : userJpaRepository.findListValidator();
+  }
+
+  @Override
+  public List<UserView> findAllViews() {
+    return userJpaRepository.findAllViews();
+  }
+
+  @Override
+  public List<UserView> findAllActiveViews() {
+    return userJpaRepository.findAllActiveViews();
+  }
+
+  @Override
+  public Stream<UserView> streamAllViews() {
+    return userJpaRepository.streamAllViews();
+  }
+
+  @Override
+  public Stream<UserView> streamAllActiveViews() {
+    return userJpaRepository.streamAllActiveViews();
+  }
+
+  @Override
+  public List<UserView> findSparseViews(UserKey.Type by, Collection<?> values, Set<UserField> fields) {
+    return userFieldsRepository.find(by, values, fields);
+  }
+
+  @Override
+  public List<UserView> findAllSparseViews(boolean activeOnly, Set<UserField> fields) {
+    return userFieldsRepository.findAll(activeOnly, fields);
+  }
+
+  @Override
+  public Stream<UserView> streamAllSparseViews(boolean activeOnly, Set<UserField> fields) {
+    return userFieldsRepository.streamAll(activeOnly, fields);
+  }
+
+  @Override
+  public List<UserView> findViewsByIds(Collection<UUID> ids) {
+    return userJpaRepository.findViewsByIdIn(ids);
+  }
+
+  @Override
+  public List<UserView> findViewsByUsernames(Collection<String> usernames) {
+    return userJpaRepository.findViewsByUsernameIn(usernames);
+  }
+
+  @Override
+  public List<UserView> findViewsByEmails(Collection<String> emails) {
+    return userJpaRepository.findViewsByEmailIn(emails);
+  }
+
+  @Override
+  public List<UserSearchHit> searchViews(String query, UserSearchCursor after, int limit) {
+    return userSearchRepository.search(query, after, limit);
+  }
+
+  @Override
+  public List<UserSuggestion> completeUsers(String prefix, int limit) {
+    return userAutocompleteIndex.complete(prefix, limit);
+  }
+
+  private void updateAutocompleteAfterCommit(User user) {
+    UUID id = user.getId();
+    if (user.isActive()) {
+      UserSuggestion suggestion = new UserSuggestion(id, user.getUsername(), user.getFullName());
+      afterCommit(() -> userAutocompleteIndex.put(suggestion));
+    } else {
+      afterCommit(() -> userAutocompleteIndex.remove(id));
+    }
+  }
+
+  /**
+   * Run once the surrounding transaction commits, or now if there is none
+   */
+  private static void afterCommit(Runnable action) {
+    if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+      action.run();
+      return;
+    }
+    TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+      @Override
+      public void afterCommit() {
+        action.run();
+      }
+    });
+  }
 }
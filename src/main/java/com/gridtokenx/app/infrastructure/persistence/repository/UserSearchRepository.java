@@ -0,0 +1,148 @@
+package com.gridtokenx.app.infrastructure.persistence.repository;
+
+import com.gridtokenx.app.application.dto.UserSearchCursor;
+import com.gridtokenx.app.application.dto.UserSearchHit;
+import com.gridtokenx.app.application.dto.UserView;
+import com.gridtokenx.app.infrastructure.persistence.DatabaseDialect;
+import com.gridtokenx.app.infrastructure.persistence.TrigramSimilarity;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Relevance-ranked user search over username, email and full name
+ * A user matches when the query is a substring of one of the fields or is
+ * trigram-similar to it. The score is the best trigram similarity plus one
+ * when username or email starts with the query, so prefix hits rank first
+ * Queries shorter than a trigram cannot use the trigram indexes, so they
+ * only match username or email prefixes, through the B-tree indexes from V9,
+ * and rank by id
+ * On PostgreSQL this runs against the pg_trgm GIN indexes from V5; other
+ * databases score every row in memory with {@link TrigramSimilarity}, which
+ * is only meant for H2 in tests
+ */
+@Repository
+@RequiredArgsConstructor
+public class UserSearchRepository {
+
+  private static final int MIN_TRIGRAM_QUERY_LENGTH = 3;
+
+  private static final String FULL_NAME = "lower(u.first_name || ' ' || u.last_name)";
+
+  private static final String SEARCH = "SELECT * FROM ("
+      + "SELECT u.id, u.username, u.email, u.first_name, u.last_name, u.active, u.created_at, u.updated_at, "
+      + "u.version, CAST(GREATEST(similarity(lower(u.username), :q), similarity(lower(u.email), :q), "
+      + "similarity(" + FULL_NAME + ", :q)) "
+      + "+ CASE WHEN lower(u.username) LIKE :prefix OR lower(u.email) LIKE :prefix THEN 1 ELSE 0 END AS REAL) "
+      + "AS score "
+      + "FROM users u "
+      + "WHERE lower(u.username) % :q OR lower(u.email) % :q OR " + FULL_NAME + " % :q "
+      + "OR lower(u.username) LIKE :contains OR lower(u.email) LIKE :contains OR " + FULL_NAME + " LIKE :contains"
+      + ") s ";
+
+  private static final String PREFIX_SEARCH = "SELECT * FROM ("
+      + "SELECT u.id, u.username, u.email, u.first_name, u.last_name, u.active, u.created_at, u.updated_at, "
+      + "u.version, CAST(1 AS REAL) AS score "
+      + "FROM users u "
+      + "WHERE lower(u.username) LIKE :prefix OR lower(u.email) LIKE :prefix"
+      + ") s ";
+
+  private static final String AFTER_CURSOR =
+      "WHERE s.score < :afterScore OR (s.score = :afterScore AND s.id > :afterId) ";
+
+  private static final String ORDER = "ORDER BY s.score DESC, s.id LIMIT :limit";
+
+  private static final RowMapper<UserSearchHit> ROW_MAPPER = (rs, rowNum) -> new UserSearchHit(
+      new UserView(
+          rs.getObject("id", UUID.class),
+          rs.getString("username"),
+          rs.getString("email"),
+          rs.getString("first_name"),
+          rs.getString("last_name"),
+          rs.getBoolean("active"),
+          rs.getObject("created_at", LocalDateTime.class),
+          rs.getObject("updated_at", LocalDateTime.class),
+          rs.getLong("version")),
+      rs.getFloat("score"));
+
+  private static final Comparator<UserSearchHit> RELEVANCE = Comparator
+      .comparing(UserSearchHit::score, Comparator.reverseOrder())
+      .thenComparing(hit -> hit.user().id());
+
+  private final NamedParameterJdbcTemplate jdbcTemplate;
+  private final DatabaseDialect dialect;
+  private final UserJpaRepository userJpaRepository;
+
+  /**
+   * Search with a lower-cased query
+   */
+  public List<UserSearchHit> search(String query, UserSearchCursor after, int limit) {
+    if (query.isEmpty()) {
+      return List.of();
+    }
+    return dialect == DatabaseDialect.POSTGRESQL
+        ? searchWithTrigramIndexes(query, after, limit)
+        : searchInMemory(query, after, limit);
+  }
+
+  private List<UserSearchHit> searchWithTrigramIndexes(String query, UserSearchCursor after, int limit) {
+    String escaped = escapeLike(query);
+    MapSqlParameterSource params = new MapSqlParameterSource()
+        .addValue("q", query)
+        .addValue("prefix", escaped + "%")
+        .addValue("contains", "%" + escaped + "%")
+        .addValue("limit", limit);
+    String search = query.length() < MIN_TRIGRAM_QUERY_LENGTH ? PREFIX_SEARCH : SEARCH;
+    String sql = search + ORDER;
+    if (after != null) {
+      params.addValue("afterScore", after.score()).addValue("afterId", after.id());
+      sql = search + AFTER_CURSOR + ORDER;
+    }
+    return jdbcTemplate.query(sql, params, ROW_MAPPER);
+  }
+
+  private List<UserSearchHit> searchInMemory(String query, UserSearchCursor after, int limit) {
+    Set<String> trigrams = TrigramSimilarity.trigrams(query);
+    return userJpaRepository.findAllViews().stream()
+        .map(user -> score(user, query, trigrams))
+        .filter(hit -> hit != null && (after == null || isAfter(hit, after)))
+        .sorted(RELEVANCE)
+        .limit(limit)
+        .toList();
+  }
+
+  private UserSearchHit score(UserView user, String query, Set<String> trigrams) {
+    String username = user.username().toLowerCase(Locale.ROOT);
+    String email = user.email().toLowerCase(Locale.ROOT);
+    boolean prefix = username.startsWith(query) || email.startsWith(query);
+    if (query.length() < MIN_TRIGRAM_QUERY_LENGTH) {
+      return prefix ? new UserSearchHit(user, 1) : null;
+    }
+    String fullName = user.fullName().toLowerCase(Locale.ROOT);
+    float similarity = Math.max(TrigramSimilarity.similarity(trigrams, username),
+        Math.max(TrigramSimilarity.similarity(trigrams, email), TrigramSimilarity.similarity(trigrams, fullName)));
+    boolean contains = username.contains(query) || email.contains(query) || fullName.contains(query);
+    if (similarity < TrigramSimilarity.DEFAULT_THRESHOLD && !contains) {
+      return null;
+    }
+    return new UserSearchHit(user, similarity + (prefix ? 1 : 0));
+  }
+
+  private static boolean isAfter(UserSearchHit hit, UserSearchCursor after) {
+    int byScore = Float.compare(after.score(), hit.score());
+    return byScore > 0 || (byScore == 0 && hit.user().id().compareTo(after.id()) > 0);
+  }
+
+  private static String escapeLike(String value) {
+    return value.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+  }
+}
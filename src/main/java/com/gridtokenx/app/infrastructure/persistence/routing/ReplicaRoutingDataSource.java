@@ -0,0 +1,178 @@
+package com.gridtokenx.app.infrastructure.persistence.routing;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.io.Closeable;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Routes read-only transactions to replica pools and everything else to the
+ * primary
+ * Must sit behind a LazyConnectionDataSourceProxy: the transaction's
+ * read-only flag is only known once the first statement runs
+ * A replica whose pool fails to hand out a connection is skipped for the
+ * retry interval. A principal that ran a read-write transaction keeps
+ * reading from the primary for the stickiness window, so replica lag does
+ * not hide its own writes
+ */
+@Slf4j
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource implements Closeable {
+
+  public static final String PRIMARY = "primary";
+
+  private final HikariDataSource primary;
+  private final List<Replica> replicas;
+  private final Map<String, Replica> replicasByName = new HashMap<>();
+  private final Map<String, Counter> connections = new HashMap<>();
+  private final Counter replicaFailures;
+  private final Cache<String, Boolean> recentWriters;
+  private final long retryIntervalNanos;
+  private final AtomicInteger next = new AtomicInteger();
+
+  public ReplicaRoutingDataSource(
+      HikariDataSource primary,
+      List<HikariDataSource> replicaPools,
+      Duration stickiness,
+      Duration retryInterval,
+      MeterRegistry meterRegistry) {
+    this.primary = primary;
+    this.retryIntervalNanos = retryInterval.toNanos();
+    this.recentWriters = Caffeine.newBuilder()
+        .expireAfterWrite(stickiness)
+        .maximumSize(100_000)
+        .build();
+
+    Map<Object, Object> targets = new LinkedHashMap<>();
+    targets.put(PRIMARY, primary);
+    connections.put(PRIMARY, connectionCounter(meterRegistry, PRIMARY));
+
+    List<Replica> resolved = new ArrayList<>(replicaPools.size());
+    for (HikariDataSource pool : replicaPools) {
+      Replica replica = new Replica(pool.getPoolName(), pool);
+      resolved.add(replica);
+      replicasByName.put(replica.name, replica);
+      targets.put(replica.name, pool);
+      connections.put(replica.name, connectionCounter(meterRegistry, replica.name));
+      Gauge.builder("datasource.replica.healthy", replica, r -> r.isHealthy(System.nanoTime()) ? 1 : 0)
+          .tag("target", replica.name)
+          .description("Whether the replica is currently eligible for reads")
+          .register(meterRegistry);
+    }
+    this.replicas = List.copyOf(resolved);
+    this.replicaFailures = Counter.builder("datasource.replica.failures")
+        .description("Replica connection failures that fell back to the primary")
+        .register(meterRegistry);
+
+    setTargetDataSources(targets);
+    setDefaultTargetDataSource(primary);
+    afterPropertiesSet();
+  }
+
+  @Override
+  protected Object determineCurrentLookupKey() {
+    String session = currentSessionKey();
+    if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+      if (session != null && TransactionSynchronizationManager.isActualTransactionActive()) {
+        recentWriters.put(session, Boolean.TRUE);
+      }
+      return PRIMARY;
+    }
+    if (session != null && recentWriters.getIfPresent(session) != null) {
+      return PRIMARY;
+    }
+    Replica replica = nextHealthyReplica();
+    return replica == null ? PRIMARY : replica.name;
+  }
+
+  @Override
+  public Connection getConnection() throws SQLException {
+    String target = (String) determineCurrentLookupKey();
+    connections.get(target).increment();
+    Replica replica = replicasByName.get(target);
+    if (replica == null) {
+      return primary.getConnection();
+    }
+    try {
+      return replica.pool.getConnection();
+    } catch (SQLException e) {
+      replica.unhealthyUntil = System.nanoTime() + retryIntervalNanos;
+      replicaFailures.increment();
+      log.warn("Replica {} unavailable, routing reads to primary: {}", replica.name, e.getMessage());
+      return primary.getConnection();
+    }
+  }
+
+  @Override
+  public Connection getConnection(String username, String password) throws SQLException {
+    throw new SQLFeatureNotSupportedException("Routed connections use the pool credentials");
+  }
+
+  @Override
+  public void close() {
+    for (Replica replica : replicas) {
+      replica.pool.close();
+    }
+    primary.close();
+  }
+
+  private Replica nextHealthyReplica() {
+    int count = replicas.size();
+    long now = System.nanoTime();
+    int start = next.getAndIncrement();
+    for (int i = 0; i < count; i++) {
+      Replica replica = replicas.get(Math.floorMod(start + i, count));
+      if (replica.isHealthy(now)) {
+        return replica;
+      }
+    }
+    return null;
+  }
+
+  private String currentSessionKey() {
+    Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+    return authentication == null || !authentication.isAuthenticated() ? null : authentication.getName();
+  }
+
+  private static Counter connectionCounter(MeterRegistry meterRegistry, String target) {
+    return Counter.builder("datasource.routing.connections")
+        .tag("target", target)
+        .description("Connections handed out per routing target")
+        .register(meterRegistry);
+  }
+
+  private static final class Replica {
+
+    private final String name;
+    private final HikariDataSource pool;
+    private volatile long unhealthyUntil;
+
+    private Replica(String name, HikariDataSource pool) {
+      this.name = name;
+      this.pool = pool;
+      this.unhealthyUntil = System.nanoTime();
+    }
+
+    private boolean isHealthy(long now) {
+      return now - unhealthyUntil >= 0;
+    }
+  }
+}
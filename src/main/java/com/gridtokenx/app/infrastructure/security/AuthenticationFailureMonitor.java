@@ -0,0 +1,85 @@
+package com.gridtokenx.app.infrastructure.security;
+
+import com.gridtokenx.app.domain.exception.AuthenticationFailureReason;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Counts expected authentication failures per reason
+ * Instead of one log line per failure, a single aggregated WARN line is
+ * written at most once per interval, so a credential-stuffing burst costs a
+ * counter increment per request rather than a stack trace
+ */
+@Slf4j
+@Component
+public class AuthenticationFailureMonitor {
+
+  private final Map<AuthenticationFailureReason, Counter> counters = new EnumMap<>(AuthenticationFailureReason.class);
+  private final Map<AuthenticationFailureReason, LongAdder> window = new EnumMap<>(AuthenticationFailureReason.class);
+  private final long intervalNanos;
+  private final AtomicLong lastFlush;
+
+  public AuthenticationFailureMonitor(
+      MeterRegistry meterRegistry,
+      @Value("${security.auth-failures.log-interval:60s}") Duration logInterval) {
+    for (AuthenticationFailureReason reason : AuthenticationFailureReason.values()) {
+      counters.put(reason, Counter.builder("auth.failures")
+          .tag("reason", reason.name())
+          .description("Expected authentication failures")
+          .register(meterRegistry));
+      window.put(reason, new LongAdder());
+    }
+    this.intervalNanos = logInterval.toNanos();
+    this.lastFlush = new AtomicLong(System.nanoTime());
+  }
+
+  /**
+   * Record an expected authentication failure
+   */
+  public void record(AuthenticationFailureReason reason) {
+    counters.get(reason).increment();
+    window.get(reason).increment();
+    flushIfDue();
+  }
+
+  /**
+   * Total failures for a reason since startup
+   */
+  public long count(AuthenticationFailureReason reason) {
+    return (long) counters.get(reason).count();
+  }
+
+  private void flushIfDue() {
+    long now = System.nanoTime();
+    long last = lastFlush.get();
+    if (now - last < intervalNanos || !lastFlush.compareAndSet(last, now)) {
+      return;
+    }
+
+    StringBuilder summary = new StringBuilder();
+    long total = 0;
+    for (Map.Entry<AuthenticationFailureReason, LongAdder> entry : window.entrySet()) {
+      long count = entry.getValue().sumThenReset();
+      if (count > 0) {
+        if (total > 0) {
+          summary.append(", ");
+        }
+        summary.append(entry.getKey()).append('=').append(count);
+        total += count;
+      }
+    }
+    if (total > 0) {
+      log.warn("{} authentication failures in the last {}s: {}",
+          total, Duration.ofNanos(now - last).toSeconds(), summary);
+    }
+  }
+}
@@ -0,0 +1,52 @@
+package com.gridtokenx.app.infrastructure.security;
+
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.concurrent.Semaphore;
+
+/**
+ * Limits how many passwords are hashed at the same time
+ * BCrypt is CPU-bound, so hashing on more threads than CPUs only adds
+ * contention. On virtual threads it is worse: a hash never yields, and a
+ * burst of logins can hold every carrier thread while I/O-bound requests
+ * wait. Callers over the limit park on the semaphore, which frees the
+ * carrier for other virtual threads
+ */
+public class BoundedPasswordEncoder implements PasswordEncoder {
+
+  private final PasswordEncoder delegate;
+  private final Semaphore permits;
+
+  public BoundedPasswordEncoder(PasswordEncoder delegate, int maxConcurrency) {
+    if (maxConcurrency < 1) {
+      throw new IllegalArgumentException("maxConcurrency must be positive");
+    }
+    this.delegate = delegate;
+    this.permits = new Semaphore(maxConcurrency);
+  }
+
+  @Override
+  public String encode(CharSequence rawPassword) {
+    permits.acquireUninterruptibly();
+    try {
+      return delegate.encode(rawPassword);
+    } finally {
+      permits.release();
+    }
+  }
+
+  @Override
+  public boolean matches(CharSequence rawPassword, String encodedPassword) {
+    permits.acquireUninterruptibly();
+    try {
+      return delegate.matches(rawPassword, encodedPassword);
+    } finally {
+      permits.release();
+    }
+  }
+
+  @Override
+  public boolean upgradeEncoding(String encodedPassword) {
+    return delegate.upgradeEncoding(encodedPassword);
+  }
+}
@@ -2,7 +2,11 @@ package com.gridtokenx.app.infrastructure.security.jwt;
 
 import com.gridtokenx.app.application.service.UserService;
 import com.gridtokenx.app.domain.entity.User;
+import com.gridtokenx.app.domain.exception.AuthenticationException;
+import com.gridtokenx.app.domain.exception.AuthenticationFailureReason;
+import com.gridtokenx.app.infrastructure.security.AuthenticationFailureMonitor;
 import com.gridtokenx.app.infrastructure.service.JwtBlacklistService;
+import io.jsonwebtoken.Claims;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -13,6 +17,7 @@ import org.springframework.lang.NonNull;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
@@ -33,6 +38,7 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
   private final JwtTokenProvider jwtTokenProvider;
   private final UserService userService;
   private final JwtBlacklistService jwtBlacklistService;
+  private final AuthenticationFailureMonitor authenticationFailureMonitor;
 
   @Override
   protected void doFilterInternal(
@@ -54,8 +60,9 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
     jwt = authHeader.substring(7);
 
     try {
-      // Extract username from token
-      username = jwtTokenProvider.extractUsername(jwt);
+      // Verify signature and expiry once, then read the username from the claims
+      Claims claims = jwtTokenProvider.validateToken(jwt);
+      username = claims.getSubject();
 
       // Check if token is blacklisted
       if (jwtBlacklistService.isTokenBlacklisted(jwt)) {
@@ -68,8 +75,8 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         // Load user details
         User user = userService.findByUsername(username);
 
-        // Validate token
-        if (jwtTokenProvider.isTokenValidForUser(jwt, user)) {
+        // Token is already verified; it only has to belong to this user
+        if (username.equals(user.getUsername())) {
 
           // Create authentication token
           List<SimpleGrantedAuthority> authorities = user.getRoles().stream()
@@ -90,8 +97,12 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
           log.debug("Successfully authenticated user: {}", username);
         }
       }
+    } catch (AuthenticationException e) {
+      authenticationFailureMonitor.record(e.getReason());
+    } catch (UsernameNotFoundException e) {
+      authenticationFailureMonitor.record(AuthenticationFailureReason.UNKNOWN_USER);
     } catch (Exception e) {
-      log.error("Cannot set user authentication: {}", e.getMessage());
+      log.error("Cannot set user authentication", e);
     }
 
     filterChain.doFilter(request, response);
@@ -1,8 +1,12 @@
 package com.gridtokenx.app.infrastructure.security.jwt;
 
 import com.gridtokenx.app.domain.entity.User;
+import com.gridtokenx.app.domain.exception.ExpiredTokenException;
+import com.gridtokenx.app.domain.exception.InvalidTokenException;
 import com.gridtokenx.app.infrastructure.config.JwtProperties;
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwtException;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.security.Keys;
 import lombok.RequiredArgsConstructor;
@@ -88,14 +92,34 @@ public class JwtTokenProvider {
    */
   public boolean isTokenValid(String token) {
     try {
-      extractAllClaims(token);
-      return !isTokenExpired(token);
-    } catch (Exception e) {
-      log.error("Token validation failed: {}", e.getMessage());
+      validateToken(token);
+      return true;
+    } catch (InvalidTokenException e) {
+      log.debug("Token validation failed: {}", e.getReason());
       return false;
     }
   }
 
+  /**
+   * Parse and verify a token in one pass
+   * Expected failures are reported with the shared stackless exceptions so a
+   * burst of bad tokens doesn't allocate a stack trace per request
+   *
+   * @return the verified claims
+   * @throws ExpiredTokenException if the token has expired
+   * @throws InvalidTokenException if the token is malformed or the signature
+   *                               does not match
+   */
+  public Claims validateToken(String token) {
+    try {
+      return extractAllClaims(token);
+    } catch (ExpiredJwtException e) {
+      throw ExpiredTokenException.INSTANCE;
+    } catch (JwtException | IllegalArgumentException e) {
+      throw InvalidTokenException.INSTANCE;
+    }
+  }
+
   /**
    * Validate JWT token for specific user
    */
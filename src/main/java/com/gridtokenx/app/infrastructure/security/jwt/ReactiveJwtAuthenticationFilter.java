@@ -0,0 +1,49 @@
+package com.gridtokenx.app.infrastructure.security.jwt;
+
+import com.gridtokenx.app.application.service.ReactiveAuthenticationService;
+import com.gridtokenx.app.domain.entity.User;
+import com.gridtokenx.app.domain.exception.AuthenticationException;
+import com.gridtokenx.app.infrastructure.security.AuthenticationFailureMonitor;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.reactive.function.server.HandlerFilterFunction;
+import org.springframework.web.reactive.function.server.HandlerFunction;
+import org.springframework.web.reactive.function.server.ServerRequest;
+import org.springframework.web.reactive.function.server.ServerResponse;
+import reactor.core.publisher.Mono;
+
+/**
+ * JWT filter for the reactive routes
+ * Counterpart of JwtAuthenticationFilter plus the authenticated() rule of
+ * SecurityConfig: a request without a valid Bearer token is answered with 401
+ * The authenticated user is stored under the USER request attribute
+ */
+@RequiredArgsConstructor
+public class ReactiveJwtAuthenticationFilter implements HandlerFilterFunction<ServerResponse, ServerResponse> {
+
+  public static final String USER = ReactiveJwtAuthenticationFilter.class.getName() + ".USER";
+
+  private final ReactiveAuthenticationService reactiveAuthenticationService;
+  private final AuthenticationFailureMonitor authenticationFailureMonitor;
+
+  @Override
+  public Mono<ServerResponse> filter(ServerRequest request, HandlerFunction<ServerResponse> next) {
+    String authHeader = request.headers().firstHeader(HttpHeaders.AUTHORIZATION);
+    if (authHeader == null || !authHeader.startsWith("Bearer ")) {
+      return ServerResponse.status(HttpStatus.UNAUTHORIZED).build();
+    }
+
+    return reactiveAuthenticationService.authenticate(authHeader.substring(7))
+        .flatMap(user -> next.handle(withUser(request, user)))
+        .onErrorResume(AuthenticationException.class, e -> {
+          authenticationFailureMonitor.record(e.getReason());
+          return ServerResponse.status(HttpStatus.UNAUTHORIZED).build();
+        });
+  }
+
+  private static ServerRequest withUser(ServerRequest request, User user) {
+    request.attributes().put(USER, user);
+    return request;
+  }
+}
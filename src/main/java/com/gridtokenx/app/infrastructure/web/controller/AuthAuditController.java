@@ -0,0 +1,46 @@
+package com.gridtokenx.app.infrastructure.web.controller;
+
+import com.gridtokenx.app.domain.exception.InvalidUserDataException;
+import com.gridtokenx.app.infrastructure.audit.AuthAuditEvent;
+import com.gridtokenx.app.infrastructure.audit.AuthAuditLog;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Authentication audit trail lookups for administrators
+ * Restricted to ADMIN by the /api/admin/** rule in SecurityConfig
+ */
+@RestController
+@RequestMapping("/api/admin/audit/auth")
+@RequiredArgsConstructor
+public class AuthAuditController {
+
+  private final AuthAuditLog authAuditLog;
+
+  /**
+   * Newest authentication events of a user within the last hours
+   * The window is capped at the retention period and the limit at
+   * audit.auth.max-query-limit
+   */
+  @GetMapping("/{username}")
+  public ResponseEntity<List<AuthAuditEvent>> getRecentEvents(
+      @PathVariable String username,
+      @RequestParam(defaultValue = "24") int hours,
+      @RequestParam(defaultValue = "50") int limit) {
+    if (hours < 1) {
+      throw new InvalidUserDataException("hours", "must be at least 1");
+    }
+    if (limit < 1) {
+      throw new InvalidUserDataException("limit", "must be at least 1");
+    }
+    return ResponseEntity.ok(authAuditLog.recent(username, Duration.ofHours(hours), limit));
+  }
+}
@@ -5,6 +5,10 @@ import com.gridtokenx.app.application.dto.LoginResponse;
 import com.gridtokenx.app.application.dto.RegisterRequest;
 import com.gridtokenx.app.application.service.AuthenticationService;
 import com.gridtokenx.app.domain.entity.User;
+import com.gridtokenx.app.domain.exception.AuthenticationException;
+import com.gridtokenx.app.infrastructure.audit.AuthAuditEvent;
+import com.gridtokenx.app.infrastructure.audit.AuthAuditLog;
+import com.gridtokenx.app.infrastructure.security.AuthenticationFailureMonitor;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
@@ -18,6 +22,8 @@ import java.util.Map;
 /**
  * Authentication REST Controller
  * Handles login, logout, registration, and token refresh endpoints
+ * Logins, logouts and refreshes are queued to the audit log without waiting
+ * for it to be written
  */
 @RestController
 @RequestMapping("/api/auth")
@@ -26,17 +32,28 @@ import java.util.Map;
 public class AuthController {
 
   private final AuthenticationService authenticationService;
+  private final AuthenticationFailureMonitor authenticationFailureMonitor;
+  private final AuthAuditLog authAuditLog;
 
   /**
    * User login endpoint
    */
   @PostMapping("/login")
-  public ResponseEntity<LoginResponse> login(@Valid @RequestBody LoginRequest loginRequest) {
+  public ResponseEntity<LoginResponse> login(@Valid @RequestBody LoginRequest loginRequest,
+      HttpServletRequest request) {
     try {
       LoginResponse response = authenticationService.login(loginRequest);
+      audit(AuthAuditEvent.Type.LOGIN_SUCCEEDED, response, null, request);
       return ResponseEntity.ok(response);
+    } catch (AuthenticationException e) {
+      authenticationFailureMonitor.record(e.getReason());
+      authAuditLog.record(AuthAuditEvent.of(AuthAuditEvent.Type.LOGIN_FAILED, loginRequest.getUsername(), null,
+          e.getReason().name(), request.getRemoteAddr()));
+      return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
     } catch (Exception e) {
       log.error("Login failed for user: {}", loginRequest.getUsername(), e);
+      authAuditLog.record(AuthAuditEvent.of(AuthAuditEvent.Type.LOGIN_FAILED, loginRequest.getUsername(), null,
+          "ERROR", request.getRemoteAddr()));
       return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
     }
   }
@@ -72,7 +89,11 @@ public class AuthController {
       String authHeader = request.getHeader("Authorization");
       if (authHeader != null && authHeader.startsWith("Bearer ")) {
         String token = authHeader.substring(7);
-        authenticationService.logout(token);
+        String username = authenticationService.logout(token);
+        if (username != null) {
+          authAuditLog.record(AuthAuditEvent.of(AuthAuditEvent.Type.LOGOUT, username, null, null,
+              request.getRemoteAddr()));
+        }
         return ResponseEntity.ok(Map.of("message", "Logged out successfully"));
       }
       return ResponseEntity.badRequest()
@@ -88,7 +109,8 @@ public class AuthController {
    * Token refresh endpoint
    */
   @PostMapping("/refresh")
-  public ResponseEntity<LoginResponse> refreshToken(@RequestBody Map<String, String> request) {
+  public ResponseEntity<LoginResponse> refreshToken(@RequestBody Map<String, String> request,
+      HttpServletRequest httpRequest) {
     try {
       String refreshToken = request.get("refreshToken");
       if (refreshToken == null || refreshToken.isEmpty()) {
@@ -96,7 +118,13 @@ public class AuthController {
       }
 
       LoginResponse response = authenticationService.refreshToken(refreshToken);
+      audit(AuthAuditEvent.Type.TOKEN_REFRESHED, response, null, httpRequest);
       return ResponseEntity.ok(response);
+    } catch (AuthenticationException e) {
+      authenticationFailureMonitor.record(e.getReason());
+      authAuditLog.record(AuthAuditEvent.of(AuthAuditEvent.Type.TOKEN_REFRESH_FAILED, null, null,
+          e.getReason().name(), httpRequest.getRemoteAddr()));
+      return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
     } catch (Exception e) {
       log.error("Token refresh failed", e);
       return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
@@ -112,4 +140,9 @@ public class AuthController {
         "status", "UP",
         "service", "Authentication Service"));
   }
+
+  private void audit(AuthAuditEvent.Type type, LoginResponse response, String reason, HttpServletRequest request) {
+    authAuditLog.record(AuthAuditEvent.of(type, response.getUser().getUsername(), response.getUser().getId(),
+        reason, request.getRemoteAddr()));
+  }
 }
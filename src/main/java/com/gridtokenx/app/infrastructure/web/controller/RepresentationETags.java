@@ -0,0 +1,69 @@
+package com.gridtokenx.app.infrastructure.web.controller;
+
+import com.gridtokenx.app.infrastructure.web.converter.UserProtobufHttpMessageConverter;
+import org.springframework.http.InvalidMediaTypeException;
+import org.springframework.http.MediaType;
+import org.springframework.util.MimeTypeUtils;
+
+import java.util.List;
+
+/**
+ * ETag suffixes per user representation
+ * Shared by the blocking and reactive read paths, so both hand out the same
+ * ETag for the same representation of a user
+ */
+public final class RepresentationETags {
+
+  private static final String CBOR_SUFFIX = "-cbor";
+  private static final String PROTOBUF_SUFFIX = "-pb";
+
+  private RepresentationETags() {
+  }
+
+  /**
+   * ETag suffix of the representation the Accept header selects, the way
+   * StaticJsonResponse marks its gzip variant: none for JSON, which clients
+   * without a preference get, and one per binary representation, so a cache
+   * never revalidates one representation with another's ETag
+   */
+  public static String suffix(String accept) {
+    if (accept == null || accept.isBlank()) {
+      return "";
+    }
+    List<MediaType> accepted;
+    try {
+      accepted = MediaType.parseMediaTypes(accept);
+    } catch (InvalidMediaTypeException e) {
+      return "";
+    }
+    MimeTypeUtils.sortBySpecificity(accepted);
+    for (MediaType type : accepted) {
+      if (type.getQualityValue() == 0) {
+        continue;
+      }
+      if (type.includes(MediaType.APPLICATION_JSON)) {
+        return "";
+      }
+      if (type.includes(MediaType.APPLICATION_CBOR)) {
+        return CBOR_SUFFIX;
+      }
+      if (type.includes(UserProtobufHttpMessageConverter.PROTOBUF)) {
+        return PROTOBUF_SUFFIX;
+      }
+    }
+    return "";
+  }
+
+  /**
+   * An unquoted ETag without its representation suffix
+   */
+  static String strip(String tag) {
+    if (tag.endsWith(CBOR_SUFFIX)) {
+      return tag.substring(0, tag.length() - CBOR_SUFFIX.length());
+    }
+    if (tag.endsWith(PROTOBUF_SUFFIX)) {
+      return tag.substring(0, tag.length() - PROTOBUF_SUFFIX.length());
+    }
+    return tag;
+  }
+}
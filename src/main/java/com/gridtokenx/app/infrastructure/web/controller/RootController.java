@@ -1,42 +1,66 @@
 package com.gridtokenx.app.infrastructure.web.controller;
 
-import org.springframework.beans.factory.annotation.Autowired;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RestController;
 
 import javax.sql.DataSource;
 import java.sql.Connection;
 import java.sql.SQLException;
-import java.time.Instant;
+import java.time.Duration;
 import java.util.LinkedHashMap;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * Root Controller - Handles requests to the root path
  * Provides basic service information and status
  * This endpoint is accessible without authentication for service discovery
+ * The bodies are serialized once at startup, and the database check behind
+ * /status runs at most once per interval, since uptime checkers poll these
  */
 @RestController
 public class RootController {
 
-  @Autowired
-  private DataSource dataSource;
+  private final DataSource dataSource;
+  private final long databaseCheckIntervalNanos;
+  private final AtomicLong lastDatabaseCheck = new AtomicLong(System.nanoTime());
+  private volatile Boolean databaseUp;
+
+  private final TimestampedJsonResponse rootResponse;
+  private final TimestampedJsonResponse statusUpResponse;
+  private final TimestampedJsonResponse statusDownResponse;
+  private final StaticJsonResponse apiInfoResponse;
+
+  public RootController(
+      DataSource dataSource,
+      ObjectMapper objectMapper,
+      @Value("${status.database-check-interval:5s}") Duration databaseCheckInterval)
+      throws JsonProcessingException {
+    this.dataSource = dataSource;
+    this.databaseCheckIntervalNanos = databaseCheckInterval.toNanos();
+    // the timestamps carry the server time, so these must not be cached
+    this.rootResponse = new TimestampedJsonResponse(objectMapper, rootBody(), CacheControl.noStore());
+    this.statusUpResponse = new TimestampedJsonResponse(objectMapper, statusBody(true), CacheControl.noStore());
+    this.statusDownResponse = new TimestampedJsonResponse(objectMapper, statusBody(false), CacheControl.noStore());
+    // only changes with a deployment; revalidated through the ETag after that
+    this.apiInfoResponse = new StaticJsonResponse(objectMapper, apiInfoBody(),
+        CacheControl.maxAge(Duration.ofHours(1)).cachePublic());
+  }
 
   /**
    * Root endpoint - provides basic service information
    * GET /
    */
   @GetMapping("/")
-  public ResponseEntity<Map<String, Object>> root() {
-    Map<String, Object> response = new LinkedHashMap<>();
-
-    response.put("service", "UIAR Backend API");
-    response.put("description", "University Institutional Academic Repository Backend");
-    response.put("status", "UP");
-    response.put("timestamp", Instant.now().toString());
-    response.put("version", "1.0.0");
-    return ResponseEntity.ok(response);
+  public ResponseEntity<byte[]> root() {
+    return rootResponse.response();
   }
 
   /**
@@ -44,29 +68,46 @@ public class RootController {
    * GET /status
    */
   @GetMapping("/status")
-  public ResponseEntity<Map<String, Object>> status() {
+  public ResponseEntity<byte[]> status() {
+    return isDatabaseUp() ? statusUpResponse.response() : statusDownResponse.response();
+  }
+
+  /**
+   * API info endpoint - provides API documentation links
+   * GET /api
+   */
+  @GetMapping("/api")
+  public ResponseEntity<byte[]> apiInfo(
+      @RequestHeader(name = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
+    return apiInfoResponse.response(acceptEncoding);
+  }
+
+  private static Map<String, Object> rootBody() {
     Map<String, Object> response = new LinkedHashMap<>();
 
-    boolean dbHealthy = checkDatabaseHealth();
+    response.put("service", "UIAR Backend API");
+    response.put("description", "University Institutional Academic Repository Backend");
+    response.put("status", "UP");
+    response.put("timestamp", TimestampedJsonResponse.TIMESTAMP);
+    response.put("version", "1.0.0");
+    return response;
+  }
+
+  private static Map<String, Object> statusBody(boolean dbHealthy) {
+    Map<String, Object> response = new LinkedHashMap<>();
 
     response.put("status", dbHealthy ? "UP" : "DOWN");
-    response.put("timestamp", Instant.now().toString());
+    response.put("timestamp", TimestampedJsonResponse.TIMESTAMP);
     response.put("service", "UIAR Backend");
 
     Map<String, String> components = new LinkedHashMap<>();
     components.put("database", dbHealthy ? "UP" : "DOWN");
     components.put("application", "UP");
     response.put("components", components);
-
-    return ResponseEntity.ok(response);
+    return response;
   }
 
-  /**
-   * API info endpoint - provides API documentation links
-   * GET /api
-   */
-  @GetMapping("/api")
-  public ResponseEntity<Map<String, Object>> apiInfo() {
+  private static Map<String, Object> apiInfoBody() {
     Map<String, Object> response = new LinkedHashMap<>();
 
     response.put("name", "UIAR Backend API");
@@ -113,7 +154,22 @@ public class RootController {
     links.put("metrics", "/actuator/metrics");
     response.put("management", links);
 
-    return ResponseEntity.ok(response);
+    return response;
+  }
+
+  /**
+   * Last known database state, refreshed by one request once the interval
+   * has passed; the others answer with the previous state meanwhile
+   */
+  private boolean isDatabaseUp() {
+    Boolean up = databaseUp;
+    long now = System.nanoTime();
+    long last = lastDatabaseCheck.get();
+    if (up == null || (now - last >= databaseCheckIntervalNanos && lastDatabaseCheck.compareAndSet(last, now))) {
+      up = checkDatabaseHealth();
+      databaseUp = up;
+    }
+    return up;
   }
 
   /**
@@ -0,0 +1,67 @@
+package com.gridtokenx.app.infrastructure.web.controller;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.util.DigestUtils;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.List;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * A JSON response serialized and gzipped once at startup
+ * Both encodings are complete ResponseEntity instances with a strong ETag,
+ * so a request only picks one of them; If-None-Match gets its 304 from Spring
+ */
+final class StaticJsonResponse {
+
+  private final ResponseEntity<byte[]> identity;
+  private final ResponseEntity<byte[]> gzip;
+
+  StaticJsonResponse(ObjectMapper objectMapper, Object body, CacheControl cacheControl)
+      throws JsonProcessingException {
+    byte[] json = objectMapper.writeValueAsBytes(body);
+    String hash = DigestUtils.md5DigestAsHex(json);
+    this.identity = entity(json, "\"" + hash + "\"", cacheControl, null);
+    this.gzip = entity(gzip(json), "\"" + hash + "-gzip\"", cacheControl, "gzip");
+  }
+
+  /**
+   * The gzipped response if the client accepts it, otherwise the plain one
+   */
+  ResponseEntity<byte[]> response(String acceptEncoding) {
+    return acceptEncoding != null && acceptEncoding.contains("gzip") ? gzip : identity;
+  }
+
+  private static ResponseEntity<byte[]> entity(byte[] body, String eTag, CacheControl cacheControl,
+      String contentEncoding) {
+    HttpHeaders headers = new HttpHeaders();
+    headers.setContentType(MediaType.APPLICATION_JSON);
+    headers.setContentLength(body.length);
+    headers.setETag(eTag);
+    headers.setCacheControl(cacheControl);
+    headers.setVary(List.of(HttpHeaders.ACCEPT_ENCODING));
+    if (contentEncoding != null) {
+      // Tomcat leaves responses that already carry a Content-Encoding alone
+      headers.set(HttpHeaders.CONTENT_ENCODING, contentEncoding);
+    }
+    return new ResponseEntity<>(body, HttpHeaders.readOnlyHttpHeaders(headers), HttpStatus.OK);
+  }
+
+  private static byte[] gzip(byte[] json) {
+    ByteArrayOutputStream bytes = new ByteArrayOutputStream(json.length);
+    try (GZIPOutputStream out = new GZIPOutputStream(bytes)) {
+      out.write(json);
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+    return bytes.toByteArray();
+  }
+}
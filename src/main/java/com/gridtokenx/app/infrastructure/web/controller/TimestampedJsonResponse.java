@@ -0,0 +1,74 @@
+package com.gridtokenx.app.infrastructure.web.controller;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Arrays;
+
+/**
+ * A JSON response serialized once at startup around a {@link #TIMESTAMP}
+ * placeholder
+ * The current time is spliced between the bytes before and after it at most
+ * once per second; every other request in that second reuses the response
+ */
+final class TimestampedJsonResponse {
+
+  /**
+   * Placeholder value for the timestamp in the serialized body
+   */
+  static final String TIMESTAMP = "${timestamp}";
+
+  private final byte[] prefix;
+  private final byte[] suffix;
+  private final CacheControl cacheControl;
+  private volatile Snapshot snapshot = new Snapshot(Long.MIN_VALUE, null);
+
+  TimestampedJsonResponse(ObjectMapper objectMapper, Object body, CacheControl cacheControl)
+      throws JsonProcessingException {
+    String json = objectMapper.writeValueAsString(body);
+    int at = json.indexOf(TIMESTAMP);
+    if (at < 0) {
+      throw new IllegalArgumentException("Body has no " + TIMESTAMP + " placeholder");
+    }
+    this.prefix = json.substring(0, at).getBytes(StandardCharsets.UTF_8);
+    this.suffix = json.substring(at + TIMESTAMP.length()).getBytes(StandardCharsets.UTF_8);
+    this.cacheControl = cacheControl;
+  }
+
+  /**
+   * The response with the current time, to the second
+   */
+  ResponseEntity<byte[]> response() {
+    long second = Math.floorDiv(System.currentTimeMillis(), 1000);
+    Snapshot current = snapshot;
+    if (current.second() != second) {
+      // racing requests may both build it; either result is correct
+      current = new Snapshot(second, entity(second));
+      snapshot = current;
+    }
+    return current.response();
+  }
+
+  private ResponseEntity<byte[]> entity(long second) {
+    byte[] timestamp = Instant.ofEpochSecond(second).toString().getBytes(StandardCharsets.US_ASCII);
+    byte[] body = Arrays.copyOf(prefix, prefix.length + timestamp.length + suffix.length);
+    System.arraycopy(timestamp, 0, body, prefix.length, timestamp.length);
+    System.arraycopy(suffix, 0, body, prefix.length + timestamp.length, suffix.length);
+
+    HttpHeaders headers = new HttpHeaders();
+    headers.setContentType(MediaType.APPLICATION_JSON);
+    headers.setContentLength(body.length);
+    headers.setCacheControl(cacheControl);
+    return new ResponseEntity<>(body, HttpHeaders.readOnlyHttpHeaders(headers), HttpStatus.OK);
+  }
+
+  private record Snapshot(long second, ResponseEntity<byte[]> response) {
+  }
+}
@@ -1,23 +1,48 @@
 package com.gridtokenx.app.infrastructure.web.controller;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SequenceWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
 import com.gridtokenx.app.application.dto.CreateUserDto;
 import com.gridtokenx.app.application.dto.UpdateUserDto;
+import com.gridtokenx.app.application.dto.UserBatchResult;
 import com.gridtokenx.app.application.dto.UserDto;
+import com.gridtokenx.app.application.dto.UserField;
+import com.gridtokenx.app.application.dto.UserKey;
+import com.gridtokenx.app.application.dto.UserListValidator;
+import com.gridtokenx.app.application.dto.UserSearchPage;
+import com.gridtokenx.app.application.dto.UserSuggestion;
+import com.gridtokenx.app.application.dto.UserView;
 import com.gridtokenx.app.application.port.UserInputPort;
+import com.gridtokenx.app.application.port.UserQueryInputPort;
+import com.gridtokenx.app.domain.exception.InvalidUserDataException;
+import com.gridtokenx.app.infrastructure.web.dto.BatchUserRequest;
 import com.gridtokenx.app.infrastructure.web.dto.CreateUserRequest;
 import com.gridtokenx.app.infrastructure.web.dto.UpdateUserRequest;
 import com.gridtokenx.app.infrastructure.web.dto.UserResponse;
+import com.gridtokenx.app.infrastructure.web.fields.UserFieldsFilter;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import jakarta.validation.Valid;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.EnumSet;
 import java.util.List;
+import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
-import java.util.stream.Collectors;
 
 /**
  * REST Controller for User operations
@@ -26,6 +51,8 @@ import java.util.stream.Collectors;
  * It translates HTTP requests to application layer calls and responses back to
  * HTTP
  * Following the Controller-Service-Repository pattern within Clean Architecture
+ * Reads are served as UserView projections; writes go through the domain model
+ * Reads take ?fields=id,username,... to select and write only those fields
  */
 @Slf4j
 @RestController
@@ -35,6 +62,14 @@ import java.util.stream.Collectors;
 public class UserController {
 
   private final UserInputPort userInputPort;
+  private final UserQueryInputPort userQueryInputPort;
+  private final ObjectMapper objectMapper;
+
+  @Value("${users.batch.max-keys:100}")
+  private int maxBatchKeys;
+
+  @Value("${users.search.max-limit:100}")
+  private int maxSearchLimit;
 
   /**
    * Create a new user
@@ -59,65 +94,200 @@ public class UserController {
 
   /**
    * Get user by ID
+   * The ETag is the version, also when ?fields= leaves it out of the body; a
+   * matching If-None-Match is answered with 304 from the version alone,
+   * before the user is read. Binary representations get their own ETags
    */
   @GetMapping("/{id}")
-  public ResponseEntity<UserResponse> getUserById(@PathVariable UUID id) {
+  public ResponseEntity<UserView> getUserById(
+      @PathVariable UUID id,
+      @RequestParam(required = false) String fields,
+      WebRequest request) {
     log.info("Fetching user with ID: {}", id);
 
-    UserDto userDto = userInputPort.getUserById(id);
-    UserResponse response = mapToResponse(userDto);
-
-    return ResponseEntity.ok(response);
+    Set<UserField> only = UserField.parse(fields);
+    String representation = RepresentationETags.suffix(request.getHeader(HttpHeaders.ACCEPT));
+    if (request.getHeader(HttpHeaders.IF_NONE_MATCH) != null) {
+      Optional<String> eTag = userQueryInputPort.getUserVersion(id).map(version -> version + representation);
+      if (eTag.isPresent() && request.checkNotModified(eTag.get())) {
+        return notModified(eTag.get());
+      }
+    }
+    UserView user = only == null
+        ? userQueryInputPort.getUserById(id)
+        : userQueryInputPort.getUser(new UserKey(UserKey.Type.ID, id.toString()), withVersion(only));
+    return ResponseEntity.ok().eTag(user.version() + representation).varyBy(HttpHeaders.ACCEPT).body(user);
   }
 
   /**
    * Get user by username
    */
   @GetMapping("/username/{username}")
-  public ResponseEntity<UserResponse> getUserByUsername(@PathVariable String username) {
+  public ResponseEntity<UserView> getUserByUsername(
+      @PathVariable String username,
+      @RequestParam(required = false) String fields) {
     log.info("Fetching user with username: {}", username);
 
-    UserDto userDto = userInputPort.getUserByUsername(username);
-    UserResponse response = mapToResponse(userDto);
-
-    return ResponseEntity.ok(response);
+    Set<UserField> only = UserField.parse(fields);
+    return ResponseEntity.ok(only == null
+        ? userQueryInputPort.getUserByUsername(username)
+        : userQueryInputPort.getUser(new UserKey(UserKey.Type.USERNAME, username), only));
   }
 
   /**
    * Get user by email
    */
   @GetMapping("/email/{email}")
-  public ResponseEntity<UserResponse> getUserByEmail(@PathVariable String email) {
+  public ResponseEntity<UserView> getUserByEmail(
+      @PathVariable String email,
+      @RequestParam(required = false) String fields) {
     log.info("Fetching user with email: {}", email);
 
-    UserDto userDto = userInputPort.getUserByEmail(email);
-    UserResponse response = mapToResponse(userDto);
+    Set<UserField> only = UserField.parse(fields);
+    return ResponseEntity.ok(only == null
+        ? userQueryInputPort.getUserByEmail(email)
+        : userQueryInputPort.getUser(new UserKey(UserKey.Type.EMAIL, email), only));
+  }
 
-    return ResponseEntity.ok(response);
+  /**
+   * Get all users as JSON
+   * Each user is serialized into the response as its row is read, so memory per
+   * request stays flat however many users there are; a slow client slows the
+   * read down instead of building up a buffer
+   * Clients without a preference get this mapping, not the binary one below,
+   * because WebMvcConfig resolves them to application/json first
+   * Lists carry an ETag from the user count and latest update; a matching
+   * If-None-Match gets 304 without reading any user
+   */
+  @GetMapping(produces = MediaType.APPLICATION_JSON_VALUE)
+  public ResponseEntity<StreamingResponseBody> streamAllUsers(
+      @RequestParam(defaultValue = "false") boolean activeOnly,
+      @RequestParam(required = false) String fields,
+      WebRequest request) {
+    log.info("Streaming all users, activeOnly: {}", activeOnly);
+
+    Set<UserField> only = UserField.parse(fields);
+    String eTag = listETag(activeOnly, "");
+    if (request.checkNotModified(eTag)) {
+      return notModified(eTag);
+    }
+    ObjectWriter writer = objectMapper.writerFor(UserView.class)
+        .with(only == null ? UserFieldsFilter.ALL_FIELDS : UserFieldsFilter.only(only))
+        .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE)
+        .without(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+
+    StreamingResponseBody body = out -> {
+      try (SequenceWriter users = writer.writeValuesAsArray(out)) {
+        userQueryInputPort.forEachUser(activeOnly, only == null ? UserField.ALL : only, user -> {
+          try {
+            users.write(user);
+          } catch (IOException e) {
+            throw new UncheckedIOException(e);
+          }
+        });
+      } catch (UncheckedIOException e) {
+        throw e.getCause();
+      }
+    };
+    return ResponseEntity.ok().contentType(MediaType.APPLICATION_JSON).eTag(eTag).varyBy(HttpHeaders.ACCEPT)
+        .body(body);
   }
 
   /**
-   * Get all users
+   * Get all users in a binary representation
+   * The CBOR and protobuf converters need the whole list
    */
-  @GetMapping
-  public ResponseEntity<List<UserResponse>> getAllUsers(@RequestParam(defaultValue = "false") boolean activeOnly) {
+  @GetMapping(produces = { MediaType.APPLICATION_CBOR_VALUE, "application/x-protobuf" })
+  public ResponseEntity<List<UserView>> getAllUsers(
+      @RequestParam(defaultValue = "false") boolean activeOnly,
+      @RequestParam(required = false) String fields,
+      WebRequest request) {
     log.info("Fetching all users, activeOnly: {}", activeOnly);
 
-    List<UserDto> userDtos = activeOnly ? userInputPort.getAllActiveUsers() : userInputPort.getAllUsers();
+    Set<UserField> only = UserField.parse(fields);
+    String eTag = listETag(activeOnly, RepresentationETags.suffix(request.getHeader(HttpHeaders.ACCEPT)));
+    if (request.checkNotModified(eTag)) {
+      return notModified(eTag);
+    }
+    return ResponseEntity.ok().eTag(eTag).varyBy(HttpHeaders.ACCEPT)
+        .body(userQueryInputPort.getAllUsers(activeOnly, only == null ? UserField.ALL : only));
+  }
 
-    List<UserResponse> responses = userDtos.stream()
-        .map(this::mapToResponse)
-        .collect(Collectors.toList());
+  /**
+   * Search users by partial or misspelled username, email or full name
+   * Results are ordered by relevance; pass nextCursor back as cursor for the
+   * next page
+   */
+  @GetMapping("/search")
+  public ResponseEntity<UserSearchPage> searchUsers(
+      @RequestParam String q,
+      @RequestParam(defaultValue = "20") int limit,
+      @RequestParam(required = false) String cursor) {
+    log.info("Searching users, limit: {}", limit);
+
+    if (q.isBlank() || q.length() > 100) {
+      throw new InvalidUserDataException("q", "must be between 1 and 100 characters");
+    }
+    if (limit < 1 || limit > maxSearchLimit) {
+      throw new InvalidUserDataException("limit", "must be between 1 and " + maxSearchLimit);
+    }
+
+    return ResponseEntity.ok(userQueryInputPort.searchUsers(q, cursor, limit));
+  }
 
-    return ResponseEntity.ok(responses);
+  /**
+   * Complete a typed prefix to active users for the user picker
+   */
+  @GetMapping("/autocomplete")
+  public ResponseEntity<List<UserSuggestion>> autocompleteUsers(
+      @RequestParam String prefix,
+      @RequestParam(defaultValue = "10") int limit) {
+    if (prefix.isBlank() || prefix.length() > 100) {
+      throw new InvalidUserDataException("prefix", "must be between 1 and 100 characters");
+    }
+    if (limit < 1 || limit > maxSearchLimit) {
+      throw new InvalidUserDataException("limit", "must be between 1 and " + maxSearchLimit);
+    }
+
+    return ResponseEntity.ok(userQueryInputPort.completeUsers(prefix, limit));
+  }
+
+  /**
+   * Get users by a mixed list of ids, usernames and emails
+   * Results keep the request order; unresolved keys are returned as null and
+   * listed under "missing"
+   */
+  @PostMapping("/batch")
+  public ResponseEntity<UserBatchResult> getUsersBatch(
+      @Valid @RequestBody BatchUserRequest request,
+      @RequestParam(required = false) String fields) {
+    log.info("Fetching batch of {} users", request.getKeys().size());
+
+    if (request.getKeys().size() > maxBatchKeys) {
+      throw new InvalidUserDataException("keys", "at most " + maxBatchKeys + " keys are allowed per request");
+    }
+
+    List<UserKey> keys = request.getKeys().stream()
+        .map(key -> new UserKey(key.getType(), key.getValue()))
+        .toList();
+
+    Set<UserField> only = UserField.parse(fields);
+    return ResponseEntity.ok(only == null
+        ? userQueryInputPort.getUsers(keys)
+        : userQueryInputPort.getUsers(keys, only));
   }
 
   /**
    * Update user
+   * With an If-Match header carrying the ETag from a previous read, the update
+   * only applies if nobody changed the user in between; otherwise 409 with the
+   * current state is returned
    */
   @PutMapping("/{id}")
   public ResponseEntity<UserResponse> updateUser(
       @PathVariable UUID id,
+      @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
+      @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept,
       @Valid @RequestBody UpdateUserRequest request) {
 
     log.info("Updating user with ID: {}", id);
@@ -126,41 +296,46 @@ public class UserController {
         .email(request.getEmail())
         .firstName(request.getFirstName())
         .lastName(request.getLastName())
+        .expectedVersion(parseIfMatch(ifMatch))
         .build();
 
     UserDto userDto = userInputPort.updateUser(id, updateUserDto);
     UserResponse response = mapToResponse(userDto);
 
     log.info("User updated successfully with ID: {}", id);
-    return ResponseEntity.ok(response);
+    return withETag(response, accept);
   }
 
   /**
    * Activate user
    */
   @PatchMapping("/{id}/activate")
-  public ResponseEntity<UserResponse> activateUser(@PathVariable UUID id) {
+  public ResponseEntity<UserResponse> activateUser(
+      @PathVariable UUID id,
+      @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept) {
     log.info("Activating user with ID: {}", id);
 
     UserDto userDto = userInputPort.activateUser(id);
     UserResponse response = mapToResponse(userDto);
 
     log.info("User activated successfully with ID: {}", id);
-    return ResponseEntity.ok(response);
+    return withETag(response, accept);
   }
 
   /**
    * Deactivate user
    */
   @PatchMapping("/{id}/deactivate")
-  public ResponseEntity<UserResponse> deactivateUser(@PathVariable UUID id) {
+  public ResponseEntity<UserResponse> deactivateUser(
+      @PathVariable UUID id,
+      @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept) {
     log.info("Deactivating user with ID: {}", id);
 
     UserDto userDto = userInputPort.deactivateUser(id);
     UserResponse response = mapToResponse(userDto);
 
     log.info("User deactivated successfully with ID: {}", id);
-    return ResponseEntity.ok(response);
+    return withETag(response, accept);
   }
 
   /**
@@ -176,6 +351,50 @@ public class UserController {
     return ResponseEntity.noContent().build();
   }
 
+  /**
+   * Parse an If-Match header into the expected version
+   * "*" and a missing header mean no version check; the ETag of any
+   * representation of the user is accepted
+   */
+  private Long parseIfMatch(String ifMatch) {
+    if (ifMatch == null || ifMatch.isBlank() || "*".equals(ifMatch.trim())) {
+      return null;
+    }
+    String tag = ifMatch.trim();
+    if (tag.length() > 1 && tag.startsWith("\"") && tag.endsWith("\"")) {
+      tag = tag.substring(1, tag.length() - 1);
+    }
+    try {
+      return Long.parseLong(RepresentationETags.strip(tag));
+    } catch (NumberFormatException e) {
+      throw new InvalidUserDataException("If-Match", "must be a single ETag returned by this API");
+    }
+  }
+
+  /**
+   * ETag for a user list, read before the list itself: a write in between
+   * leaves the client with an older ETag, so it refetches on the next poll
+   */
+  private String listETag(boolean activeOnly, String representation) {
+    UserListValidator validator = userQueryInputPort.getUserListValidator(activeOnly);
+    return (validator.count() == 0 ? "0" : validator.count() + "-" + validator.lastUpdatedAt()) + representation;
+  }
+
+  private static <T> ResponseEntity<T> notModified(String eTag) {
+    return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTag).varyBy(HttpHeaders.ACCEPT).build();
+  }
+
+  private static Set<UserField> withVersion(Set<UserField> fields) {
+    Set<UserField> withVersion = EnumSet.copyOf(fields);
+    withVersion.add(UserField.VERSION);
+    return withVersion;
+  }
+
+  private ResponseEntity<UserResponse> withETag(UserResponse response, String accept) {
+    return ResponseEntity.ok().eTag(response.getVersion() + RepresentationETags.suffix(accept)).varyBy(HttpHeaders.ACCEPT)
+        .body(response);
+  }
+
   /**
    * Map UserDto to UserResponse
    * This mapping prevents application DTOs from leaking to web layer
@@ -191,6 +410,7 @@ public class UserController {
         .active(userDto.isActive())
         .createdAt(userDto.getCreatedAt())
         .updatedAt(userDto.getUpdatedAt())
+        .version(userDto.getVersion())
         .build();
   }
 }
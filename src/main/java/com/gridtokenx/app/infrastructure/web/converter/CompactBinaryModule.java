@@ -0,0 +1,94 @@
+package com.gridtokenx.app.infrastructure.web.converter;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import com.gridtokenx.app.infrastructure.web.dto.UserResponse;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.UUID;
+
+/**
+ * Jackson module for the binary (CBOR) representation
+ * UUIDs are written as 16-byte strings (most significant half first) and
+ * LocalDateTime values as epoch milliseconds, instead of 36- and 26-character
+ * text. Only registered on the CBOR mapper; JSON keeps its ISO format
+ */
+public class CompactBinaryModule extends SimpleModule {
+
+  public CompactBinaryModule() {
+    super("CompactBinaryModule");
+    addSerializer(UUID.class, new UuidBytesSerializer());
+    addSerializer(LocalDateTime.class, new EpochMillisSerializer());
+    // UserResponse carries its id as a string
+    setMixInAnnotation(UserResponse.class, UserResponseMixIn.class);
+  }
+
+  /**
+   * Epoch milliseconds of a timestamp written with LocalDateTime.now(), i.e.
+   * in the server's zone
+   */
+  public static long epochMillis(LocalDateTime value) {
+    return value.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+  }
+
+  /**
+   * Big-endian 16-byte form of a UUID
+   */
+  public static byte[] uuidBytes(UUID value) {
+    byte[] bytes = new byte[16];
+    long msb = value.getMostSignificantBits();
+    long lsb = value.getLeastSignificantBits();
+    for (int i = 0; i < 8; i++) {
+      bytes[i] = (byte) (msb >>> (56 - 8 * i));
+      bytes[8 + i] = (byte) (lsb >>> (56 - 8 * i));
+    }
+    return bytes;
+  }
+
+  static final class UuidBytesSerializer extends StdSerializer<UUID> {
+
+    UuidBytesSerializer() {
+      super(UUID.class);
+    }
+
+    @Override
+    public void serialize(UUID value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+      gen.writeBinary(uuidBytes(value));
+    }
+  }
+
+  static final class UuidStringBytesSerializer extends StdSerializer<String> {
+
+    UuidStringBytesSerializer() {
+      super(String.class);
+    }
+
+    @Override
+    public void serialize(String value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+      gen.writeBinary(uuidBytes(UUID.fromString(value)));
+    }
+  }
+
+  static final class EpochMillisSerializer extends StdSerializer<LocalDateTime> {
+
+    EpochMillisSerializer() {
+      super(LocalDateTime.class);
+    }
+
+    @Override
+    public void serialize(LocalDateTime value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+      gen.writeNumber(epochMillis(value));
+    }
+  }
+
+  abstract static class UserResponseMixIn {
+
+    @JsonSerialize(using = UuidStringBytesSerializer.class)
+    abstract String getId();
+  }
+}
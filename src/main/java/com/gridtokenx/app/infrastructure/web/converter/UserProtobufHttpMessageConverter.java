@@ -0,0 +1,261 @@
+package com.gridtokenx.app.infrastructure.web.converter;
+
+import com.gridtokenx.app.application.dto.LoginResponse;
+import com.gridtokenx.app.application.dto.UserView;
+import com.gridtokenx.app.domain.entity.Role;
+import com.gridtokenx.app.infrastructure.web.dto.UserResponse;
+import com.google.protobuf.CodedOutputStream;
+import org.springframework.core.ResolvableType;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.AbstractGenericHttpMessageConverter;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.lang.Nullable;
+
+import java.io.IOException;
+import java.lang.reflect.Type;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Writes user and login responses as protobuf (application/x-protobuf)
+ * Hand-written against src/main/proto/users.proto instead of generated
+ * message classes, so responses are encoded straight from the existing DTOs
+ * without building an intermediate message. UUIDs are 16-byte fields and
+ * timestamps epoch milliseconds, as in the CBOR representation
+ * Write-only; other response types are left to the JSON/CBOR converters
+ */
+public class UserProtobufHttpMessageConverter extends AbstractGenericHttpMessageConverter<Object> {
+
+  public static final MediaType PROTOBUF = new MediaType("application", "x-protobuf");
+
+  // users.proto field numbers
+  private static final int USER_ID = 1;
+  private static final int USER_USERNAME = 2;
+  private static final int USER_EMAIL = 3;
+  private static final int USER_FIRST_NAME = 4;
+  private static final int USER_LAST_NAME = 5;
+  private static final int USER_FULL_NAME = 6;
+  private static final int USER_ACTIVE = 7;
+  private static final int USER_CREATED_AT = 8;
+  private static final int USER_UPDATED_AT = 9;
+  private static final int USER_VERSION = 10;
+  private static final int USER_LIST_USERS = 1;
+  private static final int LOGIN_ACCESS_TOKEN = 1;
+  private static final int LOGIN_REFRESH_TOKEN = 2;
+  private static final int LOGIN_TOKEN_TYPE = 3;
+  private static final int LOGIN_EXPIRES_IN = 4;
+  private static final int LOGIN_USER = 5;
+  private static final int LOGIN_USER_ROLES = 6;
+
+  public UserProtobufHttpMessageConverter() {
+    super(PROTOBUF);
+  }
+
+  @Override
+  protected boolean supports(Class<?> clazz) {
+    return UserView.class == clazz || UserResponse.class == clazz || LoginResponse.class == clazz;
+  }
+
+  @Override
+  public boolean canRead(Type type, @Nullable Class<?> contextClass, @Nullable MediaType mediaType) {
+    return false;
+  }
+
+  @Override
+  public boolean canRead(Class<?> clazz, @Nullable MediaType mediaType) {
+    return false;
+  }
+
+  @Override
+  public boolean canWrite(@Nullable Type type, Class<?> clazz, @Nullable MediaType mediaType) {
+    if (!canWrite(mediaType)) {
+      return false;
+    }
+    if (List.class.isAssignableFrom(clazz)) {
+      Class<?> element = type != null ? ResolvableType.forType(type).asCollection().resolveGeneric(0) : null;
+      return element == UserView.class || element == UserResponse.class;
+    }
+    return supports(clazz);
+  }
+
+  /**
+   * Element types of lists are checked by canWrite(Type, ...); the media types
+   * are offered for any list
+   */
+  @Override
+  public List<MediaType> getSupportedMediaTypes(Class<?> clazz) {
+    return List.class.isAssignableFrom(clazz) || supports(clazz) ? getSupportedMediaTypes() : List.of();
+  }
+
+  @Override
+  protected void writeInternal(Object value, @Nullable Type type, HttpOutputMessage outputMessage)
+      throws IOException {
+    CodedOutputStream out = CodedOutputStream.newInstance(outputMessage.getBody());
+    if (value instanceof List<?> users) {
+      writeUserList(users, out);
+    } else if (value instanceof LoginResponse login) {
+      writeLogin(login, out);
+    } else {
+      writeUser(value, out);
+    }
+    out.flush();
+  }
+
+  @Override
+  public Object read(Type type, @Nullable Class<?> contextClass, HttpInputMessage inputMessage) {
+    throw new HttpMessageNotReadableException("Protobuf request bodies are not supported", inputMessage);
+  }
+
+  @Override
+  protected Object readInternal(Class<?> clazz, HttpInputMessage inputMessage) {
+    throw new HttpMessageNotReadableException("Protobuf request bodies are not supported", inputMessage);
+  }
+
+  /**
+   * UserList: every element is a length-delimited User
+   */
+  static void writeUserList(List<?> users, CodedOutputStream out) throws IOException {
+    for (Object user : users) {
+      out.writeTag(USER_LIST_USERS, 2);
+      out.writeUInt32NoTag(userSize(user));
+      writeUser(user, out);
+    }
+  }
+
+  /**
+   * User, from either a UserView or a UserResponse
+   */
+  static void writeUser(Object user, CodedOutputStream out) throws IOException {
+    if (user instanceof UserView view) {
+      writeUser(out, view.id(), view.username(), view.email(), view.firstName(), view.lastName(),
+          view.fullName(), view.active(), view.createdAt(), view.updatedAt(), view.version());
+    } else {
+      UserResponse response = (UserResponse) user;
+      writeUser(out, response.getId() != null ? UUID.fromString(response.getId()) : null,
+          response.getUsername(), response.getEmail(), response.getFirstName(), response.getLastName(),
+          response.getFullName(), response.isActive(), response.getCreatedAt(), response.getUpdatedAt(),
+          response.getVersion() != null ? response.getVersion() : 0);
+    }
+  }
+
+  private static int userSize(Object user) {
+    if (user instanceof UserView view) {
+      return userSize(view.id(), view.username(), view.email(), view.firstName(), view.lastName(),
+          view.fullName(), view.active(), view.createdAt(), view.updatedAt(), view.version());
+    }
+    UserResponse response = (UserResponse) user;
+    return userSize(response.getId() != null ? UUID.fromString(response.getId()) : null,
+        response.getUsername(), response.getEmail(), response.getFirstName(), response.getLastName(),
+        response.getFullName(), response.isActive(), response.getCreatedAt(), response.getUpdatedAt(),
+        response.getVersion() != null ? response.getVersion() : 0);
+  }
+
+  private static void writeUser(CodedOutputStream out, UUID id, String username, String email,
+      String firstName, String lastName, String fullName, boolean active, LocalDateTime createdAt,
+      LocalDateTime updatedAt, long version) throws IOException {
+    writeUuid(out, USER_ID, id);
+    writeString(out, USER_USERNAME, username);
+    writeString(out, USER_EMAIL, email);
+    writeString(out, USER_FIRST_NAME, firstName);
+    writeString(out, USER_LAST_NAME, lastName);
+    writeString(out, USER_FULL_NAME, fullName);
+    if (active) {
+      out.writeBool(USER_ACTIVE, true);
+    }
+    writeTimestamp(out, USER_CREATED_AT, createdAt);
+    writeTimestamp(out, USER_UPDATED_AT, updatedAt);
+    if (version != 0) {
+      out.writeInt64(USER_VERSION, version);
+    }
+  }
+
+  private static int userSize(UUID id, String username, String email, String firstName, String lastName,
+      String fullName, boolean active, LocalDateTime createdAt, LocalDateTime updatedAt, long version) {
+    return uuidSize(USER_ID, id)
+        + stringSize(USER_USERNAME, username)
+        + stringSize(USER_EMAIL, email)
+        + stringSize(USER_FIRST_NAME, firstName)
+        + stringSize(USER_LAST_NAME, lastName)
+        + stringSize(USER_FULL_NAME, fullName)
+        + (active ? CodedOutputStream.computeBoolSize(USER_ACTIVE, true) : 0)
+        + timestampSize(USER_CREATED_AT, createdAt)
+        + timestampSize(USER_UPDATED_AT, updatedAt)
+        + (version != 0 ? CodedOutputStream.computeInt64Size(USER_VERSION, version) : 0);
+  }
+
+  /**
+   * LoginResponse with its nested LoginUser
+   */
+  static void writeLogin(LoginResponse login, CodedOutputStream out) throws IOException {
+    writeString(out, LOGIN_ACCESS_TOKEN, login.getAccessToken());
+    writeString(out, LOGIN_REFRESH_TOKEN, login.getRefreshToken());
+    writeString(out, LOGIN_TOKEN_TYPE, login.getTokenType());
+    writeTimestamp(out, LOGIN_EXPIRES_IN, login.getExpiresIn());
+
+    LoginResponse.UserResponse user = login.getUser();
+    if (user != null) {
+      out.writeTag(LOGIN_USER, 2);
+      out.writeUInt32NoTag(loginUserSize(user));
+      writeUuid(out, USER_ID, user.getId());
+      writeString(out, USER_USERNAME, user.getUsername());
+      writeString(out, USER_EMAIL, user.getEmail());
+      writeString(out, USER_FIRST_NAME, user.getFirstName());
+      writeString(out, USER_LAST_NAME, user.getLastName());
+      if (user.getRoles() != null) {
+        for (Role role : user.getRoles()) {
+          out.writeString(LOGIN_USER_ROLES, role.name());
+        }
+      }
+    }
+  }
+
+  private static int loginUserSize(LoginResponse.UserResponse user) {
+    int size = uuidSize(USER_ID, user.getId())
+        + stringSize(USER_USERNAME, user.getUsername())
+        + stringSize(USER_EMAIL, user.getEmail())
+        + stringSize(USER_FIRST_NAME, user.getFirstName())
+        + stringSize(USER_LAST_NAME, user.getLastName());
+    if (user.getRoles() != null) {
+      for (Role role : user.getRoles()) {
+        size += CodedOutputStream.computeStringSize(LOGIN_USER_ROLES, role.name());
+      }
+    }
+    return size;
+  }
+
+  // proto3 leaves unset (null, empty, zero) fields out
+
+  private static void writeString(CodedOutputStream out, int field, String value) throws IOException {
+    if (value != null && !value.isEmpty()) {
+      out.writeString(field, value);
+    }
+  }
+
+  private static int stringSize(int field, String value) {
+    return value != null && !value.isEmpty() ? CodedOutputStream.computeStringSize(field, value) : 0;
+  }
+
+  private static void writeUuid(CodedOutputStream out, int field, UUID value) throws IOException {
+    if (value != null) {
+      out.writeByteArray(field, CompactBinaryModule.uuidBytes(value));
+    }
+  }
+
+  private static int uuidSize(int field, UUID value) {
+    // tag, length byte and 16 bytes
+    return value != null ? CodedOutputStream.computeTagSize(field) + 17 : 0;
+  }
+
+  private static void writeTimestamp(CodedOutputStream out, int field, LocalDateTime value) throws IOException {
+    if (value != null) {
+      out.writeInt64(field, CompactBinaryModule.epochMillis(value));
+    }
+  }
+
+  private static int timestampSize(int field, LocalDateTime value) {
+    return value != null ? CodedOutputStream.computeInt64Size(field, CompactBinaryModule.epochMillis(value)) : 0;
+  }
+}
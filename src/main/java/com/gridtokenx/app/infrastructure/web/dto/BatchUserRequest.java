@@ -0,0 +1,42 @@
+package com.gridtokenx.app.infrastructure.web.dto;
+
+import com.gridtokenx.app.application.dto.UserKey;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import java.util.List;
+
+/**
+ * Web layer request DTO for batch user lookups
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BatchUserRequest {
+
+  @NotEmpty(message = "At least one key is required")
+  private List<@Valid Key> keys;
+
+  /**
+   * A single lookup key
+   */
+  @Data
+  @Builder
+  @NoArgsConstructor
+  @AllArgsConstructor
+  public static class Key {
+
+    @NotNull(message = "Key type is required")
+    private UserKey.Type type;
+
+    @NotBlank(message = "Key value is required")
+    private String value;
+  }
+}
@@ -1,11 +1,11 @@
 package com.gridtokenx.app.infrastructure.web.dto;
 
+import com.gridtokenx.app.application.validation.ValidEmail;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
-import jakarta.validation.constraints.Email;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.Size;
 
@@ -19,7 +19,7 @@ import jakarta.validation.constraints.Size;
 public class UpdateUserRequest {
 
   @NotBlank(message = "Email is required")
-  @Email(message = "Email must be valid")
+  @ValidEmail
   private String email;
 
   @NotBlank(message = "First name is required")
@@ -27,4 +27,5 @@ public class UserResponse {
   private boolean active;
   private LocalDateTime createdAt;
   private LocalDateTime updatedAt;
+  private Long version;
 }
@@ -1,5 +1,6 @@
 package com.gridtokenx.app.infrastructure.web.exception;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -20,6 +21,10 @@ public class ErrorResponse {
   private LocalDateTime timestamp;
   private int status;
   private String error;
+  @JsonInclude(JsonInclude.Include.NON_NULL)
+  private String code;
   private String message;
   private List<String> details;
+  @JsonInclude(JsonInclude.Include.NON_NULL)
+  private Object current;
 }
@@ -1,12 +1,17 @@
 package com.gridtokenx.app.infrastructure.web.exception;
 
+import com.gridtokenx.app.application.dto.UserView;
+import com.gridtokenx.app.application.port.UserQueryInputPort;
+import com.gridtokenx.app.domain.exception.DomainErrorCode;
 import com.gridtokenx.app.domain.exception.DomainException;
-import com.gridtokenx.app.domain.exception.InvalidUserDataException;
 import com.gridtokenx.app.domain.exception.UserNotFoundException;
+import com.gridtokenx.app.domain.exception.UserVersionConflictException;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.FieldError;
+import org.springframework.web.HttpMediaTypeNotAcceptableException;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
@@ -14,7 +19,10 @@ import org.springframework.web.context.request.WebRequest;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.EnumMap;
 import java.util.List;
+import java.util.Map;
+import java.util.UUID;
 
 /**
  * Global exception handler for the web layer
@@ -24,86 +32,94 @@ import java.util.List;
  */
 @Slf4j
 @RestControllerAdvice
+@RequiredArgsConstructor
 public class GlobalExceptionHandler {
 
+  private static final Map<DomainErrorCode, DomainErrorTemplate> DOMAIN_ERRORS = new EnumMap<>(
+      DomainErrorCode.class);
+
+  static {
+    DOMAIN_ERRORS.put(DomainErrorCode.USER_NOT_FOUND, new DomainErrorTemplate(HttpStatus.NOT_FOUND, "Not Found",
+        List.of("The requested user resource was not found", "Please check the user ID and try again")));
+    DOMAIN_ERRORS.put(DomainErrorCode.USERNAME_ALREADY_EXISTS, new DomainErrorTemplate(HttpStatus.BAD_REQUEST,
+        "Bad Request",
+        List.of("The username provided is already taken by another user", "Please choose a different username",
+            "Username must be unique across the system")));
+    DOMAIN_ERRORS.put(DomainErrorCode.EMAIL_ALREADY_EXISTS, new DomainErrorTemplate(HttpStatus.BAD_REQUEST,
+        "Bad Request",
+        List.of("The email address provided is already registered", "Please use a different email address",
+            "Email must be unique across the system")));
+    DOMAIN_ERRORS.put(DomainErrorCode.VALIDATION_FAILED, new DomainErrorTemplate(HttpStatus.BAD_REQUEST,
+        "Bad Request",
+        List.of("One or more user data fields failed validation", "Please check the required format for each field")));
+    DOMAIN_ERRORS.put(DomainErrorCode.INVALID_USER_DATA, new DomainErrorTemplate(HttpStatus.BAD_REQUEST,
+        "Bad Request",
+        List.of("The provided user data does not meet the system requirements", "Please verify all fields and try again")));
+    DOMAIN_ERRORS.put(DomainErrorCode.BUSINESS_RULE_VIOLATION, new DomainErrorTemplate(HttpStatus.BAD_REQUEST,
+        "Bad Request",
+        List.of("A business rule violation occurred", "Please check your request and try again")));
+    DOMAIN_ERRORS.put(DomainErrorCode.VERSION_CONFLICT, new DomainErrorTemplate(HttpStatus.CONFLICT, "Conflict",
+        List.of("The user was changed by another request", "Retry with the current version in If-Match")));
+  }
+
+  private final UserQueryInputPort userQueryInputPort;
+
   /**
-   * Handle user not found exceptions
+   * Handle all domain exceptions
+   * The response is chosen by the exception's error code; status, title and
+   * details are prebuilt per code
    */
-  @ExceptionHandler(UserNotFoundException.class)
-  public ResponseEntity<ErrorResponse> handleUserNotFoundException(
-      UserNotFoundException ex, WebRequest request) {
+  @ExceptionHandler(DomainException.class)
+  public ResponseEntity<ErrorResponse> handleDomainException(
+      DomainException ex, WebRequest request) {
 
-    log.warn("User not found: {}", ex.getMessage());
+    log.warn("Domain exception [{}]: {}", ex.getErrorCode(), ex.getMessage());
 
-    ErrorResponse errorResponse = ErrorResponse.builder()
-        .timestamp(LocalDateTime.now())
-        .status(HttpStatus.NOT_FOUND.value())
-        .error("Not Found")
-        .message(ex.getMessage())
-        .details(List.of("The requested user resource was not found", "Please check the user ID and try again"))
-        .build();
-
-    return new ResponseEntity<>(errorResponse, HttpStatus.NOT_FOUND);
+    return domainError(ex);
   }
 
   /**
-   * Handle invalid user data exceptions
+   * Build the response for a domain exception
+   * Shared with the reactive handlers so both stacks answer a domain error
+   * with the same status and body
    */
-  @ExceptionHandler(InvalidUserDataException.class)
-  public ResponseEntity<ErrorResponse> handleInvalidUserDataException(
-      InvalidUserDataException ex, WebRequest request) {
-
-    log.warn("Invalid user data: {}", ex.getMessage());
-
-    // Extract more details based on the exception message
-    List<String> details = new ArrayList<>();
-    String message = ex.getMessage();
-
-    if (message.contains("username") && message.contains("already exists")) {
-      details.add("The username provided is already taken by another user");
-      details.add("Please choose a different username");
-      details.add("Username must be unique across the system");
-    } else if (message.contains("email") && message.contains("already exists")) {
-      details.add("The email address provided is already registered");
-      details.add("Please use a different email address");
-      details.add("Email must be unique across the system");
-    } else if (message.contains("validation failed")) {
-      details.add("One or more user data fields failed validation");
-      details.add("Please check the required format for each field");
-    } else {
-      details.add("The provided user data does not meet the system requirements");
-      details.add("Please verify all fields and try again");
-    }
+  public static ResponseEntity<ErrorResponse> domainError(DomainException ex) {
+    DomainErrorCode code = ex.getErrorCode();
+    DomainErrorTemplate template = DOMAIN_ERRORS.get(code);
 
     ErrorResponse errorResponse = ErrorResponse.builder()
         .timestamp(LocalDateTime.now())
-        .status(HttpStatus.BAD_REQUEST.value())
-        .error("Bad Request")
+        .status(template.status().value())
+        .error(template.error())
+        .code(code.name())
         .message(ex.getMessage())
-        .details(details)
+        .details(template.details())
         .build();
 
-    return new ResponseEntity<>(errorResponse, HttpStatus.BAD_REQUEST);
+    return new ResponseEntity<>(errorResponse, template.status());
   }
 
   /**
-   * Handle all domain exceptions
+   * Handle version conflicts
+   * The response carries the user's current state and ETag so the client can
+   * reapply its change and retry without another round trip
    */
-  @ExceptionHandler(DomainException.class)
-  public ResponseEntity<ErrorResponse> handleDomainException(
-      DomainException ex, WebRequest request) {
-
-    log.warn("Domain exception: {}", ex.getMessage());
-
-    ErrorResponse errorResponse = ErrorResponse.builder()
-        .timestamp(LocalDateTime.now())
-        .status(HttpStatus.BAD_REQUEST.value())
-        .error("Bad Request")
-        .message(ex.getMessage())
-        .details(List.of("A business rule violation occurred", "Please check your request and try again"))
-        .build();
+  @ExceptionHandler(UserVersionConflictException.class)
+  public ResponseEntity<ErrorResponse> handleVersionConflict(
+      UserVersionConflictException ex, WebRequest request) {
+
+    ResponseEntity<ErrorResponse> response = handleDomainException(ex, request);
+    UserView current;
+    try {
+      current = userQueryInputPort.getUserById(UUID.fromString(ex.getUserId()));
+    } catch (UserNotFoundException | IllegalArgumentException e) {
+      return response;
+    }
 
-    return new ResponseEntity<>(errorResponse, HttpStatus.BAD_REQUEST);
+    response.getBody().setCurrent(current);
+    return ResponseEntity.status(response.getStatusCode())
+        .eTag(Long.toString(current.version()))
+        .body(response.getBody());
   }
 
   /**
@@ -131,6 +147,19 @@ public class GlobalExceptionHandler {
     return new ResponseEntity<>(errorResponse, HttpStatus.BAD_REQUEST);
   }
 
+  /**
+   * Handle an Accept header no representation satisfies
+   * A client error, not a server one; the response has no body since the
+   * client accepts none of the types an ErrorResponse could be written as
+   */
+  @ExceptionHandler(HttpMediaTypeNotAcceptableException.class)
+  public ResponseEntity<Void> handleNotAcceptable(
+      HttpMediaTypeNotAcceptableException ex, WebRequest request) {
+
+    log.debug("Not acceptable: {}", ex.getMessage());
+    return ResponseEntity.status(HttpStatus.NOT_ACCEPTABLE).build();
+  }
+
   /**
    * Handle all other exceptions
    */
@@ -151,4 +180,10 @@ public class GlobalExceptionHandler {
 
     return new ResponseEntity<>(errorResponse, HttpStatus.INTERNAL_SERVER_ERROR);
   }
+
+  /**
+   * Prebuilt response parts for a domain error code
+   */
+  private record DomainErrorTemplate(HttpStatus status, String error, List<String> details) {
+  }
 }
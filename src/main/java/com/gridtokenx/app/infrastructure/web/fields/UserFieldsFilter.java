@@ -0,0 +1,45 @@
+package com.gridtokenx.app.infrastructure.web.fields;
+
+import com.fasterxml.jackson.annotation.JsonFilter;
+import com.fasterxml.jackson.databind.ser.FilterProvider;
+import com.fasterxml.jackson.databind.ser.impl.SimpleBeanPropertyFilter;
+import com.fasterxml.jackson.databind.ser.impl.SimpleFilterProvider;
+import com.gridtokenx.app.application.dto.UserField;
+
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Jackson property filter behind ?fields=
+ * UserView is bound to the filter through {@link Mixin}, so the view itself
+ * stays free of Jackson annotations; mappers that carry the mixin need
+ * {@link #ALL_FIELDS} as their default filters
+ */
+public final class UserFieldsFilter {
+
+  public static final String ID = "userFields";
+
+  /**
+   * Writes every field, for responses without ?fields=
+   */
+  public static final FilterProvider ALL_FIELDS = new SimpleFilterProvider()
+      .addFilter(ID, SimpleBeanPropertyFilter.serializeAll());
+
+  private UserFieldsFilter() {
+  }
+
+  /**
+   * Writes only the given fields
+   */
+  public static FilterProvider only(Set<UserField> fields) {
+    return new SimpleFilterProvider().addFilter(ID, SimpleBeanPropertyFilter.filterOutAllExcept(
+        fields.stream().map(UserField::fieldName).collect(Collectors.toSet())));
+  }
+
+  /**
+   * Mixin for UserView
+   */
+  @JsonFilter(ID)
+  public interface Mixin {
+  }
+}
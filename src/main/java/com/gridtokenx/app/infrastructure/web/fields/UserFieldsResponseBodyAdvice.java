@@ -0,0 +1,37 @@
+package com.gridtokenx.app.infrastructure.web.fields;
+
+import com.gridtokenx.app.application.dto.UserField;
+import com.gridtokenx.app.infrastructure.web.controller.UserController;
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.json.MappingJacksonValue;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.http.server.ServletServerHttpRequest;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.AbstractMappingJacksonResponseBodyAdvice;
+
+import java.util.Set;
+
+/**
+ * Trims the users in UserController responses to the fields named by
+ * ?fields=, for JSON and CBOR alike
+ * The controller has already validated the parameter and read only those
+ * columns; this drops the unread components from the serialized body
+ */
+@RestControllerAdvice(assignableTypes = UserController.class)
+public class UserFieldsResponseBodyAdvice extends AbstractMappingJacksonResponseBodyAdvice {
+
+  @Override
+  protected void beforeBodyWriteInternal(MappingJacksonValue bodyContainer, MediaType contentType,
+      MethodParameter returnType, ServerHttpRequest request, ServerHttpResponse response) {
+    if (request instanceof ServletServerHttpRequest servletRequest) {
+      HttpServletRequest httpRequest = servletRequest.getServletRequest();
+      Set<UserField> fields = UserField.parse(httpRequest.getParameter("fields"));
+      if (fields != null) {
+        bodyContainer.setFilters(UserFieldsFilter.only(fields));
+      }
+    }
+  }
+}
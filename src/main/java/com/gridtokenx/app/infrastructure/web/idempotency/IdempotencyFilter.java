@@ -0,0 +1,303 @@
+package com.gridtokenx.app.infrastructure.web.idempotency;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.gridtokenx.app.infrastructure.web.exception.ErrorResponse;
+import com.gridtokenx.app.infrastructure.web.idempotency.IdempotencyStore.Outcome;
+import com.gridtokenx.app.infrastructure.web.idempotency.IdempotencyStore.Reservation;
+import com.gridtokenx.app.infrastructure.web.idempotency.IdempotencyStore.StoredResponse;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletInputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletRequestWrapper;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.lang.NonNull;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.LocalDateTime;
+import java.util.EnumMap;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Replays the recorded response for POST requests that repeat an
+ * Idempotency-Key
+ * Keys are scoped to the caller, method and path. The first request with a
+ * key executes and its response is stored for idempotency.ttl; a repeat with
+ * the same body gets the stored response, a concurrent repeat waits for the
+ * first one to finish, and reusing a key for a different body is rejected.
+ * 5xx responses are not stored so the client can retry them
+ * Registered as a plain servlet filter, so it runs after Spring Security
+ * and sees the authenticated principal
+ */
+@Slf4j
+@Component
+public class IdempotencyFilter extends OncePerRequestFilter {
+
+  public static final String HEADER = "Idempotency-Key";
+  public static final String REPLAYED_HEADER = "Idempotent-Replayed";
+
+  private static final int MAX_KEY_LENGTH = 255;
+
+  private final IdempotencyProperties properties;
+  private final IdempotencyStore store;
+  private final ObjectMapper objectMapper;
+  private final Map<Outcome, Counter> outcomes = new EnumMap<>(Outcome.class);
+  private final Counter waits;
+
+  public IdempotencyFilter(
+      IdempotencyProperties properties,
+      IdempotencyStore store,
+      ObjectMapper objectMapper,
+      MeterRegistry meterRegistry) {
+    this.properties = properties;
+    this.store = store;
+    this.objectMapper = objectMapper;
+    for (Outcome outcome : Outcome.values()) {
+      outcomes.put(outcome, Counter.builder("idempotency.requests")
+          .tag("outcome", outcome.name().toLowerCase(Locale.ROOT))
+          .description("Requests carrying an Idempotency-Key by outcome; replay is a hit, acquired a miss")
+          .register(meterRegistry));
+    }
+    this.waits = Counter.builder("idempotency.in.flight.waits")
+        .description("Requests that waited for a concurrent request with the same key")
+        .register(meterRegistry);
+  }
+
+  @Override
+  protected boolean shouldNotFilter(@NonNull HttpServletRequest request) {
+    return !properties.isEnabled()
+        || !"POST".equals(request.getMethod())
+        || request.getHeader(HEADER) == null
+        || !properties.getPaths().contains(request.getRequestURI());
+  }
+
+  @Override
+  protected void doFilterInternal(
+      @NonNull HttpServletRequest request,
+      @NonNull HttpServletResponse response,
+      @NonNull FilterChain filterChain) throws ServletException, IOException {
+
+    String idempotencyKey = request.getHeader(HEADER).trim();
+    if (idempotencyKey.isEmpty() || idempotencyKey.length() > MAX_KEY_LENGTH) {
+      writeError(response, HttpStatus.BAD_REQUEST,
+          HEADER + " must be between 1 and " + MAX_KEY_LENGTH + " characters");
+      return;
+    }
+
+    byte[] body = readBody(request);
+    if (body == null) {
+      writeError(response, HttpStatus.PAYLOAD_TOO_LARGE,
+          "Request body exceeds " + properties.getMaxBodySize() + " and cannot be made idempotent");
+      return;
+    }
+
+    String key = scope(request) + idempotencyKey;
+    String fingerprint = fingerprint(body);
+    Reservation reservation = store.reserve(key, fingerprint);
+    if (reservation.outcome() == Outcome.IN_FLIGHT) {
+      reservation = awaitInFlight(key, fingerprint);
+    }
+    outcomes.get(reservation.outcome()).increment();
+
+    switch (reservation.outcome()) {
+      case ACQUIRED -> execute(key, new CachedBodyRequest(request, body), response, filterChain);
+      case REPLAY -> replay(response, reservation.response());
+      case IN_FLIGHT -> writeError(response, HttpStatus.CONFLICT,
+          "A request with this " + HEADER + " is still being processed");
+      case MISMATCH -> writeError(response, HttpStatus.UNPROCESSABLE_ENTITY,
+          HEADER + " was already used for a different request body");
+    }
+  }
+
+  private Reservation awaitInFlight(String key, String fingerprint) throws IOException {
+    waits.increment();
+    try {
+      Optional<StoredResponse> completed = store.await(key, properties.getInFlightWait());
+      if (completed.isPresent()) {
+        return Reservation.replay(completed.get());
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IOException("Interrupted while waiting for idempotent request", e);
+    }
+    // the first request failed and released the key, or is still running
+    return store.reserve(key, fingerprint);
+  }
+
+  private void execute(String key, HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+      throws ServletException, IOException {
+    ContentCachingResponseWrapper wrapper = new ContentCachingResponseWrapper(response);
+    boolean stored = false;
+    try {
+      chain.doFilter(request, wrapper);
+      if (wrapper.getStatus() < 500) {
+        store.complete(key, new StoredResponse(wrapper.getStatus(), wrapper.getContentType(),
+            wrapper.getContentAsByteArray()));
+        stored = true;
+      }
+    } finally {
+      if (!stored) {
+        store.release(key);
+      }
+      wrapper.copyBodyToResponse();
+    }
+  }
+
+  private void replay(HttpServletResponse response, StoredResponse stored) throws IOException {
+    log.debug("Replaying stored response with status {}", stored.status());
+    response.setStatus(stored.status());
+    if (stored.contentType() != null) {
+      response.setContentType(stored.contentType());
+    }
+    response.setHeader(REPLAYED_HEADER, "true");
+    byte[] body = stored.body() != null ? stored.body() : new byte[0];
+    response.setContentLength(body.length);
+    response.getOutputStream().write(body);
+  }
+
+  private void writeError(HttpServletResponse response, HttpStatus status, String message) throws IOException {
+    ErrorResponse error = ErrorResponse.builder()
+        .timestamp(LocalDateTime.now())
+        .status(status.value())
+        .error(status.getReasonPhrase())
+        .message(message)
+        .details(List.of(message))
+        .build();
+    response.setStatus(status.value());
+    response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+    objectMapper.writeValue(response.getOutputStream(), error);
+  }
+
+  /**
+   * Read the whole body, or return null if it is larger than the limit
+   */
+  private byte[] readBody(HttpServletRequest request) throws IOException {
+    int limit = (int) properties.getMaxBodySize().toBytes();
+    if (request.getContentLengthLong() > limit) {
+      return null;
+    }
+    byte[] body = request.getInputStream().readNBytes(limit + 1);
+    return body.length > limit ? null : body;
+  }
+
+  private static String scope(HttpServletRequest request) {
+    Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+    String principal = authentication == null || authentication instanceof AnonymousAuthenticationToken
+        ? "" : authentication.getName();
+    return principal + ' ' + request.getMethod() + ' ' + request.getRequestURI() + ' ';
+  }
+
+  private static String fingerprint(byte[] body) {
+    try {
+      return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(body));
+    } catch (NoSuchAlgorithmException e) {
+      throw new IllegalStateException("SHA-256 not available", e);
+    }
+  }
+
+  /**
+   * Serves the already-read body to the rest of the chain
+   */
+  private static final class CachedBodyRequest extends HttpServletRequestWrapper {
+
+    private final byte[] body;
+
+    private CachedBodyRequest(HttpServletRequest request, byte[] body) {
+      super(request);
+      this.body = body;
+    }
+
+    @Override
+    public ServletInputStream getInputStream() {
+      InputStream source = new ByteArrayInputStream(body);
+      return new ServletInputStream() {
+
+        @Override
+        public int read() throws IOException {
+          return source.read();
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+          return source.read(b, off, len);
+        }
+
+        @Override
+        public boolean isFinished() {
+          return available() == 0;
+        }
+
+        @Override
+        public int available() {
+          try {
+            return source.available();
+          } catch (IOException e) {
+            return 0;
+          }
+        }
+
+        @Override
+        public boolean isReady() {
+          return true;
+        }
+
+        /**
+         * The whole body is already in memory, so it is available, and read,
+         * straight away
+         */
+        @Override
+        public void setReadListener(ReadListener readListener) {
+          try {
+            if (!isFinished()) {
+              readListener.onDataAvailable();
+            }
+            readListener.onAllDataRead();
+          } catch (IOException e) {
+            readListener.onError(e);
+          }
+        }
+      };
+    }
+
+    @Override
+    public BufferedReader getReader() {
+      String encoding = getCharacterEncoding();
+      Charset charset = encoding != null ? Charset.forName(encoding) : StandardCharsets.UTF_8;
+      return new BufferedReader(new InputStreamReader(getInputStream(), charset));
+    }
+
+    @Override
+    public int getContentLength() {
+      return body.length;
+    }
+
+    @Override
+    public long getContentLengthLong() {
+      return body.length;
+    }
+  }
+}
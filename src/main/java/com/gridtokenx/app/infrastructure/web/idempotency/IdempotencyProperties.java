@@ -0,0 +1,34 @@
+package com.gridtokenx.app.infrastructure.web.idempotency;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Idempotency-Key configuration properties
+ * Maps idempotency.* from application.properties
+ */
+@ConfigurationProperties(prefix = "idempotency")
+@Data
+@Component
+public class IdempotencyProperties {
+
+  private boolean enabled = true;
+  private Store store = Store.MEMORY;
+  private List<String> paths = new ArrayList<>(List.of("/api/auth/register", "/api/v1/users"));
+  private Duration ttl = Duration.ofHours(24);
+  private Duration inFlightWait = Duration.ofSeconds(5);
+  private Duration inFlightLease = Duration.ofSeconds(30);
+  private DataSize maxMemory = DataSize.ofMegabytes(16);
+  private DataSize maxBodySize = DataSize.ofKilobytes(64);
+
+  public enum Store {
+    MEMORY,
+    JDBC
+  }
+}
@@ -0,0 +1,63 @@
+package com.gridtokenx.app.infrastructure.web.idempotency;
+
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * Storage for Idempotency-Key reservations and their recorded responses
+ * A key is first reserved by the request that will execute it, then either
+ * completed with the response or released so a retry can run again
+ */
+public interface IdempotencyStore {
+
+  /**
+   * Reserve the key for this request, or report what already holds it
+   */
+  Reservation reserve(String key, String fingerprint);
+
+  /**
+   * Wait for an in-flight request with the same key to finish
+   *
+   * @return empty if it did not complete in time or was released
+   */
+  Optional<StoredResponse> await(String key, Duration timeout) throws InterruptedException;
+
+  /**
+   * Record the response for a reserved key
+   */
+  void complete(String key, StoredResponse response);
+
+  /**
+   * Drop a reservation without a response, e.g. after a server error
+   */
+  void release(String key);
+
+  enum Outcome {
+    ACQUIRED,
+    REPLAY,
+    IN_FLIGHT,
+    MISMATCH
+  }
+
+  record Reservation(Outcome outcome, StoredResponse response) {
+
+    static Reservation acquired() {
+      return new Reservation(Outcome.ACQUIRED, null);
+    }
+
+    static Reservation replay(StoredResponse response) {
+      return new Reservation(Outcome.REPLAY, response);
+    }
+
+    static Reservation inFlight() {
+      return new Reservation(Outcome.IN_FLIGHT, null);
+    }
+
+    static Reservation mismatch() {
+      return new Reservation(Outcome.MISMATCH, null);
+    }
+  }
+
+  record StoredResponse(int status, String contentType, byte[] body) {
+  }
+}
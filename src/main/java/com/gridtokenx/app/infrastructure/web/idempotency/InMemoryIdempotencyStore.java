@@ -0,0 +1,95 @@
+package com.gridtokenx.app.infrastructure.web.idempotency;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Idempotency store held in a Caffeine cache on this instance
+ * Entries are weighed by key and response body size, so the store stays
+ * under idempotency.max-memory no matter how many keys clients send;
+ * the least recently used keys are evicted first
+ */
+@Component
+@ConditionalOnProperty(name = "idempotency.store", havingValue = "memory", matchIfMissing = true)
+public class InMemoryIdempotencyStore implements IdempotencyStore {
+
+  private static final int ENTRY_OVERHEAD_BYTES = 256;
+
+  private final Cache<String, Entry> entries;
+
+  public InMemoryIdempotencyStore(IdempotencyProperties properties, MeterRegistry meterRegistry) {
+    this.entries = Caffeine.newBuilder()
+        .maximumWeight(properties.getMaxMemory().toBytes())
+        .weigher((String key, Entry entry) -> entry.weight(key))
+        .expireAfterWrite(properties.getTtl())
+        .build();
+    Gauge.builder("idempotency.store.entries", entries, Cache::estimatedSize)
+        .description("Idempotency keys held in memory")
+        .register(meterRegistry);
+  }
+
+  @Override
+  public Reservation reserve(String key, String fingerprint) {
+    Entry existing = entries.asMap().putIfAbsent(key, new Entry(fingerprint, new CompletableFuture<>()));
+    if (existing == null) {
+      return Reservation.acquired();
+    }
+    if (!existing.fingerprint().equals(fingerprint)) {
+      return Reservation.mismatch();
+    }
+    StoredResponse response = existing.result().getNow(null);
+    return response != null ? Reservation.replay(response) : Reservation.inFlight();
+  }
+
+  @Override
+  public Optional<StoredResponse> await(String key, Duration timeout) throws InterruptedException {
+    Entry entry = entries.getIfPresent(key);
+    if (entry == null) {
+      return Optional.empty();
+    }
+    try {
+      return Optional.ofNullable(entry.result().get(timeout.toNanos(), TimeUnit.NANOSECONDS));
+    } catch (TimeoutException | ExecutionException e) {
+      return Optional.empty();
+    }
+  }
+
+  @Override
+  public void complete(String key, StoredResponse response) {
+    Entry entry = entries.getIfPresent(key);
+    if (entry == null) {
+      return;
+    }
+    entry.result().complete(response);
+    // re-insert so the entry is weighed with its body
+    entries.asMap().replace(key, entry, new Entry(entry.fingerprint(), entry.result()));
+  }
+
+  @Override
+  public void release(String key) {
+    Entry entry = entries.asMap().remove(key);
+    if (entry != null) {
+      entry.result().complete(null);
+    }
+  }
+
+  private record Entry(String fingerprint, CompletableFuture<StoredResponse> result) {
+
+    int weight(String key) {
+      StoredResponse response = result.getNow(null);
+      int body = response != null && response.body() != null ? response.body().length : 0;
+      return ENTRY_OVERHEAD_BYTES + key.length() * 2 + body;
+    }
+  }
+}
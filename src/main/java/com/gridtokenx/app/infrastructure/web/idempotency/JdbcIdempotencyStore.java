@@ -0,0 +1,160 @@
+package com.gridtokenx.app.infrastructure.web.idempotency;
+
+import com.gridtokenx.app.infrastructure.persistence.DatabaseDialect;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Idempotency store backed by the idempotency_keys table
+ * Shared by all instances, so a retry that lands on another node still sees
+ * the first response. The primary key on idempotency_key decides which
+ * request owns a key; an in-flight row only holds it for
+ * idempotency.in-flight-lease, so a crashed node does not block retries
+ * until the TTL runs out
+ */
+@Component
+@ConditionalOnProperty(name = "idempotency.store", havingValue = "jdbc")
+public class JdbcIdempotencyStore implements IdempotencyStore {
+
+  private static final Duration POLL_INTERVAL = Duration.ofMillis(50);
+  private static final Duration PURGE_INTERVAL = Duration.ofMinutes(1);
+
+  private static final String INSERT = "INSERT INTO idempotency_keys "
+      + "(idempotency_key, fingerprint, created_at, expires_at) VALUES (:key, :fingerprint, :now, :expiresAt)";
+
+  private static final RowMapper<Row> ROW_MAPPER = (rs, rowNum) -> new Row(
+      rs.getString("fingerprint"),
+      (Integer) rs.getObject("response_status"),
+      rs.getString("content_type"),
+      rs.getBytes("response_body"),
+      rs.getObject("expires_at", LocalDateTime.class));
+
+  private final NamedParameterJdbcTemplate jdbcTemplate;
+  private final DatabaseDialect dialect;
+  private final Duration ttl;
+  private final Duration inFlightLease;
+  private final AtomicLong lastPurge = new AtomicLong(System.nanoTime());
+
+  public JdbcIdempotencyStore(
+      NamedParameterJdbcTemplate jdbcTemplate, DatabaseDialect dialect, IdempotencyProperties properties) {
+    this.jdbcTemplate = jdbcTemplate;
+    this.dialect = dialect;
+    this.ttl = properties.getTtl();
+    this.inFlightLease = properties.getInFlightLease();
+  }
+
+  @Override
+  public Reservation reserve(String key, String fingerprint) {
+    purgeExpiredIfDue();
+    // a second pass covers a row that expired or was released between insert and lookup
+    for (int attempt = 0; attempt < 2; attempt++) {
+      LocalDateTime now = LocalDateTime.now();
+      if (tryInsert(key, fingerprint, now)) {
+        return Reservation.acquired();
+      }
+      Optional<Row> row = find(key);
+      if (row.isEmpty()) {
+        continue;
+      }
+      if (row.get().expiresAt().isBefore(now)) {
+        jdbcTemplate.update("DELETE FROM idempotency_keys WHERE idempotency_key = :key AND expires_at < :now",
+            new MapSqlParameterSource().addValue("key", key).addValue("now", now));
+        continue;
+      }
+      if (!row.get().fingerprint().equals(fingerprint)) {
+        return Reservation.mismatch();
+      }
+      return row.get().status() != null ? Reservation.replay(row.get().toResponse()) : Reservation.inFlight();
+    }
+    return Reservation.inFlight();
+  }
+
+  @Override
+  public Optional<StoredResponse> await(String key, Duration timeout) throws InterruptedException {
+    long deadline = System.nanoTime() + timeout.toNanos();
+    while (true) {
+      Optional<Row> row = find(key);
+      if (row.isEmpty()) {
+        return Optional.empty();
+      }
+      if (row.get().status() != null) {
+        return Optional.of(row.get().toResponse());
+      }
+      if (System.nanoTime() >= deadline) {
+        return Optional.empty();
+      }
+      Thread.sleep(POLL_INTERVAL.toMillis());
+    }
+  }
+
+  @Override
+  public void complete(String key, StoredResponse response) {
+    jdbcTemplate.update("UPDATE idempotency_keys SET response_status = :status, content_type = :contentType, "
+            + "response_body = :body, expires_at = :expiresAt WHERE idempotency_key = :key",
+        new MapSqlParameterSource()
+            .addValue("key", key)
+            .addValue("status", response.status())
+            .addValue("contentType", response.contentType())
+            .addValue("body", response.body())
+            .addValue("expiresAt", LocalDateTime.now().plus(ttl)));
+  }
+
+  @Override
+  public void release(String key) {
+    jdbcTemplate.update("DELETE FROM idempotency_keys WHERE idempotency_key = :key AND response_status IS NULL",
+        new MapSqlParameterSource("key", key));
+  }
+
+  private boolean tryInsert(String key, String fingerprint, LocalDateTime now) {
+    MapSqlParameterSource params = new MapSqlParameterSource()
+        .addValue("key", key)
+        .addValue("fingerprint", fingerprint)
+        .addValue("now", now)
+        .addValue("expiresAt", now.plus(inFlightLease));
+    if (dialect == DatabaseDialect.POSTGRESQL) {
+      return jdbcTemplate.update(INSERT + " ON CONFLICT DO NOTHING", params) > 0;
+    }
+    try {
+      return jdbcTemplate.update(INSERT, params) > 0;
+    } catch (DuplicateKeyException e) {
+      return false;
+    }
+  }
+
+  private Optional<Row> find(String key) {
+    List<Row> rows = jdbcTemplate.query("SELECT fingerprint, response_status, content_type, response_body, "
+        + "expires_at FROM idempotency_keys WHERE idempotency_key = :key", new MapSqlParameterSource("key", key),
+        ROW_MAPPER);
+    return rows.stream().findFirst();
+  }
+
+  /**
+   * Delete expired keys at most once per interval, piggybacking on reservations
+   */
+  private void purgeExpiredIfDue() {
+    long now = System.nanoTime();
+    long last = lastPurge.get();
+    if (now - last < PURGE_INTERVAL.toNanos() || !lastPurge.compareAndSet(last, now)) {
+      return;
+    }
+    jdbcTemplate.update("DELETE FROM idempotency_keys WHERE expires_at < :now",
+        new MapSqlParameterSource("now", LocalDateTime.now()));
+  }
+
+  private record Row(String fingerprint, Integer status, String contentType, byte[] body, LocalDateTime expiresAt) {
+
+    StoredResponse toResponse() {
+      return new StoredResponse(status, contentType, body);
+    }
+  }
+}
@@ -0,0 +1,81 @@
+package com.gridtokenx.app.infrastructure.web.reactive;
+
+import com.gridtokenx.app.application.service.ReactiveAuthenticationService;
+import com.gridtokenx.app.domain.entity.User;
+import com.gridtokenx.app.domain.exception.AuthenticationException;
+import com.gridtokenx.app.infrastructure.audit.AuthAuditEvent;
+import com.gridtokenx.app.infrastructure.audit.AuthAuditLog;
+import com.gridtokenx.app.infrastructure.security.AuthenticationFailureMonitor;
+import com.gridtokenx.app.infrastructure.security.jwt.ReactiveJwtAuthenticationFilter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.reactive.function.server.ServerRequest;
+import org.springframework.web.reactive.function.server.ServerResponse;
+import reactor.core.publisher.Mono;
+
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.util.Map;
+
+/**
+ * Reactive counterpart of the AuthController token endpoints
+ * Only reachable on reactive.port when reactive.enabled is true
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class ReactiveAuthHandler {
+
+  private static final ParameterizedTypeReference<Map<String, String>> BODY = new ParameterizedTypeReference<>() {
+  };
+
+  private final ReactiveAuthenticationService reactiveAuthenticationService;
+  private final AuthenticationFailureMonitor authenticationFailureMonitor;
+  private final AuthAuditLog authAuditLog;
+
+  /**
+   * Token refresh endpoint
+   */
+  public Mono<ServerResponse> refreshToken(ServerRequest request) {
+    return request.bodyToMono(BODY)
+        .mapNotNull(body -> body.get("refreshToken"))
+        .filter(refreshToken -> !refreshToken.isEmpty())
+        .flatMap(refreshToken -> reactiveAuthenticationService.refreshToken(refreshToken)
+            .flatMap(response -> {
+              authAuditLog.record(AuthAuditEvent.of(AuthAuditEvent.Type.TOKEN_REFRESHED,
+                  response.getUser().getUsername(), response.getUser().getId(), null, clientIp(request)));
+              return ServerResponse.ok().bodyValue(response);
+            })
+            .onErrorResume(AuthenticationException.class, e -> {
+              authenticationFailureMonitor.record(e.getReason());
+              authAuditLog.record(AuthAuditEvent.of(AuthAuditEvent.Type.TOKEN_REFRESH_FAILED, null, null,
+                  e.getReason().name(), clientIp(request)));
+              return ServerResponse.status(HttpStatus.UNAUTHORIZED).build();
+            })
+            .onErrorResume(e -> {
+              log.error("Token refresh failed", e);
+              return ServerResponse.status(HttpStatus.UNAUTHORIZED).build();
+            }))
+        .switchIfEmpty(ServerResponse.badRequest().build());
+  }
+
+  /**
+   * Token validation endpoint
+   * Runs behind ReactiveJwtAuthenticationFilter, so reaching it means the
+   * access token is valid
+   */
+  public Mono<ServerResponse> validateToken(ServerRequest request) {
+    User user = (User) request.attributes().get(ReactiveJwtAuthenticationFilter.USER);
+    return ServerResponse.ok().bodyValue(Map.of(
+        "valid", true,
+        "username", user.getUsername()));
+  }
+
+  private static String clientIp(ServerRequest request) {
+    return request.remoteAddress()
+        .map(InetSocketAddress::getAddress)
+        .map(InetAddress::getHostAddress)
+        .orElse(null);
+  }
+}
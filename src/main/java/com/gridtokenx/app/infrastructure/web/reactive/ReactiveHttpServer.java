@@ -0,0 +1,61 @@
+package com.gridtokenx.app.infrastructure.web.reactive;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.http.server.reactive.HttpHandler;
+import org.springframework.http.server.reactive.ReactorHttpHandlerAdapter;
+import reactor.netty.DisposableServer;
+import reactor.netty.http.server.HttpServer;
+
+/**
+ * Reactor Netty server for the reactive routes
+ * The application context stays a servlet context for the MVC endpoints, so
+ * the reactive routes get their own server on a separate port. Connections
+ * are served by the Netty event loops: a request waiting on the database or
+ * on a slow client holds no thread. With forwardHeaders the client address
+ * comes from the load balancer's forwarded headers
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class ReactiveHttpServer implements SmartLifecycle {
+
+  private final HttpHandler httpHandler;
+  private final int port;
+  private final boolean forwardHeaders;
+
+  private volatile DisposableServer server;
+
+  @Override
+  public void start() {
+    server = HttpServer.create()
+        .port(port)
+        .forwarded(forwardHeaders)
+        .handle(new ReactorHttpHandlerAdapter(httpHandler))
+        .bindNow();
+    log.info("Reactive endpoints listening on port {}", server.port());
+  }
+
+  @Override
+  public void stop() {
+    DisposableServer current = server;
+    if (current != null) {
+      current.disposeNow();
+      server = null;
+    }
+  }
+
+  @Override
+  public boolean isRunning() {
+    return server != null;
+  }
+
+  /**
+   * Bound port, or -1 when stopped; differs from the configured port when
+   * that is 0
+   */
+  public int getPort() {
+    DisposableServer current = server;
+    return current != null ? current.port() : -1;
+  }
+}
@@ -0,0 +1,25 @@
+package com.gridtokenx.app.infrastructure.web.reactive;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * Reactive endpoint configuration properties
+ * Maps reactive.* from application.properties
+ */
+@ConfigurationProperties(prefix = "reactive")
+@Data
+@Component
+public class ReactiveProperties {
+
+  private boolean enabled = false;
+  private int port = 8081;
+
+  /**
+   * Take client addresses from Forwarded and X-Forwarded-* headers. Netty
+   * trusts them from any peer, so only enable it when the reactive port is
+   * reachable solely through the load balancer
+   */
+  private boolean forwardHeaders = false;
+}
@@ -0,0 +1,102 @@
+package com.gridtokenx.app.infrastructure.web.reactive;
+
+import com.gridtokenx.app.application.dto.UserView;
+import com.gridtokenx.app.application.port.ReactiveUserQueryInputPort;
+import com.gridtokenx.app.domain.exception.DomainException;
+import com.gridtokenx.app.infrastructure.web.controller.RepresentationETags;
+import com.gridtokenx.app.infrastructure.web.exception.ErrorResponse;
+import com.gridtokenx.app.infrastructure.web.exception.GlobalExceptionHandler;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.reactive.function.server.ServerRequest;
+import org.springframework.web.reactive.function.server.ServerResponse;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.UUID;
+
+/**
+ * Reactive counterpart of the UserController read endpoints
+ * Same paths, bodies, ETags and error responses; only reachable on
+ * reactive.port when reactive.enabled is true
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class ReactiveUserHandler {
+
+  private final ReactiveUserQueryInputPort reactiveUserQueryInputPort;
+
+  /**
+   * Get user by ID
+   * Carries the same representation ETag as the blocking path; a matching
+   * If-None-Match is answered with 304
+   */
+  public Mono<ServerResponse> getUserById(ServerRequest request) {
+    UUID id;
+    try {
+      id = UUID.fromString(request.pathVariable("id"));
+    } catch (IllegalArgumentException e) {
+      return ServerResponse.badRequest().build();
+    }
+    log.debug("Fetching user with ID: {}", id);
+
+    String representation = RepresentationETags.suffix(request.headers().firstHeader(HttpHeaders.ACCEPT));
+    return reactiveUserQueryInputPort.getUserById(id)
+        .flatMap(user -> {
+          String eTag = user.version() + representation;
+          return request.checkNotModified(eTag)
+              .flatMap(notModified -> ServerResponse.from(notModified).varyBy(HttpHeaders.ACCEPT).build())
+              .switchIfEmpty(Mono.defer(() -> ServerResponse.ok().eTag(eTag).varyBy(HttpHeaders.ACCEPT)
+                  .bodyValue(user)));
+        })
+        .onErrorResume(DomainException.class, ReactiveUserHandler::domainError);
+  }
+
+  /**
+   * Get user by username
+   */
+  public Mono<ServerResponse> getUserByUsername(ServerRequest request) {
+    String username = request.pathVariable("username");
+    log.debug("Fetching user with username: {}", username);
+
+    return reactiveUserQueryInputPort.getUserByUsername(username)
+        .flatMap(user -> ServerResponse.ok().bodyValue(user))
+        .onErrorResume(DomainException.class, ReactiveUserHandler::domainError);
+  }
+
+  /**
+   * Get user by email
+   */
+  public Mono<ServerResponse> getUserByEmail(ServerRequest request) {
+    String email = request.pathVariable("email");
+    log.debug("Fetching user with email: {}", email);
+
+    return reactiveUserQueryInputPort.getUserByEmail(email)
+        .flatMap(user -> ServerResponse.ok().bodyValue(user))
+        .onErrorResume(DomainException.class, ReactiveUserHandler::domainError);
+  }
+
+  /**
+   * Get all users
+   */
+  public Mono<ServerResponse> getAllUsers(ServerRequest request) {
+    boolean activeOnly = request.queryParam("activeOnly").map(Boolean::parseBoolean).orElse(false);
+    log.debug("Fetching all users, activeOnly: {}", activeOnly);
+
+    Flux<UserView> users = activeOnly
+        ? reactiveUserQueryInputPort.getAllActiveUsers()
+        : reactiveUserQueryInputPort.getAllUsers();
+
+    // collected so the body is one JSON array, written with a Content-Length
+    return users.collectList().flatMap(list -> ServerResponse.ok().bodyValue(list));
+  }
+
+  static Mono<ServerResponse> domainError(DomainException ex) {
+    log.warn("Domain exception [{}]: {}", ex.getErrorCode(), ex.getMessage());
+
+    ResponseEntity<ErrorResponse> response = GlobalExceptionHandler.domainError(ex);
+    return ServerResponse.status(response.getStatusCode()).bodyValue(response.getBody());
+  }
+}
@@ -0,0 +1,4 @@
+-- V3__Add_users_version.sql
+-- Optimistic concurrency: every update bumps the row version
+
+ALTER TABLE users ADD COLUMN IF NOT EXISTS version BIGINT NOT NULL DEFAULT 0;
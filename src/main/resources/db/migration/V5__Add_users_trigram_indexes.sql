@@ -0,0 +1,10 @@
+-- V5__Add_users_trigram_indexes.sql
+-- Trigram indexes for GET /api/v1/users/search: serve similarity (%) and
+-- substring (LIKE) matches on the lower-cased expressions used by the query
+
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+
+CREATE INDEX IF NOT EXISTS idx_users_username_trgm ON users USING GIN (lower(username) gin_trgm_ops);
+CREATE INDEX IF NOT EXISTS idx_users_email_trgm ON users USING GIN (lower(email) gin_trgm_ops);
+CREATE INDEX IF NOT EXISTS idx_users_full_name_trgm
+    ON users USING GIN (lower(first_name || ' ' || last_name) gin_trgm_ops);
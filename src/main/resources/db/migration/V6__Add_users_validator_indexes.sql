@@ -0,0 +1,9 @@
+-- V6__Add_users_validator_indexes.sql
+-- Conditional GETs on /api/v1/users check If-None-Match before reading the
+-- body; these let PostgreSQL answer the validator queries from index-only
+-- scans: version by id, and COUNT(*) with MAX(updated_at) for all and for
+-- active users
+
+CREATE UNIQUE INDEX IF NOT EXISTS idx_users_id_version ON users (id) INCLUDE (version);
+CREATE INDEX IF NOT EXISTS idx_users_updated_at ON users (updated_at);
+CREATE INDEX IF NOT EXISTS idx_users_active_updated_at ON users (updated_at) WHERE active;
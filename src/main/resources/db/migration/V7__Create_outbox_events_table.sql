@@ -0,0 +1,14 @@
+-- V7__Create_outbox_events_table.sql
+-- Transactional outbox for domain events (see OutboxRelay)
+-- Rows are inserted in the transaction of the change they describe and
+-- deleted once published, so the table only holds the relay backlog
+
+CREATE TABLE IF NOT EXISTS outbox_events (
+    id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    event_id UUID NOT NULL,
+    aggregate_type VARCHAR(64) NOT NULL,
+    aggregate_id UUID NOT NULL,
+    event_type VARCHAR(64) NOT NULL,
+    payload TEXT NOT NULL,
+    occurred_at TIMESTAMP NOT NULL
+);
@@ -0,0 +1,18 @@
+-- V8__Create_auth_audit_events_table.sql
+-- Append-only audit trail of logins, login failures, logouts and token refreshes
+-- Range-partitioned by day on occurred_at; AuthAuditLog creates the upcoming
+-- partitions (auth_audit_events_pYYYYMMDD) and drops the ones past
+-- audit.auth.retention
+
+CREATE TABLE IF NOT EXISTS auth_audit_events (
+    occurred_at TIMESTAMP NOT NULL,
+    event_type VARCHAR(32) NOT NULL,
+    username VARCHAR(255),
+    user_id UUID,
+    reason VARCHAR(64),
+    client_ip VARCHAR(64)
+) PARTITION BY RANGE (occurred_at);
+
+-- Recent events per user; created on every partition
+CREATE INDEX IF NOT EXISTS idx_auth_audit_events_username_occurred_at
+    ON auth_audit_events (username, occurred_at DESC);
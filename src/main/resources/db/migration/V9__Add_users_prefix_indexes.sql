@@ -0,0 +1,7 @@
+-- V9__Add_users_prefix_indexes.sql
+-- Search queries shorter than a trigram only match username and email
+-- prefixes (lower(...) LIKE 'q%'); text_pattern_ops lets those LIKEs use a
+-- B-tree whatever the database collation
+
+CREATE INDEX IF NOT EXISTS idx_users_username_prefix ON users (lower(username) text_pattern_ops);
+CREATE INDEX IF NOT EXISTS idx_users_email_prefix ON users (lower(email) text_pattern_ops);
@@ -0,0 +1,61 @@
+package com.gridtokenx.app.benchmark;
+
+import com.gridtokenx.app.domain.exception.UserNotFoundException;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of throwing a "user not found" miss through a call stack of the given
+ * depth (a Spring MVC request is typically 80-120 frames deep). "stackless"
+ * is the current UserNotFoundException, "stackful" a plain RuntimeException
+ * with the same message, i.e. the previous behaviour
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class DomainExceptionBenchmark {
+
+  @Param({ "10", "100" })
+  public int depth;
+
+  private final UUID id = UUID.randomUUID();
+
+  @Benchmark
+  public Object stackless() {
+    try {
+      return recurse(depth, true);
+    } catch (RuntimeException e) {
+      return e.getMessage();
+    }
+  }
+
+  @Benchmark
+  public Object stackful() {
+    try {
+      return recurse(depth, false);
+    } catch (RuntimeException e) {
+      return e.getMessage();
+    }
+  }
+
+  private Object recurse(int remaining, boolean stackless) {
+    if (remaining == 0) {
+      throw stackless ? new UserNotFoundException(id.toString()) : new RuntimeException("User not found with ID: " + id);
+    }
+    return recurse(remaining - 1, stackless);
+  }
+}
@@ -0,0 +1,149 @@
+package com.gridtokenx.app.benchmark;
+
+import ch.qos.logback.classic.AsyncAppender;
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.encoder.PatternLayoutEncoder;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.classic.util.LogbackMDCAdapter;
+import ch.qos.logback.core.OutputStreamAppender;
+import ch.qos.logback.core.UnsynchronizedAppenderBase;
+import ch.qos.logback.core.encoder.Encoder;
+import com.gridtokenx.app.infrastructure.logging.JsonLineEncoder;
+import com.gridtokenx.app.infrastructure.logging.RingBufferAppender;
+import com.gridtokenx.app.infrastructure.logging.SamplingTurboFilter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.OutputStream;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Throughput of the UserController logging pattern under contention
+ * Each invocation emits the two INFO lines of a create-user request from 16
+ * request threads into a sink that costs ~2 microseconds per write (console or
+ * disk). "async" is the previous AsyncAppender(queueSize=512,
+ * discardingThreshold=0) setup, "ringBuffer" the RingBufferAppender with the
+ * controller sampling filter and JSON encoding
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@Threads(16)
+public class LoggingPipelineBenchmark {
+
+  @Param({ "async", "ringBuffer" })
+  public String pipeline;
+
+  private LoggerContext context;
+  private Logger logger;
+  private RingBufferAppender ringBuffer;
+
+  @Setup
+  public void setUp() {
+    context = new LoggerContext();
+    context.setMDCAdapter(new LogbackMDCAdapter());
+    context.setName("benchmark");
+    context.start();
+
+    OutputStreamAppender<ILoggingEvent> sink = new OutputStreamAppender<>();
+    sink.setContext(context);
+    sink.setName("SINK");
+    sink.setOutputStream(new SlowOutputStream());
+
+    UnsynchronizedAppenderBase<ILoggingEvent> front;
+    if ("async".equals(pipeline)) {
+      sink.setEncoder(patternEncoder());
+      sink.start();
+      AsyncAppender async = new AsyncAppender();
+      async.setContext(context);
+      async.setName("ASYNC");
+      async.setQueueSize(512);
+      async.setDiscardingThreshold(0);
+      async.addAppender(sink);
+      async.start();
+      front = async;
+    } else {
+      Encoder<ILoggingEvent> encoder = new JsonLineEncoder();
+      encoder.setContext(context);
+      encoder.start();
+      sink.setEncoder(encoder);
+      sink.start();
+      SamplingTurboFilter sampling = new SamplingTurboFilter();
+      sampling.setLoggerPrefix("com.gridtokenx.app.infrastructure.web.controller");
+      sampling.setSampleRate(10);
+      sampling.start();
+      context.addTurboFilter(sampling);
+      ringBuffer = new RingBufferAppender();
+      ringBuffer.setContext(context);
+      ringBuffer.setName("RING");
+      ringBuffer.addAppender(sink);
+      ringBuffer.start();
+      front = ringBuffer;
+    }
+
+    Logger root = context.getLogger(Logger.ROOT_LOGGER_NAME);
+    root.detachAndStopAllAppenders();
+    root.setLevel(Level.INFO);
+    root.addAppender(front);
+    logger = context.getLogger("com.gridtokenx.app.infrastructure.web.controller.UserController");
+  }
+
+  @TearDown
+  public void tearDown() {
+    if (ringBuffer != null) {
+      System.out.printf("%nring buffer: enqueued=%d dropped(INFO)=%d%n",
+          ringBuffer.getEnqueuedCount(), ringBuffer.getDroppedCount(Level.INFO));
+    }
+    context.stop();
+  }
+
+  @Benchmark
+  public void createUserRequest() {
+    logger.info("Creating user with username: {}", "jane_doe");
+    logger.info("User created successfully with ID: {}", UUID.randomUUID());
+  }
+
+  private PatternLayoutEncoder patternEncoder() {
+    PatternLayoutEncoder encoder = new PatternLayoutEncoder();
+    encoder.setContext(context);
+    encoder.setPattern("%d{yyyy-MM-dd HH:mm:ss.SSS} %5p --- [%t] %-40.40logger{39} : %m%n");
+    encoder.start();
+    return encoder;
+  }
+
+  /**
+   * Stands in for a console or disk write
+   */
+  private static final class SlowOutputStream extends OutputStream {
+
+    @Override
+    public void write(int b) {
+      // single bytes are not used by the encoders
+    }
+
+    @Override
+    public void write(byte[] b, int off, int len) {
+      long deadline = System.nanoTime() + 2_000;
+      while (System.nanoTime() < deadline) {
+        Thread.onSpinWait();
+      }
+    }
+  }
+}
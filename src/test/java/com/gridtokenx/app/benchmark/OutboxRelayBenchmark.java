@@ -0,0 +1,120 @@
+package com.gridtokenx.app.benchmark;
+
+import com.gridtokenx.app.AppApplication;
+import com.gridtokenx.app.domain.event.DomainEventPublisher;
+import com.gridtokenx.app.domain.event.UserEvent;
+import com.gridtokenx.app.infrastructure.outbox.OutboxPublisher;
+import com.gridtokenx.app.infrastructure.outbox.OutboxRelay;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.support.GenericApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of the two halves of the outbox against an in-memory H2 database
+ * "record" is one event recorded in its own transaction, as a user change
+ * does; "relayBatch" claims, publishes (to a no-op publisher) and deletes a
+ * full batch of 500 prepared events, so events per second is 500 divided by
+ * its time
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class OutboxRelayBenchmark {
+
+  private static final int BATCH = 500;
+
+  private ConfigurableApplicationContext context;
+  private DomainEventPublisher domainEventPublisher;
+  private TransactionTemplate transactionTemplate;
+  private OutboxRelay outboxRelay;
+  private JdbcTemplate jdbcTemplate;
+  private final List<Object[]> rows = new ArrayList<>();
+
+  @Setup
+  public void setUp() {
+    context = new SpringApplicationBuilder(AppApplication.class)
+        .web(WebApplicationType.NONE)
+        .profiles("test")
+        .initializers((GenericApplicationContext applicationContext) -> applicationContext
+            .registerBean(OutboxPublisher.class, () -> messages -> { }))
+        // command line arguments, since the application and test profile properties set these too
+        .run(
+            "--logging.level.root=WARN",
+            "--logging.level.com.gridtokenx=WARN",
+            "--logging.level.org.springframework.security=WARN",
+            "--outbox.enabled=true",
+            "--outbox.publisher=none",
+            "--outbox.relay-threads=0",
+            "--outbox.batch-size=" + BATCH,
+            "--spring.sql.init.mode=always",
+            "--spring.sql.init.schema-locations=classpath:db/migration/V7__Create_outbox_events_table.sql");
+    domainEventPublisher = context.getBean(DomainEventPublisher.class);
+    transactionTemplate = context.getBean(TransactionTemplate.class);
+    outboxRelay = context.getBean(OutboxRelay.class);
+    jdbcTemplate = context.getBean(JdbcTemplate.class);
+
+    String payload = "{\"eventId\":\"" + UUID.randomUUID() + "\",\"type\":\"LOGGED_IN\",\"userId\":\""
+        + UUID.randomUUID() + "\",\"username\":\"outbox_user\",\"occurredAt\":\"2026-01-01T00:00:00\"}";
+    for (int i = 0; i < BATCH; i++) {
+      rows.add(new Object[] { UUID.randomUUID(), UserEvent.AGGREGATE_TYPE, UUID.randomUUID(), "user.logged_in",
+          payload });
+    }
+  }
+
+  @TearDown
+  public void tearDown() {
+    context.close();
+  }
+
+  @Benchmark
+  public void record() {
+    transactionTemplate.executeWithoutResult(status -> domainEventPublisher.publish(
+        new UserEvent(UUID.randomUUID(), UserEvent.Type.LOGGED_IN, UUID.randomUUID(), "outbox_user",
+            LocalDateTime.now())));
+  }
+
+  @Benchmark
+  public int relayBatch(Backlog backlog) {
+    return outboxRelay.relayBatch();
+  }
+
+  /**
+   * A full batch of events waiting before each relayBatch call
+   */
+  @State(Scope.Thread)
+  public static class Backlog {
+
+    @Setup(Level.Invocation)
+    public void fill(OutboxRelayBenchmark benchmark) {
+      Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+      benchmark.jdbcTemplate.batchUpdate("INSERT INTO outbox_events "
+          + "(event_id, aggregate_type, aggregate_id, event_type, payload, occurred_at) VALUES (?, ?, ?, ?, ?, ?)",
+          benchmark.rows.stream().map(row -> new Object[] { row[0], row[1], row[2], row[3], row[4], now }).toList());
+    }
+  }
+}
@@ -0,0 +1,101 @@
+package com.gridtokenx.app.benchmark;
+
+import com.gridtokenx.app.AppApplication;
+import com.gridtokenx.app.application.dto.UserDto;
+import com.gridtokenx.app.application.port.UserInputPort;
+import com.gridtokenx.app.domain.entity.User;
+import com.gridtokenx.app.infrastructure.security.jwt.JwtTokenProvider;
+import com.gridtokenx.app.infrastructure.web.reactive.ReactiveHttpServer;
+import com.gridtokenx.app.util.TestDataFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Time to serve a burst of concurrent GET /api/v1/users/{id} requests from
+ * the MVC (Tomcat) and the reactive (Reactor Netty + R2DBC) stacks of one
+ * application instance, each request on its own connection
+ * Both stacks read the same in-memory H2 database; r2dbc-h2 runs H2's engine
+ * on the calling thread, so this compares per-request overhead and
+ * concurrency limits, not waiting on a remote database
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ReactiveReadConcurrencyBenchmark {
+
+  @Param({ "mvc", "reactive" })
+  private String stack;
+
+  @Param({ "50", "500" })
+  private int concurrency;
+
+  private ConfigurableApplicationContext context;
+  private ConnectionProvider connections;
+  private HttpClient client;
+  private String uri;
+
+  @Setup
+  public void setUp() {
+    context = new SpringApplicationBuilder(AppApplication.class)
+        .profiles("test")
+        // arguments rather than default properties, which application.properties overrides
+        .run("--server.port=0", "--reactive.enabled=true", "--reactive.port=0",
+            "--spring.r2dbc.url=r2dbc:h2:mem:///testdb",
+            "--logging.level.root=WARN", "--logging.level.com.gridtokenx=WARN");
+
+    UserDto user = context.getBean(UserInputPort.class).createUser(TestDataFactory.createUserDto("bench_reader"));
+    String token = context.getBean(JwtTokenProvider.class).generateAccessToken(User.builder()
+        .id(user.getId())
+        .username(user.getUsername())
+        .build());
+
+    int port = "mvc".equals(stack)
+        ? ((WebServerApplicationContext) context).getWebServer().getPort()
+        : context.getBean(ReactiveHttpServer.class).getPort();
+    uri = "http://localhost:" + port + "/api/v1/users/" + user.getId();
+    connections = ConnectionProvider.builder("benchmark")
+        .maxConnections(concurrency)
+        .pendingAcquireMaxCount(-1)
+        .build();
+    client = HttpClient.create(connections)
+        .headers(headers -> headers.set("Authorization", "Bearer " + token));
+  }
+
+  @TearDown
+  public void tearDown() {
+    connections.disposeLater().block();
+    context.close();
+  }
+
+  @Benchmark
+  public Long concurrentReads() {
+    return Flux.range(0, concurrency)
+        .flatMap(i -> client.get().uri(uri).responseSingle((response, body) -> response.status().code() == 200
+            ? body.asString()
+            : Mono.error(new IllegalStateException("HTTP " + response.status()))), concurrency)
+        .count()
+        .block();
+  }
+}
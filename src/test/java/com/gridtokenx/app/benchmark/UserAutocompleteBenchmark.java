@@ -0,0 +1,83 @@
+package com.gridtokenx.app.benchmark;
+
+import com.gridtokenx.app.application.dto.UserSuggestion;
+import com.gridtokenx.app.infrastructure.persistence.autocomplete.UserAutocompleteIndex;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Top-10 completion latency of the autocomplete index over synthetic users
+ * "overlay" adds 1000 pending changes that have not been compacted yet,
+ * the worst case between compactions with the default overlay limit
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class UserAutocompleteBenchmark {
+
+  private static final String[] FIRST = { "anna", "ben", "carla", "david", "elena", "felix", "greta", "hugo" };
+  private static final String[] LAST = { "meyer", "smith", "tanaka", "garcia", "novak", "olsen", "rossi", "kim" };
+
+  @Param({ "100000" })
+  public int users;
+
+  @Param({ "false", "true" })
+  public boolean overlay;
+
+  private UserAutocompleteIndex index;
+  private String[] prefixes;
+  private int next;
+
+  @Setup
+  public void setUp() {
+    Random random = new Random(42);
+    List<UserSuggestion> all = new ArrayList<>(users);
+    for (int i = 0; i < users; i++) {
+      all.add(suggestion(random, i));
+    }
+    index = new UserAutocompleteIndex(new SimpleMeterRegistry(), 1024);
+    index.load(all.iterator(), index.sequence());
+    if (overlay) {
+      for (int i = 0; i < 1000; i++) {
+        index.put(suggestion(random, users + i));
+      }
+    }
+    prefixes = new String[] { "a", "be", "car", "smi", "tana", "user_12", "user_9999", "zz" };
+    System.out.printf("%nautocomplete: %d users, %.1f bytes per user%n", index.size(), index.memoryBytesPerUser());
+  }
+
+  @Benchmark
+  public List<UserSuggestion> complete() {
+    String prefix = prefixes[next++ & 7];
+    return index.complete(prefix, 10);
+  }
+
+  private static UserSuggestion suggestion(Random random, int i) {
+    String first = FIRST[random.nextInt(FIRST.length)];
+    String last = LAST[random.nextInt(LAST.length)];
+    return new UserSuggestion(UUID.randomUUID(), "user_" + i, capitalize(first) + " " + capitalize(last));
+  }
+
+  private static String capitalize(String value) {
+    return Character.toUpperCase(value.charAt(0)) + value.substring(1);
+  }
+}
@@ -0,0 +1,127 @@
+package com.gridtokenx.app.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.gridtokenx.app.AppApplication;
+import com.gridtokenx.app.application.dto.UserDto;
+import com.gridtokenx.app.application.dto.UserField;
+import com.gridtokenx.app.application.dto.UserKey;
+import com.gridtokenx.app.application.port.UserInputPort;
+import com.gridtokenx.app.application.port.UserQueryInputPort;
+import com.gridtokenx.app.application.port.UserQueryOutputPort;
+import com.gridtokenx.app.infrastructure.web.fields.UserFieldsFilter;
+import com.gridtokenx.app.util.TestDataFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of the list and batch reads with every field versus ?fields=id,username,fullName,
+ * from the query to the serialized JSON, against an in-memory H2 database
+ * "*Jdbc" reads every field through the sparse JDBC path, to separate the
+ * saving from fewer columns from the one from skipping Hibernate
+ * Response sizes are printed once in setup
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class UserFieldsBenchmark {
+
+  private static final int USERS = 1_000;
+  private static final int BATCH_KEYS = 100;
+  private static final Set<UserField> SPARSE = EnumSet.of(UserField.ID, UserField.USERNAME, UserField.FULL_NAME);
+
+  private ConfigurableApplicationContext context;
+  private UserQueryInputPort userQueryInputPort;
+  private UserQueryOutputPort userQueryOutputPort;
+  private ObjectWriter allFields;
+  private ObjectWriter sparseFields;
+  private final List<UserKey> keys = new ArrayList<>();
+  private final List<UUID> ids = new ArrayList<>();
+
+  @Setup
+  public void setUp() throws IOException {
+    context = new SpringApplicationBuilder(AppApplication.class)
+        .web(WebApplicationType.NONE)
+        .profiles("test")
+        .properties("logging.level.com.gridtokenx=WARN", "logging.level.org.springframework.security=WARN")
+        .run();
+    UserInputPort userInputPort = context.getBean(UserInputPort.class);
+    userQueryInputPort = context.getBean(UserQueryInputPort.class);
+    userQueryOutputPort = context.getBean(UserQueryOutputPort.class);
+    for (int i = 0; i < USERS; i++) {
+      UserDto user = userInputPort.createUser(
+          TestDataFactory.createUserDto("fields_user_" + i, "fields" + i + "@example.com", "Fields", "User" + i));
+      if (i % (USERS / BATCH_KEYS) == 0) {
+        keys.add(new UserKey(UserKey.Type.ID, user.getId().toString()));
+        ids.add(user.getId());
+      }
+    }
+
+    // as the controller and UserFieldsResponseBodyAdvice configure them
+    ObjectMapper objectMapper = context.getBean(ObjectMapper.class);
+    allFields = objectMapper.writer(UserFieldsFilter.ALL_FIELDS);
+    sparseFields = objectMapper.writer(UserFieldsFilter.only(SPARSE));
+
+    System.out.printf("%nJSON bytes: list %d -> %d, batch of %d %d -> %d%n",
+        listAll(), listSparse(), BATCH_KEYS, batchAll(), batchSparse());
+  }
+
+  @TearDown
+  public void tearDown() {
+    context.close();
+  }
+
+  @Benchmark
+  public int listAll() throws IOException {
+    return allFields.writeValueAsBytes(userQueryInputPort.getAllUsers(false, UserField.ALL)).length;
+  }
+
+  @Benchmark
+  public int listAllJdbc() throws IOException {
+    return allFields.writeValueAsBytes(userQueryOutputPort.findAllSparseViews(false, UserField.ALL)).length;
+  }
+
+  @Benchmark
+  public int listSparse() throws IOException {
+    return sparseFields.writeValueAsBytes(userQueryInputPort.getAllUsers(false, SPARSE)).length;
+  }
+
+  @Benchmark
+  public int batchAll() throws IOException {
+    return allFields.writeValueAsBytes(userQueryInputPort.getUsers(keys)).length;
+  }
+
+  @Benchmark
+  public int batchAllJdbc() throws IOException {
+    return allFields.writeValueAsBytes(userQueryOutputPort.findSparseViews(UserKey.Type.ID, ids, UserField.ALL))
+        .length;
+  }
+
+  @Benchmark
+  public int batchSparse() throws IOException {
+    return sparseFields.writeValueAsBytes(userQueryInputPort.getUsers(keys, SPARSE)).length;
+  }
+}
@@ -0,0 +1,113 @@
+package com.gridtokenx.app.benchmark;
+
+import com.gridtokenx.app.AppApplication;
+import com.gridtokenx.app.application.dto.UserDto;
+import com.gridtokenx.app.application.dto.UserView;
+import com.gridtokenx.app.application.port.UserInputPort;
+import com.gridtokenx.app.application.port.UserQueryInputPort;
+import com.gridtokenx.app.infrastructure.web.dto.UserResponse;
+import com.gridtokenx.app.util.TestDataFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Latency of the by-id and list read paths against an in-memory H2 database
+ * "domain*" is the previous chain (JPA entity, domain User, UserDto,
+ * UserResponse), "projection*" the UserView constructor-expression path
+ * Run with {@code -prof gc} to compare allocation per request
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class UserReadPathBenchmark {
+
+  private static final int USERS = 100;
+
+  private ConfigurableApplicationContext context;
+  private UserInputPort userInputPort;
+  private UserQueryInputPort userQueryInputPort;
+  private UUID userId;
+
+  @Setup
+  public void setUp() {
+    context = new SpringApplicationBuilder(AppApplication.class)
+        .web(WebApplicationType.NONE)
+        .profiles("test")
+        .properties("logging.level.com.gridtokenx=WARN", "logging.level.org.springframework.security=WARN")
+        .run();
+    userInputPort = context.getBean(UserInputPort.class);
+    userQueryInputPort = context.getBean(UserQueryInputPort.class);
+    for (int i = 0; i < USERS; i++) {
+      UserDto user = userInputPort.createUser(
+          TestDataFactory.createUserDto("bench_user_" + i, "bench" + i + "@example.com"));
+      userId = user.getId();
+    }
+  }
+
+  @TearDown
+  public void tearDown() {
+    context.close();
+  }
+
+  @Benchmark
+  public UserResponse domainById() {
+    return toResponse(userInputPort.getUserById(userId));
+  }
+
+  @Benchmark
+  public UserView projectionById() {
+    return userQueryInputPort.getUserById(userId);
+  }
+
+  @Benchmark
+  public List<UserResponse> domainList() {
+    List<UserDto> users = userInputPort.getAllUsers();
+    List<UserResponse> responses = new ArrayList<>(users.size());
+    for (UserDto user : users) {
+      responses.add(toResponse(user));
+    }
+    return responses;
+  }
+
+  @Benchmark
+  public List<UserView> projectionList() {
+    return userQueryInputPort.getAllUsers();
+  }
+
+  /**
+   * Same mapping the controller applied before the projection path
+   */
+  private UserResponse toResponse(UserDto userDto) {
+    return UserResponse.builder()
+        .id(userDto.getId().toString())
+        .username(userDto.getUsername())
+        .email(userDto.getEmail())
+        .firstName(userDto.getFirstName())
+        .lastName(userDto.getLastName())
+        .fullName(userDto.getFullName())
+        .active(userDto.isActive())
+        .createdAt(userDto.getCreatedAt())
+        .updatedAt(userDto.getUpdatedAt())
+        .build();
+  }
+}
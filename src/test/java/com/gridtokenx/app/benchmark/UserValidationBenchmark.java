@@ -0,0 +1,150 @@
+package com.gridtokenx.app.benchmark;
+
+import com.gridtokenx.app.domain.validation.UserValidator;
+import com.gridtokenx.app.domain.validation.UserViolation;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+/**
+ * Cost of the user field rules: "regex*" is the previous String.matches
+ * code, "compiled*" the same patterns compiled once, and "scanner*" the
+ * UserValidator rules. "*Import" validates 1,000 new users, one in ten of
+ * them invalid, the way an import would
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class UserValidationBenchmark {
+
+  private static final String USERNAME_REGEX = "^[a-zA-Z0-9_]+$";
+  private static final String EMAIL_REGEX = "^[A-Za-z0-9+_.-]+@([A-Za-z0-9.-]+\\.[A-Za-z]{2,})$";
+  private static final Pattern USERNAME = Pattern.compile(USERNAME_REGEX);
+  private static final Pattern EMAIL = Pattern.compile(EMAIL_REGEX);
+  private static final Pattern UPPERCASE = Pattern.compile(".*[A-Z].*");
+  private static final Pattern LOWERCASE = Pattern.compile(".*[a-z].*");
+  private static final Pattern DIGIT = Pattern.compile(".*\\d.*");
+
+  private static final int USERS = 1_000;
+
+  private final String username = "grid_operator_42";
+  private final String email = "grid.operator+alerts@energy.example.com";
+  private final String password = "CorrectHorse9Battery";
+  private String[][] users;
+
+  @Setup
+  public void setUp() {
+    users = new String[USERS][];
+    for (int i = 0; i < USERS; i++) {
+      boolean invalid = i % 10 == 0;
+      users[i] = new String[] {
+          invalid ? "user " + i : "import_user_" + i,
+          invalid ? "user" + i + "@localhost" : "import.user" + i + "@example.com",
+          "Import",
+          "User" + i };
+    }
+  }
+
+  @Benchmark
+  public boolean regexEmail() {
+    return email.matches(EMAIL_REGEX);
+  }
+
+  @Benchmark
+  public boolean compiledEmail() {
+    return EMAIL.matcher(email).matches();
+  }
+
+  @Benchmark
+  public boolean scannerEmail() {
+    return UserValidator.isValidEmail(email);
+  }
+
+  @Benchmark
+  public boolean regexUsername() {
+    return username.length() >= 3 && username.length() <= 50 && username.matches(USERNAME_REGEX);
+  }
+
+  @Benchmark
+  public boolean compiledUsername() {
+    return username.length() >= 3 && username.length() <= 50 && USERNAME.matcher(username).matches();
+  }
+
+  @Benchmark
+  public boolean scannerUsername() {
+    return UserValidator.isValidUsername(username);
+  }
+
+  @Benchmark
+  public boolean regexPassword() {
+    return password.length() >= 8 && password.matches(".*[A-Z].*") && password.matches(".*[a-z].*")
+        && password.matches(".*\\d.*");
+  }
+
+  @Benchmark
+  public boolean compiledPassword() {
+    return password.length() >= 8 && UPPERCASE.matcher(password).matches()
+        && LOWERCASE.matcher(password).matches() && DIGIT.matcher(password).matches();
+  }
+
+  @Benchmark
+  public boolean scannerPassword() {
+    return UserValidator.isValidPassword(password);
+  }
+
+  @Benchmark
+  public void regexImport(Blackhole blackhole) {
+    for (String[] user : users) {
+      blackhole.consume(regexFirstViolation(user[0], user[1], user[2], user[3]));
+    }
+  }
+
+  @Benchmark
+  public void scannerImport(Blackhole blackhole) {
+    for (String[] user : users) {
+      List<UserViolation> violations = UserValidator.validateNewUser(user[0], user[1], user[2], user[3]);
+      blackhole.consume(violations);
+    }
+  }
+
+  /**
+   * The previous UserDomainService.validateUserCreation, returning the first
+   * violation instead of throwing it
+   */
+  private static String regexFirstViolation(String username, String email, String firstName, String lastName) {
+    if (username == null || username.trim().isEmpty()) {
+      return "username";
+    }
+    if (!username.matches(USERNAME_REGEX) || username.length() < 3 || username.length() > 50) {
+      return "username";
+    }
+    if (email == null || email.trim().isEmpty()) {
+      return "email";
+    }
+    if (!email.matches(EMAIL_REGEX)) {
+      return "email";
+    }
+    if (firstName == null || firstName.trim().isEmpty()) {
+      return "firstName";
+    }
+    if (lastName == null || lastName.trim().isEmpty()) {
+      return "lastName";
+    }
+    return null;
+  }
+}
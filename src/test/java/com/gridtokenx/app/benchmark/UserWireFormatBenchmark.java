@@ -0,0 +1,134 @@
+package com.gridtokenx.app.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.gridtokenx.app.application.dto.UserView;
+import com.gridtokenx.app.infrastructure.web.converter.CompactBinaryModule;
+import com.gridtokenx.app.infrastructure.web.converter.UserProtobufHttpMessageConverter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.GenericHttpMessageConverter;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.lang.reflect.Type;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Cost of writing a 1,000-user page as JSON, CBOR and protobuf through the
+ * message converters the MVC layer uses
+ * Payload sizes, raw and gzip-compressed, are printed once in setup; run
+ * with {@code -prof gc} to compare allocation
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class UserWireFormatBenchmark {
+
+  private static final int USERS = 1_000;
+  private static final Type PAGE_TYPE = new ParameterizedTypeReference<List<UserView>>() {
+  }.getType();
+
+  private List<UserView> page;
+  private GenericHttpMessageConverter<Object> json;
+  private GenericHttpMessageConverter<Object> cbor;
+  private GenericHttpMessageConverter<Object> protobuf;
+  private final BufferedOutputMessage output = new BufferedOutputMessage();
+
+  @Setup
+  public void setUp() throws IOException {
+    LocalDateTime now = LocalDateTime.now();
+    page = new ArrayList<>(USERS);
+    for (int i = 0; i < USERS; i++) {
+      page.add(new UserView(UUID.randomUUID(), "wire_user_" + i, "wire" + i + "@example.com", "Wire",
+          "User" + i, i % 10 != 0, now.minusDays(i), now.minusHours(i), (long) (i % 7)));
+    }
+
+    // configured as in WebMvcConfig
+    json = new MappingJackson2HttpMessageConverter(Jackson2ObjectMapperBuilder.json().build());
+    ObjectMapper cborMapper = Jackson2ObjectMapperBuilder.cbor().build();
+    cborMapper.registerModule(new CompactBinaryModule());
+    cbor = new MappingJackson2CborHttpMessageConverter(cborMapper);
+    protobuf = new UserProtobufHttpMessageConverter();
+
+    System.out.printf("%n1,000-user page: json %s, cbor %s, protobuf %s (raw/gzip bytes)%n",
+        sizes(json, MediaType.APPLICATION_JSON), sizes(cbor, MediaType.APPLICATION_CBOR),
+        sizes(protobuf, UserProtobufHttpMessageConverter.PROTOBUF));
+  }
+
+  @Benchmark
+  public int json() throws IOException {
+    return write(json, MediaType.APPLICATION_JSON);
+  }
+
+  @Benchmark
+  public int cbor() throws IOException {
+    return write(cbor, MediaType.APPLICATION_CBOR);
+  }
+
+  @Benchmark
+  public int protobuf() throws IOException {
+    return write(protobuf, UserProtobufHttpMessageConverter.PROTOBUF);
+  }
+
+  private int write(GenericHttpMessageConverter<Object> converter, MediaType mediaType) throws IOException {
+    output.reset();
+    converter.write(page, PAGE_TYPE, mediaType, output);
+    return output.body.size();
+  }
+
+  private String sizes(GenericHttpMessageConverter<Object> converter, MediaType mediaType) throws IOException {
+    write(converter, mediaType);
+    ByteArrayOutputStream compressed = new ByteArrayOutputStream();
+    try (GZIPOutputStream gzip = new GZIPOutputStream(compressed)) {
+      output.body.writeTo(gzip);
+    }
+    return output.body.size() + "/" + compressed.size();
+  }
+
+  /**
+   * Output message over a reused buffer, so the benchmark measures encoding
+   */
+  private static final class BufferedOutputMessage implements HttpOutputMessage {
+
+    private final ByteArrayOutputStream body = new ByteArrayOutputStream(256 * 1024);
+    private HttpHeaders headers = new HttpHeaders();
+
+    void reset() {
+      body.reset();
+      headers = new HttpHeaders();
+    }
+
+    @Override
+    public ByteArrayOutputStream getBody() {
+      return body;
+    }
+
+    @Override
+    public HttpHeaders getHeaders() {
+      return headers;
+    }
+  }
+}
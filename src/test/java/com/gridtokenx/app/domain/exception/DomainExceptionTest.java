@@ -120,4 +120,49 @@ class DomainExceptionTest {
     assertTrue(new InvalidTokenException() instanceof RuntimeException);
     assertTrue(new WeakPasswordException() instanceof RuntimeException);
   }
+
+  @Test
+  @DisplayName("Pre-allocated authentication exceptions should be stackless")
+  void preAllocatedExceptionsShouldBeStackless() {
+    assertEquals(0, InvalidCredentialsException.INSTANCE.getStackTrace().length);
+    assertEquals(0, UnknownUserException.INSTANCE.getStackTrace().length);
+    assertEquals(0, InvalidTokenException.INSTANCE.getStackTrace().length);
+    assertEquals(0, ExpiredTokenException.INSTANCE.getStackTrace().length);
+
+    InvalidCredentialsException.INSTANCE.addSuppressed(new RuntimeException("ignored"));
+    assertEquals(0, InvalidCredentialsException.INSTANCE.getSuppressed().length);
+  }
+
+  @Test
+  @DisplayName("Authentication exceptions should expose their failure reason")
+  void authenticationExceptionsShouldExposeReason() {
+    assertEquals(AuthenticationFailureReason.BAD_CREDENTIALS, InvalidCredentialsException.INSTANCE.getReason());
+    assertEquals(AuthenticationFailureReason.UNKNOWN_USER, UnknownUserException.INSTANCE.getReason());
+    assertEquals(AuthenticationFailureReason.EXPIRED_TOKEN, ExpiredTokenException.INSTANCE.getReason());
+    assertEquals(AuthenticationFailureReason.INVALID_TOKEN, new InvalidTokenException().getReason());
+    assertEquals(AuthenticationFailureReason.ACCOUNT_LOCKED, new AccountLockedException().getReason());
+    assertEquals(AuthenticationFailureReason.OTHER, new AuthenticationException("other").getReason());
+    assertEquals(UnknownUserException.INSTANCE.getMessage(), InvalidCredentialsException.INSTANCE.getMessage());
+  }
+
+  @Test
+  @DisplayName("Domain exceptions should skip stack trace capture by default")
+  void domainExceptionsShouldBeStacklessByDefault() {
+    assertFalse(DomainException.STACK_TRACES_ENABLED);
+    assertEquals(0, new UserNotFoundException(java.util.UUID.randomUUID().toString()).getStackTrace().length);
+    assertEquals(0, InvalidUserDataException.usernameTaken().getStackTrace().length);
+  }
+
+  @Test
+  @DisplayName("Domain exceptions should carry structured error codes")
+  void domainExceptionsShouldCarryErrorCodes() {
+    assertEquals(DomainErrorCode.USER_NOT_FOUND, new UserNotFoundException("jane").getErrorCode());
+    assertEquals(DomainErrorCode.USERNAME_ALREADY_EXISTS, InvalidUserDataException.usernameTaken().getErrorCode());
+    assertEquals(DomainErrorCode.EMAIL_ALREADY_EXISTS, InvalidUserDataException.emailTaken().getErrorCode());
+    assertEquals(DomainErrorCode.VALIDATION_FAILED,
+        InvalidUserDataException.validationFailed("User data validation failed").getErrorCode());
+    assertEquals(DomainErrorCode.INVALID_USER_DATA, new InvalidUserDataException("bad").getErrorCode());
+    assertEquals("Invalid username: already exists", InvalidUserDataException.usernameTaken().getMessage());
+    assertEquals("Invalid email: already exists", InvalidUserDataException.emailTaken().getMessage());
+  }
 }
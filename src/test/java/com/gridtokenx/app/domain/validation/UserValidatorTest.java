@@ -0,0 +1,94 @@
+package com.gridtokenx.app.domain.validation;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Random;
+import java.util.regex.Pattern;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+/**
+ * Tests for the single-pass user rules, including that they accept exactly
+ * what the regexes they replaced accepted
+ */
+@DisplayName("User Validator Tests")
+class UserValidatorTest {
+
+  private static final Pattern USERNAME = Pattern.compile("^[a-zA-Z0-9_]+$");
+  private static final Pattern EMAIL = Pattern.compile("^[A-Za-z0-9+_.-]+@([A-Za-z0-9.-]+\\.[A-Za-z]{2,})$");
+  private static final Pattern UPPERCASE = Pattern.compile(".*[A-Z].*");
+  private static final Pattern LOWERCASE = Pattern.compile(".*[a-z].*");
+  private static final Pattern DIGIT = Pattern.compile(".*\\d.*");
+
+  // a few of each character class the patterns tell apart, '.' and '@' weighted up;
+  // the last three are a line break . does not match, a non-ASCII letter and a non-ASCII digit
+  private static final char[] ALPHABET = "aZq09_+-..@@ \n\u2028\u00e9\u0661".toCharArray();
+
+  @Test
+  @DisplayName("Should accept exactly what the replaced patterns accepted")
+  void shouldMatchReplacedPatterns() {
+    Random random = new Random(42);
+    for (int n = 0; n < 200_000; n++) {
+      char[] chars = new char[random.nextInt(14)];
+      for (int i = 0; i < chars.length; i++) {
+        chars[i] = ALPHABET[random.nextInt(ALPHABET.length)];
+      }
+      String value = new String(chars);
+
+      assertThat(UserValidator.isValidEmail(value)).as("email %s", value)
+          .isEqualTo(EMAIL.matcher(value).matches());
+      assertThat(UserValidator.isValidUsername(value)).as("username %s", value)
+          .isEqualTo(USERNAME.matcher(value).matches() && value.length() >= 3 && value.length() <= 50);
+      assertThat(UserValidator.isValidPassword(value)).as("password %s", value)
+          .isEqualTo(value.length() >= 8 && UPPERCASE.matcher(value).matches()
+              && LOWERCASE.matcher(value).matches() && DIGIT.matcher(value).matches());
+      assertThat(UserValidator.isBlank(value)).isEqualTo(value.trim().isEmpty());
+    }
+  }
+
+  @Test
+  @DisplayName("Should accept common addresses and reject malformed ones")
+  void shouldValidateEmails() {
+    assertThat(UserValidator.isValidEmail("first.last+tag@mail.example.co")).isTrue();
+    assertThat(UserValidator.isValidEmail("a@b-c.io")).isTrue();
+    assertThat(UserValidator.isValidEmail("a@b.c")).isFalse();
+    assertThat(UserValidator.isValidEmail("a@.io")).isFalse();
+    assertThat(UserValidator.isValidEmail("@b.io")).isFalse();
+    assertThat(UserValidator.isValidEmail("a@b.i0")).isFalse();
+    assertThat(UserValidator.isValidEmail("a@b@c.io")).isFalse();
+    assertThat(UserValidator.isValidEmail("a@b.io\n")).isFalse();
+    assertThat(UserValidator.isValidEmail(null)).isFalse();
+  }
+
+  @Test
+  @DisplayName("Should report every broken rule of a new user in field order")
+  void shouldReportAllViolations() {
+    assertThat(UserValidator.validateNewUser("valid_user", "valid@example.com", "Valid", "User")).isEmpty();
+
+    assertThat(UserValidator.validateNewUser("ab", "not-an-email", " ", null))
+        .extracting(UserViolation::field, UserViolation::reason)
+        .containsExactly(
+            tuple("username", UserValidator.USERNAME_FORMAT),
+            tuple("email", UserValidator.EMAIL_FORMAT),
+            tuple("firstName", UserValidator.EMPTY),
+            tuple("lastName", UserValidator.EMPTY));
+    assertThat(UserValidator.validateNewUser("", "", "Valid", "User"))
+        .extracting(UserViolation::message)
+        .containsExactly("Invalid username: cannot be empty", "Invalid email: cannot be empty");
+  }
+
+  @Test
+  @DisplayName("Should report each password rule the password breaks")
+  void shouldReportPasswordViolations() {
+    assertThat(UserValidator.validatePassword("Password123")).isEmpty();
+    assertThat(UserValidator.validatePassword("abc")).extracting(UserViolation::reason).containsExactly(
+        UserValidator.PASSWORD_LENGTH, UserValidator.PASSWORD_UPPERCASE, UserValidator.PASSWORD_DIGIT);
+    assertThat(UserValidator.validatePassword("PASSWORD\n123")).extracting(UserViolation::reason)
+        .containsExactly(UserValidator.PASSWORD_LOWERCASE, UserValidator.PASSWORD_LINE_BREAK);
+    assertThat(UserValidator.validatePassword(null)).extracting(UserViolation::reason)
+        .isEqualTo(List.of(UserValidator.EMPTY));
+  }
+}
@@ -0,0 +1,149 @@
+package com.gridtokenx.app.infrastructure.audit;
+
+import com.gridtokenx.app.infrastructure.persistence.DatabaseDialect;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Tests for the audit writer and repository against H2, which takes the
+ * row-deleting retention path
+ */
+@DisplayName("Authentication Audit Log Tests")
+class AuthAuditLogTest {
+
+  private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+  private final AuthAuditProperties properties = new AuthAuditProperties();
+  private AuthAuditRepository repository;
+  private AuthAuditLog auditLog;
+
+  @BeforeEach
+  void setUp() {
+    DriverManagerDataSource dataSource = new DriverManagerDataSource(
+        "jdbc:h2:mem:auth-audit-" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1", "sa", "");
+    new ResourceDatabasePopulator(new ClassPathResource("db/auth_audit_events_h2.sql")).execute(dataSource);
+    repository = new AuthAuditRepository(new NamedParameterJdbcTemplate(dataSource), DatabaseDialect.H2);
+    properties.setFlushInterval(Duration.ofMillis(10));
+    properties.setRetention(Duration.ofDays(30));
+  }
+
+  @AfterEach
+  void tearDown() {
+    if (auditLog != null) {
+      auditLog.stop();
+    }
+  }
+
+  @Test
+  @DisplayName("Queued events should be written in batches and read back newest first")
+  void shouldWriteAndReadRecentEvents() throws Exception {
+    properties.setBatchSize(2);
+    auditLog = new AuthAuditLog(repository, properties, meterRegistry);
+    auditLog.start();
+    UUID userId = UUID.randomUUID();
+    LocalDateTime now = LocalDateTime.now();
+    auditLog.record(new AuthAuditEvent(now.minusMinutes(3), AuthAuditEvent.Type.LOGIN_FAILED, "alice", null,
+        "BAD_CREDENTIALS", "10.0.0.1"));
+    auditLog.record(new AuthAuditEvent(now.minusMinutes(2), AuthAuditEvent.Type.LOGIN_SUCCEEDED, "alice", userId,
+        null, "10.0.0.1"));
+    auditLog.record(new AuthAuditEvent(now.minusMinutes(1), AuthAuditEvent.Type.LOGOUT, "alice", null, null,
+        "10.0.0.1"));
+    auditLog.record(AuthAuditEvent.of(AuthAuditEvent.Type.LOGIN_SUCCEEDED, "bob", UUID.randomUUID(), null, null));
+
+    List<AuthAuditEvent> events = awaitEvents("alice", 3);
+    assertThat(events).extracting(AuthAuditEvent::type).containsExactly(
+        AuthAuditEvent.Type.LOGOUT, AuthAuditEvent.Type.LOGIN_SUCCEEDED, AuthAuditEvent.Type.LOGIN_FAILED);
+    assertThat(events.get(1).userId()).isEqualTo(userId);
+    assertThat(events.get(2).reason()).isEqualTo("BAD_CREDENTIALS");
+    assertThat(auditLog.recent("alice", Duration.ofHours(1), 1)).hasSize(1);
+    assertThat(auditLog.recent("alice", Duration.ofSeconds(90), 10)).hasSize(1);
+    assertThat(meterRegistry.get("audit.auth.events.recorded").counter().count()).isEqualTo(4);
+    assertThat(meterRegistry.get("audit.auth.batch.size").summary().max()).isLessThanOrEqualTo(2);
+  }
+
+  @Test
+  @DisplayName("A full buffer should drop and count events, and stop should write the rest")
+  void shouldDropWhenFullAndFlushOnStop() {
+    properties.setBufferSize(4);
+    auditLog = new AuthAuditLog(repository, properties, meterRegistry);
+    for (int i = 0; i < 6; i++) {
+      auditLog.record(AuthAuditEvent.of(AuthAuditEvent.Type.LOGIN_FAILED, "carol", null, "UNKNOWN_USER", null));
+    }
+    assertThat(meterRegistry.get("audit.auth.events.dropped").counter().count()).isEqualTo(2);
+
+    auditLog.start();
+    auditLog.stop();
+
+    assertThat(repository.findRecent("carol", LocalDateTime.now().minusHours(1), 10)).hasSize(4);
+    assertThat(meterRegistry.get("audit.auth.queue.depth").gauge().value()).isZero();
+  }
+
+  @Test
+  @DisplayName("Retention should remove events from before the cutoff day")
+  void shouldRemoveExpiredEvents() {
+    LocalDateTime now = LocalDateTime.now();
+    repository.insert(List.of(
+        new AuthAuditEvent(now.minusDays(40), AuthAuditEvent.Type.LOGIN_SUCCEEDED, "dave", null, null, null),
+        new AuthAuditEvent(now.minusDays(31), AuthAuditEvent.Type.LOGOUT, "dave", null, null, null),
+        new AuthAuditEvent(now, AuthAuditEvent.Type.LOGIN_SUCCEEDED, "dave", null, null, null)));
+
+    assertThat(repository.deleteBefore(now.toLocalDate().minusDays(30))).isEqualTo(2);
+    assertThat(repository.findRecent("dave", now.minusYears(1), 10)).hasSize(1);
+  }
+
+  @Test
+  @DisplayName("Days left without a partition should be counted")
+  void shouldCountMissingPartitions() {
+    AuthAuditRepository failing = mock(AuthAuditRepository.class);
+    when(failing.createPartitions(any(), any())).thenReturn(2);
+    auditLog = new AuthAuditLog(failing, properties, meterRegistry);
+
+    auditLog.start();
+    verify(failing, timeout(5_000)).createPartitions(
+        LocalDate.now().minusDays(1), LocalDate.now().plusDays(properties.getPartitionsAhead()));
+    auditLog.stop();
+
+    assertThat(meterRegistry.get("audit.auth.partition.failures").counter().count()).isEqualTo(2);
+  }
+
+  @Test
+  @DisplayName("Partition names should map to their day and back")
+  void shouldNamePartitionsByDay() {
+    LocalDate day = LocalDate.of(2025, 3, 9);
+
+    assertThat(AuthAuditRepository.partition(day)).isEqualTo("auth_audit_events_p20250309");
+    assertThat(AuthAuditRepository.partitionDay("auth_audit_events_p20250309")).isEqualTo(day);
+    assertThat(AuthAuditRepository.partitionDay("auth_audit_events_default")).isNull();
+    assertThat(AuthAuditRepository.partitionDay("outbox_events")).isNull();
+  }
+
+  private List<AuthAuditEvent> awaitEvents(String username, int count) throws InterruptedException {
+    long deadline = System.nanoTime() + 5_000_000_000L;
+    List<AuthAuditEvent> events = auditLog.recent(username, Duration.ofHours(1), 10);
+    while (events.size() < count && System.nanoTime() < deadline) {
+      Thread.sleep(10);
+      events = auditLog.recent(username, Duration.ofHours(1), 10);
+    }
+    assertThat(events).hasSize(count);
+    return events;
+  }
+}
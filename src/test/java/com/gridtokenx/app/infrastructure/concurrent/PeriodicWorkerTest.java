@@ -0,0 +1,54 @@
+package com.gridtokenx.app.infrastructure.concurrent;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for the periodic worker threads
+ */
+@DisplayName("Periodic Worker Tests")
+class PeriodicWorkerTest {
+
+  @Test
+  @DisplayName("A zero pause should run the step again straight away")
+  void zeroPauseShouldRepeatImmediately() throws Exception {
+    CountDownLatch steps = new CountDownLatch(3);
+    AtomicInteger runs = new AtomicInteger();
+    PeriodicWorker worker = new PeriodicWorker("test-worker", 1, () -> {
+      runs.incrementAndGet();
+      steps.countDown();
+      return steps.getCount() == 0 ? Duration.ofHours(1) : Duration.ZERO;
+    });
+
+    worker.start();
+    assertThat(steps.await(5, TimeUnit.SECONDS)).isTrue();
+    assertThat(worker.stop(Duration.ofSeconds(5))).isTrue();
+    assertThat(runs).hasValue(3);
+  }
+
+  @Test
+  @DisplayName("Stop should wake paused threads instead of waiting out the pause")
+  void stopShouldWakePausedThreads() throws Exception {
+    CountDownLatch started = new CountDownLatch(2);
+    PeriodicWorker worker = new PeriodicWorker("test-worker", 2, () -> {
+      started.countDown();
+      return Duration.ofHours(1);
+    });
+
+    worker.start();
+    assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+    assertThat(worker.isRunning()).isTrue();
+
+    long begin = System.nanoTime();
+    assertThat(worker.stop(Duration.ofSeconds(5))).isTrue();
+    assertThat(Duration.ofNanos(System.nanoTime() - begin)).isLessThan(Duration.ofSeconds(5));
+    assertThat(worker.isRunning()).isFalse();
+  }
+}
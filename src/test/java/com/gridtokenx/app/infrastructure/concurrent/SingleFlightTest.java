@@ -0,0 +1,130 @@
+package com.gridtokenx.app.infrastructure.concurrent;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Unit tests for request coalescing
+ */
+@DisplayName("Single Flight Tests")
+class SingleFlightTest {
+
+  @Test
+  @DisplayName("Concurrent calls for the same key should share one execution")
+  void concurrentCallsShouldShareOneExecution() throws Exception {
+    SingleFlight<String, String> singleFlight = new SingleFlight<>(Duration.ofSeconds(5));
+    AtomicInteger executions = new AtomicInteger();
+    CountDownLatch leaderStarted = new CountDownLatch(1);
+    CountDownLatch release = new CountDownLatch(1);
+    ExecutorService executor = Executors.newFixedThreadPool(8);
+
+    try {
+      Future<String> leader = executor.submit(() -> singleFlight.execute("jane", () -> {
+        executions.incrementAndGet();
+        leaderStarted.countDown();
+        await(release);
+        return "row";
+      }));
+      assertThat(leaderStarted.await(5, TimeUnit.SECONDS)).isTrue();
+
+      CountDownLatch followersArrived = new CountDownLatch(7);
+      List<Future<String>> followers = new ArrayList<>();
+      for (int i = 0; i < 7; i++) {
+        followers.add(executor.submit(() -> {
+          followersArrived.countDown();
+          return singleFlight.execute("jane", () -> {
+            executions.incrementAndGet();
+            return "own";
+          });
+        }));
+      }
+      assertThat(followersArrived.await(5, TimeUnit.SECONDS)).isTrue();
+      // give the followers time to reach the in-flight call before it completes
+      Thread.sleep(200);
+      release.countDown();
+
+      assertThat(leader.get(5, TimeUnit.SECONDS)).isEqualTo("row");
+      for (Future<String> follower : followers) {
+        assertThat(follower.get(5, TimeUnit.SECONDS)).isEqualTo("row");
+      }
+    } finally {
+      executor.shutdownNow();
+    }
+
+    assertThat(executions.get()).isEqualTo(1);
+    assertThat(singleFlight.getExecutedCount()).isEqualTo(1);
+    assertThat(singleFlight.getCollapsedCount()).isEqualTo(7);
+    assertThat(singleFlight.getInFlightCount()).isZero();
+  }
+
+  @Test
+  @DisplayName("Calls after completion should start a fresh execution")
+  void sequentialCallsShouldNotBeCached() {
+    SingleFlight<String, Integer> singleFlight = new SingleFlight<>(Duration.ofSeconds(1));
+    AtomicInteger counter = new AtomicInteger();
+
+    assertThat(singleFlight.execute("key", counter::incrementAndGet)).isEqualTo(1);
+    assertThat(singleFlight.execute("key", counter::incrementAndGet)).isEqualTo(2);
+    assertThat(singleFlight.getCollapsedCount()).isZero();
+  }
+
+  @Test
+  @DisplayName("Waiters should run the loader themselves after the wait bound")
+  void waitersShouldFallBackAfterTimeout() throws Exception {
+    SingleFlight<String, String> singleFlight = new SingleFlight<>(Duration.ofMillis(50));
+    CountDownLatch leaderStarted = new CountDownLatch(1);
+    CountDownLatch release = new CountDownLatch(1);
+    ExecutorService executor = Executors.newSingleThreadExecutor();
+
+    try {
+      Future<String> leader = executor.submit(() -> singleFlight.execute("slow", () -> {
+        leaderStarted.countDown();
+        await(release);
+        return "leader";
+      }));
+      assertThat(leaderStarted.await(5, TimeUnit.SECONDS)).isTrue();
+
+      assertThat(singleFlight.execute("slow", () -> "own")).isEqualTo("own");
+      assertThat(singleFlight.getTimeoutCount()).isEqualTo(1);
+
+      release.countDown();
+      assertThat(leader.get(5, TimeUnit.SECONDS)).isEqualTo("leader");
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
+  @Test
+  @DisplayName("Leader failures should propagate to the leader and release the key")
+  void leaderFailureShouldReleaseKey() {
+    SingleFlight<String, String> singleFlight = new SingleFlight<>(Duration.ofSeconds(1));
+
+    assertThatThrownBy(() -> singleFlight.execute("bad", () -> {
+      throw new IllegalStateException("database down");
+    })).isInstanceOf(IllegalStateException.class);
+
+    assertThat(singleFlight.getInFlightCount()).isZero();
+    assertThat(singleFlight.execute("bad", () -> "recovered")).isEqualTo("recovered");
+  }
+
+  private static void await(CountDownLatch latch) {
+    try {
+      latch.await(5, TimeUnit.SECONDS);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+}
@@ -0,0 +1,162 @@
+package com.gridtokenx.app.infrastructure.logging;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.classic.spi.LoggingEvent;
+import ch.qos.logback.classic.util.LogbackMDCAdapter;
+import ch.qos.logback.core.AppenderBase;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for the non-blocking logging pipeline
+ */
+@DisplayName("Ring Buffer Logging Pipeline Tests")
+class RingBufferAppenderTest {
+
+  private LoggerContext context;
+  private Logger logger;
+
+  @BeforeEach
+  void setUp() {
+    context = new LoggerContext();
+    context.setMDCAdapter(new LogbackMDCAdapter());
+    context.start();
+    logger = context.getLogger("com.gridtokenx.app.test");
+    logger.setLevel(Level.DEBUG);
+  }
+
+  @AfterEach
+  void tearDown() {
+    context.stop();
+  }
+
+  @Test
+  @DisplayName("Should deliver events to attached appenders in order")
+  void shouldDeliverEventsInOrder() throws Exception {
+    CollectingAppender sink = new CollectingAppender(null);
+    RingBufferAppender appender = ringBuffer(sink, 64);
+
+    for (int i = 0; i < 20; i++) {
+      logger.info("event {}", i);
+    }
+    appender.stop();
+
+    assertThat(sink.events).hasSize(20);
+    assertThat(sink.events.get(0).getFormattedMessage()).isEqualTo("event 0");
+    assertThat(sink.events.get(19).getFormattedMessage()).isEqualTo("event 19");
+    assertThat(appender.getEnqueuedCount()).isEqualTo(20);
+  }
+
+  @Test
+  @DisplayName("Should drop and count events instead of blocking when full")
+  void shouldDropAndCountWhenFull() throws Exception {
+    CountDownLatch release = new CountDownLatch(1);
+    CollectingAppender sink = new CollectingAppender(release);
+    RingBufferAppender appender = ringBuffer(sink, 4);
+
+    long start = System.nanoTime();
+    for (int i = 0; i < 50; i++) {
+      logger.info("info {}", i);
+    }
+    logger.warn("warning");
+    long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+    assertThat(elapsedMillis).isLessThan(1_000);
+    assertThat(appender.getDroppedCount(Level.INFO)).isGreaterThanOrEqualTo(45);
+    assertThat(appender.getDroppedCount(Level.WARN)).isEqualTo(1);
+    assertThat(appender.getEnqueuedCount() + appender.getDroppedCount(Level.INFO)).isEqualTo(50);
+
+    release.countDown();
+    appender.stop();
+  }
+
+  @Test
+  @DisplayName("Should sample matching INFO events but keep other levels")
+  void shouldSampleMatchingInfoEvents() {
+    SamplingTurboFilter sampling = new SamplingTurboFilter();
+    sampling.setLoggerPrefix("com.gridtokenx.app.test");
+    sampling.setSampleRate(1_000_000);
+    sampling.start();
+    context.addTurboFilter(sampling);
+
+    for (int i = 0; i < 100; i++) {
+      logger.info("sampled {}", i);
+    }
+
+    assertThat(sampling.getSampledOutCount()).isGreaterThanOrEqualTo(99);
+    assertThat(logger.isWarnEnabled()).isTrue();
+  }
+
+  @Test
+  @DisplayName("JSON encoder should produce one valid JSON document per line")
+  void jsonEncoderShouldProduceValidJsonLines() throws Exception {
+    JsonLineEncoder encoder = new JsonLineEncoder();
+    encoder.setContext(context);
+    encoder.start();
+
+    LoggingEvent event = new LoggingEvent(Logger.FQCN, logger, Level.ERROR,
+        "User \"{}\" failed\twith ünïcødé ✓", new IllegalStateException("boom"), new Object[] { "jane" });
+    byte[] encoded = encoder.encode(event);
+    String line = new String(encoded, StandardCharsets.UTF_8);
+
+    assertThat(line).endsWith("}\n");
+    JsonNode json = new ObjectMapper().readTree(line);
+    assertThat(json.get("level").asText()).isEqualTo("ERROR");
+    assertThat(json.get("logger").asText()).isEqualTo("com.gridtokenx.app.test");
+    assertThat(json.get("msg").asText()).isEqualTo("User \"jane\" failed\twith ünïcødé ✓");
+    assertThat(json.get("ts").asLong()).isEqualTo(event.getTimeStamp());
+    assertThat(json.get("exception").asText())
+        .startsWith("java.lang.IllegalStateException: boom")
+        .contains("\tat com.gridtokenx.app.infrastructure.logging.RingBufferAppenderTest");
+  }
+
+  private RingBufferAppender ringBuffer(CollectingAppender sink, int bufferSize) {
+    sink.setContext(context);
+    sink.start();
+    RingBufferAppender appender = new RingBufferAppender();
+    appender.setContext(context);
+    appender.setName("RING");
+    appender.setBufferSize(bufferSize);
+    appender.addAppender(sink);
+    appender.start();
+    logger.addAppender(appender);
+    return appender;
+  }
+
+  private static final class CollectingAppender extends AppenderBase<ILoggingEvent> {
+
+    private final List<ILoggingEvent> events = new CopyOnWriteArrayList<>();
+    private final CountDownLatch release;
+
+    private CollectingAppender(CountDownLatch release) {
+      this.release = release;
+    }
+
+    @Override
+    protected void append(ILoggingEvent event) {
+      if (release != null) {
+        try {
+          release.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+          Thread.currentThread().interrupt();
+        }
+      }
+      events.add(event);
+    }
+  }
+}
@@ -0,0 +1,30 @@
+package com.gridtokenx.app.infrastructure.persistence;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+/**
+ * Checks the Java trigram similarity against values returned by pg_trgm
+ */
+@DisplayName("Trigram Similarity Tests")
+class TrigramSimilarityTest {
+
+  @Test
+  @DisplayName("Should extract padded word trigrams like show_trgm")
+  void shouldExtractPaddedTrigrams() {
+    assertThat(TrigramSimilarity.trigrams("Cat")).containsExactlyInAnyOrder("  c", " ca", "cat", "at ");
+    assertThat(TrigramSimilarity.trigrams("a.b")).containsExactlyInAnyOrder("  a", " a ", "  b", " b ");
+  }
+
+  @Test
+  @DisplayName("Should match pg_trgm similarity")
+  void shouldMatchPgTrgmSimilarity() {
+    assertThat(TrigramSimilarity.similarity(TrigramSimilarity.trigrams("word"), "two words"))
+        .isCloseTo(0.36363637f, within(1e-6f));
+    assertThat(TrigramSimilarity.similarity(TrigramSimilarity.trigrams("abc"), "abc")).isEqualTo(1f);
+    assertThat(TrigramSimilarity.similarity(TrigramSimilarity.trigrams(""), "abc")).isZero();
+  }
+}
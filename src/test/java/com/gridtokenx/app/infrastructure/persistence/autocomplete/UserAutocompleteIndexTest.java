@@ -0,0 +1,170 @@
+package com.gridtokenx.app.infrastructure.persistence.autocomplete;
+
+import com.gridtokenx.app.application.dto.UserSuggestion;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for the front-coded autocomplete index
+ */
+@DisplayName("User Autocomplete Index Tests")
+class UserAutocompleteIndexTest {
+
+  @Test
+  @DisplayName("Should complete usernames and any word of the display name")
+  void shouldCompleteUsernamesAndNames() {
+    UserAutocompleteIndex index = index(1024);
+    index.load(List.of(
+        user("jdoe", "John Doe"),
+        user("jane_smith", "Jane Smith"),
+        user("smithy", "Will Smith"),
+        user("zoe", "Zoë Åberg")).iterator(), 0);
+
+    assertThat(usernames(index.complete("J", 10))).containsExactly("jane_smith", "jdoe");
+    assertThat(usernames(index.complete("smi", 10))).containsExactlyInAnyOrder("jane_smith", "smithy");
+    assertThat(usernames(index.complete("åb", 10))).containsExactly("zoe");
+    assertThat(index.complete("zoe", 10).get(0).displayName()).isEqualTo("Zoë Åberg");
+    assertThat(index.complete("nobody", 10)).isEmpty();
+  }
+
+  @Test
+  @DisplayName("Should return at most limit distinct users in term order")
+  void shouldLimitDistinctUsers() {
+    List<UserSuggestion> users = new ArrayList<>();
+    for (int i = 0; i < 100; i++) {
+      users.add(user(String.format("user%03d", i), "Member Number" + i));
+    }
+    UserAutocompleteIndex index = index(1024);
+    index.load(users.iterator(), index.sequence());
+
+    List<UserSuggestion> completions = index.complete("user", 5);
+
+    assertThat(usernames(completions)).containsExactly("user000", "user001", "user002", "user003", "user004");
+  }
+
+  @Test
+  @DisplayName("Overlay changes should win over the snapshot and survive compaction")
+  void overlayChangesShouldWin() {
+    UserSuggestion alice = user("alice", "Alice Adams");
+    UserSuggestion bob = user("bob", "Bob Brown");
+    UserAutocompleteIndex index = index(2);
+    index.load(List.of(alice, bob).iterator(), 0);
+
+    index.put(new UserSuggestion(alice.id(), "alicia", "Alicia Adams"));
+    index.remove(bob.id());
+
+    assertThat(usernames(index.complete("ali", 10))).containsExactly("alicia");
+    assertThat(index.complete("bob", 10)).isEmpty();
+
+    index.put(user("carol", "Carol Adams"));
+
+    assertThat(index.size()).isEqualTo(2);
+    assertThat(usernames(index.complete("adams", 10))).containsExactlyInAnyOrder("alicia", "carol");
+    assertThat(index.complete("bob", 10)).isEmpty();
+  }
+
+  @Test
+  @DisplayName("Writes that leave a user as indexed should not touch the overlay")
+  void unchangedWritesShouldBeIgnored() {
+    UserSuggestion alice = user("alice", "Alice Adams");
+    List<Runnable> compactions = new ArrayList<>();
+    UserAutocompleteIndex index = new UserAutocompleteIndex(new SimpleMeterRegistry(), 1, compactions::add);
+    index.load(List.of(alice).iterator(), 0);
+
+    for (int i = 0; i < 10; i++) {
+      index.put(new UserSuggestion(alice.id(), "alice", "Alice Adams"));
+      index.remove(UUID.randomUUID());
+    }
+
+    assertThat(index.sequence()).isZero();
+    assertThat(compactions).isEmpty();
+  }
+
+  @Test
+  @DisplayName("Lookups should stay complete while a frozen overlay is compacted")
+  void lookupsShouldStayCompleteDuringCompaction() {
+    UserSuggestion alice = user("alice", "Alice Adams");
+    UserSuggestion bob = user("bob", "Bob Adams");
+    List<Runnable> compactions = new ArrayList<>();
+    UserAutocompleteIndex index = new UserAutocompleteIndex(new SimpleMeterRegistry(), 1, compactions::add);
+    index.load(List.of(alice, bob).iterator(), 0);
+
+    index.put(user("carol", "Carol Adams"));
+    index.remove(bob.id());
+    index.put(user("dave", "Dave Adams"));
+
+    assertThat(compactions).hasSize(1);
+    assertThat(usernames(index.complete("adams", 10))).containsExactlyInAnyOrder("alice", "carol", "dave");
+
+    compactions.get(0).run();
+
+    assertThat(index.size()).isEqualTo(2);
+    assertThat(usernames(index.complete("adams", 10))).containsExactlyInAnyOrder("alice", "carol", "dave");
+    assertThat(index.complete("bob", 10)).isEmpty();
+  }
+
+  @Test
+  @DisplayName("A load should keep only the changes recorded after it started reading")
+  void loadShouldKeepNewerChanges() {
+    UserSuggestion alice = user("alice", "Alice Adams");
+    UserAutocompleteIndex index = index(1024);
+    index.put(user("carol", "Carol Adams"));
+
+    long since = index.sequence();
+    UserSuggestion dave = user("dave", "Dave Adams");
+    index.put(dave);
+    index.load(List.of(alice).iterator(), since);
+
+    assertThat(usernames(index.complete("adams", 10))).containsExactlyInAnyOrder("alice", "dave");
+  }
+
+  @Test
+  @DisplayName("A refresh should apply changes from elsewhere unless a newer local one exists")
+  void refreshShouldApplyOlderChangesOnly() {
+    UserSuggestion alice = user("alice", "Alice Adams");
+    UserSuggestion bob = user("bob", "Bob Brown");
+    UserAutocompleteIndex index = index(1024);
+    index.load(List.of(alice, bob).iterator(), 0);
+
+    long since = index.sequence();
+    index.put(new UserSuggestion(bob.id(), "bobby", "Bob Brown"));
+    UserSuggestion carol = user("carol", "Carol Adams");
+    index.refresh(List.of(carol, bob), List.of(alice.id()), since);
+
+    assertThat(usernames(index.complete("adams", 10))).containsExactly("carol");
+    assertThat(usernames(index.complete("bob", 10))).containsExactly("bobby");
+  }
+
+  @Test
+  @DisplayName("Should report a small per-user memory footprint")
+  void shouldReportMemoryPerUser() {
+    List<UserSuggestion> users = new ArrayList<>();
+    for (int i = 0; i < 10_000; i++) {
+      users.add(user("member_" + i, "Member " + i + " Lastname"));
+    }
+    UserAutocompleteIndex index = index(1024);
+    index.load(users.iterator(), index.sequence());
+
+    assertThat(index.size()).isEqualTo(10_000);
+    assertThat(index.memoryBytesPerUser()).isBetween(40.0, 160.0);
+  }
+
+  private static UserAutocompleteIndex index(int overlayLimit) {
+    return new UserAutocompleteIndex(new SimpleMeterRegistry(), overlayLimit, Runnable::run);
+  }
+
+  private static UserSuggestion user(String username, String displayName) {
+    return new UserSuggestion(UUID.randomUUID(), username, displayName);
+  }
+
+  private static List<String> usernames(List<UserSuggestion> suggestions) {
+    return suggestions.stream().map(UserSuggestion::username).toList();
+  }
+}
@@ -0,0 +1,130 @@
+package com.gridtokenx.app.infrastructure.persistence.routing;
+
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.SQLFeatureNotSupportedException;
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Routing tests against two in-memory H2 databases standing in for a primary
+ * and a replica; each holds a marker row naming itself
+ */
+@DisplayName("Replica Routing DataSource Tests")
+class ReplicaRoutingDataSourceTest {
+
+  private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+  private ReplicaRoutingDataSource routing;
+  private JdbcTemplate jdbcTemplate;
+  private TransactionTemplate readWrite;
+  private TransactionTemplate readOnly;
+
+  @AfterEach
+  void tearDown() {
+    SecurityContextHolder.clearContext();
+    if (routing != null) {
+      routing.close();
+    }
+  }
+
+  @Test
+  @DisplayName("Read-only transactions should go to the replica, others to the primary")
+  void shouldRouteByTransactionReadOnlyFlag() {
+    setUp(Duration.ofSeconds(5), List.of(database("replica-0", "replica")));
+
+    assertThat(readOnlyMarker()).isEqualTo("replica");
+    assertThat(readWriteMarker()).isEqualTo("primary");
+    assertThat(marker()).isEqualTo("primary");
+    assertThat(meterRegistry.get("datasource.routing.connections").tag("target", "replica-0").counter().count())
+        .isEqualTo(1);
+    assertThatThrownBy(() -> routing.getConnection("sa", "")).isInstanceOf(SQLFeatureNotSupportedException.class);
+  }
+
+  @Test
+  @DisplayName("A principal should read from the primary right after writing")
+  void shouldStickToPrimaryAfterWrite() {
+    setUp(Duration.ofSeconds(30), List.of(database("replica-0", "replica")));
+    SecurityContextHolder.getContext().setAuthentication(
+        new UsernamePasswordAuthenticationToken("jane", null, List.of()));
+
+    assertThat(readOnlyMarker()).isEqualTo("replica");
+    readWrite.executeWithoutResult(status -> jdbcTemplate.update("UPDATE marker SET name = 'primary'"));
+    assertThat(readOnlyMarker()).isEqualTo("primary");
+
+    SecurityContextHolder.getContext().setAuthentication(
+        new UsernamePasswordAuthenticationToken("john", null, List.of()));
+    assertThat(readOnlyMarker()).isEqualTo("replica");
+  }
+
+  @Test
+  @DisplayName("Unavailable replicas should fall back to the primary")
+  void shouldFallBackWhenReplicaIsDown() {
+    HikariConfig broken = new HikariConfig();
+    broken.setPoolName("replica-0");
+    broken.setJdbcUrl("jdbc:h2:tcp://127.0.0.1:1/unreachable");
+    broken.setUsername("sa");
+    broken.setConnectionTimeout(250);
+    broken.setInitializationFailTimeout(-1);
+    setUp(Duration.ofSeconds(5), List.of(new HikariDataSource(broken), database("replica-1", "replica")));
+
+    assertThat(readOnlyMarker()).isIn("primary", "replica");
+    assertThat(readOnlyMarker()).isIn("primary", "replica");
+    assertThat(meterRegistry.get("datasource.replica.failures").counter().count()).isEqualTo(1);
+    assertThat(meterRegistry.get("datasource.replica.healthy").tag("target", "replica-0").gauge().value())
+        .isZero();
+    assertThat(readOnlyMarker()).isEqualTo("replica");
+  }
+
+  private void setUp(Duration stickiness, List<HikariDataSource> replicas) {
+    routing = new ReplicaRoutingDataSource(database("primary", "primary"), replicas, stickiness,
+        Duration.ofMinutes(1), meterRegistry);
+    LazyConnectionDataSourceProxy dataSource = new LazyConnectionDataSourceProxy(routing);
+    jdbcTemplate = new JdbcTemplate(dataSource);
+    DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(dataSource);
+    readWrite = new TransactionTemplate(transactionManager);
+    readOnly = new TransactionTemplate(transactionManager);
+    readOnly.setReadOnly(true);
+  }
+
+  private String readOnlyMarker() {
+    String marker = readOnly.execute(status -> marker());
+    return marker;
+  }
+
+  private String readWriteMarker() {
+    String marker = readWrite.execute(status -> marker());
+    return marker;
+  }
+
+  private String marker() {
+    return jdbcTemplate.queryForObject("SELECT name FROM marker", String.class);
+  }
+
+  private static HikariDataSource database(String poolName, String marker) {
+    HikariConfig config = new HikariConfig();
+    config.setPoolName(poolName);
+    config.setJdbcUrl("jdbc:h2:mem:" + marker + "_" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1");
+    config.setUsername("sa");
+    config.setMaximumPoolSize(2);
+    HikariDataSource dataSource = new HikariDataSource(config);
+    JdbcTemplate jdbc = new JdbcTemplate(dataSource);
+    jdbc.execute("CREATE TABLE marker (name VARCHAR(20))");
+    jdbc.update("INSERT INTO marker VALUES (?)", marker);
+    return dataSource;
+  }
+}
@@ -0,0 +1,46 @@
+package com.gridtokenx.app.infrastructure.security;
+
+import com.gridtokenx.app.domain.exception.AuthenticationFailureReason;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for AuthenticationFailureMonitor
+ */
+@DisplayName("Authentication Failure Monitor Tests")
+class AuthenticationFailureMonitorTest {
+
+  @Test
+  @DisplayName("Should count failures per reason")
+  void shouldCountFailuresPerReason() {
+    SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    AuthenticationFailureMonitor monitor = new AuthenticationFailureMonitor(registry, Duration.ofMinutes(1));
+
+    for (int i = 0; i < 3; i++) {
+      monitor.record(AuthenticationFailureReason.BAD_CREDENTIALS);
+    }
+    monitor.record(AuthenticationFailureReason.EXPIRED_TOKEN);
+
+    assertThat(monitor.count(AuthenticationFailureReason.BAD_CREDENTIALS)).isEqualTo(3);
+    assertThat(monitor.count(AuthenticationFailureReason.EXPIRED_TOKEN)).isEqualTo(1);
+    assertThat(monitor.count(AuthenticationFailureReason.UNKNOWN_USER)).isZero();
+    assertThat(registry.get("auth.failures").tag("reason", "BAD_CREDENTIALS").counter().count()).isEqualTo(3.0);
+  }
+
+  @Test
+  @DisplayName("Should keep counting across aggregated log flushes")
+  void shouldKeepCountingAcrossFlushes() {
+    AuthenticationFailureMonitor monitor = new AuthenticationFailureMonitor(new SimpleMeterRegistry(), Duration.ZERO);
+
+    for (int i = 0; i < 1_000; i++) {
+      monitor.record(AuthenticationFailureReason.UNKNOWN_USER);
+    }
+
+    assertThat(monitor.count(AuthenticationFailureReason.UNKNOWN_USER)).isEqualTo(1_000);
+  }
+}
@@ -0,0 +1,65 @@
+package com.gridtokenx.app.infrastructure.security;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for the concurrency-limited password encoder
+ */
+@DisplayName("Bounded Password Encoder Tests")
+class BoundedPasswordEncoderTest {
+
+  @Test
+  @DisplayName("Should never hash more passwords at once than the limit")
+  void shouldLimitConcurrentHashes() throws Exception {
+    AtomicInteger running = new AtomicInteger();
+    AtomicInteger maxRunning = new AtomicInteger();
+    PasswordEncoder slow = new PasswordEncoder() {
+      @Override
+      public String encode(CharSequence rawPassword) {
+        int now = running.incrementAndGet();
+        maxRunning.accumulateAndGet(now, Math::max);
+        try {
+          Thread.sleep(20);
+        } catch (InterruptedException e) {
+          Thread.currentThread().interrupt();
+        }
+        running.decrementAndGet();
+        return "hash:" + rawPassword;
+      }
+
+      @Override
+      public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        return encode(rawPassword).equals(encodedPassword);
+      }
+    };
+    BoundedPasswordEncoder encoder = new BoundedPasswordEncoder(slow, 2);
+    ExecutorService executor = Executors.newFixedThreadPool(8);
+
+    try {
+      List<Future<Boolean>> results = new ArrayList<>();
+      for (int i = 0; i < 16; i++) {
+        String password = "secret" + i;
+        results.add(executor.submit(() -> encoder.matches(password, encoder.encode(password))));
+      }
+      for (Future<Boolean> result : results) {
+        assertThat(result.get(5, TimeUnit.SECONDS)).isTrue();
+      }
+    } finally {
+      executor.shutdownNow();
+    }
+
+    assertThat(maxRunning.get()).isEqualTo(2);
+  }
+}
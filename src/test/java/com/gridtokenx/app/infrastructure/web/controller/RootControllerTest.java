@@ -6,10 +6,16 @@ import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.io.ByteArrayInputStream;
+import java.util.zip.GZIPInputStream;
 
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 import static org.hamcrest.Matchers.*;
+import static org.assertj.core.api.Assertions.assertThat;
 
 /**
  * Test class for RootController
@@ -77,4 +83,47 @@ class RootControllerTest {
         .andExpect(jsonPath("$.endpoints.health.basic_health", is("GET /api/health")))
         .andExpect(jsonPath("$.endpoints.health.detailed_health", is("GET /api/health/detailed")));
   }
+
+  @Test
+  void testTimestampedEndpointsAreNotCached() throws Exception {
+    mockMvc.perform(get("/"))
+        .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "no-store"))
+        .andExpect(jsonPath("$.timestamp", matchesPattern("\\d{4}-\\d{2}-\\d{2}T\\d{2}:\\d{2}:\\d{2}Z")));
+    mockMvc.perform(get("/status"))
+        .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "no-store"));
+  }
+
+  @Test
+  void testApiInfoEndpointRevalidation() throws Exception {
+    MvcResult result = mockMvc.perform(get("/api"))
+        .andExpect(status().isOk())
+        .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "max-age=3600, public"))
+        .andExpect(header().string(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING))
+        .andExpect(header().doesNotExist(HttpHeaders.CONTENT_ENCODING))
+        .andReturn();
+    String eTag = result.getResponse().getHeader(HttpHeaders.ETAG);
+
+    mockMvc.perform(get("/api").header(HttpHeaders.IF_NONE_MATCH, eTag))
+        .andExpect(status().isNotModified())
+        .andExpect(content().string(""));
+  }
+
+  @Test
+  void testApiInfoEndpointGzip() throws Exception {
+    byte[] plain = mockMvc.perform(get("/api"))
+        .andReturn().getResponse().getContentAsByteArray();
+
+    MvcResult result = mockMvc.perform(get("/api").header(HttpHeaders.ACCEPT_ENCODING, "gzip, deflate, br"))
+        .andExpect(status().isOk())
+        .andExpect(header().string(HttpHeaders.CONTENT_ENCODING, "gzip"))
+        .andExpect(content().contentType("application/json"))
+        .andReturn();
+    byte[] gzipped = result.getResponse().getContentAsByteArray();
+
+    assertThat(gzipped.length).isLessThan(plain.length);
+    try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(gzipped))) {
+      assertThat(in.readAllBytes()).isEqualTo(plain);
+    }
+    assertThat(result.getResponse().getHeader(HttpHeaders.ETAG)).endsWith("-gzip\"");
+  }
 }
@@ -0,0 +1,158 @@
+package com.gridtokenx.app.infrastructure.web.converter;
+
+import com.gridtokenx.app.application.dto.LoginResponse;
+import com.gridtokenx.app.application.dto.UserView;
+import com.gridtokenx.app.domain.entity.Role;
+import com.gridtokenx.app.infrastructure.web.dto.UserResponse;
+import com.google.protobuf.CodedInputStream;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.mock.http.MockHttpOutputMessage;
+
+import java.io.IOException;
+import java.lang.reflect.Type;
+import java.nio.ByteBuffer;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("UserProtobufHttpMessageConverter Tests")
+class UserProtobufHttpMessageConverterTest {
+
+  private static final LocalDateTime CREATED = LocalDateTime.of(2025, 3, 1, 12, 30, 15, 123_000_000);
+
+  private final UserProtobufHttpMessageConverter converter = new UserProtobufHttpMessageConverter();
+
+  @Test
+  @DisplayName("Should only write user and login responses and lists of users")
+  void shouldOnlyWriteSupportedTypes() {
+    Type views = new ParameterizedTypeReference<List<UserView>>() {
+    }.getType();
+    Type strings = new ParameterizedTypeReference<List<String>>() {
+    }.getType();
+
+    assertThat(converter.canWrite(UserView.class, UserView.class, UserProtobufHttpMessageConverter.PROTOBUF))
+        .isTrue();
+    assertThat(converter.canWrite(LoginResponse.class, LoginResponse.class, null)).isTrue();
+    assertThat(converter.canWrite(views, ArrayList.class, UserProtobufHttpMessageConverter.PROTOBUF)).isTrue();
+    assertThat(converter.canWrite(strings, ArrayList.class, UserProtobufHttpMessageConverter.PROTOBUF)).isFalse();
+    assertThat(converter.canWrite(Map.class, Map.class, UserProtobufHttpMessageConverter.PROTOBUF)).isFalse();
+    assertThat(converter.canRead(UserView.class, UserProtobufHttpMessageConverter.PROTOBUF)).isFalse();
+  }
+
+  @Test
+  @DisplayName("Should write a user list with binary ids and epoch timestamps")
+  void shouldWriteUserList() throws IOException {
+    UserView first = new UserView(UUID.randomUUID(), "proto_user", "proto@example.com", "Proto", "User",
+        true, CREATED, CREATED.plusDays(1), 3L);
+    UserResponse second = UserResponse.builder()
+        .id(UUID.randomUUID().toString())
+        .username("inactive_user")
+        .email("inactive@example.com")
+        .firstName("Inactive")
+        .lastName("User")
+        .fullName("Inactive User")
+        .active(false)
+        .createdAt(CREATED)
+        .build();
+
+    List<Object> users = List.of(first, second);
+    CodedInputStream in = CodedInputStream.newInstance(write(users));
+
+    assertThat(in.readTag()).isEqualTo(tag(1, 2));
+    CodedInputStream user = CodedInputStream.newInstance(in.readByteArray());
+    assertThat(in.readTag()).isEqualTo(tag(1, 2));
+    CodedInputStream inactive = CodedInputStream.newInstance(in.readByteArray());
+    assertThat(in.isAtEnd()).isTrue();
+
+    assertThat(readUuid(user, 1)).isEqualTo(first.id());
+    assertThat(readString(user, 2)).isEqualTo("proto_user");
+    assertThat(readString(user, 3)).isEqualTo("proto@example.com");
+    assertThat(readString(user, 4)).isEqualTo("Proto");
+    assertThat(readString(user, 5)).isEqualTo("User");
+    assertThat(readString(user, 6)).isEqualTo("Proto User");
+    assertThat(user.readTag()).isEqualTo(tag(7, 0));
+    assertThat(user.readBool()).isTrue();
+    assertThat(user.readTag()).isEqualTo(tag(8, 0));
+    assertThat(user.readInt64()).isEqualTo(CompactBinaryModule.epochMillis(CREATED));
+    assertThat(user.readTag()).isEqualTo(tag(9, 0));
+    assertThat(user.readInt64()).isEqualTo(CompactBinaryModule.epochMillis(CREATED.plusDays(1)));
+    assertThat(user.readTag()).isEqualTo(tag(10, 0));
+    assertThat(user.readInt64()).isEqualTo(3L);
+    assertThat(user.isAtEnd()).isTrue();
+
+    // unset fields (active=false, updatedAt, version) are left out
+    assertThat(readUuid(inactive, 1)).isEqualTo(UUID.fromString(second.getId()));
+    assertThat(readString(inactive, 2)).isEqualTo("inactive_user");
+    inactive.skipField(inactive.readTag());
+    inactive.skipField(inactive.readTag());
+    inactive.skipField(inactive.readTag());
+    inactive.skipField(inactive.readTag());
+    assertThat(inactive.readTag()).isEqualTo(tag(8, 0));
+    assertThat(inactive.readInt64()).isEqualTo(CompactBinaryModule.epochMillis(CREATED));
+    assertThat(inactive.isAtEnd()).isTrue();
+  }
+
+  @Test
+  @DisplayName("Should write a login response with its nested user")
+  void shouldWriteLoginResponse() throws IOException {
+    UUID id = UUID.randomUUID();
+    LoginResponse login = LoginResponse.builder()
+        .accessToken("access")
+        .refreshToken("refresh")
+        .tokenType("Bearer")
+        .expiresIn(CREATED)
+        .user(LoginResponse.UserResponse.builder()
+            .id(id)
+            .username("login_user")
+            .roles(Set.of(Role.ADMIN))
+            .build())
+        .build();
+
+    CodedInputStream in = CodedInputStream.newInstance(write(login));
+
+    assertThat(readString(in, 1)).isEqualTo("access");
+    assertThat(readString(in, 2)).isEqualTo("refresh");
+    assertThat(readString(in, 3)).isEqualTo("Bearer");
+    assertThat(in.readTag()).isEqualTo(tag(4, 0));
+    assertThat(in.readInt64()).isEqualTo(CompactBinaryModule.epochMillis(CREATED));
+    assertThat(in.readTag()).isEqualTo(tag(5, 2));
+    CodedInputStream user = CodedInputStream.newInstance(in.readByteArray());
+    assertThat(in.isAtEnd()).isTrue();
+
+    assertThat(readUuid(user, 1)).isEqualTo(id);
+    assertThat(readString(user, 2)).isEqualTo("login_user");
+    assertThat(readString(user, 6)).isEqualTo("ADMIN");
+    assertThat(user.isAtEnd()).isTrue();
+  }
+
+  private byte[] write(Object value) throws IOException {
+    MockHttpOutputMessage output = new MockHttpOutputMessage();
+    Type type = value instanceof List<?> ? new ParameterizedTypeReference<List<UserView>>() {
+    }.getType() : value.getClass();
+    converter.write(value, type, UserProtobufHttpMessageConverter.PROTOBUF, output);
+    return output.getBodyAsBytes();
+  }
+
+  private static int tag(int field, int wireType) {
+    return field << 3 | wireType;
+  }
+
+  private static String readString(CodedInputStream in, int field) throws IOException {
+    assertThat(in.readTag()).isEqualTo(tag(field, 2));
+    return in.readString();
+  }
+
+  private static UUID readUuid(CodedInputStream in, int field) throws IOException {
+    assertThat(in.readTag()).isEqualTo(tag(field, 2));
+    ByteBuffer bytes = ByteBuffer.wrap(in.readByteArray());
+    assertThat(bytes.remaining()).isEqualTo(16);
+    return new UUID(bytes.getLong(), bytes.getLong());
+  }
+}
@@ -0,0 +1,66 @@
+package com.gridtokenx.app.infrastructure.web.idempotency;
+
+import com.gridtokenx.app.infrastructure.persistence.DatabaseDialect;
+import com.gridtokenx.app.infrastructure.web.idempotency.IdempotencyStore.Outcome;
+import com.gridtokenx.app.infrastructure.web.idempotency.IdempotencyStore.StoredResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for the shared idempotency store against H2 with the V4 migration
+ */
+@DisplayName("JDBC Idempotency Store Tests")
+class JdbcIdempotencyStoreTest {
+
+  private JdbcIdempotencyStore store;
+
+  @BeforeEach
+  void setUp() {
+    DriverManagerDataSource dataSource = new DriverManagerDataSource(
+        "jdbc:h2:mem:idempotency-" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1", "sa", "");
+    new ResourceDatabasePopulator(new ClassPathResource("db/migration/V4__Create_idempotency_keys_table.sql"))
+        .execute(dataSource);
+    IdempotencyProperties properties = new IdempotencyProperties();
+    properties.setInFlightLease(Duration.ofMillis(200));
+    store = new JdbcIdempotencyStore(new NamedParameterJdbcTemplate(dataSource), DatabaseDialect.H2, properties);
+  }
+
+  @Test
+  @DisplayName("Should replay a completed key and reject a different fingerprint")
+  void shouldReplayCompletedKey() throws Exception {
+    assertThat(store.reserve("k", "a").outcome()).isEqualTo(Outcome.ACQUIRED);
+    assertThat(store.reserve("k", "a").outcome()).isEqualTo(Outcome.IN_FLIGHT);
+
+    store.complete("k", new StoredResponse(201, "application/json", "{}".getBytes(StandardCharsets.UTF_8)));
+
+    IdempotencyStore.Reservation replay = store.reserve("k", "a");
+    assertThat(replay.outcome()).isEqualTo(Outcome.REPLAY);
+    assertThat(replay.response().status()).isEqualTo(201);
+    assertThat(new String(replay.response().body(), StandardCharsets.UTF_8)).isEqualTo("{}");
+    assertThat(store.await("k", Duration.ZERO)).isPresent();
+    assertThat(store.reserve("k", "b").outcome()).isEqualTo(Outcome.MISMATCH);
+  }
+
+  @Test
+  @DisplayName("Released or abandoned in-flight keys should be reusable")
+  void shouldReuseReleasedAndExpiredKeys() throws Exception {
+    store.reserve("released", "a");
+    store.release("released");
+    assertThat(store.reserve("released", "a").outcome()).isEqualTo(Outcome.ACQUIRED);
+
+    store.reserve("abandoned", "a");
+    Thread.sleep(300);
+    assertThat(store.reserve("abandoned", "a").outcome()).isEqualTo(Outcome.ACQUIRED);
+  }
+}
@@ -0,0 +1,55 @@
+package com.gridtokenx.app.integration;
+
+import com.gridtokenx.app.application.dto.CreateUserDto;
+import com.gridtokenx.app.application.dto.UserDto;
+import com.gridtokenx.app.application.port.UserInputPort;
+import com.gridtokenx.app.domain.exception.UserNotFoundException;
+import com.gridtokenx.app.util.TestDataFactory;
+import org.junit.jupiter.api.AfterEach;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.transaction.TestTransaction;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Base class for integration tests that create users through UserInputPort
+ * Users created by a test that commits are deleted after it, so tests that
+ * read lists or the autocomplete index do not see each other's users;
+ * transactional tests are left to their rollback
+ */
+abstract class AbstractUserIntegrationTest {
+
+  @Autowired
+  protected UserInputPort userInputPort;
+
+  private final List<UserDto> created = new ArrayList<>();
+
+  @AfterEach
+  void deleteCreatedUsers() {
+    if (TestTransaction.isActive()) {
+      return;
+    }
+    for (UserDto user : created) {
+      try {
+        userInputPort.deleteUser(user.getId());
+      } catch (UserNotFoundException e) {
+        // already deleted, or rolled back, by the test
+      }
+    }
+  }
+
+  protected UserDto createUser(String username) {
+    return createUser(TestDataFactory.createUserDto(username));
+  }
+
+  protected UserDto createUser(String username, String email) {
+    return createUser(TestDataFactory.createUserDto(username, email));
+  }
+
+  protected UserDto createUser(CreateUserDto request) {
+    UserDto user = userInputPort.createUser(request);
+    created.add(user);
+    return user;
+  }
+}
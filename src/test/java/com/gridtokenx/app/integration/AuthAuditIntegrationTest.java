@@ -0,0 +1,131 @@
+package com.gridtokenx.app.integration;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.gridtokenx.app.application.dto.RegisterRequest;
+import com.gridtokenx.app.application.port.UserInputPort;
+import com.gridtokenx.app.application.service.AuthenticationService;
+import com.gridtokenx.app.domain.entity.User;
+import com.gridtokenx.app.infrastructure.service.PasswordService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Authentication audit tests: logins, refreshes and logouts through
+ * AuthController end up in the audit table and are readable by admins only
+ * PasswordService is stubbed because the users table mapping does not
+ * persist password hashes, so a real login cannot succeed here
+ */
+@SpringBootTest(properties = {
+    "audit.auth.enabled=true",
+    "audit.auth.flush-interval=20ms",
+    "spring.sql.init.mode=always",
+    "spring.sql.init.schema-locations=classpath:db/auth_audit_events_h2.sql"
+})
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@DisplayName("Authentication Audit Integration Tests")
+class AuthAuditIntegrationTest {
+
+  @Autowired
+  private MockMvc mockMvc;
+
+  @Autowired
+  private AuthenticationService authenticationService;
+
+  @Autowired
+  private UserInputPort userInputPort;
+
+  @MockitoBean
+  private PasswordService passwordService;
+
+  private final ObjectMapper objectMapper = new ObjectMapper();
+
+  @Test
+  @WithMockUser(roles = "ADMIN")
+  @DisplayName("Logins, refreshes and logouts should be audited with the client address")
+  void authenticationEventsShouldBeAudited() throws Exception {
+    when(passwordService.matches(eq("Password123!"), any())).thenReturn(true);
+    User user = authenticationService.register(RegisterRequest.builder()
+        .username("audit_user")
+        .email("audit_user@example.com")
+        .password("Password123!")
+        .firstName("Audit")
+        .lastName("User")
+        .build());
+
+    mockMvc.perform(post("/api/auth/login")
+            .with(request -> {
+              request.setRemoteAddr("192.0.2.7");
+              return request;
+            })
+            .contentType(MediaType.APPLICATION_JSON)
+            .content("{\"username\":\"audit_user\",\"password\":\"wrong-password\"}"))
+        .andExpect(status().isUnauthorized());
+    JsonNode login = objectMapper.readTree(mockMvc.perform(post("/api/auth/login")
+            .contentType(MediaType.APPLICATION_JSON)
+            .content("{\"username\":\"audit_user\",\"password\":\"Password123!\"}"))
+        .andExpect(status().isOk())
+        .andReturn().getResponse().getContentAsString());
+    JsonNode refreshed = objectMapper.readTree(mockMvc.perform(post("/api/auth/refresh")
+            .contentType(MediaType.APPLICATION_JSON)
+            .content("{\"refreshToken\":\"" + login.get("refreshToken").asText() + "\"}"))
+        .andExpect(status().isOk())
+        .andReturn().getResponse().getContentAsString());
+    mockMvc.perform(post("/api/auth/logout")
+            .header(HttpHeaders.AUTHORIZATION, "Bearer " + refreshed.get("accessToken").asText()))
+        .andExpect(status().isOk());
+
+    JsonNode events = awaitEvents("audit_user", 4);
+    assertThat(events.findValuesAsText("type"))
+        .containsExactly("LOGOUT", "TOKEN_REFRESHED", "LOGIN_SUCCEEDED", "LOGIN_FAILED");
+    assertThat(events.get(1).get("userId").asText()).isEqualTo(user.getId().toString());
+    assertThat(events.get(3).get("reason").asText()).isEqualTo("BAD_CREDENTIALS");
+    assertThat(events.get(3).get("clientIp").asText()).isEqualTo("192.0.2.7");
+
+    userInputPort.deleteUser(user.getId());
+  }
+
+  @Test
+  @WithMockUser
+  @DisplayName("The audit endpoint should be reserved for admins")
+  void auditEndpointShouldRequireAdmin() throws Exception {
+    mockMvc.perform(get("/api/admin/audit/auth/{username}", "audit_user"))
+        .andExpect(status().isForbidden());
+  }
+
+  private JsonNode awaitEvents(String username, int count) throws Exception {
+    long deadline = System.nanoTime() + 10_000_000_000L;
+    JsonNode events = fetchEvents(username);
+    while (events.size() < count && System.nanoTime() < deadline) {
+      Thread.sleep(20);
+      events = fetchEvents(username);
+    }
+    assertThat(events.size()).isEqualTo(count);
+    return events;
+  }
+
+  private JsonNode fetchEvents(String username) throws Exception {
+    return objectMapper.readTree(mockMvc.perform(get("/api/admin/audit/auth/{username}", username)
+            .param("hours", "1"))
+        .andExpect(status().isOk())
+        .andReturn().getResponse().getContentAsString());
+  }
+}
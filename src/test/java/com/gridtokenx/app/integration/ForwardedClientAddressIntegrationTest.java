@@ -0,0 +1,64 @@
+package com.gridtokenx.app.integration;
+
+import com.gridtokenx.app.infrastructure.audit.AuthAuditEvent;
+import com.gridtokenx.app.infrastructure.audit.AuthAuditLog;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.reactive.server.WebTestClient;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Client addresses behind the load balancer, with the forwarded-header
+ * settings of the prod profile on a real Tomcat: the test client connects
+ * from loopback, which Tomcat trusts as an internal proxy
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+    "server.forward-headers-strategy=native",
+    "server.tomcat.remoteip.remote-ip-header=x-forwarded-for",
+    "server.tomcat.remoteip.protocol-header=x-forwarded-proto",
+    "audit.auth.enabled=true",
+    "audit.auth.flush-interval=20ms",
+    "spring.sql.init.mode=always",
+    "spring.sql.init.schema-locations=classpath:db/auth_audit_events_h2.sql"
+})
+@ActiveProfiles("test")
+@DisplayName("Forwarded Client Address Integration Tests")
+class ForwardedClientAddressIntegrationTest {
+
+  @LocalServerPort
+  private int port;
+
+  @Autowired
+  private AuthAuditLog authAuditLog;
+
+  @Test
+  @DisplayName("The audit trail should record the client address from X-Forwarded-For")
+  void auditShouldRecordForwardedClientAddress() throws Exception {
+    WebTestClient.bindToServer().baseUrl("http://localhost:" + port).build()
+        .post().uri("/api/auth/login")
+        .header("X-Forwarded-For", "203.0.113.9, 10.0.1.25")
+        .contentType(MediaType.APPLICATION_JSON)
+        .bodyValue("{\"username\":\"forwarded_user\",\"password\":\"Password123!\"}")
+        .exchange()
+        .expectStatus().isUnauthorized();
+
+    long deadline = System.nanoTime() + 10_000_000_000L;
+    List<AuthAuditEvent> events = authAuditLog.recent("forwarded_user", Duration.ofHours(1), 10);
+    while (events.isEmpty() && System.nanoTime() < deadline) {
+      Thread.sleep(20);
+      events = authAuditLog.recent("forwarded_user", Duration.ofHours(1), 10);
+    }
+    assertThat(events).singleElement()
+        .extracting(AuthAuditEvent::clientIp)
+        .isEqualTo("203.0.113.9");
+  }
+}
@@ -0,0 +1,134 @@
+package com.gridtokenx.app.integration;
+
+import com.gridtokenx.app.application.port.UserQueryInputPort;
+import com.gridtokenx.app.infrastructure.web.idempotency.IdempotencyFilter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.RequestBuilder;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Idempotency-Key tests for registration
+ * Not transactional: the first request has to commit before it is replayed
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@DisplayName("Idempotency Integration Tests")
+class IdempotencyIntegrationTest {
+
+  @Autowired
+  private MockMvc mockMvc;
+
+  @Autowired
+  private UserQueryInputPort userQueryInputPort;
+
+  @Autowired
+  private MeterRegistry meterRegistry;
+
+  @Test
+  @DisplayName("A retried registration should replay the first response instead of failing")
+  void retriedRegistrationShouldReplayResponse() throws Exception {
+    String key = UUID.randomUUID().toString();
+    String body = registration("idem_retry");
+    double hitsBefore = replays();
+
+    MvcResult first = mockMvc.perform(register(key, body))
+        .andExpect(status().isCreated())
+        .andExpect(header().doesNotExist(IdempotencyFilter.REPLAYED_HEADER))
+        .andReturn();
+    MvcResult retry = mockMvc.perform(register(key, body))
+        .andExpect(status().isCreated())
+        .andExpect(header().string(IdempotencyFilter.REPLAYED_HEADER, "true"))
+        .andReturn();
+
+    assertThat(retry.getResponse().getContentAsString()).isEqualTo(first.getResponse().getContentAsString());
+    assertThat(replays()).isEqualTo(hitsBefore + 1);
+
+    // without the header the duplicate is still rejected as before
+    mockMvc.perform(post("/api/auth/register").contentType(MediaType.APPLICATION_JSON).content(body))
+        .andExpect(status().isBadRequest());
+  }
+
+  @Test
+  @DisplayName("Reusing a key for a different body should be rejected")
+  void reusedKeyWithDifferentBodyShouldBeRejected() throws Exception {
+    String key = UUID.randomUUID().toString();
+
+    mockMvc.perform(register(key, registration("idem_first")))
+        .andExpect(status().isCreated());
+    mockMvc.perform(register(key, registration("idem_second")))
+        .andExpect(status().isUnprocessableEntity());
+
+    assertThat(userQueryInputPort.getAllUsers())
+        .noneMatch(user -> user.username().equals("idem_second"));
+  }
+
+  @Test
+  @DisplayName("Concurrent duplicates should execute once and all receive the same response")
+  void concurrentDuplicatesShouldExecuteOnce() throws Exception {
+    String key = UUID.randomUUID().toString();
+    String body = registration("idem_concurrent");
+    int threads = 4;
+    CountDownLatch start = new CountDownLatch(1);
+    ExecutorService executor = Executors.newFixedThreadPool(threads);
+
+    try {
+      List<Future<MvcResult>> results = new ArrayList<>();
+      for (int i = 0; i < threads; i++) {
+        results.add(executor.submit(() -> {
+          start.await();
+          return mockMvc.perform(register(key, body)).andReturn();
+        }));
+      }
+      start.countDown();
+
+      for (Future<MvcResult> result : results) {
+        assertThat(result.get().getResponse().getStatus()).isEqualTo(201);
+      }
+    } finally {
+      executor.shutdownNow();
+    }
+
+    assertThat(userQueryInputPort.getAllUsers())
+        .filteredOn(user -> user.username().equals("idem_concurrent"))
+        .hasSize(1);
+  }
+
+  private static RequestBuilder register(String key, String body) {
+    return post("/api/auth/register")
+        .header(IdempotencyFilter.HEADER, key)
+        .contentType(MediaType.APPLICATION_JSON)
+        .content(body);
+  }
+
+  private static String registration(String username) {
+    return """
+        {"username":"%s","email":"%s@example.com","password":"Password123",\
+        "firstName":"Idem","lastName":"Potent"}""".formatted(username, username);
+  }
+
+  private double replays() {
+    return meterRegistry.get("idempotency.requests").tag("outcome", "replay").counter().count();
+  }
+}
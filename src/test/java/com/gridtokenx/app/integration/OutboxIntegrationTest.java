@@ -0,0 +1,175 @@
+package com.gridtokenx.app.integration;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.gridtokenx.app.application.dto.LoginRequest;
+import com.gridtokenx.app.application.dto.RegisterRequest;
+import com.gridtokenx.app.application.dto.UpdateUserDto;
+import com.gridtokenx.app.application.dto.UserDto;
+import com.gridtokenx.app.application.service.AuthenticationService;
+import com.gridtokenx.app.domain.entity.User;
+import com.gridtokenx.app.domain.exception.InvalidCredentialsException;
+import com.gridtokenx.app.infrastructure.service.PasswordService;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.when;
+
+/**
+ * Transactional outbox tests: events recorded with the user changes are
+ * relayed to the file publisher in order, and rolled back changes record
+ * nothing
+ * PasswordService is stubbed because the users table mapping does not
+ * persist password hashes, so a real login cannot succeed here
+ */
+@SpringBootTest(properties = {
+    "outbox.enabled=true",
+    "outbox.publisher=file",
+    "outbox.poll-interval=20ms",
+    "spring.sql.init.mode=always",
+    "spring.sql.init.schema-locations=classpath:db/migration/V7__Create_outbox_events_table.sql"
+})
+@ActiveProfiles("test")
+@DisplayName("Outbox Integration Tests")
+class OutboxIntegrationTest extends AbstractUserIntegrationTest {
+
+  private static final Path EVENTS = createEventsFile();
+
+  @DynamicPropertySource
+  static void outboxFile(DynamicPropertyRegistry registry) {
+    registry.add("outbox.file", EVENTS::toString);
+  }
+
+  @Autowired
+  private AuthenticationService authenticationService;
+
+  @Autowired
+  private TransactionTemplate transactionTemplate;
+
+  @Autowired
+  private JdbcTemplate jdbcTemplate;
+
+  @Autowired
+  private MeterRegistry meterRegistry;
+
+  @MockitoBean
+  private PasswordService passwordService;
+
+  private final ObjectMapper objectMapper = new ObjectMapper();
+
+  @Test
+  @DisplayName("User lifecycle events should be relayed in order and removed from the outbox")
+  void lifecycleEventsShouldBeRelayedInOrder() throws Exception {
+    UserDto user = createUser("outbox_lifecycle");
+    UUID id = user.getId();
+    userInputPort.updateUser(id, UpdateUserDto.builder()
+        .email("outbox_lifecycle@example.com")
+        .firstName("Changed")
+        .lastName("User")
+        .build());
+    userInputPort.deactivateUser(id);
+    userInputPort.activateUser(id);
+    userInputPort.deleteUser(id);
+
+    List<JsonNode> events = awaitEvents(id, 5);
+    assertThat(events).extracting(event -> event.get("type").asText())
+        .containsExactly("CREATED", "UPDATED", "DEACTIVATED", "ACTIVATED", "DELETED");
+    assertThat(events.get(0).get("username").asText()).isEqualTo("outbox_lifecycle");
+    assertThat(events).extracting(event -> event.get("eventId").asText()).doesNotHaveDuplicates();
+    assertThat(jdbcTemplate.queryForObject(
+        "SELECT COUNT(*) FROM outbox_events WHERE aggregate_id = ?", Long.class, id)).isZero();
+    assertThat(meterRegistry.get("outbox.events.published").counter().count()).isGreaterThanOrEqualTo(5);
+    assertThat(meterRegistry.get("outbox.relay.lag").timer().count()).isGreaterThanOrEqualTo(5);
+  }
+
+  @Test
+  @DisplayName("Registration and successful logins should be relayed, failed logins should not")
+  void registrationAndLoginShouldBeRelayed() throws Exception {
+    when(passwordService.matches(eq("Password123!"), any())).thenReturn(true);
+    User user = authenticationService.register(RegisterRequest.builder()
+        .username("outbox_login")
+        .email("outbox_login@example.com")
+        .password("Password123!")
+        .firstName("Outbox")
+        .lastName("Login")
+        .build());
+    assertThatThrownBy(() -> authenticationService.login(LoginRequest.builder()
+        .username("outbox_login")
+        .password("wrong-password")
+        .build()))
+        .isInstanceOf(InvalidCredentialsException.class);
+    authenticationService.login(LoginRequest.builder()
+        .username("outbox_login")
+        .password("Password123!")
+        .build());
+    userInputPort.deleteUser(user.getId());
+
+    assertThat(awaitEvents(user.getId(), 3)).extracting(event -> event.get("type").asText())
+        .containsExactly("REGISTERED", "LOGGED_IN", "DELETED");
+  }
+
+  @Test
+  @DisplayName("A rolled back change should not record an event")
+  void rolledBackChangeShouldRecordNothing() throws Exception {
+    UserDto rolledBack = transactionTemplate.execute(status -> {
+      status.setRollbackOnly();
+      return createUser("outbox_rolled_back");
+    });
+    UserDto sentinel = createUser("outbox_sentinel");
+    userInputPort.deleteUser(sentinel.getId());
+
+    // a single relay publishes in order, so anything recorded before the sentinel is in the file by now
+    awaitEvents(sentinel.getId(), 2);
+    assertThat(eventsFor(rolledBack.getId())).isEmpty();
+  }
+
+  private List<JsonNode> awaitEvents(UUID userId, int count) throws IOException, InterruptedException {
+    long deadline = System.nanoTime() + 10_000_000_000L;
+    List<JsonNode> events = eventsFor(userId);
+    while (events.size() < count && System.nanoTime() < deadline) {
+      Thread.sleep(20);
+      events = eventsFor(userId);
+    }
+    assertThat(events).hasSize(count);
+    return events;
+  }
+
+  private List<JsonNode> eventsFor(UUID userId) throws IOException {
+    List<JsonNode> events = new ArrayList<>();
+    for (String line : Files.readAllLines(EVENTS)) {
+      JsonNode event = objectMapper.readTree(line);
+      if (event.get("userId").asText().equals(userId.toString())) {
+        events.add(event);
+      }
+    }
+    return events;
+  }
+
+  private static Path createEventsFile() {
+    try {
+      return Files.createTempFile("outbox-events", ".jsonl");
+    } catch (IOException e) {
+      throw new IllegalStateException(e);
+    }
+  }
+}
@@ -0,0 +1,211 @@
+package com.gridtokenx.app.integration;
+
+import com.gridtokenx.app.application.dto.UserDto;
+import com.gridtokenx.app.application.dto.UserView;
+import com.gridtokenx.app.application.port.UserQueryInputPort;
+import com.gridtokenx.app.domain.entity.User;
+import com.gridtokenx.app.domain.exception.AuthenticationFailureReason;
+import com.gridtokenx.app.infrastructure.security.AuthenticationFailureMonitor;
+import com.gridtokenx.app.infrastructure.security.jwt.JwtTokenProvider;
+import com.gridtokenx.app.infrastructure.service.JwtBlacklistService;
+import com.gridtokenx.app.infrastructure.web.reactive.ReactiveHttpServer;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.reactive.server.WebTestClient;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Integration tests for the reactive endpoints
+ * The R2DBC pool points at the same in-memory H2 database as JPA, so users
+ * written through the blocking stack are read back through R2DBC
+ */
+@SpringBootTest(properties = {
+    "reactive.enabled=true",
+    "reactive.port=0",
+    "spring.datasource.url=jdbc:h2:mem:reactivedb",
+    "spring.r2dbc.url=r2dbc:h2:mem:///reactivedb"
+})
+@ActiveProfiles("test")
+@DisplayName("Reactive Endpoints Integration Tests")
+class ReactiveEndpointsIntegrationTest extends AbstractUserIntegrationTest {
+
+  @Autowired
+  private ReactiveHttpServer reactiveHttpServer;
+
+  @Autowired
+  private UserQueryInputPort userQueryInputPort;
+
+  @Autowired
+  private JwtTokenProvider jwtTokenProvider;
+
+  @Autowired
+  private JwtBlacklistService jwtBlacklistService;
+
+  @Autowired
+  private AuthenticationFailureMonitor authenticationFailureMonitor;
+
+  private WebTestClient client;
+
+  @BeforeEach
+  void setUp() {
+    client = WebTestClient.bindToServer()
+        .baseUrl("http://localhost:" + reactiveHttpServer.getPort())
+        .build();
+  }
+
+  @Test
+  @DisplayName("Reads should return the same views and ETag as the blocking path")
+  void readsShouldMatchBlockingPath() {
+    UserDto created = createUser("reactive_reader", "reader@example.com");
+    UserView expected = userQueryInputPort.getUserById(created.getId());
+    String token = accessToken(created.getUsername());
+
+    client.get().uri("/api/v1/users/{id}", created.getId())
+        .headers(headers -> headers.setBearerAuth(token))
+        .exchange()
+        .expectStatus().isOk()
+        .expectHeader().valueEquals("ETag", "\"" + expected.version() + "\"")
+        .expectHeader().valueEquals("Vary", "Accept")
+        .expectBody(UserView.class).isEqualTo(expected);
+    client.get().uri("/api/v1/users/username/{username}", "reactive_reader")
+        .headers(headers -> headers.setBearerAuth(token))
+        .exchange()
+        .expectStatus().isOk()
+        .expectBody(UserView.class).isEqualTo(expected);
+    client.get().uri("/api/v1/users/email/{email}", "reader@example.com")
+        .headers(headers -> headers.setBearerAuth(token))
+        .exchange()
+        .expectStatus().isOk()
+        .expectBody(UserView.class).isEqualTo(expected);
+
+    List<UserView> active = client.get().uri("/api/v1/users?activeOnly=true")
+        .headers(headers -> headers.setBearerAuth(token))
+        .exchange()
+        .expectStatus().isOk()
+        .expectBodyList(UserView.class).returnResult().getResponseBody();
+    assertThat(active).isEqualTo(userQueryInputPort.getAllActiveUsers());
+  }
+
+  @Test
+  @DisplayName("A matching If-None-Match should get 304 with the same ETag as the blocking path")
+  void matchingETagShouldReturnNotModified() {
+    UserDto created = createUser("reactive_cached");
+    String eTag = "\"" + userQueryInputPort.getUserById(created.getId()).version() + "\"";
+    String token = accessToken(created.getUsername());
+
+    client.get().uri("/api/v1/users/{id}", created.getId())
+        .headers(headers -> headers.setBearerAuth(token))
+        .header("If-None-Match", eTag)
+        .exchange()
+        .expectStatus().isNotModified()
+        .expectHeader().valueEquals("ETag", eTag)
+        .expectHeader().valueEquals("Vary", "Accept")
+        .expectBody().isEmpty();
+    client.get().uri("/api/v1/users/{id}", created.getId())
+        .headers(headers -> headers.setBearerAuth(token))
+        .header("If-None-Match", "\"stale\"")
+        .exchange()
+        .expectStatus().isOk()
+        .expectHeader().valueEquals("ETag", eTag);
+  }
+
+  @Test
+  @DisplayName("Missing users should get the same error response as the blocking path")
+  void missingUserShouldReturnNotFound() {
+    String token = accessToken(createUser("reactive_missing", "missing@example.com").getUsername());
+
+    client.get().uri("/api/v1/users/{id}", UUID.randomUUID())
+        .headers(headers -> headers.setBearerAuth(token))
+        .exchange()
+        .expectStatus().isNotFound()
+        .expectBody()
+        .jsonPath("$.code").isEqualTo("USER_NOT_FOUND")
+        .jsonPath("$.status").isEqualTo(404);
+    client.get().uri("/api/v1/users/{id}", "not-a-uuid")
+        .headers(headers -> headers.setBearerAuth(token))
+        .exchange()
+        .expectStatus().isBadRequest();
+  }
+
+  @Test
+  @DisplayName("User routes should reject missing, invalid and blacklisted tokens")
+  void userRoutesShouldRequireValidToken() {
+    String token = accessToken(createUser("reactive_guarded", "guarded@example.com").getUsername());
+    long invalidBefore = authenticationFailureMonitor.count(AuthenticationFailureReason.INVALID_TOKEN);
+
+    client.get().uri("/api/v1/users")
+        .exchange()
+        .expectStatus().isUnauthorized();
+    client.get().uri("/api/v1/users")
+        .headers(headers -> headers.setBearerAuth("not-a-token"))
+        .exchange()
+        .expectStatus().isUnauthorized();
+    client.get().uri("/api/auth/validate")
+        .headers(headers -> headers.setBearerAuth(token))
+        .exchange()
+        .expectStatus().isOk()
+        .expectBody()
+        .jsonPath("$.username").isEqualTo("reactive_guarded");
+
+    jwtBlacklistService.blacklistToken(token, jwtTokenProvider.extractExpiration(token));
+    client.get().uri("/api/auth/validate")
+        .headers(headers -> headers.setBearerAuth(token))
+        .exchange()
+        .expectStatus().isUnauthorized();
+
+    assertThat(authenticationFailureMonitor.count(AuthenticationFailureReason.INVALID_TOKEN))
+        .isEqualTo(invalidBefore + 2);
+  }
+
+  @Test
+  @DisplayName("Refresh should issue a new access token only for refresh tokens")
+  void refreshShouldIssueAccessToken() {
+    User user = domainUser(createUser("reactive_refresh", "refresh@example.com").getUsername());
+    String refreshToken = jwtTokenProvider.generateRefreshToken(user);
+
+    Map<String, Object> body = client.post().uri("/api/auth/refresh")
+        .bodyValue(Map.of("refreshToken", refreshToken))
+        .exchange()
+        .expectStatus().isOk()
+        .expectBody(new ParameterizedTypeReference<Map<String, Object>>() {
+        })
+        .returnResult().getResponseBody();
+    assertThat(body).containsEntry("refreshToken", refreshToken).containsEntry("tokenType", "Bearer");
+    assertThat(jwtTokenProvider.extractUsername((String) body.get("accessToken"))).isEqualTo("reactive_refresh");
+
+    client.post().uri("/api/auth/refresh")
+        .bodyValue(Map.of("refreshToken", jwtTokenProvider.generateAccessToken(user)))
+        .exchange()
+        .expectStatus().isUnauthorized();
+    client.post().uri("/api/auth/refresh")
+        .bodyValue(Map.of("refreshToken", jwtTokenProvider.generateRefreshToken(domainUser("reactive_nobody"))))
+        .exchange()
+        .expectStatus().isUnauthorized();
+    client.post().uri("/api/auth/refresh")
+        .bodyValue(Map.of())
+        .exchange()
+        .expectStatus().isBadRequest();
+  }
+
+  private String accessToken(String username) {
+    return jwtTokenProvider.generateAccessToken(domainUser(username));
+  }
+
+  private static User domainUser(String username) {
+    return User.builder()
+        .id(UUID.randomUUID())
+        .username(username)
+        .email(username + "@example.com")
+        .build();
+  }
+}
@@ -0,0 +1,101 @@
+package com.gridtokenx.app.integration;
+
+import com.gridtokenx.app.application.dto.UserDto;
+import com.gridtokenx.app.application.dto.UserSuggestion;
+import com.gridtokenx.app.application.port.UserQueryInputPort;
+import com.gridtokenx.app.util.TestDataFactory;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests that committed user writes reach the autocomplete index, directly or,
+ * for writes made by other instances, through the periodic refresh
+ * Not transactional: the index is only updated after commit
+ */
+@SpringBootTest(properties = {
+    "users.autocomplete.refresh-enabled=true",
+    "users.autocomplete.refresh-interval=50ms"
+})
+@ActiveProfiles("test")
+@DisplayName("User Autocomplete Integration Tests")
+class UserAutocompleteIntegrationTest extends AbstractUserIntegrationTest {
+
+  @Autowired
+  private UserQueryInputPort userQueryInputPort;
+
+  @Autowired
+  private TransactionTemplate transactionTemplate;
+
+  @Autowired
+  private JdbcTemplate jdbcTemplate;
+
+  @Test
+  @DisplayName("Created, deactivated and deleted users should be reflected after commit")
+  void committedWritesShouldUpdateIndex() {
+    UserDto created = createUser(
+        TestDataFactory.createUserDto("tapir_keeper", "tapir_keeper@example.com", "Ocelot", "Keeper"));
+
+    assertThat(userQueryInputPort.completeUsers("tapir", 10))
+        .extracting(UserSuggestion::username).containsExactly("tapir_keeper");
+    assertThat(userQueryInputPort.completeUsers("ocelot", 10))
+        .extracting(UserSuggestion::id).containsExactly(created.getId());
+
+    userInputPort.deactivateUser(created.getId());
+    assertThat(userQueryInputPort.completeUsers("tapir", 10)).isEmpty();
+
+    userInputPort.activateUser(created.getId());
+    assertThat(userQueryInputPort.completeUsers("tapir", 10)).hasSize(1);
+
+    userInputPort.deleteUser(created.getId());
+    assertThat(userQueryInputPort.completeUsers("tapir", 10)).isEmpty();
+  }
+
+  @Test
+  @DisplayName("Rolled back writes should not be indexed")
+  void rolledBackWritesShouldNotBeIndexed() {
+    transactionTemplate.executeWithoutResult(status -> {
+      createUser("rolled_back_user");
+      status.setRollbackOnly();
+    });
+
+    assertThat(userQueryInputPort.completeUsers("rolled_back", 10)).isEmpty();
+  }
+
+  @Test
+  @DisplayName("Users written by other instances should be picked up by the refresh")
+  void otherInstancesWritesShouldBeRefreshed() throws Exception {
+    UUID id = UUID.randomUUID();
+    LocalDateTime now = LocalDateTime.now();
+    // straight to the table, as another instance would, bypassing this index
+    jdbcTemplate.update("INSERT INTO users (id, username, email, first_name, last_name, active, created_at, "
+        + "updated_at, version) VALUES (?, 'margay_keeper', 'margay_keeper@example.com', 'Margay', 'Keeper', true, "
+        + "?, ?, 0)", id, now, now);
+    try {
+      awaitCompletions("margay", 1);
+
+      jdbcTemplate.update("UPDATE users SET active = false, updated_at = ?, version = 1 WHERE id = ?",
+          LocalDateTime.now(), id);
+      awaitCompletions("margay", 0);
+    } finally {
+      jdbcTemplate.update("DELETE FROM users WHERE id = ?", id);
+    }
+  }
+
+  private void awaitCompletions(String prefix, int count) throws InterruptedException {
+    long deadline = System.nanoTime() + 10_000_000_000L;
+    while (userQueryInputPort.completeUsers(prefix, 10).size() != count && System.nanoTime() < deadline) {
+      Thread.sleep(20);
+    }
+    assertThat(userQueryInputPort.completeUsers(prefix, 10)).hasSize(count);
+  }
+}
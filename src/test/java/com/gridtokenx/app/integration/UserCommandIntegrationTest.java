@@ -0,0 +1,154 @@
+package com.gridtokenx.app.integration;
+
+import com.gridtokenx.app.application.dto.CreateUserDto;
+import com.gridtokenx.app.application.dto.UserDto;
+import com.gridtokenx.app.application.port.UserQueryInputPort;
+import com.gridtokenx.app.domain.exception.DomainErrorCode;
+import com.gridtokenx.app.domain.exception.InvalidUserDataException;
+import com.gridtokenx.app.domain.exception.UserNotFoundException;
+import com.gridtokenx.app.domain.validation.UserViolation;
+import com.gridtokenx.app.util.TestDataFactory;
+import jakarta.persistence.EntityManager;
+import org.hibernate.Session;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Integration tests for the single-statement user commands
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@Transactional
+@DisplayName("User Command Integration Tests")
+class UserCommandIntegrationTest extends AbstractUserIntegrationTest {
+
+  @Autowired
+  private UserQueryInputPort userQueryInputPort;
+
+  @Autowired
+  private EntityManager entityManager;
+
+  @Autowired
+  private MockMvc mockMvc;
+
+  @Test
+  @DisplayName("Activate and deactivate should return the updated row without loading it")
+  void activationShouldReturnUpdatedRow() {
+    UserDto created = createUser("toggle_user", "toggle@example.com");
+    entityManager.flush();
+    entityManager.clear();
+
+    UserDto deactivated = userInputPort.deactivateUser(created.getId());
+
+    assertThat(deactivated.isActive()).isFalse();
+    assertThat(deactivated.getUsername()).isEqualTo("toggle_user");
+    assertThat(deactivated.getFullName()).isEqualTo("Test User");
+    assertThat(deactivated.getVersion()).isEqualTo(created.getVersion() + 1);
+    assertThat(deactivated.getUpdatedAt()).isAfterOrEqualTo(created.getUpdatedAt());
+    assertThat(entityManager.unwrap(Session.class).getStatistics().getEntityCount()).isZero();
+
+    UserDto activated = userInputPort.activateUser(created.getId());
+
+    assertThat(activated.isActive()).isTrue();
+    assertThat(activated.getVersion()).isEqualTo(created.getVersion() + 2);
+    assertThat(userQueryInputPort.getUserById(created.getId()).active()).isTrue();
+  }
+
+  @Test
+  @DisplayName("Delete should remove the user in one statement")
+  void deleteShouldRemoveUser() {
+    UserDto created = createUser("delete_user", "delete@example.com");
+    entityManager.flush();
+    entityManager.clear();
+
+    userInputPort.deleteUser(created.getId());
+
+    assertThatThrownBy(() -> userQueryInputPort.getUserById(created.getId()))
+        .isInstanceOf(UserNotFoundException.class);
+  }
+
+  @Test
+  @DisplayName("Commands on missing users should raise UserNotFoundException")
+  void commandsOnMissingUsersShouldThrow() {
+    UUID missing = UUID.randomUUID();
+
+    assertThatThrownBy(() -> userInputPort.activateUser(missing)).isInstanceOf(UserNotFoundException.class);
+    assertThatThrownBy(() -> userInputPort.deactivateUser(missing)).isInstanceOf(UserNotFoundException.class);
+    assertThatThrownBy(() -> userInputPort.deleteUser(missing)).isInstanceOf(UserNotFoundException.class);
+  }
+
+  @Test
+  @DisplayName("Duplicate inserts should be reported from the unique indexes")
+  void duplicateInsertShouldMapToAlreadyExists() {
+    createUser("unique_user", "unique@example.com");
+
+    assertThatThrownBy(() -> createUser("unique_user", "other@example.com"))
+        .isInstanceOfSatisfying(InvalidUserDataException.class,
+            e -> assertThat(e.getErrorCode()).isEqualTo(DomainErrorCode.USERNAME_ALREADY_EXISTS));
+    assertThatThrownBy(() -> createUser("other_user", "unique@example.com"))
+        .isInstanceOfSatisfying(InvalidUserDataException.class,
+            e -> assertThat(e.getErrorCode()).isEqualTo(DomainErrorCode.EMAIL_ALREADY_EXISTS));
+  }
+
+  @Test
+  @DisplayName("Create should report every invalid field at once")
+  void createShouldReportAllInvalidFields() {
+    assertThatThrownBy(() -> createUser("x", "not-an-email"))
+        .isInstanceOf(InvalidUserDataException.class)
+        .hasMessage("Invalid username: must be 3-50 characters and contain only letters, numbers, and underscores; "
+            + "Invalid email: invalid format");
+    assertThatThrownBy(() -> createUser("valid_user", "bad@mail"))
+        .hasMessage("Invalid email: invalid format");
+  }
+
+  @Test
+  @WithMockUser
+  @DisplayName("Update requests should be checked with the same email rule as creates")
+  void updateShouldReportInvalidEmailField() throws Exception {
+    UserDto created = createUser("update_user", "update@example.com");
+
+    // accepted by @Email, rejected by UserValidator
+    mockMvc.perform(put("/api/v1/users/{id}", created.getId())
+            .contentType(MediaType.APPLICATION_JSON)
+            .content("{\"email\":\"a@b.c\",\"firstName\":\"Test\",\"lastName\":\"User\"}"))
+        .andExpect(status().isBadRequest())
+        .andExpect(jsonPath("$.details[0]").value("email: Email must be valid"));
+  }
+
+  @Test
+  @DisplayName("Bulk validation should report invalid and repeated users by index")
+  void bulkValidationShouldReportByIndex() {
+    List<CreateUserDto> users = List.of(
+        TestDataFactory.createUserDto("import_one", "one@example.com"),
+        TestDataFactory.createUserDto("x", "two@example.com"),
+        TestDataFactory.createUserDto("import_one", "three@example.com"),
+        TestDataFactory.createUserDto("import_four", "one@example.com"));
+
+    Map<Integer, List<UserViolation>> invalid = userInputPort.validateUsers(users);
+
+    assertThat(invalid).containsOnlyKeys(1, 2, 3);
+    assertThat(invalid.get(1)).extracting(UserViolation::field).containsExactly("username");
+    assertThat(invalid.get(2)).containsExactly(new UserViolation("username", "same as user 0"));
+    assertThat(invalid.get(3)).containsExactly(new UserViolation("email", "same as user 0"));
+    assertThat(userInputPort.validateUsers(users.subList(0, 1))).isEmpty();
+  }
+}
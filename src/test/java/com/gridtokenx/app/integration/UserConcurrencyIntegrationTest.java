@@ -0,0 +1,183 @@
+package com.gridtokenx.app.integration;
+
+import com.gridtokenx.app.application.dto.RegisterRequest;
+import com.gridtokenx.app.application.dto.UpdateUserDto;
+import com.gridtokenx.app.application.dto.UserDto;
+import com.gridtokenx.app.application.dto.UserView;
+import com.gridtokenx.app.application.port.UserQueryInputPort;
+import com.gridtokenx.app.application.service.AuthenticationService;
+import com.gridtokenx.app.domain.exception.UserVersionConflictException;
+import com.gridtokenx.app.util.TestDataFactory;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Optimistic concurrency tests for user updates
+ * Not transactional: every update has to commit for the threads to race
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@DisplayName("User Concurrency Integration Tests")
+class UserConcurrencyIntegrationTest extends AbstractUserIntegrationTest {
+
+  private static final int THREADS = 4;
+  private static final int INCREMENTS_PER_THREAD = 10;
+
+  @Autowired
+  private UserQueryInputPort userQueryInputPort;
+
+  @Autowired
+  private AuthenticationService authenticationService;
+
+  @Autowired
+  private MockMvc mockMvc;
+
+  @Test
+  @DisplayName("Concurrent read-modify-write cycles should not lose updates")
+  void concurrentUpdatesShouldNotLoseUpdates() throws Exception {
+    UUID id = createCounter("counter").getId();
+    AtomicInteger conflicts = new AtomicInteger();
+    ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+
+    try {
+      List<Future<?>> workers = new ArrayList<>();
+      for (int t = 0; t < THREADS; t++) {
+        workers.add(executor.submit(() -> {
+          for (int i = 0; i < INCREMENTS_PER_THREAD; i++) {
+            while (true) {
+              UserView current = userQueryInputPort.getUserById(id);
+              int count = Integer.parseInt(current.lastName().substring("Count".length()));
+              try {
+                userInputPort.updateUser(id, UpdateUserDto.builder()
+                    .email(current.email())
+                    .firstName(current.firstName())
+                    .lastName("Count" + (count + 1))
+                    .expectedVersion(current.version())
+                    .build());
+                break;
+              } catch (UserVersionConflictException e) {
+                conflicts.incrementAndGet();
+              }
+            }
+          }
+          return null;
+        }));
+      }
+      for (Future<?> worker : workers) {
+        worker.get(60, TimeUnit.SECONDS);
+      }
+    } finally {
+      executor.shutdownNow();
+    }
+
+    UserView result = userQueryInputPort.getUserById(id);
+    assertThat(result.lastName()).isEqualTo("Count" + THREADS * INCREMENTS_PER_THREAD);
+    assertThat(result.version()).isEqualTo(THREADS * INCREMENTS_PER_THREAD);
+  }
+
+  @Test
+  @DisplayName("Concurrent duplicate registrations should create exactly one user")
+  void concurrentDuplicateRegistrationsShouldCreateOneUser() throws Exception {
+    String username = "dup_" + UUID.randomUUID().toString().substring(0, 8);
+    CountDownLatch start = new CountDownLatch(1);
+    ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+    int created = 0;
+    List<String> rejections = new ArrayList<>();
+
+    try {
+      List<Future<?>> attempts = new ArrayList<>();
+      for (int t = 0; t < THREADS; t++) {
+        String email = username + "_" + t + "@example.com";
+        attempts.add(executor.submit(() -> {
+          start.await();
+          return authenticationService.register(RegisterRequest.builder()
+              .username(username)
+              .email(email)
+              .password("Str0ng!Passw0rd")
+              .firstName("Dup")
+              .lastName("User")
+              .build());
+        }));
+      }
+      start.countDown();
+      for (Future<?> attempt : attempts) {
+        try {
+          attempt.get(60, TimeUnit.SECONDS);
+          created++;
+        } catch (ExecutionException e) {
+          rejections.add(e.getCause().getMessage());
+        }
+      }
+    } finally {
+      executor.shutdownNow();
+    }
+
+    assertThat(created).isEqualTo(1);
+    assertThat(rejections).hasSize(THREADS - 1).containsOnly("Username already exists");
+    assertThat(userQueryInputPort.getUserByUsername(username).username()).isEqualTo(username);
+  }
+
+  @Test
+  @WithMockUser
+  @DisplayName("PUT with a stale If-Match should return 409 with the current state")
+  void staleIfMatchShouldReturnConflict() throws Exception {
+    UUID id = createCounter("etag").getId();
+
+    mockMvc.perform(get("/api/v1/users/{id}", id))
+        .andExpect(status().isOk())
+        .andExpect(header().string(HttpHeaders.ETAG, "\"0\""));
+
+    mockMvc.perform(put("/api/v1/users/{id}", id)
+        .header(HttpHeaders.IF_MATCH, "\"0\"")
+        .contentType(MediaType.APPLICATION_JSON)
+        .content(updateBody("First")))
+        .andExpect(status().isOk())
+        .andExpect(header().string(HttpHeaders.ETAG, "\"1\""));
+
+    mockMvc.perform(put("/api/v1/users/{id}", id)
+        .header(HttpHeaders.IF_MATCH, "\"0\"")
+        .contentType(MediaType.APPLICATION_JSON)
+        .content(updateBody("Second")))
+        .andExpect(status().isConflict())
+        .andExpect(header().string(HttpHeaders.ETAG, "\"1\""))
+        .andExpect(jsonPath("$.code").value("VERSION_CONFLICT"))
+        .andExpect(jsonPath("$.current.firstName").value("First"))
+        .andExpect(jsonPath("$.current.version").value(1));
+  }
+
+  private String updateBody(String firstName) {
+    return "{\"email\":\"etag@example.com\",\"firstName\":\"" + firstName + "\",\"lastName\":\"Count0\"}";
+  }
+
+  private UserDto createCounter(String prefix) {
+    return createUser(TestDataFactory.createUserDto(prefix + "_" + UUID.randomUUID().toString().substring(0, 8),
+        prefix + "@example.com", "Version", "Count0"));
+  }
+}
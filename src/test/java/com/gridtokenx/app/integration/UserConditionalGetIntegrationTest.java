@@ -0,0 +1,139 @@
+package com.gridtokenx.app.integration;
+
+import com.gridtokenx.app.application.dto.UpdateUserDto;
+import com.gridtokenx.app.application.dto.UserDto;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Conditional GET tests for user resources and lists
+ * Not transactional: the JSON list is written on another thread, which only
+ * sees committed users
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@WithMockUser
+@DisplayName("User Conditional GET Integration Tests")
+class UserConditionalGetIntegrationTest extends AbstractUserIntegrationTest {
+
+  @Autowired
+  private MockMvc mockMvc;
+
+  @Test
+  @DisplayName("A matching If-None-Match should get 304 until the user changes")
+  void userShouldBeNotModifiedUntilChanged() throws Exception {
+    UserDto user = createUser("conditional_single");
+
+    String eTag = mockMvc.perform(get("/api/v1/users/{id}", user.getId()))
+        .andExpect(status().isOk())
+        .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+    mockMvc.perform(get("/api/v1/users/{id}", user.getId()).header(HttpHeaders.IF_NONE_MATCH, eTag))
+        .andExpect(status().isNotModified())
+        .andExpect(header().string(HttpHeaders.ETAG, eTag))
+        .andExpect(content().string(""));
+    mockMvc.perform(get("/api/v1/users/{id}", user.getId()).param("fields", "id")
+            .header(HttpHeaders.IF_NONE_MATCH, "\"other\", " + eTag))
+        .andExpect(status().isNotModified());
+
+    userInputPort.updateUser(user.getId(), UpdateUserDto.builder()
+        .email(user.getEmail())
+        .firstName("Changed")
+        .lastName(user.getLastName())
+        .build());
+
+    mockMvc.perform(get("/api/v1/users/{id}", user.getId()).header(HttpHeaders.IF_NONE_MATCH, eTag))
+        .andExpect(status().isOk())
+        .andExpect(header().string(HttpHeaders.ETAG, "\"" + (user.getVersion() + 1) + "\""));
+  }
+
+  @Test
+  @DisplayName("Each representation of a user should have its own ETag")
+  void representationsShouldHaveTheirOwnETags() throws Exception {
+    UserDto user = createUser("conditional_cbor");
+    String json = "\"" + user.getVersion() + "\"";
+    String cbor = "\"" + user.getVersion() + "-cbor\"";
+
+    mockMvc.perform(get("/api/v1/users/{id}", user.getId()).accept(MediaType.APPLICATION_CBOR))
+        .andExpect(status().isOk())
+        .andExpect(header().string(HttpHeaders.ETAG, cbor))
+        .andExpect(header().string(HttpHeaders.VARY, HttpHeaders.ACCEPT));
+    mockMvc.perform(get("/api/v1/users/{id}", user.getId()).accept(MediaType.APPLICATION_CBOR)
+            .header(HttpHeaders.IF_NONE_MATCH, json))
+        .andExpect(status().isOk());
+    mockMvc.perform(get("/api/v1/users/{id}", user.getId()).accept(MediaType.APPLICATION_CBOR)
+            .header(HttpHeaders.IF_NONE_MATCH, cbor))
+        .andExpect(status().isNotModified());
+    mockMvc.perform(get("/api/v1/users/{id}", user.getId()).header(HttpHeaders.IF_NONE_MATCH, cbor))
+        .andExpect(status().isOk())
+        .andExpect(header().string(HttpHeaders.ETAG, json));
+
+    mockMvc.perform(put("/api/v1/users/{id}", user.getId())
+            .header(HttpHeaders.IF_MATCH, cbor)
+            .contentType(MediaType.APPLICATION_JSON)
+            .content("{\"email\":\"" + user.getEmail() + "\",\"firstName\":\"Changed\",\"lastName\":\"User\"}"))
+        .andExpect(status().isOk())
+        .andExpect(header().string(HttpHeaders.ETAG, "\"" + (user.getVersion() + 1) + "\""));
+  }
+
+  @Test
+  @DisplayName("A stale If-None-Match for a missing user should still get 404")
+  void missingUserShouldNotBeNotModified() throws Exception {
+    UserDto user = createUser("conditional_missing");
+    userInputPort.deleteUser(user.getId());
+
+    mockMvc.perform(get("/api/v1/users/{id}", user.getId()).header(HttpHeaders.IF_NONE_MATCH, "\"0\""))
+        .andExpect(status().isNotFound());
+  }
+
+  @Test
+  @DisplayName("Lists should get 304 without streaming until a user is added or changed")
+  void listShouldBeNotModifiedUntilChanged() throws Exception {
+    createUser("conditional_list");
+
+    MvcResult first = mockMvc.perform(get("/api/v1/users"))
+        .andExpect(request().asyncStarted())
+        .andReturn();
+    String eTag = mockMvc.perform(asyncDispatch(first))
+        .andExpect(status().isOk())
+        .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+    assertThat(eTag).isNotBlank();
+
+    mockMvc.perform(get("/api/v1/users").header(HttpHeaders.IF_NONE_MATCH, eTag))
+        .andExpect(request().asyncNotStarted())
+        .andExpect(status().isNotModified());
+    mockMvc.perform(get("/api/v1/users").accept(MediaType.APPLICATION_CBOR).header(HttpHeaders.IF_NONE_MATCH, eTag))
+        .andExpect(status().isOk())
+        .andExpect(header().string(HttpHeaders.ETAG, eTag.replaceFirst("\"$", "-cbor\"")))
+        .andExpect(header().string(HttpHeaders.VARY, HttpHeaders.ACCEPT));
+
+    UserDto added = createUser("conditional_added");
+    mockMvc.perform(get("/api/v1/users").header(HttpHeaders.IF_NONE_MATCH, eTag))
+        .andExpect(request().asyncStarted());
+
+    String afterAdd = mockMvc.perform(get("/api/v1/users").accept(MediaType.APPLICATION_CBOR))
+        .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+    userInputPort.deactivateUser(added.getId());
+    mockMvc.perform(get("/api/v1/users").accept(MediaType.APPLICATION_CBOR).header(HttpHeaders.IF_NONE_MATCH, afterAdd))
+        .andExpect(status().isOk());
+  }
+}
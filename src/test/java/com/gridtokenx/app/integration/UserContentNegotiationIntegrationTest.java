@@ -0,0 +1,100 @@
+package com.gridtokenx.app.integration;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+import com.gridtokenx.app.application.dto.UserDto;
+import com.gridtokenx.app.infrastructure.web.converter.CompactBinaryModule;
+import com.gridtokenx.app.infrastructure.web.converter.UserProtobufHttpMessageConverter;
+import com.google.protobuf.CodedInputStream;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.annotation.Transactional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Content negotiation tests for the user API representations
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@Transactional
+@WithMockUser
+@DisplayName("User Content Negotiation Integration Tests")
+class UserContentNegotiationIntegrationTest extends AbstractUserIntegrationTest {
+
+  @Autowired
+  private MockMvc mockMvc;
+
+  @Test
+  @DisplayName("JSON should stay the default representation")
+  void jsonShouldStayDefault() throws Exception {
+    UserDto user = createUser("negotiated_json");
+
+    mockMvc.perform(get("/api/v1/users/{id}", user.getId()))
+        .andExpect(status().isOk())
+        .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+        .andExpect(jsonPath("$.id").value(user.getId().toString()));
+    mockMvc.perform(get("/api/v1/users/{id}", user.getId()).header(HttpHeaders.ACCEPT, "*/*"))
+        .andExpect(content().contentType(MediaType.APPLICATION_JSON));
+  }
+
+  @Test
+  @DisplayName("CBOR should carry binary ids and epoch timestamps")
+  void cborShouldUseCompactFields() throws Exception {
+    UserDto user = createUser("negotiated_cbor");
+
+    byte[] body = mockMvc.perform(get("/api/v1/users/{id}", user.getId()).accept(MediaType.APPLICATION_CBOR))
+        .andExpect(status().isOk())
+        .andExpect(content().contentType(MediaType.APPLICATION_CBOR))
+        .andExpect(header().exists(HttpHeaders.ETAG))
+        .andReturn().getResponse().getContentAsByteArray();
+
+    JsonNode node = new CBORMapper().readTree(body);
+    assertThat(node.get("id").binaryValue()).isEqualTo(CompactBinaryModule.uuidBytes(user.getId()));
+    assertThat(node.get("username").asText()).isEqualTo("negotiated_cbor");
+    assertThat(node.get("createdAt").isIntegralNumber()).isTrue();
+    assertThat(node.get("createdAt").asLong()).isEqualTo(CompactBinaryModule.epochMillis(user.getCreatedAt()));
+  }
+
+  @Test
+  @DisplayName("Protobuf should be negotiated for user lists")
+  void protobufShouldBeNegotiatedForLists() throws Exception {
+    createUser("negotiated_proto");
+
+    byte[] body = mockMvc.perform(get("/api/v1/users").accept(UserProtobufHttpMessageConverter.PROTOBUF))
+        .andExpect(status().isOk())
+        .andExpect(content().contentType(UserProtobufHttpMessageConverter.PROTOBUF))
+        .andReturn().getResponse().getContentAsByteArray();
+
+    CodedInputStream in = CodedInputStream.newInstance(body);
+    int users = 0;
+    while (!in.isAtEnd()) {
+      assertThat(in.readTag()).isEqualTo(1 << 3 | 2);
+      in.readByteArray();
+      users++;
+    }
+    assertThat(users).isPositive();
+  }
+
+  @Test
+  @DisplayName("Protobuf should not be offered for other responses")
+  void protobufShouldNotBeOfferedForOtherResponses() throws Exception {
+    mockMvc.perform(get("/api/v1/users/search").param("q", "negotiated")
+            .accept(UserProtobufHttpMessageConverter.PROTOBUF))
+        .andExpect(status().isNotAcceptable());
+  }
+}
@@ -0,0 +1,121 @@
+package com.gridtokenx.app.integration;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+import com.gridtokenx.app.application.dto.UserDto;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.containsString;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Sparse fieldset tests for the user read endpoints
+ * Not transactional: the JSON list is written on another thread, which only
+ * sees committed users
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@WithMockUser
+@DisplayName("User Fields Integration Tests")
+class UserFieldsIntegrationTest extends AbstractUserIntegrationTest {
+
+  @Autowired
+  private MockMvc mockMvc;
+
+  @Test
+  @DisplayName("Single reads should only write the requested fields")
+  void singleReadShouldOnlyWriteRequestedFields() throws Exception {
+    UserDto user = createUser("fields_single");
+
+    mockMvc.perform(get("/api/v1/users/{id}", user.getId()).param("fields", "id,fullName"))
+        .andExpect(status().isOk())
+        .andExpect(header().string(HttpHeaders.ETAG, "\"" + user.getVersion() + "\""))
+        .andExpect(jsonPath("$.id").value(user.getId().toString()))
+        .andExpect(jsonPath("$.fullName").value("Test User"))
+        .andExpect(jsonPath("$.version").doesNotExist())
+        .andExpect(jsonPath("$.username").doesNotExist())
+        .andExpect(jsonPath("$.firstName").doesNotExist());
+    mockMvc.perform(get("/api/v1/users/username/{username}", "fields_single").param("fields", "email"))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.email").value("fields_single@example.com"))
+        .andExpect(jsonPath("$.id").doesNotExist());
+    mockMvc.perform(get("/api/v1/users/email/{email}", "nobody@example.com").param("fields", "id"))
+        .andExpect(status().isNotFound());
+  }
+
+  @Test
+  @DisplayName("Unknown or empty field lists should be rejected")
+  void invalidFieldsShouldBeRejected() throws Exception {
+    UUID id = UUID.randomUUID();
+
+    mockMvc.perform(get("/api/v1/users/{id}", id).param("fields", "id,password"))
+        .andExpect(status().isBadRequest())
+        .andExpect(jsonPath("$.message", containsString("password")));
+    mockMvc.perform(get("/api/v1/users/{id}", id).param("fields", " , "))
+        .andExpect(status().isBadRequest());
+  }
+
+  @Test
+  @DisplayName("Batch reads should keep order and misses with only the requested fields")
+  void batchReadShouldOnlyWriteRequestedFields() throws Exception {
+    UserDto user = createUser("fields_batch");
+
+    mockMvc.perform(post("/api/v1/users/batch")
+            .param("fields", "username")
+            .contentType(MediaType.APPLICATION_JSON)
+            .content("""
+                {"keys":[{"type":"EMAIL","value":"fields_batch@example.com"},\
+                {"type":"USERNAME","value":"fields_missing"},\
+                {"type":"ID","value":"%s"}]}""".formatted(user.getId())))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.users[0].username").value("fields_batch"))
+        .andExpect(jsonPath("$.users[0].email").doesNotExist())
+        .andExpect(jsonPath("$.users[1]").isEmpty())
+        .andExpect(jsonPath("$.users[2].username").value("fields_batch"))
+        .andExpect(jsonPath("$.users[2].id").doesNotExist())
+        .andExpect(jsonPath("$.missing[0].value").value("fields_missing"));
+  }
+
+  @Test
+  @DisplayName("Streamed and CBOR lists should only write the requested fields")
+  void listsShouldOnlyWriteRequestedFields() throws Exception {
+    createUser("fields_list");
+
+    MvcResult streamed = mockMvc.perform(get("/api/v1/users").param("fields", "username,active"))
+        .andExpect(request().asyncStarted())
+        .andReturn();
+    mockMvc.perform(asyncDispatch(streamed))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$[?(@.username == 'fields_list')].active").value(true))
+        .andExpect(jsonPath("$[0].id").doesNotExist())
+        .andExpect(jsonPath("$[0].createdAt").doesNotExist());
+
+    byte[] body = mockMvc.perform(get("/api/v1/users").param("fields", "id").accept(MediaType.APPLICATION_CBOR))
+        .andExpect(status().isOk())
+        .andReturn().getResponse().getContentAsByteArray();
+    for (JsonNode node : new CBORMapper().readTree(body)) {
+      assertThat(node.size()).isEqualTo(1);
+      assertThat(node.get("id").isBinary()).isTrue();
+    }
+  }
+}
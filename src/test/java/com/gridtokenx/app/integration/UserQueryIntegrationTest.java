@@ -0,0 +1,107 @@
+package com.gridtokenx.app.integration;
+
+import com.gridtokenx.app.application.dto.UserBatchResult;
+import com.gridtokenx.app.application.dto.UserDto;
+import com.gridtokenx.app.application.dto.UserKey;
+import com.gridtokenx.app.application.dto.UserView;
+import com.gridtokenx.app.application.port.UserQueryInputPort;
+import com.gridtokenx.app.domain.exception.UserNotFoundException;
+import jakarta.persistence.EntityManager;
+import org.hibernate.Session;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Integration tests for the projection-based user read path
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+@DisplayName("User Query Integration Tests")
+class UserQueryIntegrationTest extends AbstractUserIntegrationTest {
+
+  @Autowired
+  private UserQueryInputPort userQueryInputPort;
+
+  @Autowired
+  private EntityManager entityManager;
+
+  @Test
+  @DisplayName("Views should match the domain read path")
+  void viewsShouldMatchDomainReadPath() {
+    UserDto created = createUser("view_user", "view@example.com");
+    entityManager.flush();
+    entityManager.clear();
+
+    UserView view = userQueryInputPort.getUserById(created.getId());
+    UserDto dto = userInputPort.getUserById(created.getId());
+
+    assertThat(view.id()).isEqualTo(dto.getId());
+    assertThat(view.username()).isEqualTo(dto.getUsername());
+    assertThat(view.email()).isEqualTo(dto.getEmail());
+    assertThat(view.fullName()).isEqualTo(dto.getFullName());
+    assertThat(view.active()).isEqualTo(dto.isActive());
+    assertThat(view.createdAt()).isEqualTo(dto.getCreatedAt());
+    assertThat(userQueryInputPort.getUserByUsername("view_user")).isEqualTo(view);
+    assertThat(userQueryInputPort.getUserByEmail("view@example.com")).isEqualTo(view);
+  }
+
+  @Test
+  @DisplayName("Views should not load entities into the persistence context")
+  void viewsShouldBypassPersistenceContext() {
+    createUser("first_user", "first@example.com");
+    createUser("second_user", "second@example.com");
+    entityManager.flush();
+    entityManager.clear();
+
+    List<UserView> views = userQueryInputPort.getAllUsers();
+    List<UserView> activeViews = userQueryInputPort.getAllActiveUsers();
+
+    assertThat(views).extracting(UserView::username).contains("first_user", "second_user");
+    assertThat(activeViews).hasSameSizeAs(views);
+    assertThat(entityManager.unwrap(Session.class).getStatistics().getEntityCount()).isZero();
+  }
+
+  @Test
+  @DisplayName("Missing views should raise UserNotFoundException")
+  void missingViewShouldThrow() {
+    assertThatThrownBy(() -> userQueryInputPort.getUserById(UUID.randomUUID()))
+        .isInstanceOf(UserNotFoundException.class);
+    assertThatThrownBy(() -> userQueryInputPort.getUserByUsername("nobody"))
+        .isInstanceOf(UserNotFoundException.class);
+  }
+
+  @Test
+  @DisplayName("Batch lookup should keep request order and report misses")
+  void batchLookupShouldKeepOrderAndReportMisses() {
+    UserDto alice = createUser("alice_batch", "alice@example.com");
+    UserDto bob = createUser("bob_batch", "bob@example.com");
+    UserKey unknownId = new UserKey(UserKey.Type.ID, UUID.randomUUID().toString());
+    UserKey malformedId = new UserKey(UserKey.Type.ID, "not-a-uuid");
+
+    UserBatchResult result = userQueryInputPort.getUsers(List.of(
+        new UserKey(UserKey.Type.EMAIL, "bob@example.com"),
+        unknownId,
+        new UserKey(UserKey.Type.ID, alice.getId().toString()),
+        malformedId,
+        new UserKey(UserKey.Type.USERNAME, "alice_batch")));
+
+    assertThat(result.users()).hasSize(5);
+    assertThat(result.users().get(0).id()).isEqualTo(bob.getId());
+    assertThat(result.users().get(1)).isNull();
+    assertThat(result.users().get(2).id()).isEqualTo(alice.getId());
+    assertThat(result.users().get(3)).isNull();
+    assertThat(result.users().get(4).id()).isEqualTo(alice.getId());
+    assertThat(result.missing()).containsExactly(unknownId, malformedId);
+  }
+}
@@ -0,0 +1,118 @@
+package com.gridtokenx.app.integration;
+
+import com.gridtokenx.app.application.dto.UserSearchPage;
+import com.gridtokenx.app.application.dto.UserView;
+import com.gridtokenx.app.application.port.UserQueryInputPort;
+import com.gridtokenx.app.domain.exception.InvalidUserDataException;
+import com.gridtokenx.app.util.TestDataFactory;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Integration tests for user search; H2 exercises the in-memory trigram
+ * fallback with the same matching and ordering rules as pg_trgm
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@Transactional
+@DisplayName("User Search Integration Tests")
+class UserSearchIntegrationTest extends AbstractUserIntegrationTest {
+
+  @Autowired
+  private UserQueryInputPort userQueryInputPort;
+
+  @Autowired
+  private MockMvc mockMvc;
+
+  @Test
+  @DisplayName("Prefix matches should rank ahead of substring matches")
+  void prefixMatchesShouldRankFirst() {
+    createUser(TestDataFactory.createUserDto("zephyr_anna", "zephyr.anna@example.com", "Anna", "Zephyr"));
+    createUser(TestDataFactory.createUserDto("old_zephyr", "old@example.com", "Old", "Zephyr"));
+
+    List<UserView> users = userQueryInputPort.searchUsers("Zephyr", null, 10).users();
+
+    assertThat(users).extracting(UserView::username).containsExactly("zephyr_anna", "old_zephyr");
+  }
+
+  @Test
+  @DisplayName("Misspelled names should still be found")
+  void misspelledNamesShouldMatch() {
+    createUser(TestDataFactory.createUserDto("jsmith", "jonathan.smith@example.com", "Jonathan", "Smithers"));
+    createUser(TestDataFactory.createUserDto("unrelated", "unrelated@example.com", "Peter", "Parker"));
+
+    List<UserView> users = userQueryInputPort.searchUsers("jonathon smithers", null, 10).users();
+
+    assertThat(users).extracting(UserView::username).containsExactly("jsmith");
+  }
+
+  @Test
+  @DisplayName("Queries shorter than a trigram should only match username and email prefixes")
+  void shortQueriesShouldOnlyMatchPrefixes() {
+    createUser(TestDataFactory.createUserDto("qx_first", "qx.first@example.com", "First", "Short"));
+    createUser(TestDataFactory.createUserDto("second_qx", "second.qx@example.com", "Qx", "Second"));
+
+    List<UserView> users = userQueryInputPort.searchUsers("QX", null, 10).users();
+
+    assertThat(users).extracting(UserView::username).containsExactly("qx_first");
+  }
+
+  @Test
+  @DisplayName("Keyset pages should cover every match exactly once")
+  void keysetPagesShouldCoverAllMatches() {
+    for (int i = 0; i < 7; i++) {
+      createUser(TestDataFactory.createUserDto("pager_" + i, "pager" + i + "@example.com", "Page", "Turner"));
+    }
+
+    List<String> seen = new ArrayList<>();
+    String cursor = null;
+    int pages = 0;
+    do {
+      UserSearchPage page = userQueryInputPort.searchUsers("pager", cursor, 3);
+      page.users().forEach(user -> seen.add(user.username()));
+      cursor = page.nextCursor();
+      pages++;
+    } while (cursor != null);
+
+    assertThat(pages).isEqualTo(3);
+    assertThat(seen).hasSize(7).doesNotHaveDuplicates();
+  }
+
+  @Test
+  @DisplayName("A tampered cursor should be rejected")
+  void invalidCursorShouldBeRejected() {
+    assertThatThrownBy(() -> userQueryInputPort.searchUsers("pager", "not-a-cursor", 3))
+        .isInstanceOf(InvalidUserDataException.class);
+  }
+
+  @Test
+  @WithMockUser
+  @DisplayName("Search endpoint should return a page and validate the limit")
+  void searchEndpointShouldReturnPage() throws Exception {
+    createUser(TestDataFactory.createUserDto("quokka_fan", "quokka@example.com", "Quinn", "Oak"));
+
+    mockMvc.perform(get("/api/v1/users/search").param("q", "quokka"))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.users[0].username").value("quokka_fan"))
+        .andExpect(jsonPath("$.nextCursor").doesNotExist());
+    mockMvc.perform(get("/api/v1/users/search").param("q", "quokka").param("limit", "0"))
+        .andExpect(status().isBadRequest());
+  }
+}
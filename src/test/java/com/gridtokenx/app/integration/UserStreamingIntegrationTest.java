@@ -0,0 +1,97 @@
+package com.gridtokenx.app.integration;
+
+import com.gridtokenx.app.application.dto.UserDto;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+
+import static org.hamcrest.Matchers.hasItem;
+import static org.hamcrest.Matchers.hasItems;
+import static org.hamcrest.Matchers.not;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Streaming tests for the user list endpoint
+ * Not transactional: the response is written on another thread, which only
+ * sees committed users
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@WithMockUser
+@DisplayName("User Streaming Integration Tests")
+class UserStreamingIntegrationTest extends AbstractUserIntegrationTest {
+
+  @Autowired
+  private MockMvc mockMvc;
+
+  @Test
+  @DisplayName("JSON user lists should be streamed as an array")
+  void jsonListShouldBeStreamed() throws Exception {
+    createUser("streamed_first");
+    createUser("streamed_second");
+
+    for (String accept : new String[] { null, "*/*", MediaType.APPLICATION_JSON_VALUE }) {
+      MockHttpServletRequestBuilder request = get("/api/v1/users");
+      if (accept != null) {
+        request.header(HttpHeaders.ACCEPT, accept);
+      }
+      mockMvc.perform(asyncDispatch(streamed(request)))
+          .andExpect(status().isOk())
+          .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+          .andExpect(jsonPath("$[*].username", hasItems("streamed_first", "streamed_second")))
+          .andExpect(jsonPath("$[0].fullName").exists());
+    }
+  }
+
+  @Test
+  @DisplayName("User lists should not be offered in unsupported representations")
+  void unsupportedListShouldNotBeAcceptable() throws Exception {
+    mockMvc.perform(get("/api/v1/users").accept(MediaType.APPLICATION_XML))
+        .andExpect(status().isNotAcceptable());
+  }
+
+  @Test
+  @DisplayName("activeOnly should leave deactivated users out of the stream")
+  void activeOnlyShouldFilterStream() throws Exception {
+    createUser("streamed_active");
+    UserDto inactive = createUser("streamed_inactive");
+    userInputPort.deactivateUser(inactive.getId());
+
+    mockMvc.perform(asyncDispatch(streamed(get("/api/v1/users").param("activeOnly", "true"))))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$[*].username", hasItem("streamed_active")))
+        .andExpect(jsonPath("$[*].username", not(hasItem("streamed_inactive"))));
+  }
+
+  @Test
+  @DisplayName("Binary user lists should still be written whole")
+  void binaryListShouldNotBeStreamed() throws Exception {
+    createUser("streamed_cbor");
+
+    mockMvc.perform(get("/api/v1/users").accept(MediaType.APPLICATION_CBOR))
+        .andExpect(request().asyncNotStarted())
+        .andExpect(status().isOk())
+        .andExpect(content().contentType(MediaType.APPLICATION_CBOR));
+  }
+
+  private MvcResult streamed(MockHttpServletRequestBuilder request) throws Exception {
+    return mockMvc.perform(request)
+        .andExpect(request().asyncStarted())
+        .andReturn();
+  }
+}
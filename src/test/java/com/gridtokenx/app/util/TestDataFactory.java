@@ -1,5 +1,6 @@
 package com.gridtokenx.app.util;
 
+import com.gridtokenx.app.application.dto.CreateUserDto;
 import com.gridtokenx.app.domain.entity.Role;
 import com.gridtokenx.app.domain.entity.User;
 
@@ -129,4 +130,22 @@ public class TestDataFactory {
         .updatedAt(LocalDateTime.now())
         .build();
   }
+
+  // Create requests for the integration tests, which go through UserInputPort
+  public static CreateUserDto createUserDto(String username) {
+    return createUserDto(username, username + "@example.com");
+  }
+
+  public static CreateUserDto createUserDto(String username, String email) {
+    return createUserDto(username, email, "Test", "User");
+  }
+
+  public static CreateUserDto createUserDto(String username, String email, String firstName, String lastName) {
+    return CreateUserDto.builder()
+        .username(username)
+        .email(email)
+        .firstName(firstName)
+        .lastName(lastName)
+        .build();
+  }
 }
@@ -0,0 +1,14 @@
+-- auth_audit_events for tests on H2, which has no declarative partitioning;
+-- same columns and index as V8
+
+CREATE TABLE IF NOT EXISTS auth_audit_events (
+    occurred_at TIMESTAMP NOT NULL,
+    event_type VARCHAR(32) NOT NULL,
+    username VARCHAR(255),
+    user_id UUID,
+    reason VARCHAR(64),
+    client_ip VARCHAR(64)
+);
+
+CREATE INDEX IF NOT EXISTS idx_auth_audit_events_username_occurred_at
+    ON auth_audit_events (username, occurred_at DESC);